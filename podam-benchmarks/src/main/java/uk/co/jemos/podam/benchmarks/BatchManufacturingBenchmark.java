@@ -0,0 +1,170 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.PojoIterator;
+import uk.co.jemos.podam.java8.PojoSpliterator;
+import uk.co.jemos.podam.test.dto.GenericPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * Benchmarks of the manufacture of many POJOs at once
+ * <p>
+ * They compare the batch API, the lazy iterators, parallel streams and the
+ * parallel manufacture of large collections.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchManufacturingBenchmark {
+
+	// ------------------->> Instance / Static variables
+
+	/** How many POJOs each invocation manufactures */
+	@Param({ "1000" })
+	private int count;
+
+	/** The factory manufacturing POJOs sequentially */
+	private PodamFactoryImpl factory;
+
+	/** The factory manufacturing large collections sequentially */
+	private PodamFactoryImpl collectionsFactory;
+
+	/** The factory manufacturing large collections in parallel */
+	private PodamFactoryImpl parallelFactory;
+
+	/** The executor of the parallel factory */
+	private ExecutorService executor;
+
+	// ------------------->> Public methods
+
+	/**
+	 * It creates the factories.
+	 */
+	@Setup
+	public void setUp() {
+		factory = new PodamFactoryImpl();
+		executor = Executors.newFixedThreadPool(Runtime.getRuntime()
+				.availableProcessors());
+		collectionsFactory = new PodamFactoryImpl(
+				new AbstractRandomDataProviderStrategy(count) {
+				});
+		parallelFactory = new PodamFactoryImpl(
+				new AbstractRandomDataProviderStrategy(count) {
+				}).withExecutor(executor);
+	}
+
+	/**
+	 * It stops the executor of the parallel factory.
+	 */
+	@TearDown
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * POJOs manufactured one call at a time.
+	 *
+	 * @param blackhole
+	 *            The sink of the POJOs
+	 */
+	@Benchmark
+	public void loop(Blackhole blackhole) {
+		for (int i = 0; i < count; i++) {
+			blackhole.consume(factory
+					.manufacturePojo(SimplePojoToTestSetters.class));
+		}
+	}
+
+	/**
+	 * POJOs manufactured by the batch API.
+	 *
+	 * @return the manufactured POJOs
+	 */
+	@Benchmark
+	public List<SimplePojoToTestSetters> batch() {
+		return factory.manufacturePojos(SimplePojoToTestSetters.class, count);
+	}
+
+	/**
+	 * POJOs manufactured lazily by an iterator.
+	 *
+	 * @param blackhole
+	 *            The sink of the POJOs
+	 */
+	@Benchmark
+	public void iterator(Blackhole blackhole) {
+		PojoIterator<SimplePojoToTestSetters> iterator = factory.iterator(
+				SimplePojoToTestSetters.class, count);
+		while (iterator.hasNext()) {
+			blackhole.consume(iterator.next());
+		}
+	}
+
+	/**
+	 * POJOs manufactured by a parallel stream.
+	 *
+	 * @return the manufactured POJOs
+	 */
+	@Benchmark
+	public List<SimplePojoToTestSetters> parallelStream() {
+		return PojoSpliterator.stream(
+				factory.iterator(SimplePojoToTestSetters.class, count), true)
+				.collect(Collectors.<SimplePojoToTestSetters> toList());
+	}
+
+	/**
+	 * A POJO holding large collections, filled sequentially.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public GenericPojo<?, ?> largeCollections() {
+		return collectionsFactory.manufacturePojo(GenericPojo.class,
+				SimplePojoToTestSetters.class, Long.class);
+	}
+
+	/**
+	 * A POJO holding large collections, filled in parallel.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public GenericPojo<?, ?> largeCollectionsInParallel() {
+		return parallelFactory.manufacturePojo(GenericPojo.class,
+				SimplePojoToTestSetters.class, Long.class);
+	}
+
+}
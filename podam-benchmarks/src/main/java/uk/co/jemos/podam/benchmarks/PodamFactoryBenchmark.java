@@ -0,0 +1,171 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.ImmutableNoHierarchicalAnnotatedPojo;
+import uk.co.jemos.podam.test.dto.ImmutableWithGenericCollectionsPojo;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
+import uk.co.jemos.podam.test.dto.PojoWithMapsAndCollections;
+import uk.co.jemos.podam.test.dto.PrimitiveArraysPojo;
+import uk.co.jemos.podam.test.dto.RecursivePojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.annotations.IntegerValuePojo;
+import uk.co.jemos.podam.test.dto.annotations.PodamStrategyPojo;
+import uk.co.jemos.podam.test.dto.annotations.StringValuePojo;
+
+/**
+ * Benchmarks of the manufacture of single POJOs by {@link PodamFactoryImpl}
+ * <p>
+ * The factory is shared by all invocations, so that these benchmarks measure
+ * the steady state, once the classes have been introspected.
+ * {@link PodamFactoryColdBenchmark} measures the first manufacture instead.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PodamFactoryBenchmark {
+
+	// ------------------->> Instance / Static variables
+
+	/** The factory shared by all invocations */
+	private PodamFactory factory;
+
+	// ------------------->> Public methods
+
+	/**
+	 * It creates the factory.
+	 */
+	@Setup
+	public void setUp() {
+		factory = new PodamFactoryImpl();
+	}
+
+	/**
+	 * A flat POJO filled through its setters.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public SimplePojoToTestSetters flatPojo() {
+		return factory.manufacturePojo(SimplePojoToTestSetters.class);
+	}
+
+	/**
+	 * A POJO referencing itself, bounded by the maximum depth.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public RecursivePojo recursivePojo() {
+		return factory.manufacturePojo(RecursivePojo.class);
+	}
+
+	/**
+	 * A POJO with every primitive, wrapper and date type.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public OneDimensionalTestPojo oneDimensionalPojo() {
+		return factory.manufacturePojo(OneDimensionalTestPojo.class);
+	}
+
+	/**
+	 * A POJO with a large byte array and arrays of the other primitive types.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public PrimitiveArraysPojo primitiveArraysPojo() {
+		return factory.manufacturePojo(PrimitiveArraysPojo.class);
+	}
+
+	/**
+	 * A POJO made of collections and maps.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public PojoWithMapsAndCollections mapsAndCollectionsPojo() {
+		return factory.manufacturePojo(PojoWithMapsAndCollections.class);
+	}
+
+	/**
+	 * An immutable POJO filled through its annotated constructor.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public ImmutableNoHierarchicalAnnotatedPojo immutablePojo() {
+		return factory
+				.manufacturePojo(ImmutableNoHierarchicalAnnotatedPojo.class);
+	}
+
+	/**
+	 * An immutable POJO whose constructor takes generic collections of
+	 * further POJOs.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public ImmutableWithGenericCollectionsPojo immutableCollectionsPojo() {
+		return factory
+				.manufacturePojo(ImmutableWithGenericCollectionsPojo.class);
+	}
+
+	/**
+	 * A POJO whose string attributes are customised by annotations.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public StringValuePojo stringAnnotatedPojo() {
+		return factory.manufacturePojo(StringValuePojo.class);
+	}
+
+	/**
+	 * A POJO whose integer attributes are customised by annotations.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public IntegerValuePojo integerAnnotatedPojo() {
+		return factory.manufacturePojo(IntegerValuePojo.class);
+	}
+
+	/**
+	 * A POJO whose attributes are produced by attribute strategies.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public PodamStrategyPojo strategyAnnotatedPojo() {
+		return factory.manufacturePojo(PodamStrategyPojo.class);
+	}
+
+}
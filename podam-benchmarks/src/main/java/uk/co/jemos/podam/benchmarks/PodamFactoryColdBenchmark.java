@@ -0,0 +1,78 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.ImmutableWithGenericCollectionsPojo;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * Benchmarks of the first manufacture of a POJO by a new
+ * {@link PodamFactoryImpl}
+ * <p>
+ * Each invocation uses a new factory, so that the introspection of the
+ * classes, which the factory caches, is measured together with the
+ * manufacture.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PodamFactoryColdBenchmark {
+
+	// ------------------->> Public methods
+
+	/**
+	 * A flat POJO filled through its setters.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public SimplePojoToTestSetters flatPojo() {
+		return new PodamFactoryImpl()
+				.manufacturePojo(SimplePojoToTestSetters.class);
+	}
+
+	/**
+	 * A POJO with every primitive, wrapper and date type.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public OneDimensionalTestPojo oneDimensionalPojo() {
+		return new PodamFactoryImpl()
+				.manufacturePojo(OneDimensionalTestPojo.class);
+	}
+
+	/**
+	 * An immutable POJO whose constructor takes generic collections of
+	 * further POJOs.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	public ImmutableWithGenericCollectionsPojo immutableCollectionsPojo() {
+		return new PodamFactoryImpl()
+				.manufacturePojo(ImmutableWithGenericCollectionsPojo.class);
+	}
+
+}
@@ -0,0 +1,160 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
+
+/**
+ * Benchmarks of the random values as the number of threads grows
+ * <p>
+ * Each value is drawn from a per-thread random source, so that the throughput
+ * should grow with the number of threads. A {@link Random} shared by all
+ * threads, which is what the strategy used to draw from, is the baseline.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomSourceBenchmark {
+
+	// ------------------->> Instance / Static variables
+
+	/** The strategy shared by all threads */
+	private DataProviderStrategy strategy;
+
+	/** The factory shared by all threads */
+	private PodamFactory factory;
+
+	/** The random generator shared by all threads */
+	private Random sharedRandom;
+
+	/** The metadata of the integer attribute */
+	private AttributeMetadata metadata;
+
+	// ------------------->> Public methods
+
+	/**
+	 * It creates the strategy and the factory.
+	 */
+	@Setup
+	public void setUp() {
+		strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		factory = new PodamFactoryImpl(strategy);
+		sharedRandom = new Random();
+		metadata = new AttributeMetadata("intField", Integer.class,
+				new ArrayList<Annotation>(),
+				OneDimensionalTestPojo.class);
+	}
+
+	/**
+	 * Integers drawn by the strategy from one thread.
+	 *
+	 * @return the random value
+	 */
+	@Benchmark
+	@Threads(1)
+	public Integer strategyOneThread() {
+		return strategy.getInteger(metadata);
+	}
+
+	/**
+	 * Integers drawn by the strategy from four threads.
+	 *
+	 * @return the random value
+	 */
+	@Benchmark
+	@Threads(4)
+	public Integer strategyFourThreads() {
+		return strategy.getInteger(metadata);
+	}
+
+	/**
+	 * Integers drawn by the strategy from as many threads as processors.
+	 *
+	 * @return the random value
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Integer strategyMaxThreads() {
+		return strategy.getInteger(metadata);
+	}
+
+	/**
+	 * Integers drawn from a shared generator from one thread.
+	 *
+	 * @return the random value
+	 */
+	@Benchmark
+	@Threads(1)
+	public int sharedRandomOneThread() {
+		return sharedRandom.nextInt();
+	}
+
+	/**
+	 * Integers drawn from a shared generator from four threads.
+	 *
+	 * @return the random value
+	 */
+	@Benchmark
+	@Threads(4)
+	public int sharedRandomFourThreads() {
+		return sharedRandom.nextInt();
+	}
+
+	/**
+	 * Integers drawn from a shared generator from as many threads as
+	 * processors.
+	 *
+	 * @return the random value
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public int sharedRandomMaxThreads() {
+		return sharedRandom.nextInt();
+	}
+
+	/**
+	 * Whole POJOs manufactured by a shared factory from as many threads as
+	 * processors.
+	 *
+	 * @return the manufactured POJO
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public OneDimensionalTestPojo factoryMaxThreads() {
+		return factory.manufacturePojo(OneDimensionalTestPojo.class);
+	}
+
+}
@@ -0,0 +1,111 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.Alphabet;
+import uk.co.jemos.podam.common.PodamConstants;
+
+/**
+ * Benchmarks of random strings of various lengths
+ * <p>
+ * The strategy fills a {@code char[]} with several characters per random
+ * long. The baseline is the previous implementation, which appended a boxed
+ * character at a time to a {@link StringBuilder}.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringGenerationBenchmark {
+
+	// ------------------->> Instance / Static variables
+
+	/** The length of the strings */
+	@Param({ "10", "100", "10000" })
+	private int length;
+
+	/** The strategy using the nice ASCII alphabet */
+	private AbstractRandomDataProviderStrategy strategy;
+
+	/** The strategy using the hexadecimal alphabet */
+	private AbstractRandomDataProviderStrategy hexStrategy;
+
+	// ------------------->> Public methods
+
+	/**
+	 * It creates the strategies.
+	 */
+	@Setup
+	public void setUp() {
+		strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		hexStrategy = new AbstractRandomDataProviderStrategy() {
+		};
+		hexStrategy.setAlphabet(Alphabet.HEX);
+	}
+
+	/**
+	 * Strings generated in bulk from the nice ASCII alphabet.
+	 *
+	 * @return the random string
+	 */
+	@Benchmark
+	public String bulk() {
+		return strategy.getStringOfLength(length, null);
+	}
+
+	/**
+	 * Strings generated in bulk from the hexadecimal alphabet, which takes
+	 * sixteen characters per random long.
+	 *
+	 * @return the random string
+	 */
+	@Benchmark
+	public String bulkHex() {
+		return hexStrategy.getStringOfLength(length, null);
+	}
+
+	/**
+	 * Strings generated one boxed character at a time, as they used to be.
+	 *
+	 * @return the random string
+	 */
+	@Benchmark
+	public String perCharacter() {
+
+		StringBuilder buff = new StringBuilder(
+				PodamConstants.STR_DEFAULT_ENCODING);
+		buff.setLength(0);
+
+		while (buff.length() < length) {
+			buff.append(strategy.getCharacter(null));
+		}
+
+		return buff.toString();
+	}
+
+}
@@ -0,0 +1,4 @@
+package uk.co.jemos.podam.benchmarks.jmh_generated;
+public class BatchManufacturingBenchmark_jmhType extends BatchManufacturingBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package uk.co.jemos.podam.benchmarks.jmh_generated;
+public class PodamFactoryBenchmark_jmhType extends PodamFactoryBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package uk.co.jemos.podam.benchmarks.jmh_generated;
+public class PodamFactoryColdBenchmark_jmhType extends PodamFactoryColdBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package uk.co.jemos.podam.benchmarks.jmh_generated;
+public class RandomSourceBenchmark_jmhType extends RandomSourceBenchmark_jmhType_B3 {
+}
+
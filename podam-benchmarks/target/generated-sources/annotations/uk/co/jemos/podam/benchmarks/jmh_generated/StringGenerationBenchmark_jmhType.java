@@ -0,0 +1,4 @@
+package uk.co.jemos.podam.benchmarks.jmh_generated;
+public class StringGenerationBenchmark_jmhType extends StringGenerationBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,300 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.java8;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.api.AccessorFactory;
+import uk.co.jemos.podam.api.ConstructorAccessor;
+import uk.co.jemos.podam.api.LambdaAccessorFactory;
+import uk.co.jemos.podam.api.ReflectionAccessorFactory;
+import uk.co.jemos.podam.api.SetterAccessor;
+
+/**
+ * {@link AccessorFactory} binding setters and no-argument constructors to
+ * functional interfaces generated with {@link LambdaMetafactory}.
+ * <p>
+ * This class requires Java 8. It is loaded by {@link LambdaAccessorFactory}
+ * when this module is on the class path and the running JVM provides
+ * {@link LambdaMetafactory}. Members which cannot be bound to a lambda
+ * (non-public members, constructors with arguments, classes not visible from
+ * this class loader) are delegated to {@link ReflectionAccessorFactory}.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public final class LambdaAccessorBinder implements AccessorFactory {
+
+	// ------------------->> Constants
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(LambdaAccessorBinder.class);
+
+	/** The lookup used to create method handles and lambdas */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/** The erased signature of {@link LambdaSetter#set(Object, Object)} */
+	private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(
+			void.class, Object.class, Object.class);
+
+	/** The erased signature of {@link LambdaInstantiator#newInstance()} */
+	private static final MethodType INSTANTIATOR_SAM_TYPE = MethodType
+			.methodType(Object.class);
+
+	// ------------------->> Constructors
+
+	/**
+	 * Default constructor, used by {@link LambdaAccessorFactory} to load this
+	 * class reflectively.
+	 */
+	public LambdaAccessorBinder() {
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SetterAccessor getSetterAccessor(Method setter) {
+		if (canBind(setter)) {
+			try {
+				return bindSetter(setter);
+			} catch (Throwable e) {
+				LOG.debug("Could not bind {} to a lambda, falling back to"
+						+ " reflection", setter, e);
+			}
+		}
+		return ReflectionAccessorFactory.getInstance().getSetterAccessor(
+				setter);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Field writes cannot be bound to lambdas, they are delegated to
+	 * {@link ReflectionAccessorFactory}.
+	 * </p>
+	 */
+	@Override
+	public SetterAccessor getFieldAccessor(Field field) {
+		return ReflectionAccessorFactory.getInstance().getFieldAccessor(field);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ConstructorAccessor getConstructorAccessor(
+			Constructor<?> constructor) {
+		if (canBind(constructor)) {
+			try {
+				return bindConstructor(constructor);
+			} catch (Throwable e) {
+				LOG.debug("Could not bind {} to a lambda, falling back to"
+						+ " reflection", constructor, e);
+			}
+		}
+		return ReflectionAccessorFactory.getInstance().getConstructorAccessor(
+				constructor);
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It checks whether a setter can be bound to a lambda.
+	 *
+	 * @param setter
+	 *            The setter to check
+	 * @return {@code true} if the setter can be bound to a lambda
+	 */
+	private static boolean canBind(Method setter) {
+		return !Modifier.isStatic(setter.getModifiers())
+				&& Modifier.isPublic(setter.getModifiers())
+				&& isAccessible(setter.getDeclaringClass())
+				&& isAccessible(setter.getParameterTypes()[0]);
+	}
+
+	/**
+	 * It checks whether a constructor can be bound to a lambda.
+	 *
+	 * @param constructor
+	 *            The constructor to check
+	 * @return {@code true} if the constructor can be bound to a lambda
+	 */
+	private static boolean canBind(Constructor<?> constructor) {
+		Class<?> declaringClass = constructor.getDeclaringClass();
+		return constructor.getParameterTypes().length == 0
+				&& Modifier.isPublic(constructor.getModifiers())
+				&& !Modifier.isAbstract(declaringClass.getModifiers())
+				&& isAccessible(declaringClass);
+	}
+
+	/**
+	 * It binds a setter to a lambda.
+	 *
+	 * @param setter
+	 *            The setter to bind
+	 * @return An accessor invoking the lambda
+	 * @throws Throwable
+	 *             If the lambda could not be generated
+	 */
+	private static SetterAccessor bindSetter(final Method setter)
+			throws Throwable {
+
+		MethodHandle target = LOOKUP.unreflect(setter);
+		MethodType instantiatedType = MethodType.methodType(void.class,
+				setter.getDeclaringClass(),
+				MethodType.methodType(setter.getParameterTypes()[0]).wrap()
+						.returnType());
+
+		CallSite site = LambdaMetafactory.metafactory(LOOKUP, "set",
+				MethodType.methodType(LambdaSetter.class), SETTER_SAM_TYPE,
+				target, instantiatedType);
+		final LambdaSetter lambda = (LambdaSetter) site.getTarget()
+				.invokeWithArguments();
+
+		return new SetterAccessor() {
+
+			@Override
+			public void set(Object pojo, Object value)
+					throws InvocationTargetException {
+				try {
+					lambda.set(pojo, value);
+				} catch (Exception e) {
+					throw new InvocationTargetException(e);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return setter.toString();
+			}
+		};
+	}
+
+	/**
+	 * It binds a no-argument constructor to a lambda.
+	 *
+	 * @param constructor
+	 *            The constructor to bind
+	 * @return An accessor invoking the lambda
+	 * @throws Throwable
+	 *             If the lambda could not be generated
+	 */
+	private static ConstructorAccessor bindConstructor(
+			final Constructor<?> constructor) throws Throwable {
+
+		MethodHandle target = LOOKUP.unreflectConstructor(constructor);
+		MethodType instantiatedType = MethodType.methodType(constructor
+				.getDeclaringClass());
+
+		CallSite site = LambdaMetafactory.metafactory(LOOKUP, "newInstance",
+				MethodType.methodType(LambdaInstantiator.class),
+				INSTANTIATOR_SAM_TYPE, target, instantiatedType);
+		final LambdaInstantiator lambda = (LambdaInstantiator) site
+				.getTarget().invokeWithArguments();
+
+		return new ConstructorAccessor() {
+
+			@Override
+			public Object newInstance(Object... args)
+					throws InvocationTargetException {
+				if (args != null && args.length != 0) {
+					throw new IllegalArgumentException(
+							"Wrong number of arguments for " + constructor);
+				}
+				try {
+					return lambda.newInstance();
+				} catch (Exception e) {
+					throw new InvocationTargetException(e);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return constructor.toString();
+			}
+		};
+	}
+
+	/**
+	 * It checks whether a class is public and visible from PODAM class loader,
+	 * so that the generated lambda can link against it.
+	 *
+	 * @param clazz
+	 *            The class to check
+	 * @return {@code true} if the class can be used by a generated lambda
+	 */
+	private static boolean isAccessible(Class<?> clazz) {
+
+		Class<?> workClass = clazz;
+		while (workClass.isArray()) {
+			workClass = workClass.getComponentType();
+		}
+		if (workClass.isPrimitive()) {
+			return true;
+		}
+		if (!Modifier.isPublic(workClass.getModifiers())) {
+			return false;
+		}
+		try {
+			return Class.forName(workClass.getName(), false,
+					LambdaAccessorBinder.class.getClassLoader()) == workClass;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	// ------------------->> Inner classes
+
+	/**
+	 * The functional interface setters are bound to.
+	 */
+	interface LambdaSetter {
+
+		/**
+		 * It invokes the setter.
+		 *
+		 * @param pojo
+		 *            The object whose setter is invoked
+		 * @param value
+		 *            The value to set
+		 */
+		void set(Object pojo, Object value);
+	}
+
+	/**
+	 * The functional interface no-argument constructors are bound to.
+	 */
+	interface LambdaInstantiator {
+
+		/**
+		 * It invokes the constructor.
+		 *
+		 * @return The new instance
+		 */
+		Object newInstance();
+	}
+
+}
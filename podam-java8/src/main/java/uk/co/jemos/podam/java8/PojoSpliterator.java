@@ -0,0 +1,112 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.java8;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.jcip.annotations.NotThreadSafe;
+import uk.co.jemos.podam.api.PojoIterator;
+
+/**
+ * A {@link Spliterator} over manufactured POJOs, backed by a
+ * {@link PojoIterator}.
+ * <p>
+ * Splitting the spliterator splits the underlying iterator, so that parallel
+ * streams draw from independent random streams.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the POJOs
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@NotThreadSafe
+public final class PojoSpliterator<T> implements Spliterator<T> {
+
+	// ------------------->> Instance / Static variables
+
+	/** The iterator producing the POJOs */
+	private final PojoIterator<T> iterator;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param iterator
+	 *            The iterator producing the POJOs
+	 */
+	public PojoSpliterator(PojoIterator<T> iterator) {
+		this.iterator = iterator;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns a stream of the POJOs produced by the given iterator.
+	 *
+	 * @param <T>
+	 *            The type of the POJOs
+	 * @param iterator
+	 *            The iterator producing the POJOs
+	 * @param parallel
+	 *            Whether the stream is parallel
+	 * @return a stream of manufactured POJOs
+	 */
+	public static <T> Stream<T> stream(PojoIterator<T> iterator,
+			boolean parallel) {
+		return StreamSupport.stream(new PojoSpliterator<T>(iterator),
+				parallel);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (!iterator.hasNext()) {
+			return false;
+		}
+		action.accept(iterator.next());
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<T> trySplit() {
+		PojoIterator<T> split = iterator.split();
+		if (split == null) {
+			return null;
+		}
+		return new PojoSpliterator<T>(split);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize() {
+		return iterator.getRemaining();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int characteristics() {
+		if (iterator.isBounded()) {
+			return SIZED | SUBSIZED;
+		}
+		return 0;
+	}
+
+}
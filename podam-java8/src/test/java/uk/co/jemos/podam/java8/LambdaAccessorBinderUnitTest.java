@@ -0,0 +1,121 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.java8;
+
+import java.lang.reflect.InvocationTargetException;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AccessorFactory;
+import uk.co.jemos.podam.api.ConstructorAccessor;
+import uk.co.jemos.podam.api.LambdaAccessorFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.SetterAccessor;
+import uk.co.jemos.podam.test.dto.PojoWithMapsAndCollections;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks that {@link LambdaAccessorFactory} binds accessors with
+ * {@link LambdaAccessorBinder} when this module is on the class path
+ *
+ * @author mtedone
+ *
+ */
+public class LambdaAccessorBinderUnitTest {
+
+	@Test
+	public void testLambdaAccessorsAreAvailable() throws Exception {
+
+		Assert.assertTrue("Tests are expected to run on Java 8 or later",
+				LambdaAccessorFactory.isAvailable());
+		checkAccessors(LambdaAccessorFactory.getInstance());
+		checkAccessors(new LambdaAccessorBinder());
+	}
+
+	@Test
+	public void testLambdaAccessorWrapsSetterExceptions() throws Exception {
+
+		SetterAccessor accessor = LambdaAccessorFactory.getInstance()
+				.getSetterAccessor(
+						FailingSetterPojo.class.getMethod("setValue",
+								String.class));
+		try {
+			accessor.set(new FailingSetterPojo(), "value");
+			Assert.fail("An exception should have been thrown");
+		} catch (InvocationTargetException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	public void testFactoryWithLambdaAccessors() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl()
+				.withAccessorFactory(LambdaAccessorFactory.getInstance());
+
+		SimplePojoToTestSetters pojo = factory
+				.manufacturePojo(SimplePojoToTestSetters.class);
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+		Assert.assertNotNull(pojo.getStringField());
+		Assert.assertTrue(pojo.getIntField() != 0);
+
+		PojoWithMapsAndCollections collectionsPojo = factory
+				.manufacturePojo(PojoWithMapsAndCollections.class);
+		Assert.assertNotNull("The pojo cannot be null", collectionsPojo);
+		Assert.assertFalse(collectionsPojo.getList().isEmpty());
+		Assert.assertFalse(collectionsPojo.getMap().isEmpty());
+
+		/* Not public, it will fall back to reflection */
+		PackagePrivatePojo packagePrivatePojo = factory
+				.manufacturePojo(PackagePrivatePojo.class);
+		Assert.assertNotNull("The pojo cannot be null", packagePrivatePojo);
+		Assert.assertNotNull(packagePrivatePojo.getValue());
+	}
+
+	private void checkAccessors(AccessorFactory accessorFactory)
+			throws Exception {
+
+		ConstructorAccessor constructorAccessor = accessorFactory
+				.getConstructorAccessor(SimplePojoToTestSetters.class
+						.getConstructor());
+		SimplePojoToTestSetters pojo = (SimplePojoToTestSetters) constructorAccessor
+				.newInstance();
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+
+		accessorFactory.getSetterAccessor(
+				SimplePojoToTestSetters.class.getMethod("setIntField",
+						int.class)).set(pojo, 42);
+		accessorFactory.getSetterAccessor(
+				SimplePojoToTestSetters.class.getMethod("setStringField",
+						String.class)).set(pojo, "podam");
+		Assert.assertEquals(42, pojo.getIntField());
+		Assert.assertEquals("podam", pojo.getStringField());
+	}
+
+	public static class FailingSetterPojo {
+
+		public void setValue(String value) {
+			throw new IllegalStateException(value);
+		}
+	}
+
+	static class PackagePrivatePojo {
+
+		private String value;
+
+		public PackagePrivatePojo() {
+		}
+
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+	}
+
+}
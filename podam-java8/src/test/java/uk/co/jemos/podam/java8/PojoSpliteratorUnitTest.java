@@ -0,0 +1,49 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.java8;
+
+import java.util.Spliterator;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.PojoIterator;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks the streams of POJOs produced by {@link PojoSpliterator}
+ *
+ * @author mtedone
+ *
+ */
+public class PojoSpliteratorUnitTest {
+
+	@Test
+	public void testParallelStream() {
+
+		PojoIterator<SimplePojoToTestSetters> iterator = new PodamFactoryImpl()
+				.iterator(SimplePojoToTestSetters.class, 1000);
+		Assert.assertEquals(1000, PojoSpliterator.stream(iterator, true)
+				.count());
+	}
+
+	@Test
+	public void testSplit() {
+
+		Spliterator<SimplePojoToTestSetters> spliterator = new PojoSpliterator<SimplePojoToTestSetters>(
+				new PodamFactoryImpl().iterator(SimplePojoToTestSetters.class,
+						9));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Spliterator<SimplePojoToTestSetters> split = spliterator.trySplit();
+		Assert.assertEquals(5, spliterator.estimateSize());
+		Assert.assertEquals(4, split.estimateSize());
+
+		Spliterator<SimplePojoToTestSetters> unbounded = new PojoSpliterator<SimplePojoToTestSetters>(
+				new PodamFactoryImpl().iterator(SimplePojoToTestSetters.class));
+		Assert.assertFalse(unbounded.hasCharacteristics(Spliterator.SIZED));
+	}
+
+}
@@ -0,0 +1,235 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating a
+ * {@code uk.co.jemos.podam.api.Manufacturer} for each class annotated with
+ * {@code uk.co.jemos.podam.common.PodamManufacturable} or listed, by
+ * fully-qualified name and separated by commas, in the
+ * {@value #MANUFACTURERS_OPTION} option.
+ * <p>
+ * The generated manufacturers call the constructor and the setters of their
+ * class directly. They are listed in
+ * {@code META-INF/services/uk.co.jemos.podam.api.Manufacturer}, so that
+ * {@code PodamFactoryImpl} discovers them and prefers them to reflection.
+ * Classes a manufacturer cannot be generated for are reported with a note
+ * and keep being filled through reflection.
+ * </p>
+ * <p>
+ * The metadata passed to the strategy lists the real annotations of each
+ * attribute, as with reflection: they are read once, when the manufacturer
+ * class is initialised. The generators of ranged values are obtained from the
+ * factory the first time a POJO is filled, and kept for as long as the
+ * factory strategy is the same.
+ * </p>
+ * <p>
+ * The processor refers to Podam types by name only, so that it does not need
+ * Podam on its own class path.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@SupportedOptions(ManufacturerProcessor.MANUFACTURERS_OPTION)
+public class ManufacturerProcessor extends AbstractProcessor {
+
+	// ------------------->> Constants
+
+	/** The option listing the classes to generate manufacturers for */
+	public static final String MANUFACTURERS_OPTION = "podam.manufacturers";
+
+	/** The annotation marking the classes to generate manufacturers for */
+	static final String MANUFACTURABLE_ANNOTATION = "uk.co.jemos.podam.common.PodamManufacturable";
+
+	/** The file listing the generated manufacturers */
+	static final String SERVICE_FILE = "META-INF/services/uk.co.jemos.podam.api.Manufacturer";
+
+	// ------------------->> Instance / Static variables
+
+	/** The classes already processed */
+	private final Set<String> processedClasses = new HashSet<String>();
+
+	/** The names of the generated manufacturers */
+	private final List<String> manufacturers = new ArrayList<String>();
+
+	/** The writer of the manufacturers */
+	private ManufacturerWriter writer;
+
+	/** Whether the classes listed in the option have been processed */
+	private boolean listedClassesProcessed;
+
+	// ------------------->> Public methods
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		writer = new ManufacturerWriter(processingEnv);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * All the sources are processed when classes are listed in the
+	 * {@value #MANUFACTURERS_OPTION} option, as they need not be annotated.
+	 * </p>
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		if (getListedClasses().isEmpty()) {
+			return Collections.singleton(MANUFACTURABLE_ANNOTATION);
+		}
+		return Collections.singleton("*");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+			RoundEnvironment roundEnv) {
+
+		if (roundEnv.processingOver()) {
+			writeServiceFile();
+			return false;
+		}
+
+		if (!listedClassesProcessed) {
+			listedClassesProcessed = true;
+			for (String className : getListedClasses()) {
+				TypeElement type = processingEnv.getElementUtils()
+						.getTypeElement(className);
+				if (null == type) {
+					processingEnv.getMessager().printMessage(
+							Kind.ERROR,
+							"Class " + className + " listed in "
+									+ MANUFACTURERS_OPTION
+									+ " cannot be found");
+				} else {
+					generate(type);
+				}
+			}
+		}
+
+		TypeElement annotation = processingEnv.getElementUtils()
+				.getTypeElement(MANUFACTURABLE_ANNOTATION);
+		if (null != annotation) {
+			for (Element element : roundEnv
+					.getElementsAnnotatedWith(annotation)) {
+				if (element instanceof TypeElement) {
+					generate((TypeElement) element);
+				}
+			}
+		}
+
+		// Other processors may handle the same annotation
+		return false;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It returns the classes listed in the {@value #MANUFACTURERS_OPTION}
+	 * option.
+	 *
+	 * @return the fully-qualified names of the classes, possibly empty
+	 */
+	private List<String> getListedClasses() {
+
+		List<String> classNames = new ArrayList<String>();
+		String option = processingEnv.getOptions().get(MANUFACTURERS_OPTION);
+		if (null != option) {
+			for (String className : option.split(",")) {
+				if (className.trim().length() > 0) {
+					classNames.add(className.trim());
+				}
+			}
+		}
+		return classNames;
+	}
+
+	/**
+	 * It generates the manufacturer of a class, unless it was already
+	 * generated.
+	 *
+	 * @param type
+	 *            The class
+	 */
+	private void generate(TypeElement type) {
+
+		if (!processedClasses.add(type.getQualifiedName().toString())) {
+			return;
+		}
+		try {
+			String manufacturer = writer.write(type);
+			if (null != manufacturer) {
+				manufacturers.add(manufacturer);
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(
+					Kind.ERROR,
+					"The manufacturer of " + type.getQualifiedName()
+							+ " cannot be written: " + e.getMessage(), type);
+		}
+	}
+
+	/**
+	 * It lists the generated manufacturers in the service file.
+	 */
+	private void writeServiceFile() {
+
+		if (manufacturers.isEmpty()) {
+			return;
+		}
+		try {
+			FileObject file = processingEnv.getFiler().createResource(
+					StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+			Writer out = file.openWriter();
+			try {
+				for (String manufacturer : manufacturers) {
+					out.write(manufacturer);
+					out.write('\n');
+				}
+			} finally {
+				out.close();
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					SERVICE_FILE + " cannot be written: " + e.getMessage());
+		}
+	}
+
+}
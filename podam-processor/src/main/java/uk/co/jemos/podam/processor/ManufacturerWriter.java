@@ -0,0 +1,1184 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * It writes the source of the manufacturer of a class.
+ * <p>
+ * The attributes of the class are its non-static fields, including the
+ * inherited ones, which have got an accessible setter and are not annotated
+ * with {@code PodamExclude}. Values customised by {@code PodamIntValue},
+ * {@code PodamStringValue}, {@code PodamCollection} and
+ * {@code PodamStrategyValue} are generated as the factory would; the other
+ * values are manufactured by the factory through the
+ * {@code ManufacturerContext}.
+ * </p>
+ * <p>
+ * No manufacturer is generated for a class the generated code could not
+ * handle as the factory would, for instance a generic class or a class with
+ * attributes annotated with other Podam annotations.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+final class ManufacturerWriter {
+
+	// ------------------->> Constants
+
+	/** The suffix of the manufacturer names */
+	static final String MANUFACTURER_SUFFIX = "PodamManufacturer";
+
+	/** The prefix of the Podam annotations */
+	private static final String PODAM_ANNOTATION_PREFIX = "uk.co.jemos.podam.common.Podam";
+
+	/** The annotation excluding an attribute */
+	private static final String EXCLUDE_ANNOTATION = "uk.co.jemos.podam.common.PodamExclude";
+
+	/** The annotation customising an integer */
+	private static final String INT_VALUE_ANNOTATION = "uk.co.jemos.podam.common.PodamIntValue";
+
+	/** The annotation customising a string */
+	private static final String STRING_VALUE_ANNOTATION = "uk.co.jemos.podam.common.PodamStringValue";
+
+	/** The annotation customising a collection or a map */
+	private static final String COLLECTION_ANNOTATION = "uk.co.jemos.podam.common.PodamCollection";
+
+	/** The annotation naming the strategy of an attribute */
+	private static final String STRATEGY_VALUE_ANNOTATION = "uk.co.jemos.podam.common.PodamStrategyValue";
+
+	/** The strategy leaving the value to the factory */
+	private static final String OBJECT_STRATEGY = "uk.co.jemos.podam.api.ObjectStrategy";
+
+	/** The implementations of the supported collection and map types */
+	private static final Map<String, String> IMPLEMENTATIONS = new HashMap<String, String>();
+
+	static {
+		IMPLEMENTATIONS.put("java.util.Collection", "java.util.ArrayList");
+		IMPLEMENTATIONS.put("java.util.List", "java.util.ArrayList");
+		IMPLEMENTATIONS.put("java.util.ArrayList", "java.util.ArrayList");
+		IMPLEMENTATIONS.put("java.util.Set", "java.util.HashSet");
+		IMPLEMENTATIONS.put("java.util.HashSet", "java.util.HashSet");
+		IMPLEMENTATIONS.put("java.util.Map", "java.util.HashMap");
+		IMPLEMENTATIONS.put("java.util.HashMap", "java.util.HashMap");
+	}
+
+	// ------------------->> Instance / Static variables
+
+	/** The processing environment */
+	private final ProcessingEnvironment processingEnv;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param processingEnv
+	 *            The processing environment
+	 */
+	ManufacturerWriter(ProcessingEnvironment processingEnv) {
+		this.processingEnv = processingEnv;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It writes the manufacturer of a class, in the package of the class.
+	 *
+	 * @param pojoType
+	 *            The class
+	 * @return the fully-qualified name of the manufacturer or null if no
+	 *         manufacturer was generated
+	 * @throws IOException
+	 *             If the manufacturer cannot be written
+	 */
+	String write(TypeElement pojoType) throws IOException {
+
+		PackageElement packageElement = processingEnv.getElementUtils()
+				.getPackageOf(pojoType);
+		String packageName = packageElement.isUnnamed() ? ""
+				: packageElement.getQualifiedName().toString();
+		String simpleName = getManufacturerName(pojoType);
+
+		String source;
+		try {
+			checkClass(pojoType, packageElement);
+			source = generate(pojoType, packageName, simpleName,
+					getAttributes(pojoType, packageElement));
+		} catch (UnsupportedClassException e) {
+			processingEnv.getMessager().printMessage(
+					e.getKind(),
+					"No manufacturer is generated for "
+							+ pojoType.getQualifiedName() + ": "
+							+ e.getMessage(), e.getElement());
+			return null;
+		}
+
+		String qualifiedName = packageName.length() == 0 ? simpleName
+				: packageName + "." + simpleName;
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(
+				qualifiedName, pojoType);
+		Writer out = file.openWriter();
+		try {
+			out.write(source);
+		} finally {
+			out.close();
+		}
+		return qualifiedName;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It returns the simple name of the manufacturer of a class, which joins
+	 * the names of its enclosing classes with underscores.
+	 *
+	 * @param pojoType
+	 *            The class
+	 * @return the simple name of the manufacturer
+	 */
+	private static String getManufacturerName(TypeElement pojoType) {
+
+		StringBuilder name = new StringBuilder(pojoType.getSimpleName());
+		Element enclosing = pojoType.getEnclosingElement();
+		while (enclosing instanceof TypeElement) {
+			name.insert(0, '_').insert(0, enclosing.getSimpleName());
+			enclosing = enclosing.getEnclosingElement();
+		}
+		return name.append(MANUFACTURER_SUFFIX).toString();
+	}
+
+	/**
+	 * It checks that the generated code can create the POJOs of a class.
+	 *
+	 * @param pojoType
+	 *            The class
+	 * @param packageElement
+	 *            The package of the manufacturer
+	 * @throws UnsupportedClassException
+	 *             If the class is not supported
+	 */
+	private static void checkClass(TypeElement pojoType,
+			PackageElement packageElement) throws UnsupportedClassException {
+
+		if (pojoType.getKind() != ElementKind.CLASS) {
+			throw new UnsupportedClassException("it is not a class", pojoType);
+		}
+		if (pojoType.getModifiers().contains(Modifier.ABSTRACT)) {
+			throw new UnsupportedClassException("it is abstract", pojoType);
+		}
+		if (pojoType.getNestingKind() != NestingKind.TOP_LEVEL
+				&& !(pojoType.getNestingKind() == NestingKind.MEMBER && pojoType
+						.getModifiers().contains(Modifier.STATIC))) {
+			throw new UnsupportedClassException(
+					"it is not a top-level or static nested class", pojoType);
+		}
+		if (!isAccessible(pojoType, packageElement)) {
+			throw new UnsupportedClassException("it is not accessible",
+					pojoType);
+		}
+		if (!pojoType.getTypeParameters().isEmpty()) {
+			throw new UnsupportedClassException("it has got type parameters",
+					pojoType);
+		}
+		if (!hasAccessibleNoArgConstructor(pojoType, packageElement)) {
+			throw new UnsupportedClassException(
+					"it has got no accessible constructor without arguments",
+					pojoType);
+		}
+	}
+
+	/**
+	 * It lists the attributes of a class, sorted by name.
+	 *
+	 * @param pojoType
+	 *            The class
+	 * @param packageElement
+	 *            The package of the manufacturer
+	 * @return the attributes
+	 * @throws UnsupportedClassException
+	 *             If an attribute is not supported
+	 */
+	private List<Attribute> getAttributes(TypeElement pojoType,
+			PackageElement packageElement) throws UnsupportedClassException {
+
+		// Fields hide the fields with the same name declared by superclasses
+		Map<String, VariableElement> fields = new TreeMap<String, VariableElement>();
+		List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+		TypeElement workType = pojoType;
+		while (null != workType) {
+			for (VariableElement field : ElementFilter.fieldsIn(workType
+					.getEnclosedElements())) {
+				if (!field.getModifiers().contains(Modifier.STATIC)
+						&& !fields.containsKey(field.getSimpleName()
+								.toString())) {
+					fields.put(field.getSimpleName().toString(), field);
+				}
+			}
+			methods.addAll(ElementFilter.methodsIn(workType
+					.getEnclosedElements()));
+			workType = getSuperclass(workType);
+		}
+
+		DeclaredType pojoTypeMirror = (DeclaredType) pojoType.asType();
+		List<Attribute> attributes = new ArrayList<Attribute>();
+		for (VariableElement field : fields.values()) {
+
+			String name = field.getSimpleName().toString();
+			ExecutableElement setter = getSetter(field, methods);
+			if (null == setter) {
+				continue;
+			}
+
+			Map<String, AnnotationMirror> annotations = new HashMap<String, AnnotationMirror>();
+			List<AnnotationMirror> mirrors = new ArrayList<AnnotationMirror>(
+					field.getAnnotationMirrors());
+			mirrors.addAll(setter.getAnnotationMirrors());
+			for (AnnotationMirror mirror : mirrors) {
+				String annotationName = ((TypeElement) mirror
+						.getAnnotationType().asElement()).getQualifiedName()
+						.toString();
+				if (annotationName.startsWith(PODAM_ANNOTATION_PREFIX)) {
+					annotations.put(annotationName, mirror);
+				}
+			}
+			if (annotations.containsKey(EXCLUDE_ANNOTATION)) {
+				continue;
+			}
+			for (String annotationName : annotations.keySet()) {
+				if (!INT_VALUE_ANNOTATION.equals(annotationName)
+						&& !STRING_VALUE_ANNOTATION.equals(annotationName)
+						&& !COLLECTION_ANNOTATION.equals(annotationName)
+						&& !STRATEGY_VALUE_ANNOTATION.equals(annotationName)) {
+					throw new UnsupportedClassException("attribute " + name
+							+ " is annotated with @" + annotationName, field);
+				}
+			}
+
+			if (!isAccessible(setter, packageElement)) {
+				throw new UnsupportedClassException("the setter of attribute "
+						+ name + " is not accessible", field);
+			}
+			// Type variables inherited from superclasses are resolved
+			TypeMirror type = ((ExecutableType) processingEnv.getTypeUtils()
+					.asMemberOf(pojoTypeMirror, setter)).getParameterTypes()
+					.get(0);
+			attributes.add(new Attribute(name, setter.getSimpleName()
+					.toString(), type, annotations, field, packageElement));
+		}
+		return attributes;
+	}
+
+	/**
+	 * It returns the setter of a field, preferring the one taking the type of
+	 * the field.
+	 *
+	 * @param field
+	 *            The field
+	 * @param methods
+	 *            The methods of the class and of its superclasses, the most
+	 *            derived first
+	 * @return the setter or null if the field has got none
+	 */
+	private ExecutableElement getSetter(VariableElement field,
+			List<ExecutableElement> methods) {
+
+		String name = field.getSimpleName().toString();
+		String setterName = "set" + name.substring(0, 1).toUpperCase()
+				+ name.substring(1);
+		ExecutableElement setter = null;
+		for (ExecutableElement method : methods) {
+			if (method.getSimpleName().contentEquals(setterName)
+					&& method.getParameters().size() == 1
+					&& method.getReturnType().getKind() == TypeKind.VOID
+					&& !method.getModifiers().contains(Modifier.STATIC)) {
+				if (processingEnv.getTypeUtils().isSameType(
+						processingEnv.getTypeUtils().erasure(
+								method.getParameters().get(0).asType()),
+						processingEnv.getTypeUtils().erasure(field.asType()))) {
+					return method;
+				}
+				if (null == setter) {
+					setter = method;
+				}
+			}
+		}
+		return setter;
+	}
+
+	/**
+	 * It generates the source of a manufacturer.
+	 *
+	 * @param pojoType
+	 *            The class of the POJOs
+	 * @param packageName
+	 *            The package of the manufacturer
+	 * @param simpleName
+	 *            The simple name of the manufacturer
+	 * @param attributes
+	 *            The attributes to fill
+	 * @return the source of the manufacturer
+	 * @throws UnsupportedClassException
+	 *             If an attribute is not supported
+	 */
+	private String generate(TypeElement pojoType, String packageName,
+			String simpleName, List<Attribute> attributes)
+			throws UnsupportedClassException {
+
+		String pojoName = pojoType.getQualifiedName().toString();
+		StringBuilder constants = new StringBuilder();
+		StringBuilder body = new StringBuilder();
+		Set<String> constantNames = new HashSet<String>();
+		Map<String, String> generators = new TreeMap<String, String>();
+		boolean valueDeclared = false;
+
+		for (Attribute attribute : attributes) {
+
+			AnnotationMirror strategyValue = attribute.getAnnotations().get(
+					STRATEGY_VALUE_ANNOTATION);
+			AnnotationMirror collection = attribute.getAnnotations().get(
+					COLLECTION_ANNOTATION);
+			AnnotationMirror intValue = attribute.getAnnotations().get(
+					INT_VALUE_ANNOTATION);
+			AnnotationMirror stringValue = attribute.getAnnotations().get(
+					STRING_VALUE_ANNOTATION);
+			checkNameable(attribute.getType(), attribute);
+
+			if (null != strategyValue) {
+
+				TypeMirror strategy = (TypeMirror) getValue(strategyValue,
+						"value");
+				checkStrategy(strategy, attribute);
+				if (!valueDeclared) {
+					body.append("\t\tObject value;\n");
+					valueDeclared = true;
+				}
+				body.append("\t\tvalue = new ").append(erasure(strategy))
+						.append("().getValue();\n");
+				appendSetIfNotNull(body, attribute);
+
+			} else if (null != collection) {
+
+				appendCollection(body, attribute, collection);
+
+			} else if (null != intValue) {
+
+				if (!isType(attribute.getType(), "int", "java.lang.Integer")) {
+					throw new UnsupportedClassException("attribute "
+							+ attribute.getName()
+							+ " is annotated with @PodamIntValue but it is"
+							+ " not an integer", attribute.getElement());
+				}
+				String numValue = (String) getValue(intValue, "numValue");
+				if (numValue.length() > 0) {
+					int value;
+					try {
+						value = Integer.valueOf(numValue);
+					} catch (NumberFormatException e) {
+						throw new UnsupportedClassException("the precise value"
+								+ " of attribute " + attribute.getName()
+								+ ", " + numValue + ", is not an integer",
+								attribute.getElement(), Kind.ERROR);
+					}
+					appendSet(body, attribute, Integer.toString(value));
+				} else {
+					String metadata = appendMetadata(constants, constantNames,
+							attribute, pojoName);
+					String generator = attribute.getName() + "Generator";
+					generators.put(generator, metadata);
+					appendSet(body, attribute,
+							"(java.lang.Integer) generators." + generator
+									+ ".generate(" + metadata + ")");
+				}
+
+			} else if (null != stringValue) {
+
+				if (!isType(attribute.getType(), "java.lang.String")) {
+					throw new UnsupportedClassException("attribute "
+							+ attribute.getName()
+							+ " is annotated with @PodamStringValue but it is"
+							+ " not a string", attribute.getElement());
+				}
+				String strValue = (String) getValue(stringValue, "strValue");
+				if (strValue.length() > 0) {
+					appendSet(body, attribute, toLiteral(strValue));
+				} else {
+					String metadata = appendMetadata(constants, constantNames,
+							attribute, pojoName);
+					appendSet(body, attribute,
+							"context.getStrategy().getStringOfLength("
+									+ getValue(stringValue, "length") + ", "
+									+ metadata + ")");
+				}
+
+			} else {
+
+				if (!valueDeclared) {
+					body.append("\t\tObject value;\n");
+					valueDeclared = true;
+				}
+				body.append("\t\tvalue = context.manufacture(pojo, \"")
+						.append(attribute.getName()).append("\", ")
+						.append(erasure(attribute.getType())).append(".class");
+				for (TypeMirror typeArg : getTypeArgs(attribute)) {
+					body.append(", ").append(erasure(typeArg)).append(".class");
+				}
+				body.append(");\n");
+				appendSetIfNotNull(body, attribute);
+			}
+		}
+
+		StringBuilder source = new StringBuilder();
+		if (packageName.length() > 0) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("/**\n");
+		source.append(" * It manufactures the {@link ").append(pojoName)
+				.append("} POJOs without reflection.\n");
+		source.append(" * <p>\n");
+		source.append(" * Generated by ")
+				.append(ManufacturerProcessor.class.getName())
+				.append(", do not edit.\n");
+		source.append(" * </p>\n");
+		source.append(" */\n");
+		source.append("public final class ").append(simpleName)
+				.append(" implements\n");
+		source.append("\t\tuk.co.jemos.podam.api.Manufacturer<")
+				.append(pojoName).append("> {\n\n");
+		source.append(constants);
+		if (!generators.isEmpty()) {
+			source.append("\t/** The generators of the attributes */\n");
+			source.append("\tprivate volatile Generators generators;\n\n");
+		}
+		source.append("\t@Override\n");
+		source.append("\tpublic Class<").append(pojoName)
+				.append("> getPojoClass() {\n");
+		source.append("\t\treturn ").append(pojoName).append(".class;\n");
+		source.append("\t}\n\n");
+		source.append("\t@Override\n");
+		source.append("\tpublic ").append(pojoName)
+				.append(" newInstance() {\n");
+		source.append("\t\treturn new ").append(pojoName).append("();\n");
+		source.append("\t}\n\n");
+		source.append("\t@Override\n");
+		source.append("\t@SuppressWarnings(\"unchecked\")\n");
+		source.append("\tpublic void fill(").append(pojoName)
+				.append(" pojo,\n");
+		source.append("\t\t\tuk.co.jemos.podam.api.ManufacturerContext context) {\n");
+		if (!generators.isEmpty()) {
+			source.append("\t\tGenerators generators = getGenerators(context);\n");
+		}
+		source.append(body);
+		source.append("\t}\n\n");
+		if (!constantNames.isEmpty()) {
+			appendAnnotationsOf(source, pojoName);
+		}
+		if (!generators.isEmpty()) {
+			appendGenerators(source, generators);
+		}
+		source.append("}\n");
+		return source.toString();
+	}
+
+	/**
+	 * It appends the method reading the annotations of an attribute, which
+	 * the metadata constants are initialised with.
+	 *
+	 * @param source
+	 *            The source of the manufacturer
+	 * @param pojoName
+	 *            The name of the class of the POJOs
+	 */
+	private static void appendAnnotationsOf(StringBuilder source,
+			String pojoName) {
+
+		source.append("\tprivate static java.util.List<java.lang.annotation.Annotation> annotationsOf(\n");
+		source.append("\t\t\tString fieldName) {\n");
+		source.append("\t\tfor (Class<?> type = ").append(pojoName)
+				.append(".class; type != null;\n");
+		source.append("\t\t\t\ttype = type.getSuperclass()) {\n");
+		source.append("\t\t\ttry {\n");
+		source.append("\t\t\t\treturn java.util.Arrays.asList(type.getDeclaredField(\n");
+		source.append("\t\t\t\t\t\tfieldName).getAnnotations());\n");
+		source.append("\t\t\t} catch (NoSuchFieldException e) {\n");
+		source.append("\t\t\t\t// The field is declared by a superclass\n");
+		source.append("\t\t\t}\n");
+		source.append("\t\t}\n");
+		source.append("\t\tthrow new IllegalStateException(\"Field \" + fieldName\n");
+		source.append("\t\t\t\t+ \" cannot be found\");\n");
+		source.append("\t}\n\n");
+	}
+
+	/**
+	 * It appends the generators of the attributes and the method returning
+	 * them for the strategy of a context. The generators are obtained from
+	 * the factory once, and again only if the strategy changes.
+	 *
+	 * @param source
+	 *            The source of the manufacturer
+	 * @param generators
+	 *            The metadata constants of the attributes by generator name
+	 */
+	private static void appendGenerators(StringBuilder source,
+			Map<String, String> generators) {
+
+		source.append("\tprivate Generators getGenerators(\n");
+		source.append("\t\t\tuk.co.jemos.podam.api.ManufacturerContext context) {\n");
+		source.append("\t\tGenerators current = generators;\n");
+		source.append("\t\tif (null == current || current.strategy != context.getStrategy()) {\n");
+		source.append("\t\t\tcurrent = new Generators(context);\n");
+		source.append("\t\t\tgenerators = current;\n");
+		source.append("\t\t}\n");
+		source.append("\t\treturn current;\n");
+		source.append("\t}\n\n");
+
+		source.append("\t/**\n");
+		source.append("\t * The generators of the attributes, bound to the strategy of a factory.\n");
+		source.append("\t */\n");
+		source.append("\tprivate static final class Generators {\n\n");
+		source.append("\t\tprivate final uk.co.jemos.podam.api.DataProviderStrategy strategy;\n\n");
+		for (String generator : generators.keySet()) {
+			source.append("\t\tprivate final uk.co.jemos.podam.api.AttributeGenerator<?> ")
+					.append(generator).append(";\n\n");
+		}
+		source.append("\t\tGenerators(uk.co.jemos.podam.api.ManufacturerContext context) {\n");
+		source.append("\t\t\tstrategy = context.getStrategy();\n");
+		for (Map.Entry<String, String> generator : generators.entrySet()) {
+			source.append("\t\t\t").append(generator.getKey())
+					.append(" = context.getGenerator(")
+					.append(generator.getValue()).append(");\n");
+		}
+		source.append("\t\t}\n");
+		source.append("\t}\n\n");
+	}
+
+	/**
+	 * It appends the code filling a collection or a map annotated with
+	 * {@code PodamCollection}.
+	 *
+	 * @param body
+	 *            The body of the fill method
+	 * @param attribute
+	 *            The attribute
+	 * @param collection
+	 *            The annotation
+	 * @throws UnsupportedClassException
+	 *             If the collection type is not supported
+	 */
+	private void appendCollection(StringBuilder body, Attribute attribute,
+			AnnotationMirror collection) throws UnsupportedClassException {
+
+		String implementation = null;
+		if (attribute.getType().getKind() == TypeKind.DECLARED) {
+			implementation = IMPLEMENTATIONS.get(erasure(attribute.getType()));
+		}
+		List<TypeMirror> typeArgs = getTypeArgs(attribute);
+		if (null == implementation || typeArgs.isEmpty()) {
+			throw new UnsupportedClassException("attribute "
+					+ attribute.getName() + " is annotated with"
+					+ " @PodamCollection but it is not a list, a set or a map"
+					+ " with type arguments", attribute.getElement());
+		}
+
+		String variable = attribute.getName() + "Value";
+		String typeArgList = typeArgs.get(0).toString();
+		if (typeArgs.size() > 1) {
+			typeArgList += ", " + typeArgs.get(1);
+		}
+		body.append("\t\t").append(attribute.getType()).append(' ')
+				.append(variable).append(" = new ").append(implementation)
+				.append('<').append(typeArgList).append(">();\n");
+
+		String firstValue;
+		String secondValue = null;
+		if (typeArgs.size() > 1) {
+			firstValue = getElementValue(body, attribute, typeArgs.get(0),
+					(TypeMirror) getValue(collection, "mapKeyStrategy"), "Key");
+			secondValue = getElementValue(body, attribute, typeArgs.get(1),
+					(TypeMirror) getValue(collection, "mapElementStrategy"),
+					"Element");
+		} else {
+			firstValue = getElementValue(body, attribute, typeArgs.get(0),
+					(TypeMirror) getValue(collection,
+							"collectionElementStrategy"), "Element");
+		}
+
+		body.append("\t\tfor (int i = 0; i < ")
+				.append(getValue(collection, "nbrElements"))
+				.append("; i++) {\n");
+		if (null == secondValue) {
+			body.append("\t\t\t").append(variable).append(".add(")
+					.append(firstValue).append(");\n");
+		} else {
+			body.append("\t\t\t").append(variable).append(".put(")
+					.append(firstValue).append(", ").append(secondValue)
+					.append(");\n");
+		}
+		body.append("\t\t}\n");
+		body.append("\t\tpojo.").append(attribute.getSetterName()).append('(')
+				.append(variable).append(");\n");
+	}
+
+	/**
+	 * It returns the expression of an element, or of a key, of a collection.
+	 * When the element has got its own strategy, the code creating the
+	 * strategy is appended.
+	 *
+	 * @param body
+	 *            The body of the fill method
+	 * @param attribute
+	 *            The collection attribute
+	 * @param elementType
+	 *            The type of the elements
+	 * @param strategy
+	 *            The strategy of the elements
+	 * @param role
+	 *            The role of the elements, naming their strategy variable
+	 * @return the expression of an element
+	 * @throws UnsupportedClassException
+	 *             If the element type or the strategy is not supported
+	 */
+	private String getElementValue(StringBuilder body, Attribute attribute,
+			TypeMirror elementType, TypeMirror strategy, String role)
+			throws UnsupportedClassException {
+
+		String cast = "(" + elementType + ") ";
+		if (OBJECT_STRATEGY.equals(erasure(strategy))) {
+			if (isType(elementType, Object.class.getName())) {
+				throw new UnsupportedClassException("attribute "
+						+ attribute.getName() + " has got Object elements",
+						attribute.getElement());
+			}
+			return cast + "context.manufacture(pojo, \"" + attribute.getName()
+					+ "\", " + erasure(elementType) + ".class)";
+		}
+
+		checkStrategy(strategy, attribute);
+		String variable = attribute.getName() + role + "Strategy";
+		body.append("\t\tuk.co.jemos.podam.common.AttributeStrategy<?> ")
+				.append(variable).append(" = new ").append(erasure(strategy))
+				.append("();\n");
+		return cast + variable + ".getValue()";
+	}
+
+	/**
+	 * It appends the code setting an attribute.
+	 *
+	 * @param body
+	 *            The body of the fill method
+	 * @param attribute
+	 *            The attribute
+	 * @param value
+	 *            The expression of the value
+	 */
+	private static void appendSet(StringBuilder body, Attribute attribute,
+			String value) {
+		body.append("\t\tpojo.").append(attribute.getSetterName()).append('(')
+				.append(value).append(");\n");
+	}
+
+	/**
+	 * It appends the code setting an attribute to the value variable, unless
+	 * it is null.
+	 *
+	 * @param body
+	 *            The body of the fill method
+	 * @param attribute
+	 *            The attribute
+	 */
+	private void appendSetIfNotNull(StringBuilder body, Attribute attribute) {
+
+		TypeMirror type = attribute.getType();
+		String castType;
+		if (type.getKind().isPrimitive()) {
+			castType = processingEnv.getTypeUtils()
+					.boxedClass((PrimitiveType) type).getQualifiedName()
+					.toString();
+		} else {
+			castType = type.toString();
+		}
+		body.append("\t\tif (value != null) {\n");
+		body.append("\t\t\tpojo.").append(attribute.getSetterName())
+				.append("((").append(castType).append(") value);\n");
+		body.append("\t\t}\n");
+	}
+
+	/**
+	 * It appends the metadata constant of an attribute.
+	 *
+	 * @param constants
+	 *            The constants of the manufacturer
+	 * @param constantNames
+	 *            The names of the constants already appended
+	 * @param attribute
+	 *            The attribute
+	 * @param pojoName
+	 *            The name of the class of the POJOs
+	 * @return the name of the constant
+	 */
+	private String appendMetadata(StringBuilder constants,
+			Set<String> constantNames, Attribute attribute, String pojoName) {
+
+		String baseName = attribute.getName()
+				.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase()
+				+ "_METADATA";
+		String name = baseName;
+		for (int i = 2; !constantNames.add(name); i++) {
+			name = baseName + i;
+		}
+
+		constants.append("\tprivate static final uk.co.jemos.podam.api.AttributeMetadata ")
+				.append(name).append(" = new uk.co.jemos.podam.api.AttributeMetadata(\n");
+		constants.append("\t\t\t\"").append(attribute.getName()).append("\", ")
+				.append(erasure(attribute.getType())).append(".class,\n");
+		constants.append("\t\t\tannotationsOf(\"").append(attribute.getName())
+				.append("\"),\n");
+		constants.append("\t\t\t").append(pojoName).append(".class);\n\n");
+		return name;
+	}
+
+	/**
+	 * It checks that the generated code can name the type of an attribute and
+	 * pass it to the factory.
+	 *
+	 * @param type
+	 *            The type
+	 * @param attribute
+	 *            The attribute
+	 * @throws UnsupportedClassException
+	 *             If the type cannot be named
+	 */
+	private void checkNameable(TypeMirror type, Attribute attribute)
+			throws UnsupportedClassException {
+
+		if (type.getKind().isPrimitive()) {
+			return;
+		}
+		if (type.getKind() == TypeKind.ARRAY) {
+			TypeMirror componentType = ((ArrayType) type).getComponentType();
+			if (componentType.getKind() == TypeKind.DECLARED
+					&& !((DeclaredType) componentType).getTypeArguments()
+							.isEmpty()) {
+				throw new UnsupportedClassException("attribute "
+						+ attribute.getName() + " is an array of generic type",
+						attribute.getElement());
+			}
+			checkNameable(componentType, attribute);
+			return;
+		}
+		if (type.getKind() != TypeKind.DECLARED) {
+			throw new UnsupportedClassException("attribute "
+					+ attribute.getName() + " has got type " + type
+					+ ", which cannot be resolved at compile time",
+					attribute.getElement());
+		}
+		if (!isAccessible(((DeclaredType) type).asElement(),
+				attribute.getPackageElement())) {
+			throw new UnsupportedClassException("the type of attribute "
+					+ attribute.getName() + " is not accessible",
+					attribute.getElement());
+		}
+		for (TypeMirror typeArg : ((DeclaredType) type).getTypeArguments()) {
+			if (typeArg.getKind() != TypeKind.DECLARED
+					|| !((DeclaredType) typeArg).getTypeArguments().isEmpty()) {
+				throw new UnsupportedClassException("attribute "
+						+ attribute.getName() + " has got type " + type
+						+ ", whose type arguments are not plain classes",
+						attribute.getElement());
+			}
+			checkNameable(typeArg, attribute);
+		}
+	}
+
+	/**
+	 * It checks that the generated code can create a strategy.
+	 *
+	 * @param strategy
+	 *            The strategy class
+	 * @param attribute
+	 *            The attribute
+	 * @throws UnsupportedClassException
+	 *             If the strategy cannot be created
+	 */
+	private void checkStrategy(TypeMirror strategy, Attribute attribute)
+			throws UnsupportedClassException {
+
+		PackageElement packageElement = attribute.getPackageElement();
+		if (strategy.getKind() != TypeKind.DECLARED) {
+			throw new UnsupportedClassException("the strategy of attribute "
+					+ attribute.getName() + " cannot be resolved",
+					attribute.getElement());
+		}
+		TypeElement strategyType = (TypeElement) ((DeclaredType) strategy)
+				.asElement();
+		if (strategyType.getKind() != ElementKind.CLASS
+				|| strategyType.getModifiers().contains(Modifier.ABSTRACT)
+				|| !isAccessible(strategyType, packageElement)
+				|| !hasAccessibleNoArgConstructor(strategyType, packageElement)) {
+			throw new UnsupportedClassException("the strategy of attribute "
+					+ attribute.getName() + " cannot be created",
+					attribute.getElement());
+		}
+	}
+
+	/**
+	 * It returns the type arguments of the type of an attribute.
+	 *
+	 * @param attribute
+	 *            The attribute
+	 * @return the type arguments, possibly empty
+	 */
+	private static List<TypeMirror> getTypeArgs(Attribute attribute) {
+
+		List<TypeMirror> typeArgs = new ArrayList<TypeMirror>();
+		if (attribute.getType().getKind() == TypeKind.DECLARED) {
+			typeArgs.addAll(((DeclaredType) attribute.getType())
+					.getTypeArguments());
+		}
+		return typeArgs;
+	}
+
+	/**
+	 * It returns the value of an annotation member, or its default.
+	 *
+	 * @param annotation
+	 *            The annotation
+	 * @param name
+	 *            The name of the member
+	 * @return the value of the member or null if the annotation has got no
+	 *         such member
+	 */
+	private Object getValue(AnnotationMirror annotation, String name) {
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+				.getElementUtils().getElementValuesWithDefaults(annotation)
+				.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry.getValue().getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * It returns the source name of the erasure of a type.
+	 *
+	 * @param type
+	 *            The type
+	 * @return the name of the erasure
+	 */
+	private String erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	/**
+	 * It checks whether a type is one of the given types.
+	 *
+	 * @param type
+	 *            The type
+	 * @param names
+	 *            The source names of the types
+	 * @return true if the type is one of the given types
+	 */
+	private boolean isType(TypeMirror type, String... names) {
+
+		String typeName = erasure(type);
+		for (String name : names) {
+			if (name.equals(typeName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * It returns the superclass of a class.
+	 *
+	 * @param type
+	 *            The class
+	 * @return the superclass or null if the class has got none
+	 */
+	private static TypeElement getSuperclass(TypeElement type) {
+
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+
+	/**
+	 * It checks whether a class has got a constructor without arguments the
+	 * manufacturer can call.
+	 *
+	 * @param type
+	 *            The class
+	 * @param packageElement
+	 *            The package of the manufacturer
+	 * @return true if the constructor can be called
+	 */
+	private static boolean hasAccessibleNoArgConstructor(TypeElement type,
+			PackageElement packageElement) {
+
+		for (ExecutableElement constructor : ElementFilter
+				.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty()
+					&& isAccessible(constructor, packageElement)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * It checks whether an element, and the classes enclosing it, are
+	 * accessible from a package.
+	 *
+	 * @param element
+	 *            The element
+	 * @param packageElement
+	 *            The package of the manufacturer
+	 * @return true if the element is accessible
+	 */
+	private static boolean isAccessible(Element element,
+			PackageElement packageElement) {
+
+		Element workElement = element;
+		while (null != workElement && !(workElement instanceof PackageElement)) {
+			Set<Modifier> modifiers = workElement.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE)) {
+				return false;
+			}
+			if (!modifiers.contains(Modifier.PUBLIC)
+					&& !packageElement.equals(getPackage(workElement))) {
+				return false;
+			}
+			workElement = workElement.getEnclosingElement();
+		}
+		return true;
+	}
+
+	/**
+	 * It returns the package of an element.
+	 *
+	 * @param element
+	 *            The element
+	 * @return the package of the element
+	 */
+	private static PackageElement getPackage(Element element) {
+
+		Element workElement = element;
+		while (!(workElement instanceof PackageElement)) {
+			workElement = workElement.getEnclosingElement();
+		}
+		return (PackageElement) workElement;
+	}
+
+	/**
+	 * It returns the Java literal of a string.
+	 *
+	 * @param value
+	 *            The string
+	 * @return the literal
+	 */
+	private static String toLiteral(String value) {
+
+		StringBuilder literal = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				literal.append('\\').append(c);
+			} else if (c < 0x20 || c > 0x7e) {
+				literal.append(String.format("\\u%04x", (int) c));
+			} else {
+				literal.append(c);
+			}
+		}
+		return literal.append('"').toString();
+	}
+
+	// ------------------->> Inner classes
+
+	/**
+	 * An attribute of a class.
+	 */
+	private static final class Attribute {
+
+		/** The attribute name */
+		private final String name;
+
+		/** The name of the setter */
+		private final String setterName;
+
+		/** The type of the attribute */
+		private final TypeMirror type;
+
+		/** The Podam annotations of the attribute by name */
+		private final Map<String, AnnotationMirror> annotations;
+
+		/** The field of the attribute */
+		private final Element element;
+
+		/** The package of the manufacturer */
+		private final PackageElement packageElement;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param name
+		 *            The attribute name
+		 * @param setterName
+		 *            The name of the setter
+		 * @param type
+		 *            The type of the attribute
+		 * @param annotations
+		 *            The Podam annotations of the attribute by name
+		 * @param element
+		 *            The field of the attribute
+		 * @param packageElement
+		 *            The package of the manufacturer
+		 */
+		Attribute(String name, String setterName, TypeMirror type,
+				Map<String, AnnotationMirror> annotations, Element element,
+				PackageElement packageElement) {
+			this.name = name;
+			this.setterName = setterName;
+			this.type = type;
+			this.annotations = annotations;
+			this.element = element;
+			this.packageElement = packageElement;
+		}
+
+		/**
+		 * @return the attribute name
+		 */
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the name of the setter
+		 */
+		String getSetterName() {
+			return setterName;
+		}
+
+		/**
+		 * @return the type of the attribute
+		 */
+		TypeMirror getType() {
+			return type;
+		}
+
+		/**
+		 * @return the Podam annotations of the attribute by name
+		 */
+		Map<String, AnnotationMirror> getAnnotations() {
+			return annotations;
+		}
+
+		/**
+		 * @return the field of the attribute
+		 */
+		Element getElement() {
+			return element;
+		}
+
+		/**
+		 * @return the package of the manufacturer
+		 */
+		PackageElement getPackageElement() {
+			return packageElement;
+		}
+	}
+
+	/**
+	 * Thrown when no manufacturer can be generated for a class.
+	 */
+	private static final class UnsupportedClassException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+
+		/** The element the reason refers to */
+		private final transient Element element;
+
+		/** The kind of the diagnostic to report */
+		private final Kind kind;
+
+		/**
+		 * Constructor reporting a note.
+		 *
+		 * @param reason
+		 *            Why no manufacturer can be generated
+		 * @param element
+		 *            The element the reason refers to
+		 */
+		UnsupportedClassException(String reason, Element element) {
+			this(reason, element, Kind.NOTE);
+		}
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param reason
+		 *            Why no manufacturer can be generated
+		 * @param element
+		 *            The element the reason refers to
+		 * @param kind
+		 *            The kind of the diagnostic to report
+		 */
+		UnsupportedClassException(String reason, Element element, Kind kind) {
+			super(reason);
+			this.element = element;
+			this.kind = kind;
+		}
+
+		/**
+		 * @return the element the reason refers to
+		 */
+		Element getElement() {
+			return element;
+		}
+
+		/**
+		 * @return the kind of the diagnostic to report
+		 */
+		Kind getKind() {
+			return kind;
+		}
+	}
+
+}
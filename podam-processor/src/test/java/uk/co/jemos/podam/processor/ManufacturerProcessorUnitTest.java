@@ -0,0 +1,184 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.processor;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * It checks the manufacturers generated by {@link ManufacturerProcessor}, by
+ * compiling sample POJOs and manufacturing them
+ *
+ * @author mtedone
+ *
+ */
+public class ManufacturerProcessorUnitTest {
+
+	private static final String SAMPLE_PACKAGE = "uk.co.jemos.podam.processor.sample.";
+
+	@Test
+	public void testManufacturersAreGeneratedAndDiscovered() throws Exception {
+
+		File classes = createTempDir();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+		Assert.assertTrue("The samples should compile: "
+				+ diagnostics.getDiagnostics(),
+				compile("/sample", classes, diagnostics, "-A"
+						+ ManufacturerProcessor.MANUFACTURERS_OPTION + "="
+						+ SAMPLE_PACKAGE + "ListedPojo"));
+
+		Assert.assertTrue(new File(classes, SAMPLE_PACKAGE.replace('.', '/')
+				+ "AnnotatedPojo_NestedPojoPodamManufacturer.class").isFile());
+		Assert.assertTrue(new File(classes,
+				ManufacturerProcessor.SERVICE_FILE).isFile());
+
+		ClassLoader loader = new URLClassLoader(new URL[] { classes.toURI()
+				.toURL() }, PodamFactoryImpl.class.getClassLoader());
+		ClassLoader contextLoader = Thread.currentThread()
+				.getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(loader);
+		try {
+			PodamFactoryImpl factory = new PodamFactoryImpl();
+
+			Class<?> annotatedClass = loader.loadClass(SAMPLE_PACKAGE
+					+ "AnnotatedPojo");
+			Assert.assertNotNull(factory.getManufacturer(annotatedClass));
+			Assert.assertNotNull(factory.getManufacturer(loader
+					.loadClass(SAMPLE_PACKAGE + "AnnotatedPojo$NestedPojo")));
+			Assert.assertNotNull(factory.getManufacturer(loader
+					.loadClass(SAMPLE_PACKAGE + "ListedPojo")));
+			Assert.assertNull("Generic classes are filled through reflection",
+					factory.getManufacturer(loader.loadClass(SAMPLE_PACKAGE
+							+ "GenericPojo")));
+
+			Object pojo = factory.manufacturePojo(annotatedClass);
+			Assert.assertNotNull("The pojo cannot be null", pojo);
+			Assert.assertNotNull(get(pojo, "getName"));
+			Assert.assertNotNull("The inherited attribute should be filled",
+					get(pojo, "getBaseValue"));
+			Assert.assertEquals("fixed \"value\"", get(pojo, "getFixedName"));
+			Assert.assertEquals(5, ((String) get(pojo, "getShortName"))
+					.length());
+			Assert.assertEquals(42, get(pojo, "getAnswer"));
+			int small = (Integer) get(pojo, "getSmall");
+			Assert.assertTrue(small >= 1 && small <= 3);
+			Assert.assertEquals(3, ((Collection<?>) get(pojo, "getTags"))
+					.size());
+			Map<?, ?> labels = (Map<?, ?>) get(pojo, "getLabels");
+			Assert.assertEquals(2, labels.size());
+			for (Object label : labels.values()) {
+				Assert.assertEquals("strategy", label);
+			}
+			Assert.assertEquals("strategy", get(pojo, "getStrategyName"));
+			Assert.assertNull(get(pojo, "getExcluded"));
+			Assert.assertFalse(((Collection<?>) get(pojo, "getNumbers"))
+					.isEmpty());
+			Assert.assertNotNull(get(pojo, "getLongs"));
+			Assert.assertNotNull(get(pojo, "getNested"));
+		} finally {
+			Thread.currentThread().setContextClassLoader(contextLoader);
+		}
+	}
+
+	@Test
+	public void testUnsupportedClassesAreReported() throws Exception {
+
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+		Assert.assertTrue(compile("/sample", createTempDir(), diagnostics));
+
+		boolean reported = false;
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics
+				.getDiagnostics()) {
+			if (diagnostic.getKind() == Diagnostic.Kind.NOTE
+					&& diagnostic.getMessage(null).contains(
+							SAMPLE_PACKAGE + "GenericPojo")) {
+				reported = true;
+			}
+		}
+		Assert.assertTrue("The generic class should be reported: "
+				+ diagnostics.getDiagnostics(), reported);
+	}
+
+	@Test
+	public void testInvalidValuesFailTheCompilation() throws Exception {
+
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+		Assert.assertFalse("An invalid value should fail the compilation",
+				compile("/invalid", createTempDir(), diagnostics));
+	}
+
+	// ------------------->> Private methods
+
+	private static boolean compile(String sourceDir, File classes,
+			DiagnosticCollector<JavaFileObject> diagnostics, String... options)
+			throws Exception {
+
+		List<File> sources = new ArrayList<File>();
+		listSources(new File(ManufacturerProcessorUnitTest.class.getResource(
+				sourceDir).toURI()), sources);
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Assert.assertNotNull("The tests need a JDK", compiler);
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(
+				diagnostics, null, null);
+		try {
+			List<String> allOptions = new ArrayList<String>(Arrays.asList(
+					"-d", classes.getPath(), "-classpath", new File(
+							PodamFactoryImpl.class.getProtectionDomain()
+									.getCodeSource().getLocation().toURI())
+							.getPath()));
+			allOptions.addAll(Arrays.asList(options));
+			JavaCompiler.CompilationTask task = compiler.getTask(null,
+					fileManager, diagnostics, allOptions, null,
+					fileManager.getJavaFileObjectsFromFiles(sources));
+			task.setProcessors(Arrays.asList(new ManufacturerProcessor()));
+			return task.call();
+		} finally {
+			fileManager.close();
+		}
+	}
+
+	private static void listSources(File dir, List<File> sources) {
+		for (File file : dir.listFiles()) {
+			if (file.isDirectory()) {
+				listSources(file, sources);
+			} else if (file.getName().endsWith(".java")) {
+				sources.add(file);
+			}
+		}
+	}
+
+	private static File createTempDir() throws Exception {
+		File dir = File.createTempFile("podam-processor", "");
+		Assert.assertTrue(dir.delete());
+		Assert.assertTrue(dir.mkdir());
+		dir.deleteOnExit();
+		return dir;
+	}
+
+	private static Object get(Object pojo, String getter) throws Exception {
+		Method method = pojo.getClass().getMethod(getter);
+		return method.invoke(pojo);
+	}
+}
@@ -0,0 +1,14 @@
+package uk.co.jemos.podam.processor.sample;
+
+public class BasePojo<T> {
+
+	private T baseValue;
+
+	public T getBaseValue() {
+		return baseValue;
+	}
+
+	public void setBaseValue(T baseValue) {
+		this.baseValue = baseValue;
+	}
+}
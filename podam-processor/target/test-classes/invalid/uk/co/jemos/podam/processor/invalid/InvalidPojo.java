@@ -0,0 +1,19 @@
+package uk.co.jemos.podam.processor.invalid;
+
+import uk.co.jemos.podam.common.PodamIntValue;
+import uk.co.jemos.podam.common.PodamManufacturable;
+
+@PodamManufacturable
+public class InvalidPojo {
+
+	@PodamIntValue(numValue = "forty-two")
+	private int answer;
+
+	public int getAnswer() {
+		return answer;
+	}
+
+	public void setAnswer(int answer) {
+		this.answer = answer;
+	}
+}
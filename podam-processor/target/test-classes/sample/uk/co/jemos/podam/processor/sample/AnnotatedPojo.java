@@ -0,0 +1,158 @@
+package uk.co.jemos.podam.processor.sample;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uk.co.jemos.podam.common.PodamCollection;
+import uk.co.jemos.podam.common.PodamExclude;
+import uk.co.jemos.podam.common.PodamIntValue;
+import uk.co.jemos.podam.common.PodamManufacturable;
+import uk.co.jemos.podam.common.PodamStrategyValue;
+import uk.co.jemos.podam.common.PodamStringValue;
+
+@PodamManufacturable
+public class AnnotatedPojo extends BasePojo<String> {
+
+	private String name;
+
+	@PodamStringValue(strValue = "fixed \"value\"")
+	private String fixedName;
+
+	@PodamStringValue(length = 5)
+	private String shortName;
+
+	@PodamIntValue(numValue = "42")
+	private int answer;
+
+	@PodamIntValue(minValue = 1, maxValue = 3)
+	private Integer small;
+
+	@PodamCollection(nbrElements = 3)
+	private List<String> tags;
+
+	@PodamCollection(nbrElements = 2, mapElementStrategy = FixedStrategy.class)
+	private Map<Long, String> labels;
+
+	@PodamStrategyValue(FixedStrategy.class)
+	private String strategyName;
+
+	@PodamExclude
+	private String excluded;
+
+	private Set<Integer> numbers;
+
+	private long[] longs;
+
+	private NestedPojo nested;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getFixedName() {
+		return fixedName;
+	}
+
+	public void setFixedName(String fixedName) {
+		this.fixedName = fixedName;
+	}
+
+	public String getShortName() {
+		return shortName;
+	}
+
+	public void setShortName(String shortName) {
+		this.shortName = shortName;
+	}
+
+	public int getAnswer() {
+		return answer;
+	}
+
+	public void setAnswer(int answer) {
+		this.answer = answer;
+	}
+
+	public Integer getSmall() {
+		return small;
+	}
+
+	public void setSmall(Integer small) {
+		this.small = small;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+
+	public Map<Long, String> getLabels() {
+		return labels;
+	}
+
+	public void setLabels(Map<Long, String> labels) {
+		this.labels = labels;
+	}
+
+	public String getStrategyName() {
+		return strategyName;
+	}
+
+	public void setStrategyName(String strategyName) {
+		this.strategyName = strategyName;
+	}
+
+	public String getExcluded() {
+		return excluded;
+	}
+
+	public void setExcluded(String excluded) {
+		this.excluded = excluded;
+	}
+
+	public Set<Integer> getNumbers() {
+		return numbers;
+	}
+
+	public void setNumbers(Set<Integer> numbers) {
+		this.numbers = numbers;
+	}
+
+	public long[] getLongs() {
+		return longs;
+	}
+
+	public void setLongs(long[] longs) {
+		this.longs = longs;
+	}
+
+	public NestedPojo getNested() {
+		return nested;
+	}
+
+	public void setNested(NestedPojo nested) {
+		this.nested = nested;
+	}
+
+	@PodamManufacturable
+	public static class NestedPojo {
+
+		private double amount;
+
+		public double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(double amount) {
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package uk.co.jemos.podam.processor.sample;
+
+import uk.co.jemos.podam.common.AttributeStrategy;
+
+public class FixedStrategy implements AttributeStrategy<String> {
+
+	public static final String VALUE = "strategy";
+
+	@Override
+	public String getValue() {
+		return VALUE;
+	}
+}
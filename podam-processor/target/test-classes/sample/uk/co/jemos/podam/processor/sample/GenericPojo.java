@@ -0,0 +1,17 @@
+package uk.co.jemos.podam.processor.sample;
+
+import uk.co.jemos.podam.common.PodamManufacturable;
+
+@PodamManufacturable
+public class GenericPojo<T> {
+
+	private T value;
+
+	public T getValue() {
+		return value;
+	}
+
+	public void setValue(T value) {
+		this.value = value;
+	}
+}
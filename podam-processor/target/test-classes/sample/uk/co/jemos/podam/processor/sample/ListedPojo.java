@@ -0,0 +1,14 @@
+package uk.co.jemos.podam.processor.sample;
+
+public class ListedPojo {
+
+	private String value;
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+}
@@ -12,24 +12,52 @@ import java.util.Map;
  */
 public abstract class AbstractMapArguments {
 
-	/** Set of manufactured pojos' types. */
-	private Map<Class<?>, Integer> pojos;
+	/** The context of the current manufacturing call. */
+	private ManufacturingContext context;
 	/** The annotations for the attribute. */
 	private List<Annotation> annotations;
 
 	/**
-	 * @return the pojos
+	 * @return the context
 	 */
+	public ManufacturingContext getContext() {
+		return context;
+	}
+
+	/**
+	 * @param context
+	 *            the context to set
+	 */
+	public void setContext(ManufacturingContext context) {
+		this.context = context;
+	}
+
+	/**
+	 * It returns the depths of the POJOs being manufactured, which the factory
+	 * used to track in a map.
+	 *
+	 * @return the depths of the POJOs by class, backed by the context, or null
+	 *         if no context is set
+	 * @deprecated The depths are tracked by the context, use
+	 *             {@link #getContext()}
+	 */
+	@Deprecated
 	public Map<Class<?>, Integer> getPojos() {
-		return pojos;
+		return null == context ? null : context.getDepths();
 	}
 
 	/**
+	 * It sets a new context starting from the given depths of the POJOs being
+	 * manufactured. The map is copied.
+	 *
 	 * @param pojos
-	 *            the pojos to set
+	 *            the depths of the POJOs by class
+	 * @deprecated The depths are tracked by the context, use
+	 *             {@link #setContext(ManufacturingContext)}
 	 */
+	@Deprecated
 	public void setPojos(Map<Class<?>, Integer> pojos) {
-		this.pojos = pojos;
+		this.context = null == pojos ? null : new ManufacturingContext(pojos);
 	}
 
 	/**
@@ -53,8 +81,8 @@ public abstract class AbstractMapArguments {
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
-		builder.append("AbstractMapArguments [pojos=");
-		builder.append(pojos);
+		builder.append("AbstractMapArguments [context=");
+		builder.append(context);
 		builder.append(", annotations=");
 		builder.append(annotations);
 		builder.append("]");
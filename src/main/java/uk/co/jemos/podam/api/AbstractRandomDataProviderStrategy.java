@@ -3,49 +3,104 @@
  */
 package uk.co.jemos.podam.api;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import net.jcip.annotations.ThreadSafe;
 
 import uk.co.jemos.podam.common.ConstructorComparator;
 import uk.co.jemos.podam.common.MethodComparator;
 import uk.co.jemos.podam.common.PodamConstants;
+import uk.co.jemos.podam.common.PodamDictionary;
 
 /**
  * Default abstract implementation of a {@link DataProviderStrategy}
  * <p>
  * This default implementation returns values based on a random generator.
  * Convinient for subclassing and redefining behaviour.
- * <b>Don't use this implementation if you seek deterministic values</b>
+ * <b>Values are random unless a seed is set</b> with {@link #setSeed(Long)},
+ * in which case the same seed reproduces the same values.
  * </p>
  *
  * <p>
  * All values returned by this implementation are <b>different from zero</b>.
  * </p>
  *
+ * <p>
+ * The strategy can be reconfigured at any time and changes are immediately
+ * visible to all threads. Factories used concurrently should rather be given
+ * a {@link #snapshot()} of the strategy, which freezes the settings driving
+ * the traversal of the POJOs, so that a thread changing them does not affect
+ * POJOs being manufactured by other threads.
+ * </p>
+ *
+ * <p>
+ * After {@link #setSeed(Long)} the strategy produces reproducible values: the
+ * same seed and the same class always give the same POJO. Classes reading
+ * the clock when they are built, such as {@link java.util.Date} through its
+ * no-arg constructor, are not reproducible unless a {@link DataTypeFactory}
+ * is registered for them.
+ * </p>
+ *
+ * <p>
+ * Primitive values are also provided without boxing, through
+ * {@link PrimitiveDataProviderStrategy}. Subclasses which override a boxed
+ * method, say {@link #getInteger(AttributeMetadata)}, do not need to override
+ * its primitive counterpart: the primitive method detects the override and
+ * returns the value of the boxed method.
+ * </p>
+ *
+ * <p>
+ * Random strings are filled in bulk with the characters of an
+ * {@link Alphabet}, which can be changed with {@link #setAlphabet(Alphabet)}.
+ * Alternatively, strings can be drawn from memory-mapped {@link Dictionary}
+ * files, see {@link #getDictionary(AttributeMetadata)}, and the number of
+ * distinct strings of each attribute can be bounded, see
+ * {@link #setStringPoolSize(int)}.
+ * </p>
+ *
  * @author mtedone
  *
  * @since 1.0.0
  *
  */
-
-public abstract class AbstractRandomDataProviderStrategy implements DataProviderStrategy {
+@ThreadSafe
+public abstract class AbstractRandomDataProviderStrategy implements
+		SeedableDataProviderStrategy, PrimitiveDataProviderStrategy,
+		DistributionDataProviderStrategy {
 
 	// ------------------->> Constants
 
-	/** A RANDOM generator */
-	private static final Random RANDOM = new Random(System.currentTimeMillis());
+	/**
+	 * The random sources of the threads using any strategy. Each thread draws
+	 * from its own source, so that threads do not contend on a shared seed.
+	 */
+	private static final ThreadLocal<RandomSource> RANDOM = new ThreadLocal<RandomSource>() {
+		@Override
+		protected RandomSource initialValue() {
+			return new SplittableRandomSource();
+		}
+	};
 
 	/** The constructor comparator */
 	private static final ConstructorComparator CONSTRUCTOR_COMPARATOR = new ConstructorComparator();
 
-	/** The constructor comparator */
+	/** The method comparator */
 	private static final MethodComparator METHOD_COMPARATOR = new MethodComparator();
 
 	/** An array of valid String characters */
@@ -65,26 +120,72 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	/** The default number of collection elements for this strategy */
 	public static final int DEFAULT_NBR_COLLECTION_ELEMENTS = 5;
 
+	/**
+	 * How many bits of a random long are dropped to produce longs in seeded
+	 * mode. The remaining 40 bits give positive values which are still valid
+	 * times in milliseconds.
+	 */
+	private static final int SEEDED_LONG_SHIFT = 24;
+
+	/** How many strings are drawn per distinct value of a string pool */
+	private static final int MAX_POOL_ATTEMPTS_PER_VALUE = 10;
+
+	/** How many bits of a random long make a byte or short value */
+	private static final int BYTE_CHUNK_BITS = 7;
+
+	/** How many byte or short values are taken from a random long */
+	private static final int BYTE_CHUNKS_PER_LONG = Long.SIZE / BYTE_CHUNK_BITS;
+
 	/** The max stack trace depth. */
-	private int maxDepth = MAX_DEPTH;
+	private volatile int maxDepth = MAX_DEPTH;
 
 	/** The number of collection elements. */
-	private int nbrOfCollectionElements;
+	private volatile int nbrOfCollectionElements;
 
 	/** Flag to enable/disable the memoization setting. */
-	private boolean isMemoizationEnabled;
+	private volatile boolean isMemoizationEnabled;
 
 	/**
 	 * A list of user-submitted specific implementations for interfaces and
 	 * abstract classes
 	 */
-	private final Map<Class<?>, Class<?>> specificTypes = new HashMap<Class<?>, Class<?>>();
+	private final ConcurrentMap<Class<?>, Class<?>> specificTypes = new ConcurrentHashMap<Class<?>, Class<?>>();
 
 	/**
 	 * Set of annotations, which mark fields to be skipped from populating.
 	 */
 	private final Set<Class<? extends Annotation>> excludedAnnotations =
-			new HashSet<Class<? extends Annotation>>();
+			new CopyOnWriteArraySet<Class<? extends Annotation>>();
+
+	/** The seed of reproducible values, null if values are not reproducible */
+	private volatile Long seed;
+
+	/** The characters of random strings */
+	private volatile Alphabet alphabet = Alphabet.NICE_ASCII;
+
+	/** The dictionaries strings can be drawn from, by name */
+	private final ConcurrentMap<String, Dictionary> dictionaries = new ConcurrentHashMap<String, Dictionary>();
+
+	/** The number of distinct strings of each attribute, 0 for no limit */
+	private volatile int stringPoolSize;
+
+	/** The strings each attribute draws its values from */
+	private final ConcurrentMap<AttributeKey, StringPool> stringPools = new ConcurrentHashMap<AttributeKey, StringPool>();
+
+	/** The comparator sorting constructors in the order they are tried */
+	private volatile Comparator<Constructor<?>> constructorComparator = CONSTRUCTOR_COMPARATOR;
+
+	/** The comparator sorting factory methods in the order they are tried */
+	private volatile Comparator<Method> methodComparator = METHOD_COMPARATOR;
+
+	/** The random sources bound by the factories to their threads */
+	private final ThreadLocal<RandomSource> boundRandomSource = new ThreadLocal<RandomSource>();
+
+	/**
+	 * The boxed value methods overridden by the class of this strategy, found
+	 * once when the strategy is built
+	 */
+	private final Set<ValueMethod> overriddenValueMethods = findOverriddenValueMethods(getClass());
 
 	// ------------------->> Instance / Static variables
 
@@ -109,7 +210,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 
 	@Override
 	public Boolean getBoolean(AttributeMetadata attributeMetadata) {
-		return Boolean.TRUE;
+		return drawBoolean(attributeMetadata);
 	}
 
 	/**
@@ -118,11 +219,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 
 	@Override
 	public Byte getByte(AttributeMetadata attributeMetadata) {
-		byte nextByte = (byte) RANDOM.nextInt(Byte.MAX_VALUE);
-		while (nextByte == 0) {
-			nextByte = (byte) RANDOM.nextInt(Byte.MAX_VALUE);
-		}
-		return nextByte;
+		return drawByte(attributeMetadata);
 	}
 
 	/**
@@ -132,17 +229,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	@Override
 	public Byte getByteInRange(byte minValue, byte maxValue,
 			AttributeMetadata attributeMetadata) {
-		// This can happen. It's a way to specify a precise value
-		if (minValue == maxValue) {
-			return minValue;
-		}
-		byte retValue = (byte) (minValue + (byte) (Math.random() * (maxValue
-				- minValue + 1)));
-		while (retValue < minValue || retValue > maxValue) {
-			retValue = (byte) (minValue + (byte) (Math.random() * (maxValue
-					- minValue + 1)));
-		}
-		return retValue;
+		return drawByteInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
@@ -151,14 +238,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 
 	@Override
 	public Character getCharacter(AttributeMetadata attributeMetadata) {
-
-		int randomCharIdx = getIntegerInRange(0,
-				NICE_ASCII_CHARACTERS.length - 1, attributeMetadata);
-
-		int charToReturnIdx = randomCharIdx % NICE_ASCII_CHARACTERS.length;
-
-		return NICE_ASCII_CHARACTERS[charToReturnIdx];
-
+		return drawCharacter(attributeMetadata);
 	}
 
 	/**
@@ -168,18 +248,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	@Override
 	public Character getCharacterInRange(char minValue, char maxValue,
 			AttributeMetadata attributeMetadata) {
-		// This can happen. It's a way to specify a precise value
-		if (minValue == maxValue) {
-			return minValue;
-		}
-		char retValue = (char) (minValue + (char) (Math.random() * (maxValue
-				- minValue + 1)));
-		while (retValue < minValue || retValue > maxValue) {
-			retValue = (char) (minValue + (char) (Math.random() * (maxValue
-					- minValue + 1)));
-		}
-
-		return retValue;
+		return drawCharacterInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
@@ -188,11 +257,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 
 	@Override
 	public Double getDouble(AttributeMetadata attributeMetadata) {
-		double retValue = RANDOM.nextDouble();
-		while (retValue == 0.0) {
-			retValue = RANDOM.nextDouble();
-		}
-		return retValue;
+		return drawDouble(attributeMetadata);
 	}
 
 	/**
@@ -202,15 +267,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	@Override
 	public Double getDoubleInRange(double minValue, double maxValue,
 			AttributeMetadata attributeMetadata) {
-		// This can happen. It's a way to specify a precise value
-		if (minValue == maxValue) {
-			return minValue;
-		}
-		double retValue = minValue + Math.random() * (maxValue - minValue + 1);
-		while (retValue < minValue || retValue > maxValue) {
-			retValue = minValue + Math.random() * (maxValue - minValue + 1);
-		}
-		return retValue;
+		return drawDoubleInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
@@ -219,11 +276,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 
 	@Override
 	public Float getFloat(AttributeMetadata attributeMetadata) {
-		float retValue = RANDOM.nextFloat();
-		while (retValue == 0.0f) {
-			retValue = RANDOM.nextFloat();
-		}
-		return retValue;
+		return drawFloat(attributeMetadata);
 	}
 
 	/**
@@ -233,17 +286,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	@Override
 	public Float getFloatInRange(float minValue, float maxValue,
 			AttributeMetadata attributeMetadata) {
-		// This can happen. It's a way to specify a precise value
-		if (minValue == maxValue) {
-			return minValue;
-		}
-		float retValue = minValue
-				+ (float) (Math.random() * (maxValue - minValue + 1));
-		while (retValue < minValue || retValue > maxValue) {
-			retValue = minValue
-					+ (float) (Math.random() * (maxValue - minValue + 1));
-		}
-		return retValue;
+		return drawFloatInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
@@ -252,11 +295,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 
 	@Override
 	public Integer getInteger(AttributeMetadata attributeMetadata) {
-		Integer retValue = RANDOM.nextInt();
-		while (retValue.intValue() == 0) {
-			retValue = RANDOM.nextInt();
-		}
-		return retValue;
+		return drawInteger(attributeMetadata);
 	}
 
 	/**
@@ -270,11 +309,12 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 		if (minValue == maxValue) {
 			return minValue;
 		}
+		RandomSource random = getRandomSource();
 		int retValue = minValue
-				+ (int) (Math.random() * (maxValue - minValue + 1));
+				+ (int) (random.nextDouble() * (maxValue - minValue + 1));
 		while (retValue < minValue || retValue > maxValue) {
 			retValue = minValue
-					+ (int) (Math.random() * (maxValue - minValue + 1));
+					+ (int) (random.nextDouble() * (maxValue - minValue + 1));
 		}
 		return retValue;
 	}
@@ -287,12 +327,17 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	 * classes to fail on a non-deterministic basis, e.g. when the random long
 	 * would not be an acceptable value for, say, a YEAR field.
 	 * </p>
+	 * <p>
+	 * When a random source is bound to the current thread, the value is drawn
+	 * from it instead, so that it is reproducible. It is a positive value
+	 * within the first 35 years after the epoch in milliseconds.
+	 * </p>
 	 * {@inheritDoc}
 	 */
 
 	@Override
 	public Long getLong(AttributeMetadata attributeMetadata) {
-		return System.nanoTime();
+		return drawLong(attributeMetadata);
 	}
 
 	/**
@@ -302,17 +347,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	@Override
 	public Long getLongInRange(long minValue, long maxValue,
 			AttributeMetadata attributeMetadata) {
-		// This can happen. It's a way to specify a precise value
-		if (minValue == maxValue) {
-			return minValue;
-		}
-		long retValue = minValue
-				+ (long) (Math.random() * (maxValue - minValue + 1));
-		while (retValue < minValue || retValue > maxValue) {
-			retValue = minValue
-					+ (long) (Math.random() * (maxValue - minValue + 1));
-		}
-		return retValue;
+		return drawLongInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
@@ -321,11 +356,7 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 
 	@Override
 	public Short getShort(AttributeMetadata attributeMetadata) {
-		short retValue = (short) RANDOM.nextInt(Byte.MAX_VALUE);
-		while (retValue == 0) {
-			retValue = (short) RANDOM.nextInt(Byte.MAX_VALUE);
-		}
-		return retValue;
+		return drawShort(attributeMetadata);
 	}
 
 	/**
@@ -335,221 +366,1710 @@ public abstract class AbstractRandomDataProviderStrategy implements DataProvider
 	@Override
 	public Short getShortInRange(short minValue, short maxValue,
 			AttributeMetadata attributeMetadata) {
-		// This can happen. It's a way to specify a precise value
-		if (minValue == maxValue) {
-			return minValue;
-		}
-		short retValue = (short) (minValue + (short) (Math.random() * (maxValue
-				- minValue + 1)));
-		while (retValue < minValue || retValue > maxValue) {
-			retValue = (short) (minValue + (short) (Math.random() * (maxValue
-					- minValue + 1)));
-		}
-		return retValue;
+		return drawShortInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-
 	@Override
-	public String getStringValue(AttributeMetadata attributeMetadata) {
-		return getStringOfLength(PodamConstants.STR_DEFAULT_LENGTH,
-				attributeMetadata);
+	public boolean nextBoolean(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.BOOLEAN)) {
+			return getBoolean(attributeMetadata);
+		}
+		return drawBoolean(attributeMetadata);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-
 	@Override
-	public String getStringOfLength(int length,
-			AttributeMetadata attributeMetadata) {
-
-		StringBuilder buff = new StringBuilder(
-				PodamConstants.STR_DEFAULT_ENCODING);
-		// Default length was 5 for some reason
-		buff.setLength(0);
-
-		while (buff.length() < length) {
-			buff.append(getCharacter(attributeMetadata));
+	public byte nextByte(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.BYTE)) {
+			return getByte(attributeMetadata);
 		}
-
-		return buff.toString();
-
+		return drawByte(attributeMetadata);
 	}
 
-	// ------------------->> Getters / Setters
-
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public int getNumberOfCollectionElements(Class<?> type) {
-		return nbrOfCollectionElements;
+	public byte nextByteInRange(byte minValue, byte maxValue,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.BYTE_IN_RANGE)) {
+			return getByteInRange(minValue, maxValue, attributeMetadata);
+		}
+		return drawByteInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
-	 * Sets the new number of default collection elements.
-	 *
-	 * @param newNumberOfCollectionElements
-	 *            The new number of collection elements.
+	 * {@inheritDoc}
 	 */
-	public void setNumberOfCollectionElements(int newNumberOfCollectionElements) {
-		nbrOfCollectionElements = newNumberOfCollectionElements;
+	@Override
+	public char nextCharacter(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.CHARACTER)) {
+			return getCharacter(attributeMetadata);
+		}
+		return drawCharacter(attributeMetadata);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public int getMaxDepth(Class<?> type) {
-		return maxDepth;
+	public char nextCharacterInRange(char minValue, char maxValue,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.CHARACTER_IN_RANGE)) {
+			return getCharacterInRange(minValue, maxValue, attributeMetadata);
+		}
+		return drawCharacterInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
-	 * Sets the new max stack trace depth.
-	 *
-	 * @param newMaxDepth
-	 *            The new max stack trace depth.
+	 * {@inheritDoc}
 	 */
-	public void setMaxDepth(int newMaxDepth) {
-		maxDepth = newMaxDepth;
+	@Override
+	public short nextShort(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.SHORT)) {
+			return getShort(attributeMetadata);
+		}
+		return drawShort(attributeMetadata);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean isMemoizationEnabled() {
-		return isMemoizationEnabled;
+	public short nextShortInRange(short minValue, short maxValue,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.SHORT_IN_RANGE)) {
+			return getShortInRange(minValue, maxValue, attributeMetadata);
+		}
+		return drawShortInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
-	 * When memoization is enabled, only one object will be created for each type. Every next property of the same type
-	 * will be a reference to the same object.
-	 * This can dramatically improve performance but with the expense of not having objects with different values.
-	 *
-	 * @param value
-	 *            True to enable, false to disable.
+	 * {@inheritDoc}
 	 */
-	public void setMemoizationEnabled(boolean value){
-		isMemoizationEnabled = value;
+	@Override
+	public int nextInt(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.INTEGER)) {
+			return getInteger(attributeMetadata);
+		}
+		return drawInteger(attributeMetadata);
 	}
 
 	/**
-	 * Rearranges POJO's constructors in order they will be tried to produce the
-	 * POJO. Default strategy consist of putting constructors with less
-	 * parameters to be tried first.
-	 *
-	 * @param constructors
-	 *            Array of POJO's constructors
+	 * {@inheritDoc}
 	 */
 	@Override
-	public void sort(Constructor<?>[] constructors) {
-		Arrays.sort(constructors, CONSTRUCTOR_COMPARATOR);
+	public int nextIntInRange(int minValue, int maxValue,
+			AttributeMetadata attributeMetadata) {
+		return getIntegerInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
-	 * Rearranges POJO's methods in order they will be tried to produce the
-	 * POJO. Default strategy consist of putting methods with more
-	 * parameters to be tried first.
-	 *
-	 * @param methods
-	 *            Array of POJO's methods
+	 * {@inheritDoc}
 	 */
 	@Override
-	public void sort(Method[] methods) {
-		Arrays.sort(methods, METHOD_COMPARATOR);
+	public long nextLong(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.LONG)) {
+			return getLong(attributeMetadata);
+		}
+		return drawLong(attributeMetadata);
 	}
 
 	/**
-	 * Bind an interface/abstract class to a specific implementation. If the
-	 * strategy previously contained a binding for the interface/abstract class,
-	 * the old value is replaced by the new value. If you want to implement
-	 * more sophisticated binding strategy, override this class.
-	 *
-	 * @param abstractClass
-	 *            the interface/abstract class to bind
-	 * @param specificClass
-	 *            the specific class implementing or extending
-	 *            {@code abstractClass}.
-	 * @return itself
+	 * {@inheritDoc}
 	 */
-	public <T> AbstractRandomDataProviderStrategy addSpecific(
-			final Class<T> abstractClass, final Class<? extends T> specificClass) {
-		specificTypes.put(abstractClass, specificClass);
-		return this;
+	@Override
+	public long nextLongInRange(long minValue, long maxValue,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.LONG_IN_RANGE)) {
+			return getLongInRange(minValue, maxValue, attributeMetadata);
+		}
+		return drawLongInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
-	 * Remove binding of an interface/abstract class to a specific
-	 * implementation
-	 *
-	 * @param abstractClass
-	 *            the interface/abstract class to remove binding
-	 * @return itself
+	 * {@inheritDoc}
 	 */
-	public <T> AbstractRandomDataProviderStrategy removeSpecific(
-			final Class<T> abstractClass) {
-		specificTypes.remove(abstractClass);
-		return this;
+	@Override
+	public float nextFloat(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.FLOAT)) {
+			return getFloat(attributeMetadata);
+		}
+		return drawFloat(attributeMetadata);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public <T> Class<? extends T> getSpecificClass(
-			Class<T> nonInstantiatableClass) {
-		@SuppressWarnings("unchecked")
-		Class<? extends T> found = (Class<? extends T>) specificTypes
-				.get(nonInstantiatableClass);
-		if (found == null) {
-			found = nonInstantiatableClass;
+	public float nextFloatInRange(float minValue, float maxValue,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.FLOAT_IN_RANGE)) {
+			return getFloatInRange(minValue, maxValue, attributeMetadata);
 		}
-		return found;
+		return drawFloatInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
-	 * Adds the specified {@link Annotation} to set of excluded annotations,
-	 * if it is not already present.
-	 *
-	 * @param annotation
-	 *            the annotation to use as an exlusion mark
-	 * @return itself
+	 * {@inheritDoc}
 	 */
-	public AbstractRandomDataProviderStrategy addExcludedAnnotation(
-			final Class<? extends Annotation> annotation) {
-		excludedAnnotations.add(annotation);
-		return this;
+	@Override
+	public double nextDouble(AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.DOUBLE)) {
+			return getDouble(attributeMetadata);
+		}
+		return drawDouble(attributeMetadata);
 	}
 
 	/**
-	 * Adds the specified {@link Annotation} from set of excluded annotations.
-	 *
-	 * @param annotation
-	 *            the annotation used as an exlusion mark
-	 * @return itself
+	 * {@inheritDoc}
 	 */
-	public AbstractRandomDataProviderStrategy removeExcludedAnnotation(
-			final Class<? extends Annotation> annotation) {
-		excludedAnnotations.remove(annotation);
-		return this;
+	@Override
+	public double nextDoubleInRange(double minValue, double maxValue,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.DOUBLE_IN_RANGE)) {
+			return getDoubleInRange(minValue, maxValue, attributeMetadata);
+		}
+		return drawDoubleInRange(minValue, maxValue, attributeMetadata);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Set<Class<? extends Annotation>> getExcludedAnnotations() {
-		return excludedAnnotations;
-	}
+	public void nextBooleans(boolean[] values,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.BOOLEAN)) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getBoolean(attributeMetadata);
+			}
+		} else {
+			Arrays.fill(values, drawBoolean(attributeMetadata));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Unless {@link #getByte(AttributeMetadata)} is overridden, the bytes are
+	 * taken seven bits at a time from random longs.
+	 * </p>
+	 */
+	@Override
+	public void nextBytes(byte[] values, AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.BYTE)) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getByte(attributeMetadata);
+			}
+		} else {
+			RandomSource random = getRandomSource();
+			int i = 0;
+			while (i < values.length) {
+				long bits = random.nextLong();
+				for (int chunk = 0; chunk < BYTE_CHUNKS_PER_LONG
+						&& i < values.length; chunk++) {
+					byte value = (byte) (bits & Byte.MAX_VALUE);
+					bits >>>= BYTE_CHUNK_BITS;
+					if (value != 0 && value != Byte.MAX_VALUE) {
+						values[i++] = value;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextCharacters(char[] values,
+			AttributeMetadata attributeMetadata) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = nextCharacter(attributeMetadata);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Unless {@link #getShort(AttributeMetadata)} is overridden, the shorts
+	 * are taken seven bits at a time from random longs.
+	 * </p>
+	 */
+	@Override
+	public void nextShorts(short[] values, AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.SHORT)) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getShort(attributeMetadata);
+			}
+		} else {
+			RandomSource random = getRandomSource();
+			int i = 0;
+			while (i < values.length) {
+				long bits = random.nextLong();
+				for (int chunk = 0; chunk < BYTE_CHUNKS_PER_LONG
+						&& i < values.length; chunk++) {
+					short value = (short) (bits & Byte.MAX_VALUE);
+					bits >>>= BYTE_CHUNK_BITS;
+					if (value != 0 && value != Byte.MAX_VALUE) {
+						values[i++] = value;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextInts(int[] values, AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.INTEGER)) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getInteger(attributeMetadata);
+			}
+		} else {
+			RandomSource random = getRandomSource();
+			for (int i = 0; i < values.length; i++) {
+				int value = random.nextInt();
+				while (value == 0) {
+					value = random.nextInt();
+				}
+				values[i] = value;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Unless {@link #getLong(AttributeMetadata)} is overridden, the values are
+	 * positive random longs which are still valid times in milliseconds,
+	 * whether a seed is set or not: consecutive calls to
+	 * {@link System#nanoTime()} would give nearly identical elements.
+	 * </p>
+	 */
+	@Override
+	public void nextLongs(long[] values, AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.LONG)) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getLong(attributeMetadata);
+			}
+		} else {
+			RandomSource random = getRandomSource();
+			for (int i = 0; i < values.length; i++) {
+				values[i] = 1L + (random.nextLong() >>> SEEDED_LONG_SHIFT);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextFloats(float[] values, AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.FLOAT)) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getFloat(attributeMetadata);
+			}
+		} else {
+			RandomSource random = getRandomSource();
+			for (int i = 0; i < values.length; i++) {
+				float value = random.nextFloat();
+				while (value == 0.0f) {
+					value = random.nextFloat();
+				}
+				values[i] = value;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextDoubles(double[] values,
+			AttributeMetadata attributeMetadata) {
+		if (overriddenValueMethods.contains(ValueMethod.DOUBLE)) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getDouble(attributeMetadata);
+			}
+		} else {
+			RandomSource random = getRandomSource();
+			for (int i = 0; i < values.length; i++) {
+				double value = random.nextDouble();
+				while (value == 0.0) {
+					value = random.nextDouble();
+				}
+				values[i] = value;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+
+	@Override
+	public String getStringValue(AttributeMetadata attributeMetadata) {
+		int poolSize = getStringPoolSize(attributeMetadata);
+		AttributeKey key = AttributeKey.of(attributeMetadata);
+		if (poolSize > 0 && key != null) {
+			return getStringPool(key, poolSize, attributeMetadata).sample(
+					getRandomSource());
+		}
+		return drawStringValue(attributeMetadata);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+
+	@Override
+	public String getStringOfLength(int length,
+			AttributeMetadata attributeMetadata) {
+
+		// Subclasses customising characters expect strings made of them
+		if (overriddenValueMethods.contains(ValueMethod.CHARACTER)) {
+			StringBuilder buff = new StringBuilder(Math.max(length, 0));
+			while (buff.length() < length) {
+				buff.append(getCharacter(attributeMetadata));
+			}
+			return buff.toString();
+		}
+
+		return alphabet.newString(length, getRandomSource());
+
+	}
+
+	/**
+	 * It registers a dictionary, which {@link PodamDictionary} annotations
+	 * can refer to by name.
+	 *
+	 * @param name
+	 *            The name of the dictionary
+	 * @param dictionary
+	 *            The dictionary
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *             If the name or the dictionary is null
+	 */
+	public AbstractRandomDataProviderStrategy addDictionary(String name,
+			Dictionary dictionary) {
+		if (name == null || dictionary == null) {
+			throw new IllegalArgumentException(
+					"The dictionary and its name cannot be null");
+		}
+		dictionaries.put(name, dictionary);
+		stringPools.clear();
+		return this;
+	}
+
+	/**
+	 * It removes a dictionary registered with
+	 * {@link #addDictionary(String, Dictionary)}.
+	 *
+	 * @param name
+	 *            The name of the dictionary
+	 * @return itself
+	 */
+	public AbstractRandomDataProviderStrategy removeDictionary(String name) {
+		dictionaries.remove(name);
+		stringPools.clear();
+		return this;
+	}
+
+	/**
+	 * It returns the dictionary the value of a string attribute is drawn
+	 * from.
+	 * <p>
+	 * The default implementation returns the dictionary named by the
+	 * {@link PodamDictionary} annotation of the attribute, if any. If no
+	 * dictionary was registered with that name, the name is taken as the path
+	 * of the dictionary file, which is mapped the first time it is used.
+	 * Subclasses can override it to draw attributes from dictionaries based
+	 * on {@link AttributeMetadata#getAttributeName()} or
+	 * {@link AttributeMetadata#getPojoClass()}.
+	 * </p>
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any
+	 * @return the dictionary of the attribute or null if its value should be
+	 *         made of random characters
+	 * @throws IllegalArgumentException
+	 *             If the dictionary file cannot be mapped
+	 */
+	public Dictionary getDictionary(AttributeMetadata attributeMetadata) {
+
+		if (attributeMetadata == null
+				|| attributeMetadata.getAttributeAnnotations() == null) {
+			return null;
+		}
+		for (Annotation annotation : attributeMetadata
+				.getAttributeAnnotations()) {
+			if (annotation instanceof PodamDictionary) {
+				return getDictionary(((PodamDictionary) annotation).value());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The default implementation returns null, so that values are uniform
+	 * unless the annotation of the attribute names a distribution. Subclasses
+	 * can override it to give attributes a distribution, e.g. based on
+	 * {@link AttributeMetadata#getAttributeName()}.
+	 * </p>
+	 */
+	@Override
+	public Distribution getDistribution(AttributeMetadata attributeMetadata) {
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(Distribution distribution,
+			AttributeMetadata attributeMetadata) {
+		return distribution.sample(getRandomSource());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RandomSource newRandomSource(Class<?> pojoClass) {
+		return newRandomSource(seed, pojoClass);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RandomSource bindRandomSource(RandomSource randomSource) {
+		RandomSource previous = boundRandomSource.get();
+		if (randomSource == null) {
+			boundRandomSource.remove();
+		} else {
+			boundRandomSource.set(randomSource);
+		}
+		return previous;
+	}
+
+	/**
+	 * It returns a snapshot of the configuration of this strategy.
+	 * <p>
+	 * The snapshot freezes the number of collection elements, the max depth,
+	 * the memoization flag, the specific types, the excluded annotations and
+	 * the seed: later changes to them are not visible to the snapshot, which
+	 * makes it suitable for factories shared by many threads.
+	 * </p>
+	 * <p>
+	 * Everything else is still read from this strategy when it is used:
+	 * values, alphabet, dictionaries, string pools, distributions and the
+	 * comparators sorting constructors and factory methods. Changes to them
+	 * are visible to the snapshot. Subclasses which override the
+	 * configuration methods should override this method too.
+	 * </p>
+	 *
+	 * @return a snapshot of the configuration of this strategy
+	 */
+	public DataProviderStrategy snapshot() {
+		return new StrategySnapshot(this);
+	}
+
+	/**
+	 * It returns the strategy whose comparators sort the constructors and
+	 * factory methods for the given strategy.
+	 *
+	 * @param strategy
+	 *            A strategy, possibly a snapshot
+	 * @return the strategy itself, the strategy the snapshot was taken from
+	 *         or null if the strategy does not sort with comparators
+	 */
+	static AbstractRandomDataProviderStrategy getSortingStrategy(
+			DataProviderStrategy strategy) {
+		if (strategy instanceof StrategySnapshot) {
+			return ((StrategySnapshot) strategy).delegate;
+		}
+		if (strategy instanceof AbstractRandomDataProviderStrategy) {
+			return (AbstractRandomDataProviderStrategy) strategy;
+		}
+		return null;
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the random source values are drawn from.
+	 * <p>
+	 * The default implementation returns the source bound to the calling
+	 * thread by a factory, if any, or a source owned by the calling thread.
+	 * </p>
+	 *
+	 * @return the random source for the current thread
+	 */
+	protected RandomSource getRandomSource() {
+		RandomSource bound = boundRandomSource.get();
+		if (bound != null) {
+			return bound;
+		}
+		return RANDOM.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Sets the seed reproducible values are derived from.
+	 *
+	 * @param seed
+	 *            The new seed or null to produce values which are not
+	 *            reproducible
+	 */
+	public void setSeed(Long seed) {
+		this.seed = seed;
+		stringPools.clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getNumberOfCollectionElements(Class<?> type) {
+		return nbrOfCollectionElements;
+	}
+
+	/**
+	 * Sets the new number of default collection elements.
+	 *
+	 * @param newNumberOfCollectionElements
+	 *            The new number of collection elements.
+	 */
+	public void setNumberOfCollectionElements(int newNumberOfCollectionElements) {
+		nbrOfCollectionElements = newNumberOfCollectionElements;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getMaxDepth(Class<?> type) {
+		return maxDepth;
+	}
+
+	/**
+	 * Sets the new max stack trace depth.
+	 *
+	 * @param newMaxDepth
+	 *            The new max stack trace depth.
+	 */
+	public void setMaxDepth(int newMaxDepth) {
+		maxDepth = newMaxDepth;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isMemoizationEnabled() {
+		return isMemoizationEnabled;
+	}
+
+	/**
+	 * When memoization is enabled, only one object will be created for each type. Every next property of the same type
+	 * will be a reference to the same object.
+	 * This can dramatically improve performance but with the expense of not having objects with different values.
+	 *
+	 * @param value
+	 *            True to enable, false to disable.
+	 */
+	public void setMemoizationEnabled(boolean value){
+		isMemoizationEnabled = value;
+	}
+
+	/**
+	 * Rearranges POJO's constructors in order they will be tried to produce the
+	 * POJO. Default strategy consist of putting constructors with less
+	 * parameters to be tried first.
+	 *
+	 * @param constructors
+	 *            Array of POJO's constructors
+	 */
+	@Override
+	public void sort(Constructor<?>[] constructors) {
+		Arrays.sort(constructors, constructorComparator);
+	}
+
+	/**
+	 * Rearranges POJO's methods in order they will be tried to produce the
+	 * POJO. Default strategy consist of putting methods with more
+	 * parameters to be tried first.
+	 *
+	 * @param methods
+	 *            Array of POJO's methods
+	 */
+	@Override
+	public void sort(Method[] methods) {
+		Arrays.sort(methods, methodComparator);
+	}
+
+	/**
+	 * It returns the comparator sorting constructors in the order they are
+	 * tried.
+	 *
+	 * @return the constructor comparator
+	 */
+	public Comparator<Constructor<?>> getConstructorComparator() {
+		return constructorComparator;
+	}
+
+	/**
+	 * It sets the comparator sorting constructors in the order they are
+	 * tried.
+	 * <p>
+	 * Factories notice the change and discard the constructors they sorted
+	 * with the previous comparator.
+	 * </p>
+	 *
+	 * @param constructorComparator
+	 *            The constructor comparator
+	 * @throws IllegalArgumentException
+	 *             If the comparator is null
+	 */
+	public void setConstructorComparator(
+			Comparator<Constructor<?>> constructorComparator) {
+		if (constructorComparator == null) {
+			throw new IllegalArgumentException(
+					"The constructor comparator cannot be null");
+		}
+		this.constructorComparator = constructorComparator;
+	}
+
+	/**
+	 * It returns the characters of random strings.
+	 *
+	 * @return the alphabet of random strings
+	 */
+	public Alphabet getAlphabet() {
+		return alphabet;
+	}
+
+	/**
+	 * It sets the characters of random strings.
+	 * <p>
+	 * The alphabet is not used if {@link #getCharacter(AttributeMetadata)} is
+	 * overridden: strings are then made of the characters it returns.
+	 * </p>
+	 *
+	 * @param alphabet
+	 *            The alphabet of random strings
+	 * @throws IllegalArgumentException
+	 *             If the alphabet is null
+	 */
+	public void setAlphabet(Alphabet alphabet) {
+		if (alphabet == null) {
+			throw new IllegalArgumentException("The alphabet cannot be null");
+		}
+		this.alphabet = alphabet;
+		stringPools.clear();
+	}
+
+	/**
+	 * It returns the number of distinct strings an attribute draws its values
+	 * from.
+	 * <p>
+	 * The default implementation returns the size set with
+	 * {@link #setStringPoolSize(int)} for all attributes. Subclasses can
+	 * override it to bound the cardinality of some attributes only, based on
+	 * {@link AttributeMetadata#getAttributeName()} or
+	 * {@link AttributeMetadata#getPojoClass()}.
+	 * </p>
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any
+	 * @return the number of distinct strings of the attribute, 0 for no limit
+	 */
+	public int getStringPoolSize(AttributeMetadata attributeMetadata) {
+		return stringPoolSize;
+	}
+
+	/**
+	 * It bounds the number of distinct strings of each attribute.
+	 * <p>
+	 * Each attribute, identified by its class and its name, draws its values
+	 * from a pool of distinct strings generated the first time the attribute
+	 * is manufactured. The strings are shared by all the POJOs, which cuts
+	 * the memory used by large datasets. Strings with an explicit length, e.g.
+	 * set with {@link uk.co.jemos.podam.common.PodamStringValue}, are not
+	 * pooled.
+	 * </p>
+	 *
+	 * @param stringPoolSize
+	 *            The number of distinct strings of each attribute, 0 for no
+	 *            limit
+	 * @throws IllegalArgumentException
+	 *             If the size is negative
+	 */
+	public void setStringPoolSize(int stringPoolSize) {
+		if (stringPoolSize < 0) {
+			throw new IllegalArgumentException(
+					"The string pool size cannot be negative, found "
+							+ stringPoolSize);
+		}
+		this.stringPoolSize = stringPoolSize;
+		stringPools.clear();
+	}
+
+	/**
+	 * It returns the comparator sorting factory methods in the order they are
+	 * tried.
+	 *
+	 * @return the method comparator
+	 */
+	public Comparator<Method> getMethodComparator() {
+		return methodComparator;
+	}
+
+	/**
+	 * It sets the comparator sorting factory methods in the order they are
+	 * tried.
+	 * <p>
+	 * Factories notice the change and discard the methods they sorted with
+	 * the previous comparator.
+	 * </p>
+	 *
+	 * @param methodComparator
+	 *            The method comparator
+	 * @throws IllegalArgumentException
+	 *             If the comparator is null
+	 */
+	public void setMethodComparator(Comparator<Method> methodComparator) {
+		if (methodComparator == null) {
+			throw new IllegalArgumentException(
+					"The method comparator cannot be null");
+		}
+		this.methodComparator = methodComparator;
+	}
+
+	/**
+	 * Bind an interface/abstract class to a specific implementation. If the
+	 * strategy previously contained a binding for the interface/abstract class,
+	 * the old value is replaced by the new value. If you want to implement
+	 * more sophisticated binding strategy, override this class.
+	 *
+	 * @param abstractClass
+	 *            the interface/abstract class to bind
+	 * @param specificClass
+	 *            the specific class implementing or extending
+	 *            {@code abstractClass}.
+	 * @return itself
+	 */
+	public <T> AbstractRandomDataProviderStrategy addSpecific(
+			final Class<T> abstractClass, final Class<? extends T> specificClass) {
+		specificTypes.put(abstractClass, specificClass);
+		return this;
+	}
+
+	/**
+	 * Remove binding of an interface/abstract class to a specific
+	 * implementation
+	 *
+	 * @param abstractClass
+	 *            the interface/abstract class to remove binding
+	 * @return itself
+	 */
+	public <T> AbstractRandomDataProviderStrategy removeSpecific(
+			final Class<T> abstractClass) {
+		specificTypes.remove(abstractClass);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> Class<? extends T> getSpecificClass(
+			Class<T> nonInstantiatableClass) {
+		@SuppressWarnings("unchecked")
+		Class<? extends T> found = (Class<? extends T>) specificTypes
+				.get(nonInstantiatableClass);
+		if (found == null) {
+			found = nonInstantiatableClass;
+		}
+		return found;
+	}
+
+	/**
+	 * Adds the specified {@link Annotation} to set of excluded annotations,
+	 * if it is not already present.
+	 *
+	 * @param annotation
+	 *            the annotation to use as an exlusion mark
+	 * @return itself
+	 */
+	public AbstractRandomDataProviderStrategy addExcludedAnnotation(
+			final Class<? extends Annotation> annotation) {
+		excludedAnnotations.add(annotation);
+		return this;
+	}
+
+	/**
+	 * Adds the specified {@link Annotation} from set of excluded annotations.
+	 *
+	 * @param annotation
+	 *            the annotation used as an exlusion mark
+	 * @return itself
+	 */
+	public AbstractRandomDataProviderStrategy removeExcludedAnnotation(
+			final Class<? extends Annotation> annotation) {
+		excludedAnnotations.remove(annotation);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Class<? extends Annotation>> getExcludedAnnotations() {
+		return excludedAnnotations;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It creates the random source for a top level manufacturing call.
+	 * <p>
+	 * The source only depends on the seed and on the name of the class, which
+	 * unlike its hash code is the same in every JVM.
+	 * </p>
+	 *
+	 * @param seed
+	 *            The seed, possibly null
+	 * @param pojoClass
+	 *            The class of the POJO being manufactured
+	 * @return a new random source or null if the seed is null
+	 */
+	private static RandomSource newRandomSource(Long seed, Class<?> pojoClass) {
+		if (seed == null) {
+			return null;
+		}
+		long classSeed = seed.longValue() ^ pojoClass.getName().hashCode();
+		return new SplittableRandomSource(classSeed).split();
+	}
+
+	/**
+	 * It draws the value of a string attribute from its dictionary, if any,
+	 * or from the alphabet.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any
+	 * @return a string value
+	 */
+	private String drawStringValue(AttributeMetadata attributeMetadata) {
+		Dictionary dictionary = getDictionary(attributeMetadata);
+		if (dictionary != null) {
+			return dictionary.sample(getRandomSource());
+		}
+		return getStringOfLength(PodamConstants.STR_DEFAULT_LENGTH,
+				attributeMetadata);
+	}
+
+	/**
+	 * It returns the pool of strings of an attribute, generating it if
+	 * needed.
+	 * <p>
+	 * The pool is generated from its own random source, derived from the
+	 * seed and the attribute in seeded mode, so that the pool does not depend
+	 * on which POJO first needed it.
+	 * </p>
+	 *
+	 * @param key
+	 *            The attribute
+	 * @param poolSize
+	 *            The number of distinct strings of the attribute
+	 * @param attributeMetadata
+	 *            The attribute's metadata
+	 * @return the pool of strings of the attribute
+	 */
+	private StringPool getStringPool(AttributeKey key, int poolSize,
+			AttributeMetadata attributeMetadata) {
+
+		StringPool pool = stringPools.get(key);
+		if (pool != null && pool.size() == poolSize) {
+			return pool;
+		}
+
+		Long currentSeed = seed;
+		RandomSource poolSource;
+		if (currentSeed == null) {
+			poolSource = new SplittableRandomSource();
+		} else {
+			poolSource = new SplittableRandomSource(currentSeed.longValue()
+					^ key.toString().hashCode()).split();
+		}
+
+		Set<String> values = new LinkedHashSet<String>();
+		RandomSource previous = bindRandomSource(poolSource);
+		try {
+			// A dictionary may hold fewer distinct values than requested
+			int attempts = 0;
+			while (values.size() < poolSize
+					&& attempts++ < MAX_POOL_ATTEMPTS_PER_VALUE * poolSize) {
+				values.add(drawStringValue(attributeMetadata));
+			}
+		} finally {
+			bindRandomSource(previous);
+		}
+
+		pool = new StringPool(values.toArray(new String[values.size()]));
+		stringPools.put(key, pool);
+		return pool;
+	}
+
+	/**
+	 * It returns a registered dictionary or maps the dictionary file with the
+	 * given path.
+	 *
+	 * @param name
+	 *            The name of the dictionary or the path of its file
+	 * @return the dictionary
+	 * @throws IllegalArgumentException
+	 *             If the dictionary file cannot be mapped
+	 */
+	private Dictionary getDictionary(String name) {
+
+		Dictionary dictionary = dictionaries.get(name);
+		if (dictionary == null) {
+			try {
+				dictionary = new Dictionary(new File(name));
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Cannot map dictionary "
+						+ name, e);
+			}
+			Dictionary existing = dictionaries.putIfAbsent(name, dictionary);
+			if (existing != null) {
+				dictionary = existing;
+			}
+		}
+		return dictionary;
+	}
+
+	/**
+	 * It returns the boxed value methods which the given strategy class
+	 * overrides.
+	 *
+	 * @param strategyClass
+	 *            A subclass of this class
+	 * @return the overridden value methods
+	 */
+	private static Set<ValueMethod> findOverriddenValueMethods(
+			Class<?> strategyClass) {
+
+		Set<ValueMethod> overridden = EnumSet.noneOf(ValueMethod.class);
+		for (ValueMethod valueMethod : ValueMethod.values()) {
+			if (valueMethod.isOverriddenBy(strategyClass)) {
+				overridden.add(valueMethod);
+			}
+		}
+		return Collections.unmodifiableSet(overridden);
+	}
+
+	/**
+	 * It draws a boolean value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a boolean value
+	 */
+	private boolean drawBoolean(AttributeMetadata attributeMetadata) {
+		return true;
+	}
+
+	/**
+	 * It draws a byte value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a byte value
+	 */
+	private byte drawByte(AttributeMetadata attributeMetadata) {
+		byte nextByte = (byte) getRandomSource().nextInt(Byte.MAX_VALUE);
+		while (nextByte == 0) {
+			nextByte = (byte) getRandomSource().nextInt(Byte.MAX_VALUE);
+		}
+		return nextByte;
+	}
 
-	// ------------------->> Private methods
+	/**
+	 * It draws a byte value within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a byte within min and max value (included) value
+	 */
+	private byte drawByteInRange(byte minValue, byte maxValue,
+			AttributeMetadata attributeMetadata) {
+		// This can happen. It's a way to specify a precise value
+		if (minValue == maxValue) {
+			return minValue;
+		}
+		RandomSource random = getRandomSource();
+		byte retValue = (byte) (minValue + (byte) (random.nextDouble() * (maxValue
+				- minValue + 1)));
+		while (retValue < minValue || retValue > maxValue) {
+			retValue = (byte) (minValue + (byte) (random.nextDouble() * (maxValue
+					- minValue + 1)));
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws a char value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a char value
+	 */
+	private char drawCharacter(AttributeMetadata attributeMetadata) {
+
+		int randomCharIdx = getIntegerInRange(0,
+				NICE_ASCII_CHARACTERS.length - 1, attributeMetadata);
+
+		int charToReturnIdx = randomCharIdx % NICE_ASCII_CHARACTERS.length;
+
+		return NICE_ASCII_CHARACTERS[charToReturnIdx];
+	}
+
+	/**
+	 * It draws a char value within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a char within min and max value (included) value
+	 */
+	private char drawCharacterInRange(char minValue, char maxValue,
+			AttributeMetadata attributeMetadata) {
+		// This can happen. It's a way to specify a precise value
+		if (minValue == maxValue) {
+			return minValue;
+		}
+		RandomSource random = getRandomSource();
+		char retValue = (char) (minValue + (char) (random.nextDouble() * (maxValue
+				- minValue + 1)));
+		while (retValue < minValue || retValue > maxValue) {
+			retValue = (char) (minValue + (char) (random.nextDouble() * (maxValue
+					- minValue + 1)));
+		}
+
+		return retValue;
+	}
+
+	/**
+	 * It draws a double value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a double value
+	 */
+	private double drawDouble(AttributeMetadata attributeMetadata) {
+		double retValue = getRandomSource().nextDouble();
+		while (retValue == 0.0) {
+			retValue = getRandomSource().nextDouble();
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws a double value within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a double within min and max value (included) value
+	 */
+	private double drawDoubleInRange(double minValue, double maxValue,
+			AttributeMetadata attributeMetadata) {
+		// This can happen. It's a way to specify a precise value
+		if (minValue == maxValue) {
+			return minValue;
+		}
+		RandomSource random = getRandomSource();
+		double retValue = minValue + random.nextDouble() * (maxValue - minValue + 1);
+		while (retValue < minValue || retValue > maxValue) {
+			retValue = minValue + random.nextDouble() * (maxValue - minValue + 1);
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws a float value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a float value
+	 */
+	private float drawFloat(AttributeMetadata attributeMetadata) {
+		float retValue = getRandomSource().nextFloat();
+		while (retValue == 0.0f) {
+			retValue = getRandomSource().nextFloat();
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws a float value within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a float within min and max value (included) value
+	 */
+	private float drawFloatInRange(float minValue, float maxValue,
+			AttributeMetadata attributeMetadata) {
+		// This can happen. It's a way to specify a precise value
+		if (minValue == maxValue) {
+			return minValue;
+		}
+		RandomSource random = getRandomSource();
+		float retValue = minValue
+				+ (float) (random.nextDouble() * (maxValue - minValue + 1));
+		while (retValue < minValue || retValue > maxValue) {
+			retValue = minValue
+					+ (float) (random.nextDouble() * (maxValue - minValue + 1));
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws an int value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return an int value
+	 */
+	private int drawInteger(AttributeMetadata attributeMetadata) {
+		int retValue = getRandomSource().nextInt();
+		while (retValue == 0) {
+			retValue = getRandomSource().nextInt();
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws a long value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a long value
+	 */
+	private long drawLong(AttributeMetadata attributeMetadata) {
+		RandomSource bound = boundRandomSource.get();
+		if (bound != null) {
+			return 1L + (bound.nextLong() >>> SEEDED_LONG_SHIFT);
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * It draws a long value within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a long within min and max value (included) value
+	 */
+	private long drawLongInRange(long minValue, long maxValue,
+			AttributeMetadata attributeMetadata) {
+		// This can happen. It's a way to specify a precise value
+		if (minValue == maxValue) {
+			return minValue;
+		}
+		RandomSource random = getRandomSource();
+		long retValue = minValue
+				+ (long) (random.nextDouble() * (maxValue - minValue + 1));
+		while (retValue < minValue || retValue > maxValue) {
+			retValue = minValue
+					+ (long) (random.nextDouble() * (maxValue - minValue + 1));
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws a short value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a short value
+	 */
+	private short drawShort(AttributeMetadata attributeMetadata) {
+		short retValue = (short) getRandomSource().nextInt(Byte.MAX_VALUE);
+		while (retValue == 0) {
+			retValue = (short) getRandomSource().nextInt(Byte.MAX_VALUE);
+		}
+		return retValue;
+	}
+
+	/**
+	 * It draws a short value within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a short within min and max value (included) value
+	 */
+	private short drawShortInRange(short minValue, short maxValue,
+			AttributeMetadata attributeMetadata) {
+		// This can happen. It's a way to specify a precise value
+		if (minValue == maxValue) {
+			return minValue;
+		}
+		RandomSource random = getRandomSource();
+		short retValue = (short) (minValue + (short) (random.nextDouble() * (maxValue
+				- minValue + 1)));
+		while (retValue < minValue || retValue > maxValue) {
+			retValue = (short) (minValue + (short) (random.nextDouble() * (maxValue
+					- minValue + 1)));
+		}
+		return retValue;
+	}
 
 	// ------------------->> equals() / hashcode() / toString()
 
 	// ------------------->> Inner classes
 
+	/**
+	 * The boxed value methods with a primitive counterpart.
+	 */
+	private static enum ValueMethod {
+
+		BOOLEAN("getBoolean"), BYTE("getByte"), BYTE_IN_RANGE(
+				"getByteInRange", byte.class, byte.class), CHARACTER(
+				"getCharacter"), CHARACTER_IN_RANGE("getCharacterInRange",
+				char.class, char.class), SHORT("getShort"), SHORT_IN_RANGE(
+				"getShortInRange", short.class, short.class), INTEGER(
+				"getInteger"), LONG("getLong"), LONG_IN_RANGE("getLongInRange",
+				long.class, long.class), FLOAT("getFloat"), FLOAT_IN_RANGE(
+				"getFloatInRange", float.class, float.class), DOUBLE(
+				"getDouble"), DOUBLE_IN_RANGE("getDoubleInRange", double.class,
+				double.class);
+
+		/** The name of the method */
+		private final String methodName;
+
+		/** The parameter types of the method */
+		private final Class<?>[] parameterTypes;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param methodName
+		 *            The name of the method
+		 * @param rangeTypes
+		 *            The types of the range bounds, if any
+		 */
+		private ValueMethod(String methodName, Class<?>... rangeTypes) {
+			this.methodName = methodName;
+			parameterTypes = Arrays.copyOf(rangeTypes, rangeTypes.length + 1);
+			parameterTypes[rangeTypes.length] = AttributeMetadata.class;
+		}
+
+		/**
+		 * It returns whether the given strategy class overrides this method.
+		 *
+		 * @param strategyClass
+		 *            A subclass of {@link AbstractRandomDataProviderStrategy}
+		 * @return true if the method is not the one of
+		 *         {@link AbstractRandomDataProviderStrategy}
+		 */
+		boolean isOverriddenBy(Class<?> strategyClass) {
+			try {
+				return !AbstractRandomDataProviderStrategy.class
+						.equals(strategyClass.getMethod(methodName,
+								parameterTypes).getDeclaringClass());
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("Missing value method "
+						+ methodName, e);
+			}
+		}
+	}
+
+	/**
+	 * A copy of the settings of a {@link AbstractRandomDataProviderStrategy}
+	 * driving the traversal of the POJOs: collection elements, max depth,
+	 * memoization, specific types, excluded annotations and seed. Values,
+	 * alphabet, dictionaries, string pools, distributions and sort orders
+	 * are read from the live strategy.
+	 */
+	@ThreadSafe
+	private static final class StrategySnapshot implements
+			SeedableDataProviderStrategy, PrimitiveDataProviderStrategy,
+			DistributionDataProviderStrategy {
+
+		/** The strategy generating values */
+		private final AbstractRandomDataProviderStrategy delegate;
+
+		/** The max stack trace depth. */
+		private final int maxDepth;
+
+		/** The number of collection elements. */
+		private final int nbrOfCollectionElements;
+
+		/** Flag to enable/disable the memoization setting. */
+		private final boolean isMemoizationEnabled;
+
+		/** The specific implementations for interfaces and abstract classes */
+		private final Map<Class<?>, Class<?>> specificTypes;
+
+		/** Set of annotations, which mark fields to be skipped */
+		private final Set<Class<? extends Annotation>> excludedAnnotations;
+
+		/** The seed of reproducible values */
+		private final Long seed;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param delegate
+		 *            The strategy whose configuration is copied
+		 */
+		StrategySnapshot(AbstractRandomDataProviderStrategy delegate) {
+			this.delegate = delegate;
+			maxDepth = delegate.maxDepth;
+			nbrOfCollectionElements = delegate.nbrOfCollectionElements;
+			isMemoizationEnabled = delegate.isMemoizationEnabled;
+			specificTypes = Collections
+					.unmodifiableMap(new HashMap<Class<?>, Class<?>>(
+							delegate.specificTypes));
+			excludedAnnotations = Collections
+					.unmodifiableSet(new HashSet<Class<? extends Annotation>>(
+							delegate.excludedAnnotations));
+			seed = delegate.seed;
+		}
+
+		@Override
+		public Boolean getBoolean(AttributeMetadata attributeMetadata) {
+			return delegate.getBoolean(attributeMetadata);
+		}
+
+		@Override
+		public Byte getByte(AttributeMetadata attributeMetadata) {
+			return delegate.getByte(attributeMetadata);
+		}
+
+		@Override
+		public Byte getByteInRange(byte minValue, byte maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getByteInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public Character getCharacter(AttributeMetadata attributeMetadata) {
+			return delegate.getCharacter(attributeMetadata);
+		}
+
+		@Override
+		public Character getCharacterInRange(char minValue, char maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getCharacterInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public Double getDouble(AttributeMetadata attributeMetadata) {
+			return delegate.getDouble(attributeMetadata);
+		}
+
+		@Override
+		public Double getDoubleInRange(double minValue, double maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getDoubleInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public Float getFloat(AttributeMetadata attributeMetadata) {
+			return delegate.getFloat(attributeMetadata);
+		}
+
+		@Override
+		public Float getFloatInRange(float minValue, float maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getFloatInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public Integer getInteger(AttributeMetadata attributeMetadata) {
+			return delegate.getInteger(attributeMetadata);
+		}
+
+		@Override
+		public int getIntegerInRange(int minValue, int maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getIntegerInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public Long getLong(AttributeMetadata attributeMetadata) {
+			return delegate.getLong(attributeMetadata);
+		}
+
+		@Override
+		public Long getLongInRange(long minValue, long maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getLongInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public Short getShort(AttributeMetadata attributeMetadata) {
+			return delegate.getShort(attributeMetadata);
+		}
+
+		@Override
+		public Short getShortInRange(short minValue, short maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getShortInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public boolean nextBoolean(AttributeMetadata attributeMetadata) {
+			return delegate.nextBoolean(attributeMetadata);
+		}
+
+		@Override
+		public byte nextByte(AttributeMetadata attributeMetadata) {
+			return delegate.nextByte(attributeMetadata);
+		}
+
+		@Override
+		public byte nextByteInRange(byte minValue, byte maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.nextByteInRange(minValue, maxValue, attributeMetadata);
+		}
+
+		@Override
+		public char nextCharacter(AttributeMetadata attributeMetadata) {
+			return delegate.nextCharacter(attributeMetadata);
+		}
+
+		@Override
+		public char nextCharacterInRange(char minValue, char maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.nextCharacterInRange(minValue, maxValue, attributeMetadata);
+		}
+
+		@Override
+		public short nextShort(AttributeMetadata attributeMetadata) {
+			return delegate.nextShort(attributeMetadata);
+		}
+
+		@Override
+		public short nextShortInRange(short minValue, short maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.nextShortInRange(minValue, maxValue, attributeMetadata);
+		}
+
+		@Override
+		public int nextInt(AttributeMetadata attributeMetadata) {
+			return delegate.nextInt(attributeMetadata);
+		}
+
+		@Override
+		public int nextIntInRange(int minValue, int maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.nextIntInRange(minValue, maxValue, attributeMetadata);
+		}
+
+		@Override
+		public long nextLong(AttributeMetadata attributeMetadata) {
+			return delegate.nextLong(attributeMetadata);
+		}
+
+		@Override
+		public long nextLongInRange(long minValue, long maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.nextLongInRange(minValue, maxValue, attributeMetadata);
+		}
+
+		@Override
+		public float nextFloat(AttributeMetadata attributeMetadata) {
+			return delegate.nextFloat(attributeMetadata);
+		}
+
+		@Override
+		public float nextFloatInRange(float minValue, float maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.nextFloatInRange(minValue, maxValue, attributeMetadata);
+		}
+
+		@Override
+		public double nextDouble(AttributeMetadata attributeMetadata) {
+			return delegate.nextDouble(attributeMetadata);
+		}
+
+		@Override
+		public double nextDoubleInRange(double minValue, double maxValue,
+				AttributeMetadata attributeMetadata) {
+			return delegate.nextDoubleInRange(minValue, maxValue, attributeMetadata);
+		}
+
+		@Override
+		public void nextBooleans(boolean[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextBooleans(values, attributeMetadata);
+		}
+
+		@Override
+		public void nextBytes(byte[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextBytes(values, attributeMetadata);
+		}
+
+		@Override
+		public void nextCharacters(char[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextCharacters(values, attributeMetadata);
+		}
+
+		@Override
+		public void nextShorts(short[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextShorts(values, attributeMetadata);
+		}
+
+		@Override
+		public void nextInts(int[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextInts(values, attributeMetadata);
+		}
+
+		@Override
+		public void nextLongs(long[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextLongs(values, attributeMetadata);
+		}
+
+		@Override
+		public void nextFloats(float[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextFloats(values, attributeMetadata);
+		}
+
+		@Override
+		public void nextDoubles(double[] values, AttributeMetadata attributeMetadata) {
+			delegate.nextDoubles(values, attributeMetadata);
+		}
+
+		@Override
+		public String getStringValue(AttributeMetadata attributeMetadata) {
+			return delegate.getStringValue(attributeMetadata);
+		}
+
+		@Override
+		public Distribution getDistribution(AttributeMetadata attributeMetadata) {
+			return delegate.getDistribution(attributeMetadata);
+		}
+
+		@Override
+		public double sample(Distribution distribution,
+				AttributeMetadata attributeMetadata) {
+			return delegate.sample(distribution, attributeMetadata);
+		}
+
+		@Override
+		public String getStringOfLength(int length,
+				AttributeMetadata attributeMetadata) {
+			return delegate.getStringOfLength(length, attributeMetadata);
+		}
+
+		@Override
+		public int getNumberOfCollectionElements(Class<?> type) {
+			return nbrOfCollectionElements;
+		}
+
+		@Override
+		public int getMaxDepth(Class<?> type) {
+			return maxDepth;
+		}
+
+		@Override
+		public boolean isMemoizationEnabled() {
+			return isMemoizationEnabled;
+		}
+
+		@Override
+		public void sort(Constructor<?>[] constructors) {
+			delegate.sort(constructors);
+		}
+
+		@Override
+		public void sort(Method[] methods) {
+			delegate.sort(methods);
+		}
+
+		@Override
+		public <T> Class<? extends T> getSpecificClass(
+				Class<T> nonInstantiatableClass) {
+			@SuppressWarnings("unchecked")
+			Class<? extends T> found = (Class<? extends T>) specificTypes
+					.get(nonInstantiatableClass);
+			if (found == null) {
+				found = nonInstantiatableClass;
+			}
+			return found;
+		}
+
+		@Override
+		public Set<Class<? extends Annotation>> getExcludedAnnotations() {
+			return excludedAnnotations;
+		}
+
+		@Override
+		public Long getSeed() {
+			return seed;
+		}
+
+		@Override
+		public RandomSource newRandomSource(Class<?> pojoClass) {
+			return AbstractRandomDataProviderStrategy.newRandomSource(seed,
+					pojoClass);
+		}
+
+		@Override
+		public RandomSource bindRandomSource(RandomSource randomSource) {
+			return delegate.bindRandomSource(randomSource);
+		}
+	}
+
 }
@@ -0,0 +1,56 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Contract for the objects binding setters and constructors to accessors.
+ * <p>
+ * PODAM binds the setters, fields and constructors of a class once and then invokes
+ * the accessors for every manufactured object. The default implementation,
+ * {@link ReflectionAccessorFactory}, uses plain Java reflection and runs on
+ * any Java version. On Java 8 and later, with the {@code podam-java8} module
+ * on the class path, {@link LambdaAccessorFactory} binds members to generated
+ * functional interfaces, which the JIT can inline.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface AccessorFactory {
+
+	/**
+	 * It binds a setter to an accessor.
+	 *
+	 * @param setter
+	 *            The setter to bind
+	 * @return An accessor invoking the given setter
+	 */
+	SetterAccessor getSetterAccessor(Method setter);
+
+	/**
+	 * It binds an instance field to an accessor writing it directly.
+	 *
+	 * @param field
+	 *            The field to bind, possibly final
+	 * @return An accessor writing the given field or null if the field cannot
+	 *         be written
+	 */
+	SetterAccessor getFieldAccessor(Field field);
+
+	/**
+	 * It binds a constructor to an accessor.
+	 *
+	 * @param constructor
+	 *            The constructor to bind
+	 * @return An accessor invoking the given constructor
+	 */
+	ConstructorAccessor getConstructorAccessor(Constructor<?> constructor);
+
+}
@@ -0,0 +1,151 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A table drawing indexes with given weights in constant time.
+ * <p>
+ * The table is built once with Vose's alias method: each index is given a
+ * probability and an alias, so that drawing an index only needs a uniform
+ * index and a uniform double, whatever the number of weights.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public final class AliasTable {
+
+	// ------------------->> Instance / Static variables
+
+	/** The probability of keeping each index rather than its alias */
+	private final double[] probabilities;
+
+	/** The alias of each index */
+	private final int[] aliases;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param weights
+	 *            The relative weights of the indexes, which do not need to add
+	 *            up to one
+	 * @throws IllegalArgumentException
+	 *             If there are no weights, if a weight is negative or not
+	 *             finite, or if all weights are zero
+	 */
+	public AliasTable(double... weights) {
+
+		if (null == weights || weights.length == 0) {
+			throw new IllegalArgumentException(
+					"An alias table needs at least one weight");
+		}
+		int size = weights.length;
+		double sum = 0.0;
+		for (double weight : weights) {
+			if (weight < 0.0 || Double.isNaN(weight)
+					|| Double.isInfinite(weight)) {
+				throw new IllegalArgumentException("Invalid weight " + weight);
+			}
+			sum += weight;
+		}
+		if (sum <= 0.0) {
+			throw new IllegalArgumentException(
+					"At least one weight must be positive");
+		}
+
+		probabilities = new double[size];
+		aliases = new int[size];
+
+		double[] scaled = new double[size];
+		int[] small = new int[size];
+		int[] large = new int[size];
+		int nbrSmall = 0;
+		int nbrLarge = 0;
+		for (int i = 0; i < size; i++) {
+			scaled[i] = weights[i] * size / sum;
+			if (scaled[i] < 1.0) {
+				small[nbrSmall++] = i;
+			} else {
+				large[nbrLarge++] = i;
+			}
+		}
+
+		while (nbrSmall > 0 && nbrLarge > 0) {
+			int less = small[--nbrSmall];
+			int more = large[--nbrLarge];
+			probabilities[less] = scaled[less];
+			aliases[less] = more;
+			scaled[more] = scaled[more] + scaled[less] - 1.0;
+			if (scaled[more] < 1.0) {
+				small[nbrSmall++] = more;
+			} else {
+				large[nbrLarge++] = more;
+			}
+		}
+
+		// What remains has a probability of one, up to rounding errors
+		while (nbrLarge > 0) {
+			int index = large[--nbrLarge];
+			probabilities[index] = 1.0;
+			aliases[index] = index;
+		}
+		while (nbrSmall > 0) {
+			int index = small[--nbrSmall];
+			probabilities[index] = 1.0;
+			aliases[index] = index;
+		}
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It draws an index.
+	 *
+	 * @param random
+	 *            The random source to draw from
+	 * @return an index between zero (inclusive) and {@link #size()}
+	 *         (exclusive)
+	 */
+	public int sample(RandomSource random) {
+		int index = random.nextInt(probabilities.length);
+		if (random.nextDouble() < probabilities[index]) {
+			return index;
+		}
+		return aliases[index];
+	}
+
+	/**
+	 * It draws a fraction, uniformly distributed within the slice of the
+	 * drawn index.
+	 *
+	 * @param random
+	 *            The random source to draw from
+	 * @return a value between zero (inclusive) and one (exclusive), within
+	 *         {@code [index / size, (index + 1) / size)}
+	 */
+	public double sampleFraction(RandomSource random) {
+		double fraction = (sample(random) + random.nextDouble())
+				/ probabilities.length;
+		return Math.min(fraction, Math.nextAfter(1.0, 0.0));
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the number of indexes.
+	 *
+	 * @return the number of weights of this table
+	 */
+	public int size() {
+		return probabilities.length;
+	}
+
+}
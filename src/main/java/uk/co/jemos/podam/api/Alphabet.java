@@ -0,0 +1,189 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * The characters random strings are made of.
+ * <p>
+ * An alphabet fills a {@code char[]} directly from a {@link RandomSource},
+ * taking several characters from each random long: each character consumes
+ * only as many bits as needed to index the alphabet, e.g. 6 bits for the 63
+ * characters of {@link #NICE_ASCII}. Indexes beyond the alphabet are
+ * discarded, so that all characters are equally likely.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public final class Alphabet {
+
+	// ------------------->> Constants
+
+	/** The letters, the digits and the underscore */
+	public static final Alphabet NICE_ASCII = new Alphabet(
+			AbstractRandomDataProviderStrategy.NICE_ASCII_CHARACTERS);
+
+	/** The letters and the digits */
+	public static final Alphabet ALPHANUMERIC = new Alphabet(
+			"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789");
+
+	/** The lower case letters */
+	public static final Alphabet LOWER_CASE = new Alphabet(
+			"abcdefghijklmnopqrstuvwxyz");
+
+	/** The decimal digits */
+	public static final Alphabet DIGITS = new Alphabet("0123456789");
+
+	/** The lower case hexadecimal digits */
+	public static final Alphabet HEX = new Alphabet("0123456789abcdef");
+
+	// ------------------->> Instance / Static variables
+
+	/** The characters of this alphabet */
+	private final char[] characters;
+
+	/** How many bits of a random long index a character */
+	private final int bitsPerCharacter;
+
+	/** The mask extracting an index from a random long */
+	private final long mask;
+
+	/** How many indexes are taken from a random long */
+	private final int charactersPerLong;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Constructor with the characters of a string.
+	 *
+	 * @param characters
+	 *            The characters of the alphabet
+	 * @throws IllegalArgumentException
+	 *             If the string is null, empty or holds duplicate characters
+	 */
+	public Alphabet(String characters) {
+		this(null == characters ? null : characters.toCharArray());
+	}
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param characters
+	 *            The characters of the alphabet, the array is copied
+	 * @throws IllegalArgumentException
+	 *             If the array is null, empty or holds duplicate characters
+	 */
+	public Alphabet(char... characters) {
+		if (null == characters || characters.length == 0) {
+			throw new IllegalArgumentException(
+					"An alphabet needs at least one character");
+		}
+		Set<Character> distinct = new LinkedHashSet<Character>();
+		for (char character : characters) {
+			if (!distinct.add(character)) {
+				throw new IllegalArgumentException("Duplicate character '"
+						+ character + "' in alphabet");
+			}
+		}
+		this.characters = characters.clone();
+		bitsPerCharacter = Math.max(1,
+				Integer.SIZE - Integer.numberOfLeadingZeros(characters.length - 1));
+		mask = (1L << bitsPerCharacter) - 1;
+		charactersPerLong = Long.SIZE / bitsPerCharacter;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns a random string of the given length.
+	 *
+	 * @param length
+	 *            The length of the string
+	 * @param random
+	 *            The random source the characters are drawn from
+	 * @return a string made of characters of this alphabet
+	 */
+	public String newString(int length, RandomSource random) {
+		if (length <= 0) {
+			return "";
+		}
+		char[] buffer = new char[length];
+		fill(buffer, 0, length, random);
+		return new String(buffer);
+	}
+
+	/**
+	 * It fills a part of an array with random characters of this alphabet.
+	 *
+	 * @param buffer
+	 *            The array to fill
+	 * @param offset
+	 *            The index of the first character to fill
+	 * @param length
+	 *            How many characters to fill
+	 * @param random
+	 *            The random source the characters are drawn from
+	 */
+	public void fill(char[] buffer, int offset, int length, RandomSource random) {
+
+		int end = offset + length;
+		if (characters.length == 1) {
+			for (int i = offset; i < end; i++) {
+				buffer[i] = characters[0];
+			}
+			return;
+		}
+
+		int i = offset;
+		while (i < end) {
+			long bits = random.nextLong();
+			for (int chunk = 0; chunk < charactersPerLong && i < end; chunk++) {
+				int index = (int) (bits & mask);
+				bits >>>= bitsPerCharacter;
+				if (index < characters.length) {
+					buffer[i++] = characters[index];
+				}
+			}
+		}
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the characters of this alphabet.
+	 *
+	 * @return a copy of the characters of this alphabet
+	 */
+	public char[] getCharacters() {
+		return characters.clone();
+	}
+
+	/**
+	 * It returns the number of characters of this alphabet.
+	 *
+	 * @return the number of characters of this alphabet
+	 */
+	public int size() {
+		return characters.length;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "Alphabet [" + new String(characters) + "]";
+	}
+
+}
@@ -0,0 +1,37 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * Contract for the generators of the values of a single POJO attribute.
+ * <p>
+ * Generators can be registered for an attribute of any class, including
+ * third-party classes which cannot be annotated, with
+ * {@link PodamFactoryImpl#withAttributeGenerator(Class, String, AttributeGenerator)}.
+ * The factory also compiles the Podam annotations of each attribute into a
+ * generator once, so that the annotations are not looked up again for every
+ * value.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the values
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface AttributeGenerator<T> {
+
+	/**
+	 * It returns a value for the attribute.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata
+	 * @return a value assignable to the attribute, or null to let the factory
+	 *         manufacture the value as if no generator was registered
+	 */
+	T generate(AttributeMetadata attributeMetadata);
+
+}
@@ -0,0 +1,122 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * The identity of an attribute: the class declaring it and its name.
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public final class AttributeKey {
+
+	// ------------------->> Instance / Static variables
+
+	/** The class of the POJO the attribute belongs to */
+	private final Class<?> pojoClass;
+
+	/** The name of the attribute */
+	private final String attributeName;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO the attribute belongs to
+	 * @param attributeName
+	 *            The name of the attribute
+	 * @throws IllegalArgumentException
+	 *             If the class or the name is null
+	 */
+	public AttributeKey(Class<?> pojoClass, String attributeName) {
+		if (pojoClass == null || attributeName == null) {
+			throw new IllegalArgumentException(
+					"An attribute key needs a class and an attribute name");
+		}
+		this.pojoClass = pojoClass;
+		this.attributeName = attributeName;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the key of the attribute described by the given metadata.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any
+	 * @return the key of the attribute or null if the metadata does not name
+	 *         the attribute and its class
+	 */
+	public static AttributeKey of(AttributeMetadata attributeMetadata) {
+		if (attributeMetadata == null
+				|| attributeMetadata.getPojoClass() == null
+				|| attributeMetadata.getAttributeName() == null) {
+			return null;
+		}
+		return new AttributeKey(attributeMetadata.getPojoClass(),
+				attributeMetadata.getAttributeName());
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the class of the POJO the attribute belongs to.
+	 *
+	 * @return the class of the POJO the attribute belongs to
+	 */
+	public Class<?> getPojoClass() {
+		return pojoClass;
+	}
+
+	/**
+	 * It returns the name of the attribute.
+	 *
+	 * @return the name of the attribute
+	 */
+	public String getAttributeName() {
+		return attributeName;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * pojoClass.hashCode() + attributeName.hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof AttributeKey)) {
+			return false;
+		}
+		AttributeKey other = (AttributeKey) obj;
+		return pojoClass.equals(other.pojoClass)
+				&& attributeName.equals(other.attributeName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return pojoClass.getName() + "." + attributeName;
+	}
+
+}
@@ -0,0 +1,193 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.jcip.annotations.Immutable;
+
+import uk.co.jemos.podam.common.PodamStrategyValue;
+
+/**
+ * The pre-computed recipe to fill a single POJO attribute.
+ * <p>
+ * It records everything which can be worked out once per class: the setter,
+ * the resolved attribute type with its type arguments, the attribute
+ * annotations and the {@link PodamStrategyValue} annotation, if any. If a
+ * generator was registered for the attribute, or its annotations could be
+ * compiled into one, the plan holds that generator as well.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public final class AttributePlan {
+
+	// ------------------->> Instance / Static variables
+
+	/** The attribute name */
+	private final String attributeName;
+
+	/**
+	 * The setter used to assign the attribute value, or {@code null} if the
+	 * value is written directly into the field
+	 */
+	private final Method setter;
+
+	/** The accessor the setter or the field is bound to */
+	private final SetterAccessor setterAccessor;
+
+	/** The resolved raw type of the attribute */
+	private final Class<?> attributeType;
+
+	/** The resolved type arguments of the attribute type */
+	private final Type[] typeArguments;
+
+	/** The annotations of the attribute */
+	private final List<Annotation> annotations;
+
+	/** The attribute strategy annotation, or {@code null} if none */
+	private final PodamStrategyValue strategyAnnotation;
+
+	/** The generator of the attribute values, or {@code null} if none */
+	private final AttributeGenerator<?> generator;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param attributeName
+	 *            The attribute name
+	 * @param setter
+	 *            The setter used to assign the attribute value, or
+	 *            {@code null} if the value is written directly into the field
+	 * @param setterAccessor
+	 *            The accessor the setter or the field is bound to
+	 * @param attributeType
+	 *            The resolved raw type of the attribute
+	 * @param typeArguments
+	 *            The resolved type arguments of the attribute type
+	 * @param annotations
+	 *            The annotations of the attribute
+	 * @param strategyAnnotation
+	 *            The attribute strategy annotation, or {@code null} if none
+	 * @param generator
+	 *            The generator of the attribute values, or {@code null} if
+	 *            none
+	 */
+	public AttributePlan(String attributeName, Method setter,
+			SetterAccessor setterAccessor, Class<?> attributeType, Type[] typeArguments,
+			List<Annotation> annotations, PodamStrategyValue strategyAnnotation,
+			AttributeGenerator<?> generator) {
+		this.attributeName = attributeName;
+		this.setter = setter;
+		this.setterAccessor = setterAccessor;
+		this.attributeType = attributeType;
+		this.typeArguments = typeArguments.clone();
+		this.annotations = Collections.unmodifiableList(annotations);
+		this.strategyAnnotation = strategyAnnotation;
+		this.generator = generator;
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the attribute name
+	 */
+	public String getAttributeName() {
+		return attributeName;
+	}
+
+	/**
+	 * @return the setter used to assign the attribute value, or {@code null}
+	 *         if the value is written directly into the field
+	 */
+	public Method getSetter() {
+		return setter;
+	}
+
+	/**
+	 * @return the accessor the setter or the field is bound to
+	 */
+	public SetterAccessor getSetterAccessor() {
+		return setterAccessor;
+	}
+
+	/**
+	 * @return the resolved raw type of the attribute
+	 */
+	public Class<?> getAttributeType() {
+		return attributeType;
+	}
+
+	/**
+	 * @return a copy of the resolved type arguments of the attribute type
+	 */
+	public Type[] getTypeArguments() {
+		return typeArguments.clone();
+	}
+
+	/**
+	 * It returns the type arguments without copying them, for the factory's
+	 * own use.
+	 *
+	 * @return the resolved type arguments of the attribute type
+	 */
+	Type[] typeArguments() {
+		return typeArguments;
+	}
+
+	/**
+	 * @return the annotations of the attribute
+	 */
+	public List<Annotation> getAnnotations() {
+		return annotations;
+	}
+
+	/**
+	 * @return the attribute strategy annotation, or {@code null} if none
+	 */
+	public PodamStrategyValue getStrategyAnnotation() {
+		return strategyAnnotation;
+	}
+
+	/**
+	 * @return the generator of the attribute values, or {@code null} if none
+	 */
+	public AttributeGenerator<?> getGenerator() {
+		return generator;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("AttributePlan [attributeName=");
+		builder.append(attributeName);
+		builder.append(", attributeType=");
+		builder.append(attributeType);
+		builder.append(", typeArguments=");
+		builder.append(Arrays.toString(typeArguments));
+		builder.append(", strategyAnnotation=");
+		builder.append(strategyAnnotation);
+		builder.append(", generator=");
+		builder.append(generator);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,161 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * The generators of the attributes of POJO classes, keyed by class and
+ * attribute name.
+ * <p>
+ * It holds two kinds of generators: those registered programmatically, which
+ * also apply to the attributes of subclasses, and those compiled by the
+ * factory from the annotations of an attribute. A registered generator takes
+ * precedence over the annotations. Compiled generators are kept in a bounded
+ * cache, which forgets the least recently used attributes: they are compiled
+ * again when needed.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+final class AttributeRegistry {
+
+	// ------------------->> Constants
+
+	/** The maximum number of compiled generators kept by a registry */
+	static final int MAX_COMPILED_SIZE = 8192;
+
+	// ------------------->> Instance / Static variables
+
+	/** The generators registered programmatically */
+	private final ConcurrentMap<AttributeKey, AttributeGenerator<?>> registered = new ConcurrentHashMap<AttributeKey, AttributeGenerator<?>>();
+
+	/** The generators compiled from annotations */
+	private final LruCache<AttributeKey, AttributeGenerator<?>> compiled = new LruCache<AttributeKey, AttributeGenerator<?>>(
+			MAX_COMPILED_SIZE);
+
+	// ------------------->> Public methods
+
+	/**
+	 * It registers the generator of an attribute.
+	 *
+	 * @param key
+	 *            The attribute
+	 * @param generator
+	 *            The generator of its values
+	 * @throws IllegalArgumentException
+	 *             If the generator is null
+	 */
+	void register(AttributeKey key, AttributeGenerator<?> generator) {
+		if (generator == null) {
+			throw new IllegalArgumentException("The generator of " + key
+					+ " cannot be null");
+		}
+		registered.put(key, generator);
+	}
+
+	/**
+	 * It removes the generator registered for an attribute, if any.
+	 *
+	 * @param key
+	 *            The attribute
+	 */
+	void unregister(AttributeKey key) {
+		registered.remove(key);
+	}
+
+	/**
+	 * It returns the generator registered for an attribute of a class or of
+	 * any of its superclasses.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @param attributeName
+	 *            The name of the attribute
+	 * @return the registered generator, or null if none
+	 */
+	AttributeGenerator<?> getRegistered(Class<?> pojoClass,
+			String attributeName) {
+		if (registered.isEmpty()) {
+			return null;
+		}
+		for (Class<?> clazz = pojoClass; clazz != null; clazz = clazz
+				.getSuperclass()) {
+			AttributeGenerator<?> generator = registered.get(new AttributeKey(
+					clazz, attributeName));
+			if (generator != null) {
+				return generator;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * It checks whether a generator is registered for any attribute of a
+	 * class or of its superclasses.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @return true if a generator is registered for an attribute of the class
+	 */
+	boolean hasRegistered(Class<?> pojoClass) {
+		if (registered.isEmpty()) {
+			return false;
+		}
+		for (AttributeKey key : registered.keySet()) {
+			if (key.getPojoClass().isAssignableFrom(pojoClass)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * It returns the generator compiled from the annotations of an
+	 * attribute.
+	 *
+	 * @param key
+	 *            The attribute
+	 * @return the compiled generator, or null if the attribute has not been
+	 *         compiled or it has no value annotations
+	 */
+	AttributeGenerator<?> getCompiled(AttributeKey key) {
+		return compiled.get(key);
+	}
+
+	/**
+	 * It stores the generator compiled from the annotations of an attribute,
+	 * unless another thread did it first.
+	 *
+	 * @param key
+	 *            The attribute
+	 * @param generator
+	 *            The compiled generator
+	 * @return the generator stored for the attribute
+	 */
+	AttributeGenerator<?> addCompiled(AttributeKey key,
+			AttributeGenerator<?> generator) {
+		AttributeGenerator<?> existing = compiled.putIfAbsent(key, generator);
+		return existing != null ? existing : generator;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "AttributeRegistry [registered=" + registered.keySet()
+				+ ", compiled=" + compiled + "]";
+	}
+
+}
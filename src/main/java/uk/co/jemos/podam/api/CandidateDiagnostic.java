@@ -0,0 +1,122 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Member;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * Why a constructor or static factory method did not create an instance.
+ * <p>
+ * A candidate is either rejected up front, because it can never be invoked
+ * (e.g. it is not accessible or its class is abstract), or it failed when it
+ * was invoked. Only the type and message of the last failure are kept, so
+ * that no stack trace outlives the attempt.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public final class CandidateDiagnostic {
+
+	// ------------------->> Instance / Static variables
+
+	/** The constructor or factory method */
+	private final Member candidate;
+
+	/** Why the candidate did not create an instance */
+	private final String reason;
+
+	/** Whether the candidate was rejected without being invoked */
+	private final boolean rejected;
+
+	/** How many times the candidate failed, -1 if it ever succeeded */
+	private final int failureCount;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param candidate
+	 *            The constructor or factory method
+	 * @param reason
+	 *            Why the candidate did not create an instance
+	 * @param rejected
+	 *            Whether the candidate was rejected without being invoked
+	 * @param failureCount
+	 *            How many times the candidate failed, -1 if it ever succeeded
+	 */
+	CandidateDiagnostic(Member candidate, String reason, boolean rejected,
+			int failureCount) {
+		this.candidate = candidate;
+		this.reason = reason;
+		this.rejected = rejected;
+		this.failureCount = failureCount;
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the constructor or factory method.
+	 *
+	 * @return the constructor or factory method
+	 */
+	public Member getCandidate() {
+		return candidate;
+	}
+
+	/**
+	 * It returns why the candidate did not create an instance.
+	 *
+	 * @return a short description of the rejection or of the last failure
+	 */
+	public String getReason() {
+		return reason;
+	}
+
+	/**
+	 * It returns whether the candidate was rejected without being invoked.
+	 *
+	 * @return true if the candidate can never be invoked
+	 */
+	public boolean isRejected() {
+		return rejected;
+	}
+
+	/**
+	 * It returns how many times the candidate failed.
+	 *
+	 * @return the number of failures, 0 if the candidate was rejected or -1
+	 *         if it ever succeeded
+	 */
+	public int getFailureCount() {
+		return failureCount;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("CandidateDiagnostic [candidate=");
+		builder.append(candidate);
+		builder.append(", reason=");
+		builder.append(reason);
+		builder.append(", rejected=");
+		builder.append(rejected);
+		builder.append(", failureCount=");
+		builder.append(failureCount);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,295 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded, thread-safe cache of {@link ClassInfo} objects.
+ * <p>
+ * Introspecting a class (declared fields, setters and getters up the class
+ * hierarchy) is expensive and its outcome only depends on the class itself and
+ * on the set of annotations which exclude fields from being filled. This cache
+ * stores a {@link ClassInfo} for each pair of class and excluded annotations,
+ * so that every POJO of the same class is introspected only once.
+ * </p>
+ * <p>
+ * If the set of excluded annotations changes between two lookups, all cached
+ * entries are discarded, as they were computed against the old set. When the
+ * cache is full, the least recently used class is evicted.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public class ClassInfoCache {
+
+	// ------------------->> Constants
+
+	/** The default maximum number of classes kept in the cache */
+	public static final int DEFAULT_MAX_SIZE = 1024;
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(ClassInfoCache.class);
+
+	// ------------------->> Instance / Static variables
+
+	/** The maximum number of entries in this cache */
+	private final int maxSize;
+
+	/** The cached class information */
+	private final LruCache<Key, ClassInfo> cache;
+
+	/** The excluded annotations the cached entries were computed with */
+	private volatile Set<Class<? extends Annotation>> lastExcludedAnnotations = Collections
+			.emptySet();
+
+	/** The number of lookups served from the cache */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** The number of lookups which required introspection */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/** The number of times the cache was invalidated */
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+	// ------------------->> Constructors
+
+	/**
+	 * Default constructor.
+	 */
+	public ClassInfoCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor with a custom size bound
+	 *
+	 * @param maxSize
+	 *            The maximum number of entries in this cache
+	 * @throws IllegalArgumentException
+	 *             If {@code maxSize} is not positive
+	 */
+	public ClassInfoCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException(
+					"The cache size must be positive, found " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.cache = new LruCache<Key, ClassInfo>(maxSize);
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns a {@link ClassInfo} object for the given class, introspecting
+	 * the class only if it was not found in the cache.
+	 *
+	 * @param clazz
+	 *            The class to retrieve info from
+	 * @param excludeFieldAnnotations
+	 *            the fields marked with any of these annotations will not be
+	 *            included in the class info
+	 * @return a {@link ClassInfo} object for the given class
+	 */
+	public ClassInfo getClassInfo(Class<?> clazz,
+			Set<Class<? extends Annotation>> excludeFieldAnnotations) {
+
+		Set<Class<? extends Annotation>> excluded = excludeFieldAnnotations;
+		if (excluded == null) {
+			excluded = Collections.emptySet();
+		}
+
+		if (!lastExcludedAnnotations.equals(excluded)) {
+			invalidate(excluded);
+		}
+
+		Key key = new Key(clazz, excluded);
+		ClassInfo classInfo = cache.get(key);
+		if (classInfo != null) {
+			hitCount.incrementAndGet();
+			return classInfo;
+		}
+
+		missCount.incrementAndGet();
+		classInfo = PodamUtils.getClassInfo(clazz, excluded);
+		ClassInfo existing = cache.putIfAbsent(key.freeze(), classInfo);
+		if (existing != null) {
+			return existing;
+		}
+		return classInfo;
+	}
+
+	/**
+	 * It removes all entries from this cache.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the number of classes currently in the cache.
+	 *
+	 * @return the number of classes currently in the cache
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * It returns the maximum number of entries in this cache.
+	 *
+	 * @return the maximum number of entries in this cache
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * It returns how many lookups were served from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * It returns how many lookups required the class to be introspected.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * It returns how many times the cache was discarded because the set of
+	 * excluded annotations changed.
+	 *
+	 * @return the number of invalidations
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount.get();
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It discards all cached entries, which were computed with a different set
+	 * of excluded annotations.
+	 *
+	 * @param excluded
+	 *            The new set of excluded annotations
+	 */
+	private synchronized void invalidate(
+			Set<Class<? extends Annotation>> excluded) {
+
+		if (!lastExcludedAnnotations.equals(excluded)) {
+			LOG.debug("Excluded annotations changed from {} to {}."
+					+ " Invalidating class info cache.",
+					lastExcludedAnnotations, excluded);
+			lastExcludedAnnotations = Collections
+					.unmodifiableSet(new HashSet<Class<? extends Annotation>>(
+							excluded));
+			cache.clear();
+			invalidationCount.incrementAndGet();
+		}
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ClassInfoCache [size=");
+		builder.append(cache.size());
+		builder.append(", maxSize=");
+		builder.append(maxSize);
+		builder.append(", hits=");
+		builder.append(hitCount.get());
+		builder.append(", misses=");
+		builder.append(missCount.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	// ------------------->> Inner classes
+
+	/**
+	 * Cache key, made of a class and the set of excluded annotations.
+	 */
+	private static final class Key {
+
+		/** The introspected class */
+		private final Class<?> clazz;
+
+		/** The excluded annotations */
+		private final Set<Class<? extends Annotation>> excluded;
+
+		/** The pre-computed hash code */
+		private final int hash;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param clazz
+		 *            The introspected class
+		 * @param excluded
+		 *            The excluded annotations
+		 */
+		Key(Class<?> clazz, Set<Class<? extends Annotation>> excluded) {
+			this.clazz = clazz;
+			this.excluded = excluded;
+			this.hash = 31 * clazz.hashCode() + excluded.hashCode();
+		}
+
+		/**
+		 * It returns a copy of this key, which is not affected by changes to
+		 * the excluded annotations set used for the lookup.
+		 *
+		 * @return a copy of this key safe to store in the cache
+		 */
+		Key freeze() {
+			return new Key(clazz,
+					new HashSet<Class<? extends Annotation>>(excluded));
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return clazz.equals(other.clazz) && excluded.equals(other.excluded);
+		}
+	}
+
+}
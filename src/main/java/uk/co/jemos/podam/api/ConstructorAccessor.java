@@ -0,0 +1,34 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Accessor to a constructor bound by an {@link AccessorFactory}.
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface ConstructorAccessor {
+
+	/**
+	 * It invokes the constructor.
+	 *
+	 * @param args
+	 *            The constructor arguments
+	 * @return The new instance
+	 * @throws InstantiationException
+	 *             If the class is abstract
+	 * @throws IllegalAccessException
+	 *             If the constructor is not accessible
+	 * @throws InvocationTargetException
+	 *             If the constructor threw an exception
+	 */
+	Object newInstance(Object... args) throws InstantiationException,
+			IllegalAccessException, InvocationTargetException;
+
+}
@@ -0,0 +1,287 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded, thread-safe cache of {@link ConstructorSelection} objects, which
+ * evicts the least recently used class when it is full.
+ * <p>
+ * Looking up and sorting the constructors and factory methods of a class is
+ * expensive, and so is trying candidates which keep failing. This cache
+ * stores a {@link ConstructorSelection} for each class, which remembers both
+ * the sorted candidates and the outcome of the previous attempts.
+ * </p>
+ * <p>
+ * The sorted candidates depend on how the strategy sorts constructors and
+ * methods. If the comparators of an {@link AbstractRandomDataProviderStrategy},
+ * or of the strategy a {@link AbstractRandomDataProviderStrategy#snapshot()}
+ * was taken from, change between two lookups, all cached entries are
+ * discarded. Other strategies are only told apart by their identity: they are
+ * expected to always sort the same way and, if they do not,
+ * {@link #clear()} must be called when their sort order changes.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public class ConstructorCache {
+
+	// ------------------->> Constants
+
+	/** The default maximum number of classes kept in the cache */
+	public static final int DEFAULT_MAX_SIZE = 1024;
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(ConstructorCache.class);
+
+	// ------------------->> Instance / Static variables
+
+	/** The cached selections */
+	private final LruCache<Class<?>, ConstructorSelection> cache;
+
+	/** What the sort order of the cached entries depends on */
+	private volatile SortKey lastSortKey;
+
+	/** The number of lookups served from the cache */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** The number of lookups which required the candidates to be sorted */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/** The number of times the cache was invalidated */
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+	// ------------------->> Constructors
+
+	/**
+	 * Default constructor.
+	 */
+	public ConstructorCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor with a custom size bound
+	 *
+	 * @param maxSize
+	 *            The maximum number of entries in this cache
+	 * @throws IllegalArgumentException
+	 *             If {@code maxSize} is not positive
+	 */
+	public ConstructorCache(int maxSize) {
+		cache = new LruCache<Class<?>, ConstructorSelection>(maxSize);
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the {@link ConstructorSelection} of the given class, sorting
+	 * its candidates only if it was not found in the cache.
+	 *
+	 * @param pojoClass
+	 *            The class to be instantiated
+	 * @param strategy
+	 *            The strategy sorting the candidates
+	 * @return the constructor selection of the given class
+	 */
+	public ConstructorSelection getSelection(Class<?> pojoClass,
+			DataProviderStrategy strategy) {
+
+		SortKey sortKey = getSortKey(strategy);
+		if (!sortKey.equals(lastSortKey)) {
+			invalidate(sortKey);
+		}
+
+		ConstructorSelection selection = cache.get(pojoClass);
+		if (selection != null) {
+			hitCount.incrementAndGet();
+			return selection;
+		}
+
+		missCount.incrementAndGet();
+		selection = new ConstructorSelection(pojoClass, strategy);
+		ConstructorSelection existing = cache.putIfAbsent(pojoClass, selection);
+		if (existing != null) {
+			return existing;
+		}
+		return selection;
+	}
+
+	/**
+	 * It removes all entries from this cache.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the number of classes currently in the cache.
+	 *
+	 * @return the number of classes currently in the cache
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * It returns the maximum number of entries in this cache.
+	 *
+	 * @return the maximum number of entries in this cache
+	 */
+	public int getMaxSize() {
+		return cache.getMaxSize();
+	}
+
+	/**
+	 * It returns how many lookups were served from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * It returns how many lookups required the candidates to be sorted.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * It returns how many times the cache was discarded because the sort
+	 * order changed.
+	 *
+	 * @return the number of invalidations
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount.get();
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It returns what the sort order of the given strategy depends on.
+	 *
+	 * @param strategy
+	 *            The strategy sorting the candidates
+	 * @return the comparators of the strategy or the strategy itself
+	 */
+	private SortKey getSortKey(DataProviderStrategy strategy) {
+
+		AbstractRandomDataProviderStrategy sortingStrategy = AbstractRandomDataProviderStrategy
+				.getSortingStrategy(strategy);
+		if (sortingStrategy != null) {
+			return new SortKey(sortingStrategy.getConstructorComparator(),
+					sortingStrategy.getMethodComparator());
+		}
+		return new SortKey(strategy, strategy);
+	}
+
+	/**
+	 * It discards all cached entries, which were sorted in a different order.
+	 *
+	 * @param sortKey
+	 *            What the new sort order depends on
+	 */
+	private synchronized void invalidate(SortKey sortKey) {
+
+		if (!sortKey.equals(lastSortKey)) {
+			if (lastSortKey != null) {
+				LOG.debug("Sort order changed from {} to {}."
+						+ " Invalidating constructor cache.", lastSortKey,
+						sortKey);
+				invalidationCount.incrementAndGet();
+			}
+			lastSortKey = sortKey;
+			cache.clear();
+		}
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ConstructorCache [size=");
+		builder.append(cache.size());
+		builder.append(", maxSize=");
+		builder.append(cache.getMaxSize());
+		builder.append(", hits=");
+		builder.append(hitCount.get());
+		builder.append(", misses=");
+		builder.append(missCount.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	// ------------------->> Inner classes
+
+	/**
+	 * What the order of constructors and of factory methods depends on.
+	 */
+	private static final class SortKey {
+
+		/** What the order of constructors depends on */
+		private final Object constructorOrder;
+
+		/** What the order of factory methods depends on */
+		private final Object methodOrder;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param constructorOrder
+		 *            What the order of constructors depends on
+		 * @param methodOrder
+		 *            What the order of factory methods depends on
+		 */
+		SortKey(Object constructorOrder, Object methodOrder) {
+			this.constructorOrder = constructorOrder;
+			this.methodOrder = methodOrder;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SortKey)) {
+				return false;
+			}
+			SortKey other = (SortKey) obj;
+			return constructorOrder.equals(other.constructorOrder)
+					&& methodOrder.equals(other.methodOrder);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * constructorOrder.hashCode() + methodOrder.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "[" + constructorOrder + ", " + methodOrder + "]";
+		}
+	}
+
+}
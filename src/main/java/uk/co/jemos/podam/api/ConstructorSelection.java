@@ -0,0 +1,428 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * The constructors and static factory methods which can create instances of a
+ * class, in the order they are tried.
+ * <p>
+ * The candidates are looked up and sorted by the strategy once. Candidates
+ * which can never be invoked, such as factory methods which are not public or
+ * constructors of abstract classes, are rejected at this stage without
+ * throwing any exception. The outcome of each attempt is then recorded, so
+ * that the candidates which turn out not to be callable at all are no longer
+ * tried. Candidates which threw an exception are tried again, since their
+ * outcome may depend on the values they are given.
+ * </p>
+ * <p>
+ * The candidates are always tried in the order of the strategy. The candidate
+ * which succeeded last is only tried first among the candidates the
+ * comparators of an {@link AbstractRandomDataProviderStrategy} consider
+ * equal to it.
+ * </p>
+ * <p>
+ * Rejections and failures are kept as {@link CandidateDiagnostic}s.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public final class ConstructorSelection {
+
+	// ------------------->> Instance / Static variables
+
+	/** The class the candidates create */
+	private final Class<?> pojoClass;
+
+	/** Whether the class has public constructors */
+	private final boolean publicConstructors;
+
+	/** Whether the class is instantiated by static factory methods */
+	private final boolean factoryMethodsFirst;
+
+	/** The static factory methods returning the class, sorted */
+	private final List<Method> factoryMethods;
+
+	/**
+	 * The public constructors of the class, sorted, or its declared
+	 * constructors if there are no public ones
+	 */
+	private final List<Constructor<?>> constructors;
+
+	/** The candidates the strategy sorts as equal to the previous one */
+	private final Set<Member> tiedWithPrevious = new HashSet<Member>();
+
+	/** The candidate which succeeded last, null if none did */
+	private volatile Member winner;
+
+	/** How many times each candidate failed, -1 once it has succeeded */
+	private final ConcurrentMap<Member, AtomicInteger> failureCounts = new ConcurrentHashMap<Member, AtomicInteger>();
+
+	/** The candidates which turned out not to be callable at all */
+	private final Set<Member> uncallable = Collections
+			.newSetFromMap(new ConcurrentHashMap<Member, Boolean>());
+
+	/** Why each rejected candidate can never be invoked */
+	private final Map<Member, String> rejections = new LinkedHashMap<Member, String>();
+
+	/** Why each candidate failed the last time it was invoked */
+	private final ConcurrentMap<Member, String> failureReasons = new ConcurrentHashMap<Member, String>();
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param pojoClass
+	 *            The class the candidates create
+	 * @param strategy
+	 *            The strategy sorting the candidates
+	 */
+	ConstructorSelection(Class<?> pojoClass, DataProviderStrategy strategy) {
+
+		this.pojoClass = pojoClass;
+		AbstractRandomDataProviderStrategy sortingStrategy = AbstractRandomDataProviderStrategy
+				.getSortingStrategy(strategy);
+
+		Constructor<?>[] candidateConstructors = pojoClass.getConstructors();
+		publicConstructors = candidateConstructors.length > 0;
+		factoryMethodsFirst = !publicConstructors
+				|| Modifier.isAbstract(pojoClass.getModifiers());
+
+		if (factoryMethodsFirst) {
+			Method[] declaredMethods = pojoClass.getDeclaredMethods();
+			strategy.sort(declaredMethods);
+			List<Method> candidateMethods = new ArrayList<Method>();
+			for (Method method : declaredMethods) {
+				if (Modifier.isStatic(method.getModifiers())
+						&& method.getReturnType().equals(pojoClass)
+						&& isUsable(method)) {
+					candidateMethods.add(method);
+				}
+			}
+			factoryMethods = Collections.unmodifiableList(candidateMethods);
+			if (sortingStrategy != null) {
+				findTies(factoryMethods, sortingStrategy.getMethodComparator());
+			}
+		} else {
+			factoryMethods = Collections.emptyList();
+		}
+
+		if (!publicConstructors) {
+			candidateConstructors = pojoClass.getDeclaredConstructors();
+		}
+		strategy.sort(candidateConstructors);
+		List<Constructor<?>> usableConstructors = new ArrayList<Constructor<?>>(
+				candidateConstructors.length);
+		for (Constructor<?> constructor : candidateConstructors) {
+			if (isUsable(constructor)) {
+				usableConstructors.add(constructor);
+			}
+		}
+		constructors = Collections.unmodifiableList(usableConstructors);
+		if (sortingStrategy != null) {
+			findTies(constructors, sortingStrategy.getConstructorComparator());
+		}
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the given candidates in the order they should be tried: the
+	 * sorted order, except those which cannot be called, with the last
+	 * successful candidate ahead of the candidates sorted as equal to it.
+	 *
+	 * @param <M>
+	 *            The type of the candidates
+	 * @param candidates
+	 *            The sorted candidates, either {@link #getFactoryMethods()} or
+	 *            {@link #getConstructors()}
+	 * @return the candidates worth trying
+	 */
+	public <M extends Member> List<M> getCandidates(List<M> candidates) {
+
+		List<M> retValue = new ArrayList<M>(candidates.size());
+		Member currentWinner = winner;
+		int tieStart = 0;
+		for (M candidate : candidates) {
+			if (!tiedWithPrevious.contains(candidate)) {
+				tieStart = retValue.size();
+			}
+			if (candidate.equals(currentWinner)) {
+				retValue.add(tieStart, candidate);
+			} else if (!isAlwaysFailing(candidate)) {
+				retValue.add(candidate);
+			}
+		}
+		return retValue;
+	}
+
+	/**
+	 * It returns whether the given candidate never succeeded and could not be
+	 * called at all, because it is not accessible or its class cannot be
+	 * instantiated. Such a failure does not depend on the values given to
+	 * the candidate, so it would happen every time.
+	 *
+	 * @param candidate
+	 *            A constructor or factory method
+	 * @return true if the candidate is no longer worth trying
+	 */
+	public boolean isAlwaysFailing(Member candidate) {
+		return uncallable.contains(candidate);
+	}
+
+	/**
+	 * It returns why candidates of the class did not create an instance.
+	 * <p>
+	 * The list holds the rejected candidates first, followed by the
+	 * candidates which failed when they were invoked.
+	 * </p>
+	 *
+	 * @return the diagnostics of the candidates which were rejected or failed
+	 */
+	public List<CandidateDiagnostic> getDiagnostics() {
+
+		List<CandidateDiagnostic> diagnostics = new ArrayList<CandidateDiagnostic>();
+		for (Map.Entry<Member, String> entry : rejections.entrySet()) {
+			diagnostics.add(new CandidateDiagnostic(entry.getKey(), entry
+					.getValue(), true, 0));
+		}
+		for (Map.Entry<Member, String> entry : failureReasons.entrySet()) {
+			diagnostics.add(new CandidateDiagnostic(entry.getKey(), entry
+					.getValue(), false, getFailureCount(entry.getKey()).get()));
+		}
+		return diagnostics;
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the class the candidates create.
+	 *
+	 * @return the class the candidates create
+	 */
+	public Class<?> getPojoClass() {
+		return pojoClass;
+	}
+
+	/**
+	 * It returns whether the class has public constructors.
+	 *
+	 * @return true if the class has public constructors
+	 */
+	public boolean hasPublicConstructors() {
+		return publicConstructors;
+	}
+
+	/**
+	 * It returns whether static factory methods should be tried before
+	 * constructors, because the class is abstract or has no public
+	 * constructors.
+	 *
+	 * @return true if static factory methods should be tried first
+	 */
+	public boolean isFactoryMethodsFirst() {
+		return factoryMethodsFirst;
+	}
+
+	/**
+	 * It returns the static factory methods returning the class, sorted by
+	 * the strategy.
+	 *
+	 * @return the static factory methods of the class
+	 */
+	public List<Method> getFactoryMethods() {
+		return factoryMethods;
+	}
+
+	/**
+	 * It returns the public constructors of the class or, if there are none,
+	 * its declared constructors, sorted by the strategy.
+	 *
+	 * @return the constructors of the class
+	 */
+	public List<Constructor<?>> getConstructors() {
+		return constructors;
+	}
+
+	/**
+	 * It returns the candidate which succeeded last.
+	 *
+	 * @return the candidate which succeeded last or null if none did
+	 */
+	public Member getWinner() {
+		return winner;
+	}
+
+	// ------------------->> Package-private methods
+
+	/**
+	 * It records that the given candidate created an instance.
+	 *
+	 * @param candidate
+	 *            A constructor or factory method
+	 */
+	void recordSuccess(Member candidate) {
+		getFailureCount(candidate).set(-1);
+		winner = candidate;
+	}
+
+	/**
+	 * It records that the given candidate threw an exception.
+	 * <p>
+	 * Only the type and message of the exception are kept. A candidate which
+	 * never succeeded is no longer tried if it could not be called at all.
+	 * </p>
+	 *
+	 * @param candidate
+	 *            A constructor or factory method
+	 * @param failure
+	 *            The exception thrown by the candidate
+	 */
+	void recordFailure(Member candidate, Throwable failure) {
+		Throwable cause = failure;
+		if (cause instanceof InvocationTargetException
+				&& cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		failureReasons.put(candidate, cause.getClass().getName() + ": "
+				+ cause.getMessage());
+		AtomicInteger failures = getFailureCount(candidate);
+		int count = failures.get();
+		while (count >= 0 && !failures.compareAndSet(count, count + 1)) {
+			count = failures.get();
+		}
+		if (count >= 0
+				&& (failure instanceof IllegalAccessException
+						|| failure instanceof InstantiationException)) {
+			uncallable.add(candidate);
+		}
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It records which of the given sorted candidates the comparator
+	 * considers equal to the candidate before them.
+	 *
+	 * @param <M>
+	 *            The type of the candidates
+	 * @param candidates
+	 *            The sorted candidates
+	 * @param comparator
+	 *            The comparator the candidates were sorted with
+	 */
+	private <M extends Member> void findTies(List<M> candidates,
+			Comparator<? super M> comparator) {
+
+		for (int i = 1; i < candidates.size(); i++) {
+			if (comparator.compare(candidates.get(i - 1), candidates.get(i)) == 0) {
+				tiedWithPrevious.add(candidates.get(i));
+			}
+		}
+	}
+
+	/**
+	 * It checks, without invoking it, whether the given candidate can ever
+	 * create an instance, and records why not.
+	 *
+	 * @param candidate
+	 *            A static factory method or a constructor of the class
+	 * @return true if the candidate is worth invoking
+	 */
+	private boolean isUsable(Member candidate) {
+
+		String reason = null;
+		if (candidate.isSynthetic()) {
+			reason = "it is synthetic";
+		} else if (candidate instanceof Method) {
+			if (!Modifier.isPublic(candidate.getModifiers())) {
+				reason = "it is not public";
+			} else if (!isAccessible(pojoClass)) {
+				reason = "its class is not public";
+			}
+		} else if (Modifier.isAbstract(pojoClass.getModifiers())) {
+			reason = "its class is abstract";
+		}
+
+		if (reason != null) {
+			rejections.put(candidate, reason);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * It returns whether the public members of the given class can be invoked
+	 * from any package.
+	 *
+	 * @param clazz
+	 *            The class declaring the members
+	 * @return true if the class is public, or protected if it is nested
+	 */
+	private static boolean isAccessible(Class<?> clazz) {
+		int modifiers = clazz.getModifiers();
+		return Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers);
+	}
+
+	/**
+	 * It returns the failure count of the given candidate, creating it if
+	 * needed.
+	 *
+	 * @param candidate
+	 *            A constructor or factory method
+	 * @return the failure count of the candidate
+	 */
+	private AtomicInteger getFailureCount(Member candidate) {
+		AtomicInteger failures = failureCounts.get(candidate);
+		if (failures == null) {
+			failures = new AtomicInteger();
+			AtomicInteger existing = failureCounts.putIfAbsent(candidate,
+					failures);
+			if (existing != null) {
+				failures = existing;
+			}
+		}
+		return failures;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ConstructorSelection [pojoClass=");
+		builder.append(pojoClass.getName());
+		builder.append(", winner=");
+		builder.append(winner);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,261 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A file of words, names or any other strings, one per line, which random
+ * strings are drawn from.
+ * <p>
+ * The file is memory-mapped rather than read: the entries stay in the file
+ * and are only decoded when they are drawn. The offsets of the lines are kept
+ * outside of the heap as well, so that a dictionary of millions of entries
+ * costs the heap nothing but this object. Loading it scans the file once to
+ * find the line breaks.
+ * </p>
+ * <p>
+ * The file must be encoded in UTF-8, be smaller than 2 GB and have fewer
+ * than about 268 million entries, whose offsets must fit in a 2 GB index.
+ * Empty lines are ignored and Windows line breaks are supported.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public final class Dictionary {
+
+	// ------------------->> Constants
+
+	/** The encoding of dictionary files */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** The number of bytes of the offsets of an entry */
+	private static final long ENTRY_OFFSETS_BYTES = 2 * (Integer.SIZE / 8);
+
+	// ------------------->> Instance / Static variables
+
+	/** The dictionary file */
+	private final File file;
+
+	/** The content of the file */
+	private final MappedByteBuffer content;
+
+	/** The start and end offsets of each entry */
+	private final IntBuffer offsets;
+
+	/** The number of entries */
+	private final int size;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param file
+	 *            The dictionary file, in UTF-8 with one entry per line
+	 * @throws IOException
+	 *             If the file cannot be mapped
+	 * @throws IllegalArgumentException
+	 *             If the file is larger than 2 GB, has too many entries to
+	 *             be indexed or has no entries
+	 */
+	public Dictionary(File file) throws IOException {
+
+		this.file = file;
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("The dictionary " + file
+						+ " is larger than 2 GB");
+			}
+			// The mapping remains valid once the channel is closed
+			content = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					channel.size());
+		} finally {
+			randomAccessFile.close();
+		}
+
+		size = countEntries(content);
+		if (size == 0) {
+			throw new IllegalArgumentException("The dictionary " + file
+					+ " has no entries");
+		}
+		long indexSize = size * ENTRY_OFFSETS_BYTES;
+		if (indexSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("The dictionary " + file
+					+ " has " + size + " entries, more than the "
+					+ (Integer.MAX_VALUE / ENTRY_OFFSETS_BYTES)
+					+ " entries it can index");
+		}
+		offsets = ByteBuffer.allocateDirect((int) indexSize).asIntBuffer();
+		indexEntries(content, offsets);
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns an entry of this dictionary.
+	 *
+	 * @param index
+	 *            The index of the entry, from zero
+	 * @return the entry at the given index
+	 * @throws IndexOutOfBoundsException
+	 *             If the index is negative or not less than {@link #size()}
+	 */
+	public String getEntry(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index
+					+ " out of dictionary of size " + size);
+		}
+		int start = offsets.get(2 * index);
+		int end = offsets.get(2 * index + 1);
+		byte[] bytes = new byte[end - start];
+		// A duplicate has its own position, so that threads do not interfere
+		ByteBuffer entry = content.duplicate();
+		entry.limit(end);
+		entry.position(start);
+		entry.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	/**
+	 * It draws an entry of this dictionary.
+	 *
+	 * @param random
+	 *            The random source to draw from
+	 * @return a random entry, all entries being equally likely
+	 */
+	public String sample(RandomSource random) {
+		return getEntry(random.nextInt(size));
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the dictionary file.
+	 *
+	 * @return the dictionary file
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * It returns the number of entries.
+	 *
+	 * @return the number of non-empty lines of the file
+	 */
+	public int size() {
+		return size;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It counts the non-empty lines of a file.
+	 *
+	 * @param content
+	 *            The content of the file
+	 * @return the number of entries
+	 */
+	private static int countEntries(ByteBuffer content) {
+		int count = 0;
+		int limit = content.limit();
+		int start = 0;
+		while (start < limit) {
+			int end = findLineEnd(content, start);
+			if (trimLineEnd(content, start, end) > start) {
+				count++;
+			}
+			start = end + 1;
+		}
+		return count;
+	}
+
+	/**
+	 * It stores the offsets of the non-empty lines of a file.
+	 *
+	 * @param content
+	 *            The content of the file
+	 * @param offsets
+	 *            The buffer receiving the start and end offset of each entry
+	 */
+	private static void indexEntries(ByteBuffer content, IntBuffer offsets) {
+		int limit = content.limit();
+		int start = 0;
+		int entry = 0;
+		while (start < limit) {
+			int end = findLineEnd(content, start);
+			int trimmedEnd = trimLineEnd(content, start, end);
+			if (trimmedEnd > start) {
+				offsets.put(2 * entry, start);
+				offsets.put(2 * entry + 1, trimmedEnd);
+				entry++;
+			}
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * It returns the offset of the line feed ending a line.
+	 *
+	 * @param content
+	 *            The content of the file
+	 * @param start
+	 *            The offset of the line
+	 * @return the offset of the line feed, or the size of the file for the
+	 *         last line
+	 */
+	private static int findLineEnd(ByteBuffer content, int start) {
+		int limit = content.limit();
+		int end = start;
+		while (end < limit && content.get(end) != '\n') {
+			end++;
+		}
+		return end;
+	}
+
+	/**
+	 * It removes the carriage return ending a line, if any.
+	 *
+	 * @param content
+	 *            The content of the file
+	 * @param start
+	 *            The offset of the line
+	 * @param end
+	 *            The offset of the line feed ending the line
+	 * @return the offset following the last character of the line
+	 */
+	private static int trimLineEnd(ByteBuffer content, int start, int end) {
+		if (end > start && content.get(end - 1) == '\r') {
+			return end - 1;
+		}
+		return end;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "Dictionary [file=" + file + ", size=" + size + "]";
+	}
+
+}
@@ -0,0 +1,40 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * The distribution of numeric values within a range.
+ * <p>
+ * A distribution draws the position of a value within its range, as a
+ * fraction between zero (the minimum) and one (the maximum), which the
+ * factory scales to the range of the attribute. Distributions can be
+ * referenced by the {@code distribution} attribute of the numeric annotations,
+ * such as {@link uk.co.jemos.podam.common.PodamIntValue#distribution()}, in
+ * which case they need a public no-argument constructor, or returned by
+ * {@link DistributionDataProviderStrategy#getDistribution(AttributeMetadata)}.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe and should precompute whatever they
+ * need, e.g. an {@link AliasTable}, so that drawing a value is a constant
+ * time operation. The factory creates a single instance of each distribution
+ * class referenced by annotations.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface Distribution {
+
+	/**
+	 * It draws the position of a value within its range.
+	 *
+	 * @param random
+	 *            The random source to draw from
+	 * @return a value between zero (inclusive) and one (exclusive)
+	 */
+	double sample(RandomSource random);
+
+}
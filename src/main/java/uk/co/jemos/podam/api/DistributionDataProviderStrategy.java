@@ -0,0 +1,48 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * A {@link DataProviderStrategy} which can draw numeric values from a
+ * {@link Distribution}.
+ * <p>
+ * {@link PodamFactoryImpl} uses it for the attributes annotated with a
+ * range, e.g. with {@link uk.co.jemos.podam.common.PodamIntValue}. The
+ * distribution named by the annotation is used if any, otherwise the one
+ * returned by {@link #getDistribution(AttributeMetadata)}, otherwise values
+ * are uniform as with {@link #getIntegerInRange(int, int, AttributeMetadata)}
+ * and friends.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface DistributionDataProviderStrategy extends DataProviderStrategy {
+
+	/**
+	 * It returns the distribution of an attribute whose annotation does not
+	 * name one.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata
+	 * @return the distribution of the attribute or null if its values should
+	 *         be uniform
+	 */
+	Distribution getDistribution(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It draws the position of a value within its range.
+	 *
+	 * @param distribution
+	 *            The distribution of the values
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a value between zero (inclusive) and one (exclusive)
+	 */
+	double sample(Distribution distribution,
+			AttributeMetadata attributeMetadata);
+
+}
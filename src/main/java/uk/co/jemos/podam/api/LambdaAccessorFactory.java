@@ -0,0 +1,149 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AccessorFactory} binding setters and no-argument constructors to
+ * functional interfaces generated with
+ * {@code java.lang.invoke.LambdaMetafactory}.
+ * <p>
+ * Generated lambdas are invoked like any other interface method, so the JIT
+ * can inline them into the manufacturing loop. The binding itself requires
+ * Java 8 and lives in the optional {@code podam-java8} module, which this
+ * class loads reflectively, so that PODAM itself still runs on Java 6. When
+ * that module is not on the class path or the JVM is older than Java 8, and
+ * for members which cannot be bound to a lambda (non-public members,
+ * constructors with arguments, classes not visible from PODAM class loader),
+ * it falls back to {@link ReflectionAccessorFactory}.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public final class LambdaAccessorFactory implements AccessorFactory {
+
+	// ------------------->> Constants
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(LambdaAccessorFactory.class);
+
+	/** The factory binding accessors to lambdas, in the Java 8 module */
+	private static final String BINDER_CLASS = "uk.co.jemos.podam.java8.LambdaAccessorBinder";
+
+	/** The factory accessors are delegated to */
+	private static final AccessorFactory DELEGATE = loadDelegate();
+
+	/** The singleton instance of this implementation */
+	private static final LambdaAccessorFactory SINGLETON = new LambdaAccessorFactory();
+
+	// ------------------->> Constructors
+
+	/**
+	 * Implementation of the Singleton pattern
+	 */
+	private LambdaAccessorFactory() {
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * Implementation of the Singleton pattern
+	 *
+	 * @return A singleton instance of this class
+	 */
+	public static LambdaAccessorFactory getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * It returns whether the running JVM supports lambda accessors.
+	 *
+	 * @return {@code true} if accessors can be bound to lambdas,
+	 *         {@code false} if this factory always falls back to reflection
+	 */
+	public static boolean isAvailable() {
+		return !(DELEGATE instanceof ReflectionAccessorFactory);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SetterAccessor getSetterAccessor(Method setter) {
+		return DELEGATE.getSetterAccessor(setter);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Field writes cannot be bound to lambdas, they are delegated to
+	 * {@link ReflectionAccessorFactory}.
+	 * </p>
+	 */
+	@Override
+	public SetterAccessor getFieldAccessor(Field field) {
+		return DELEGATE.getFieldAccessor(field);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ConstructorAccessor getConstructorAccessor(
+			Constructor<?> constructor) {
+		return DELEGATE.getConstructorAccessor(constructor);
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It loads the factory binding accessors to lambdas, if the running JVM
+	 * provides the lambda meta-factory and the {@code podam-java8} module is
+	 * on the class path.
+	 *
+	 * @return the factory binding accessors to lambdas, or
+	 *         {@link ReflectionAccessorFactory} if lambdas are not supported
+	 */
+	private static AccessorFactory loadDelegate() {
+		try {
+			Class.forName("java.lang.invoke.LambdaMetafactory");
+		} catch (ClassNotFoundException e) {
+			LOG.info("Lambda accessors are not supported by this JVM,"
+					+ " reflection will be used instead.");
+			return ReflectionAccessorFactory.getInstance();
+		}
+		try {
+			return (AccessorFactory) Class.forName(BINDER_CLASS, true,
+					LambdaAccessorFactory.class.getClassLoader())
+					.newInstance();
+		} catch (ClassNotFoundException e) {
+			LOG.info("Lambda accessors need podam-java8 on the class path,"
+					+ " reflection will be used instead.");
+		} catch (InstantiationException e) {
+			LOG.warn("Lambda accessors could not be loaded,"
+					+ " reflection will be used instead.", e);
+		} catch (IllegalAccessException e) {
+			LOG.warn("Lambda accessors could not be loaded,"
+					+ " reflection will be used instead.", e);
+		} catch (LinkageError e) {
+			LOG.warn("Lambda accessors could not be loaded,"
+					+ " reflection will be used instead.", e);
+		}
+		return ReflectionAccessorFactory.getInstance();
+	}
+
+}
@@ -0,0 +1,111 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A {@link Distribution} where values follow a log-normal distribution, as
+ * amounts and prices often do.
+ * <p>
+ * The range covers the log-normal values from zero up to their 99.9th
+ * percentile, so that most values are close to the minimum with a long tail
+ * towards the maximum. The density is tabulated in {@link #NBR_BUCKETS}
+ * buckets of an {@link AliasTable}, values being uniform within a bucket.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public class LogNormalDistribution implements Distribution {
+
+	// ------------------->> Constants
+
+	/** The number of buckets the density is tabulated in */
+	public static final int NBR_BUCKETS = 1024;
+
+	/** The default standard deviation of the logarithm of the values */
+	public static final double DEFAULT_SIGMA = 1.0;
+
+	/** The standard normal quantile of the maximum of the range */
+	private static final double MAX_QUANTILE = 3.090232;
+
+	// ------------------->> Instance / Static variables
+
+	/** The standard deviation of the logarithm of the values */
+	private final double sigma;
+
+	/** The table drawing the buckets */
+	private final AliasTable buckets;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Default constructor, with a sigma of {@link #DEFAULT_SIGMA}.
+	 */
+	public LogNormalDistribution() {
+		this(DEFAULT_SIGMA);
+	}
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param sigma
+	 *            The standard deviation of the logarithm of the values, the
+	 *            higher the more skewed
+	 * @throws IllegalArgumentException
+	 *             If sigma is not positive
+	 */
+	public LogNormalDistribution(double sigma) {
+		if (!(sigma > 0.0)) {
+			throw new IllegalArgumentException(
+					"Sigma must be positive, found " + sigma);
+		}
+		this.sigma = sigma;
+		// The median is one, so the logarithm of the values has a mean of zero
+		double max = Math.exp(sigma * MAX_QUANTILE);
+		double[] weights = new double[NBR_BUCKETS];
+		for (int i = 0; i < NBR_BUCKETS; i++) {
+			double value = (i + 0.5) / NBR_BUCKETS * max;
+			double z = Math.log(value) / sigma;
+			weights[i] = Math.exp(-0.5 * z * z) / value;
+		}
+		buckets = new AliasTable(weights);
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(RandomSource random) {
+		return buckets.sampleFraction(random);
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the standard deviation of the logarithm of the values.
+	 *
+	 * @return sigma
+	 */
+	public double getSigma() {
+		return sigma;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "LogNormalDistribution [sigma=" + sigma + "]";
+	}
+
+}
@@ -0,0 +1,155 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A bounded, thread-safe cache which evicts its least recently used entry
+ * when it grows beyond its bound.
+ * <p>
+ * Entries are kept in an access-ordered {@link LinkedHashMap} guarded by the
+ * cache lock, so that the classes used most often, which are the most
+ * expensive to lose, stay in the cache however large the model is.
+ * </p>
+ *
+ * @param <K>
+ *            The type of the keys
+ * @param <V>
+ *            The type of the values
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+final class LruCache<K, V> {
+
+	// ------------------->> Instance / Static variables
+
+	/** The maximum number of entries */
+	private final int maxSize;
+
+	/** The entries, from the least to the most recently used */
+	private final Map<K, V> entries;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param maxSize
+	 *            The maximum number of entries
+	 * @throws IllegalArgumentException
+	 *             If {@code maxSize} is not positive
+	 */
+	LruCache(final int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException(
+					"The cache size must be positive, found " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the value of a key, marking the entry as the most recently
+	 * used.
+	 *
+	 * @param key
+	 *            The key
+	 * @return the value or null if the key is not in the cache
+	 */
+	synchronized V get(K key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * It stores a value, unless the key is already in the cache. The least
+	 * recently used entry is evicted if the cache grows beyond its bound.
+	 *
+	 * @param key
+	 *            The key
+	 * @param value
+	 *            The value
+	 * @return the value already in the cache or null if the given value was
+	 *         stored
+	 */
+	synchronized V putIfAbsent(K key, V value) {
+		V existing = entries.get(key);
+		if (null == existing) {
+			entries.put(key, value);
+		}
+		return existing;
+	}
+
+	/**
+	 * It replaces the value of a key, only if the key is still mapped to the
+	 * expected value.
+	 *
+	 * @param key
+	 *            The key
+	 * @param oldValue
+	 *            The expected value
+	 * @param newValue
+	 *            The new value
+	 * @return true if the value was replaced
+	 */
+	synchronized boolean replace(K key, V oldValue, V newValue) {
+		if (null == oldValue || !oldValue.equals(entries.get(key))) {
+			return false;
+		}
+		entries.put(key, newValue);
+		return true;
+	}
+
+	/**
+	 * It removes all entries.
+	 */
+	synchronized void clear() {
+		entries.clear();
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the number of entries in the cache
+	 */
+	synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the maximum number of entries
+	 */
+	int getMaxSize() {
+		return maxSize;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String toString() {
+		return "LruCache [size=" + entries.size() + ", maxSize=" + maxSize
+				+ "]";
+	}
+
+}
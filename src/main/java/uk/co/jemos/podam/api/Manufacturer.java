@@ -0,0 +1,57 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * Contract for the objects manufacturing the POJOs of a class without
+ * reflection.
+ * <p>
+ * Manufacturers are usually generated at compile time by the podam-processor
+ * annotation processor, for the classes annotated with
+ * {@link uk.co.jemos.podam.common.PodamManufacturable}, and listed in
+ * {@code META-INF/services/uk.co.jemos.podam.api.Manufacturer}, so that
+ * {@link PodamFactoryImpl} discovers them through
+ * {@link java.util.ServiceLoader}. They can also be registered with
+ * {@link PodamFactoryImpl#withManufacturer(Manufacturer)}.
+ * </p>
+ * <p>
+ * A POJO is manufactured in two steps, so that it can be memoized before its
+ * attributes are filled, as recursive attributes may refer to it.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the POJOs
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface Manufacturer<T> {
+
+	/**
+	 * It returns the class of the POJOs this manufacturer creates.
+	 *
+	 * @return the class of the POJOs
+	 */
+	Class<T> getPojoClass();
+
+	/**
+	 * It creates an empty POJO.
+	 *
+	 * @return a new POJO
+	 */
+	T newInstance();
+
+	/**
+	 * It fills the attributes of a POJO.
+	 *
+	 * @param pojo
+	 *            The POJO created by {@link #newInstance()}
+	 * @param context
+	 *            The context providing the attribute values
+	 */
+	void fill(T pojo, ManufacturerContext context);
+
+}
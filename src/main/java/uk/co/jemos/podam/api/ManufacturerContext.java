@@ -0,0 +1,66 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Type;
+
+/**
+ * The services {@link PodamFactoryImpl} offers to a {@link Manufacturer}
+ * while it fills a POJO.
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface ManufacturerContext {
+
+	/**
+	 * It returns the strategy of the factory.
+	 *
+	 * @return the strategy of the factory
+	 */
+	DataProviderStrategy getStrategy();
+
+	/**
+	 * It manufactures the value of an attribute which is not customised by
+	 * annotations, as the factory would for an attribute of that type.
+	 *
+	 * @param pojo
+	 *            The POJO being filled
+	 * @param attributeName
+	 *            The attribute name
+	 * @param attributeType
+	 *            The type of the attribute
+	 * @param genericTypeArgs
+	 *            The type arguments of the attribute type
+	 * @return the value of the attribute or null if none could be
+	 *         manufactured
+	 */
+	Object manufacture(Object pojo, String attributeName,
+			Class<?> attributeType, Type... genericTypeArgs);
+
+	/**
+	 * It returns the generator the factory compiles from the annotation
+	 * customising the values of an attribute, such as
+	 * {@link uk.co.jemos.podam.common.PodamIntValue}.
+	 * <p>
+	 * The generator is bound to the strategy of the factory: a manufacturer
+	 * should obtain it once and reuse it for as long as
+	 * {@link #getStrategy()} returns the same strategy, rather than asking
+	 * for it for each value.
+	 * </p>
+	 *
+	 * @param attributeMetadata
+	 *            The attribute metadata, listing the annotations of the
+	 *            attribute
+	 * @return the generator of the values or null if no annotation of the
+	 *         attribute customises values of its type
+	 * @throws IllegalArgumentException
+	 *             If the precise value of the annotation cannot be converted
+	 *             to the type of the attribute
+	 */
+	AttributeGenerator<?> getGenerator(AttributeMetadata attributeMetadata);
+
+}
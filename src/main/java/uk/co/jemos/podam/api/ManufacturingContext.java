@@ -0,0 +1,271 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * The state of a single call to {@link PodamFactory#manufacturePojo(Class)}.
+ * <p>
+ * Everything which changes while a graph of POJOs is being manufactured is
+ * kept here rather than in the factory, so that the factory itself can be
+ * shared by many threads. A new context is created for every top level call
+ * and it is passed down the whole manufacturing process.
+ * </p>
+ * <p>
+ * A context is confined to the thread which manufactures the POJO graph and it
+ * must not be shared. Parts of the graph manufactured by other threads get
+ * their own {@link #fork() branch} of the context.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@NotThreadSafe
+public class ManufacturingContext {
+
+	// ------------------->> Constants
+
+	/** The depth returned for classes which have not been found yet */
+	public static final int NOT_FOUND_DEPTH = -1;
+
+	// ------------------->> Instance / Static variables
+
+	/** How many times each class has been found in the current hierarchy */
+	private final Map<Class<?>, Integer> depths = new HashMap<Class<?>, Integer>();
+
+	/** The source of reproducible values, null if values are not reproducible */
+	private RandomSource randomSource;
+
+	/** The plan resolved in advance for the top level POJO, possibly null */
+	private final ManufacturingPlan plan;
+
+	/** Whether this context is a branch of another context */
+	private final boolean branch;
+
+	/**
+	 * The POJOs memoized for this call or its batch, null unless memoization
+	 * is scoped to calls or batches
+	 */
+	private final MemoizationCache memoizationCache;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Constructor for a top level call.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO being manufactured
+	 */
+	public ManufacturingContext(Class<?> pojoClass) {
+		this(pojoClass, null);
+	}
+
+	/**
+	 * Constructor for a top level call producing reproducible values.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO being manufactured
+	 * @param randomSource
+	 *            The source values are drawn from, possibly null
+	 */
+	public ManufacturingContext(Class<?> pojoClass, RandomSource randomSource) {
+		this(pojoClass, randomSource, null);
+	}
+
+	/**
+	 * Constructor for a top level call whose plan was resolved in advance,
+	 * typically for one element of a batch.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO being manufactured
+	 * @param randomSource
+	 *            The source values are drawn from, possibly null
+	 * @param plan
+	 *            The plan of the top level POJO, possibly null
+	 */
+	public ManufacturingContext(Class<?> pojoClass, RandomSource randomSource,
+			ManufacturingPlan plan) {
+		this(pojoClass, randomSource, plan, null);
+	}
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO being manufactured
+	 * @param randomSource
+	 *            The source values are drawn from, possibly null
+	 * @param plan
+	 *            The plan of the top level POJO, possibly null
+	 * @param memoizationCache
+	 *            The POJOs memoized for this call or its batch, possibly null
+	 */
+	ManufacturingContext(Class<?> pojoClass, RandomSource randomSource,
+			ManufacturingPlan plan, MemoizationCache memoizationCache) {
+		depths.put(pojoClass, 0);
+		this.randomSource = randomSource;
+		this.plan = plan;
+		this.branch = false;
+		this.memoizationCache = memoizationCache;
+	}
+
+	/**
+	 * Constructor for a branch of another context.
+	 *
+	 * @param parent
+	 *            The context being forked
+	 */
+	private ManufacturingContext(ManufacturingContext parent) {
+		depths.putAll(parent.depths);
+		this.randomSource = null;
+		this.plan = null;
+		this.branch = true;
+		this.memoizationCache = parent.memoizationCache;
+	}
+
+	/**
+	 * Constructor for a context starting from the depths of the POJOs already
+	 * being manufactured.
+	 *
+	 * @param depths
+	 *            The depths of the POJOs by class
+	 */
+	ManufacturingContext(Map<Class<?>, Integer> depths) {
+		this.depths.putAll(depths);
+		this.randomSource = null;
+		this.plan = null;
+		this.branch = false;
+		this.memoizationCache = null;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns how many times the given class has been found in the current
+	 * hierarchy.
+	 *
+	 * @param pojoClass
+	 *            The class to look up
+	 * @return the depth of the given class or {@link #NOT_FOUND_DEPTH} if the
+	 *         class was not found yet
+	 */
+	public int getDepth(Class<?> pojoClass) {
+		Integer depth = depths.get(pojoClass);
+		return depth == null ? NOT_FOUND_DEPTH : depth;
+	}
+
+	/**
+	 * It records how many times the given class has been found in the current
+	 * hierarchy.
+	 *
+	 * @param pojoClass
+	 *            The class being manufactured
+	 * @param depth
+	 *            The new depth of the class
+	 */
+	public void setDepth(Class<?> pojoClass, int depth) {
+		depths.put(pojoClass, depth);
+	}
+
+	/**
+	 * It creates a branch of this context, which can be handed to another
+	 * thread manufacturing part of the graph.
+	 * <p>
+	 * The branch starts with a copy of the depths of this context and without
+	 * a random source: whoever manufactures the branch sets the source the
+	 * branch draws from. The branch shares the memoized POJOs of this
+	 * context.
+	 * </p>
+	 *
+	 * @return a new context, independent from this one
+	 */
+	public ManufacturingContext fork() {
+		return new ManufacturingContext(this);
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the depths of the POJOs being manufactured. Changes to the
+	 * returned map are reflected in this context.
+	 *
+	 * @return the depths of the POJOs by class
+	 */
+	Map<Class<?>, Integer> getDepths() {
+		return depths;
+	}
+
+	/**
+	 * It returns the source of reproducible values of this call.
+	 *
+	 * @return the random source or null if values are not reproducible
+	 */
+	public RandomSource getRandomSource() {
+		return randomSource;
+	}
+
+	/**
+	 * It sets the source of reproducible values for the part of the graph
+	 * being manufactured.
+	 *
+	 * @param randomSource
+	 *            The random source, possibly null
+	 */
+	public void setRandomSource(RandomSource randomSource) {
+		this.randomSource = randomSource;
+	}
+
+	/**
+	 * It returns the plan resolved in advance for the top level POJO.
+	 *
+	 * @return the plan of the top level POJO or null
+	 */
+	public ManufacturingPlan getPlan() {
+		return plan;
+	}
+
+	/**
+	 * It returns the POJOs memoized for this call or its batch.
+	 *
+	 * @return the memoization cache or null unless memoization is scoped to
+	 *         calls or batches
+	 */
+	MemoizationCache getMemoizationCache() {
+		return memoizationCache;
+	}
+
+	/**
+	 * It returns whether this context is a branch of another context.
+	 *
+	 * @return true if this context was created by {@link #fork()}
+	 */
+	public boolean isBranch() {
+		return branch;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ManufacturingContext [depths=");
+		builder.append(depths);
+		builder.append(", randomSource=");
+		builder.append(randomSource);
+		builder.append(", branch=");
+		builder.append(branch);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,177 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * The pre-computed recipe to fill the attributes of a POJO class.
+ * <p>
+ * A plan is built once for each class and generic type arguments and it is
+ * then reused for every instance of that class, so that introspection, field
+ * annotations lookup and generic type resolution do not happen for every
+ * manufactured object.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public final class ManufacturingPlan {
+
+	// ------------------->> Instance / Static variables
+
+	/** The class this plan fills */
+	private final Class<?> pojoClass;
+
+	/** The generic type arguments this plan was built for */
+	private final Type[] genericTypeArgs;
+
+	/** The class information this plan was built from */
+	private final ClassInfo classInfo;
+
+	/** The type variables of the class and their actual types */
+	private final TypeBindings typeBindings;
+
+	/** The attributes to fill, in the order they will be filled */
+	private final List<AttributePlan> attributes;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param pojoClass
+	 *            The class this plan fills
+	 * @param genericTypeArgs
+	 *            The generic type arguments this plan was built for
+	 * @param classInfo
+	 *            The class information this plan was built from
+	 * @param typeArgsMap
+	 *            The type variables of the class and their actual types
+	 * @param attributes
+	 *            The attributes to fill, in the order they will be filled
+	 */
+	public ManufacturingPlan(Class<?> pojoClass, Type[] genericTypeArgs,
+			ClassInfo classInfo, Map<String, Type> typeArgsMap,
+			List<AttributePlan> attributes) {
+		this(pojoClass, genericTypeArgs, classInfo, new TypeBindings(
+				new HashMap<String, Type>(typeArgsMap), null), attributes);
+	}
+
+	/**
+	 * Constructor sharing the type variable bindings of the class.
+	 *
+	 * @param pojoClass
+	 *            The class this plan fills
+	 * @param genericTypeArgs
+	 *            The generic type arguments this plan was built for
+	 * @param classInfo
+	 *            The class information this plan was built from
+	 * @param typeBindings
+	 *            The type variables of the class and their actual types
+	 * @param attributes
+	 *            The attributes to fill, in the order they will be filled
+	 */
+	ManufacturingPlan(Class<?> pojoClass, Type[] genericTypeArgs,
+			ClassInfo classInfo, TypeBindings typeBindings,
+			List<AttributePlan> attributes) {
+		this.pojoClass = pojoClass;
+		this.genericTypeArgs = genericTypeArgs.clone();
+		this.classInfo = classInfo;
+		this.typeBindings = typeBindings;
+		this.attributes = Collections
+				.unmodifiableList(new ArrayList<AttributePlan>(attributes));
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It checks whether this plan was built for the given class and generic
+	 * type arguments.
+	 *
+	 * @param clazz
+	 *            The class to fill
+	 * @param typeArgs
+	 *            The generic type arguments of the class
+	 * @return true if this plan can be used to fill the class
+	 */
+	public boolean isPlanFor(Class<?> clazz, Type[] typeArgs) {
+		return pojoClass.equals(clazz)
+				&& Arrays.equals(genericTypeArgs, typeArgs);
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the class this plan fills
+	 */
+	public Class<?> getPojoClass() {
+		return pojoClass;
+	}
+
+	/**
+	 * @return a copy of the generic type arguments this plan was built for
+	 */
+	public Type[] getGenericTypeArgs() {
+		return genericTypeArgs.clone();
+	}
+
+	/**
+	 * @return the class information this plan was built from
+	 */
+	public ClassInfo getClassInfo() {
+		return classInfo;
+	}
+
+	/**
+	 * @return the type variables of the class and their actual types
+	 */
+	public Map<String, Type> getTypeArgsMap() {
+		return typeBindings.getTypeArgsMap();
+	}
+
+	/**
+	 * @return the type variables of the class and their actual types
+	 */
+	TypeBindings getTypeBindings() {
+		return typeBindings;
+	}
+
+	/**
+	 * @return the attributes to fill, in the order they will be filled
+	 */
+	public List<AttributePlan> getAttributes() {
+		return attributes;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ManufacturingPlan [pojoClass=");
+		builder.append(pojoClass);
+		builder.append(", genericTypeArgs=");
+		builder.append(Arrays.toString(genericTypeArgs));
+		builder.append(", attributes=");
+		builder.append(attributes);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
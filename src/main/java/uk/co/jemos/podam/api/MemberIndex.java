@@ -0,0 +1,206 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * The fields, getters and setters of a class, including the inherited ones,
+ * indexed by name.
+ * <p>
+ * An index is built once for each class by listing its members, so that
+ * looking a member up never relies on {@link NoSuchFieldException} or
+ * {@link NoSuchMethodException} being thrown and caught. Indexes are kept in
+ * a bounded cache shared by all factories, which evicts the least recently
+ * used index when full.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+final class MemberIndex {
+
+	// ------------------->> Instance / Static variables
+
+	/** The maximum number of classes kept in the cache */
+	private static final int MAX_CACHED_CLASSES = 1024;
+
+	/** The cached indexes */
+	private static final LruCache<Class<?>, MemberIndex> CACHE = new LruCache<Class<?>, MemberIndex>(
+			MAX_CACHED_CLASSES);
+
+	/**
+	 * The fields by name, where a field hides the fields with the same name
+	 * declared by superclasses
+	 */
+	private final Map<String, Field> fields;
+
+	/** The public methods without parameters by name */
+	private final Map<String, Method> noArgMethods;
+
+	/** The setters declared by the class and its superclasses by attribute */
+	private final Map<String, List<Method>> setters;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor, which introspects the class.
+	 *
+	 * @param clazz
+	 *            The class to index
+	 */
+	private MemberIndex(Class<?> clazz) {
+
+		Map<String, Field> fieldMap = new HashMap<String, Field>();
+		Map<String, List<Method>> setterMap = new HashMap<String, List<Method>>();
+		Class<?> workClass = clazz;
+		while (workClass != null) {
+
+			for (Field field : workClass.getDeclaredFields()) {
+				if (!fieldMap.containsKey(field.getName())) {
+					fieldMap.put(field.getName(), field);
+				}
+			}
+
+			for (Method method : workClass.getDeclaredMethods()) {
+				/*
+				 * Bridge methods are automatically generated by compiler to
+				 * deal with type erasure and they are not type safe. That why
+				 * they should be ignored
+				 */
+				if (!method.isBridge() && method.getName().startsWith("set")
+						&& method.getReturnType().equals(void.class)) {
+					String attributeName = PodamUtils
+							.extractFieldNameFromSetterMethod(method);
+					List<Method> attributeSetters = setterMap
+							.get(attributeName);
+					if (null == attributeSetters) {
+						attributeSetters = new ArrayList<Method>();
+						setterMap.put(attributeName, attributeSetters);
+					}
+					attributeSetters.add(method);
+				}
+			}
+			workClass = workClass.getSuperclass();
+		}
+		for (Map.Entry<String, List<Method>> entry : setterMap.entrySet()) {
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+		}
+
+		Map<String, Method> noArgMethodMap = new HashMap<String, Method>();
+		for (Method method : clazz.getMethods()) {
+			if (method.getParameterTypes().length == 0) {
+				Method other = noArgMethodMap.get(method.getName());
+				// Covariant overrides come along with a bridge method
+				if (null == other || other.isBridge()) {
+					noArgMethodMap.put(method.getName(), method);
+				}
+			}
+		}
+
+		fields = Collections.unmodifiableMap(fieldMap);
+		noArgMethods = Collections.unmodifiableMap(noArgMethodMap);
+		setters = Collections.unmodifiableMap(setterMap);
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the index of a class, introspecting the class only if it was
+	 * not found in the cache.
+	 *
+	 * @param clazz
+	 *            The class to index
+	 * @return the index of the class members
+	 */
+	static MemberIndex forClass(Class<?> clazz) {
+
+		MemberIndex index = CACHE.get(clazz);
+		if (null == index) {
+
+			index = new MemberIndex(clazz);
+			MemberIndex existing = CACHE.putIfAbsent(clazz, index);
+			if (null != existing) {
+				return existing;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * It returns the field with the given name, declared by the class or by
+	 * one of its superclasses.
+	 *
+	 * @param name
+	 *            The field name
+	 * @return the field or null if the class has got no such field
+	 */
+	Field getField(String name) {
+		return fields.get(name);
+	}
+
+	/**
+	 * It returns the public getter of a field of the class, following
+	 * JavaBean conventions: {@code isX()} is preferred to {@code getX()} for
+	 * boolean fields.
+	 *
+	 * @param field
+	 *            The field
+	 * @return the getter or null if the class has got no getter for the field
+	 */
+	Method getGetter(Field field) {
+
+		String name = field.getName().substring(0, 1).toUpperCase()
+				+ field.getName().substring(1);
+
+		Method getter = null;
+		if (boolean.class.isAssignableFrom(field.getType())
+				|| Boolean.class.isAssignableFrom(field.getType())) {
+			getter = noArgMethods.get("is" + name);
+		}
+		if (null == getter) {
+			getter = noArgMethods.get("get" + name);
+		}
+		return getter;
+	}
+
+	/**
+	 * It returns the setters of an attribute, declared by the class or by one
+	 * of its superclasses.
+	 *
+	 * @param attributeName
+	 *            The attribute name
+	 * @return the setters, possibly empty
+	 */
+	List<Method> getSetters(String attributeName) {
+		List<Method> attributeSetters = setters.get(attributeName);
+		if (null == attributeSetters) {
+			return Collections.emptyList();
+		}
+		return attributeSetters;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "MemberIndex [fields=" + fields.keySet() + ", setters="
+				+ setters.keySet() + "]";
+	}
+
+}
@@ -0,0 +1,184 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A bounded, thread-safe cache of memoized POJOs.
+ * <p>
+ * A POJO is reused for the same class and generic type arguments only, so
+ * that for instance a {@code Pojo<String>} is never handed out for a
+ * {@code Pojo<Integer>}. When the cache grows beyond its bound, the least
+ * recently used POJO is evicted, so that the POJO just memoized, which may be
+ * referenced by the POJOs about to be manufactured, is always kept.
+ * </p>
+ * <p>
+ * The POJOs are kept in an access-ordered {@link LinkedHashMap} guarded by
+ * the cache lock.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+final class MemoizationCache {
+
+	// ------------------->> Instance / Static variables
+
+	/** The maximum number of POJOs in this cache */
+	private final int maxSize;
+
+	/** The statistics this cache records its lookups into */
+	private final MemoizationStatistics statistics;
+
+	/** The memoized POJOs, from the least to the most recently used */
+	private final Map<Key, Object> cache;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param maxSize
+	 *            The maximum number of POJOs in this cache
+	 * @param statistics
+	 *            The statistics this cache records its lookups into
+	 */
+	MemoizationCache(final int maxSize,
+			final MemoizationStatistics statistics) {
+		this.maxSize = maxSize;
+		this.statistics = statistics;
+		this.cache = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				if (size() > maxSize) {
+					statistics.recordEviction();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the POJO memoized for a class and its type arguments.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the POJO
+	 * @return the memoized POJO or null if none
+	 */
+	Object get(Class<?> pojoClass, Type[] genericTypeArgs) {
+		Object pojo;
+		synchronized (this) {
+			pojo = cache.get(new Key(pojoClass, genericTypeArgs));
+		}
+		if (pojo != null) {
+			statistics.recordHit();
+		} else {
+			statistics.recordMiss();
+		}
+		return pojo;
+	}
+
+	/**
+	 * It memoizes a POJO, unless one was memoized for the same class and type
+	 * arguments in the meantime.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the POJO
+	 * @param pojo
+	 *            The POJO
+	 */
+	void putIfAbsent(Class<?> pojoClass, Type[] genericTypeArgs, Object pojo) {
+		Key key = new Key(pojoClass, genericTypeArgs.clone());
+		synchronized (this) {
+			if (!cache.containsKey(key)) {
+				cache.put(key, pojo);
+			}
+		}
+	}
+
+	/**
+	 * It returns the number of POJOs in this cache.
+	 *
+	 * @return the number of POJOs in this cache
+	 */
+	synchronized int size() {
+		return cache.size();
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String toString() {
+		return "MemoizationCache [size=" + cache.size() + ", maxSize="
+				+ maxSize + "]";
+	}
+
+	// ------------------->> Inner classes
+
+	/**
+	 * Cache key, made of a class and its generic type arguments.
+	 */
+	private static final class Key {
+
+		/** The class of the POJO */
+		private final Class<?> pojoClass;
+
+		/** The generic type arguments */
+		private final Type[] genericTypeArgs;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param pojoClass
+		 *            The class of the POJO
+		 * @param genericTypeArgs
+		 *            The generic type arguments, which are not copied
+		 */
+		Key(Class<?> pojoClass, Type[] genericTypeArgs) {
+			this.pojoClass = pojoClass;
+			this.genericTypeArgs = genericTypeArgs;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * pojoClass.hashCode() + Arrays.hashCode(genericTypeArgs);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return pojoClass == other.pojoClass
+					&& Arrays.equals(genericTypeArgs, other.genericTypeArgs);
+		}
+	}
+
+}
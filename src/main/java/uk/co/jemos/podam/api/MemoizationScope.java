@@ -0,0 +1,38 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * How long memoized POJOs are reused, when memoization is enabled by
+ * {@link DataProviderStrategy#isMemoizationEnabled()}.
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ * @see PodamFactoryImpl#withMemoization(MemoizationScope, int)
+ */
+public enum MemoizationScope {
+
+	/**
+	 * POJOs are reused within the graph manufactured by a single call, e.g.
+	 * for recursive references, and forgotten when the call returns.
+	 */
+	CALL,
+
+	/**
+	 * POJOs are reused by all the POJOs of a batch, such as a list
+	 * manufactured by {@link PodamFactoryImpl#manufacturePojos(Class, int,
+	 * java.lang.reflect.Type...)} or the POJOs of a {@link PojoIterator} and
+	 * its splits. A single call is a batch of one POJO.
+	 */
+	BATCH,
+
+	/**
+	 * POJOs are reused by all the calls to the factory, within the bound of
+	 * the memoization cache. This is the default.
+	 */
+	FACTORY
+
+}
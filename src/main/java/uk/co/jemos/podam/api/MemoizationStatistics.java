@@ -0,0 +1,126 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * The counters of the memoization caches of a factory, whatever their
+ * {@link MemoizationScope}.
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public final class MemoizationStatistics {
+
+	// ------------------->> Instance / Static variables
+
+	/** The number of lookups which found a POJO to reuse */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** The number of lookups which required a new POJO */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/** The number of POJOs evicted to keep caches within their bound */
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	// ------------------->> Constructors
+
+	/**
+	 * Default constructor.
+	 */
+	MemoizationStatistics() {
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the fraction of lookups which found a POJO to reuse.
+	 *
+	 * @return the reuse rate, between zero and one, or zero if no POJO was
+	 *         looked up
+	 */
+	public double getReuseRate() {
+		long hits = hitCount.get();
+		long lookups = hits + missCount.get();
+		return lookups == 0 ? 0.0 : (double) hits / lookups;
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns how many lookups found a POJO to reuse.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * It returns how many lookups required a new POJO.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * It returns how many POJOs were evicted to keep caches within their
+	 * bound.
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	// ------------------->> Package-private methods
+
+	/**
+	 * It records a lookup which found a POJO to reuse.
+	 */
+	void recordHit() {
+		hitCount.incrementAndGet();
+	}
+
+	/**
+	 * It records a lookup which required a new POJO.
+	 */
+	void recordMiss() {
+		missCount.incrementAndGet();
+	}
+
+	/**
+	 * It records an evicted POJO.
+	 */
+	void recordEviction() {
+		evictionCount.incrementAndGet();
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("MemoizationStatistics [hits=");
+		builder.append(hitCount.get());
+		builder.append(", misses=");
+		builder.append(missCount.get());
+		builder.append(", evictions=");
+		builder.append(evictionCount.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
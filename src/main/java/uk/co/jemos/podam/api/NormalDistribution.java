@@ -0,0 +1,125 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A {@link Distribution} where values follow a normal distribution truncated
+ * to the range.
+ * <p>
+ * The mean and the standard deviation are fractions of the range. By default
+ * the values are centred in the range, which spans six standard deviations.
+ * The density is tabulated in {@link #NBR_BUCKETS} buckets of an
+ * {@link AliasTable}, values being uniform within a bucket.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public class NormalDistribution implements Distribution {
+
+	// ------------------->> Constants
+
+	/** The number of buckets the density is tabulated in */
+	public static final int NBR_BUCKETS = 1024;
+
+	/** The default mean, as a fraction of the range */
+	public static final double DEFAULT_MEAN = 0.5;
+
+	/** The default standard deviation, as a fraction of the range */
+	public static final double DEFAULT_STANDARD_DEVIATION = 1.0 / 6.0;
+
+	// ------------------->> Instance / Static variables
+
+	/** The mean, as a fraction of the range */
+	private final double mean;
+
+	/** The standard deviation, as a fraction of the range */
+	private final double standardDeviation;
+
+	/** The table drawing the buckets */
+	private final AliasTable buckets;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Default constructor, centred with six standard deviations in the range.
+	 */
+	public NormalDistribution() {
+		this(DEFAULT_MEAN, DEFAULT_STANDARD_DEVIATION);
+	}
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param mean
+	 *            The mean, as a fraction of the range
+	 * @param standardDeviation
+	 *            The standard deviation, as a fraction of the range
+	 * @throws IllegalArgumentException
+	 *             If the standard deviation is not positive
+	 */
+	public NormalDistribution(double mean, double standardDeviation) {
+		if (!(standardDeviation > 0.0)) {
+			throw new IllegalArgumentException(
+					"The standard deviation must be positive, found "
+							+ standardDeviation);
+		}
+		this.mean = mean;
+		this.standardDeviation = standardDeviation;
+		double[] weights = new double[NBR_BUCKETS];
+		for (int i = 0; i < NBR_BUCKETS; i++) {
+			double x = (i + 0.5) / NBR_BUCKETS;
+			double z = (x - mean) / standardDeviation;
+			weights[i] = Math.exp(-0.5 * z * z);
+		}
+		buckets = new AliasTable(weights);
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(RandomSource random) {
+		return buckets.sampleFraction(random);
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the mean.
+	 *
+	 * @return the mean, as a fraction of the range
+	 */
+	public double getMean() {
+		return mean;
+	}
+
+	/**
+	 * It returns the standard deviation.
+	 *
+	 * @return the standard deviation, as a fraction of the range
+	 */
+	public double getStandardDeviation() {
+		return standardDeviation;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "NormalDistribution [mean=" + mean + ", standardDeviation="
+				+ standardDeviation + "]";
+	}
+
+}
@@ -9,34 +9,43 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
-import net.jcip.annotations.Immutable;
 import net.jcip.annotations.ThreadSafe;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import uk.co.jemos.podam.api.TypeBindings.ResolvedType;
 import uk.co.jemos.podam.common.AttributeStrategy;
 import uk.co.jemos.podam.common.PodamBooleanValue;
 import uk.co.jemos.podam.common.PodamByteValue;
@@ -45,6 +54,7 @@ import uk.co.jemos.podam.common.PodamCollection;
 import uk.co.jemos.podam.common.PodamConstants;
 import uk.co.jemos.podam.common.PodamConstructor;
 import uk.co.jemos.podam.common.PodamDoubleValue;
+import uk.co.jemos.podam.common.PodamExclude;
 import uk.co.jemos.podam.common.PodamFloatValue;
 import uk.co.jemos.podam.common.PodamIntValue;
 import uk.co.jemos.podam.common.PodamLongValue;
@@ -55,6 +65,16 @@ import uk.co.jemos.podam.exceptions.PodamMockeryException;
 
 /**
  * The PODAM factory implementation
+ * <p>
+ * A factory can be shared by many threads. All its registries and caches are
+ * concurrent and the state of each call to {@link #manufacturePojo(Class)}
+ * is kept in its own {@link ManufacturingContext}. The factory is only as
+ * thread-safe as its {@link DataProviderStrategy}: strategies, such as the
+ * {@link RandomDataProviderStrategy} singleton, which may be reconfigured
+ * while POJOs are being manufactured should be frozen with
+ * {@link AbstractRandomDataProviderStrategy#snapshot()} before being handed
+ * to a factory used concurrently.
+ * </p>
  *
  * @author mtedone
  *
@@ -62,7 +82,6 @@ import uk.co.jemos.podam.exceptions.PodamMockeryException;
  *
  */
 @ThreadSafe
-@Immutable
 public class PodamFactoryImpl implements PodamFactory {
 
 	// ------------------->> Constants
@@ -75,10 +94,58 @@ public class PodamFactoryImpl implements PodamFactory {
 
 	private static final String UNCHECKED_STR = "unchecked";
 
-	private static final String THE_ANNOTATION_VALUE_STR = "The annotation value: ";
-
 	private static final Type[] NO_TYPES = new Type[0];
 
+	/** The maximum number of manufacturing plans kept by a factory */
+	private static final int PLAN_CACHE_MAX_SIZE = 1024;
+
+	/**
+	 * The default minimum number of collection elements manufactured in
+	 * parallel when an executor is set
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 16;
+
+	/** The default maximum number of POJOs kept by a memoization cache */
+	public static final int DEFAULT_MEMOIZATION_MAX_SIZE = 1024;
+
+	/**
+	 * The annotation customising the values of each type, which can be
+	 * compiled into an attribute generator
+	 */
+	private static final Map<Class<?>, Class<? extends Annotation>> VALUE_ANNOTATIONS = new HashMap<Class<?>, Class<? extends Annotation>>();
+
+	static {
+		VALUE_ANNOTATIONS.put(boolean.class, PodamBooleanValue.class);
+		VALUE_ANNOTATIONS.put(Boolean.class, PodamBooleanValue.class);
+		VALUE_ANNOTATIONS.put(byte.class, PodamByteValue.class);
+		VALUE_ANNOTATIONS.put(Byte.class, PodamByteValue.class);
+		VALUE_ANNOTATIONS.put(char.class, PodamCharValue.class);
+		VALUE_ANNOTATIONS.put(Character.class, PodamCharValue.class);
+		VALUE_ANNOTATIONS.put(short.class, PodamShortValue.class);
+		VALUE_ANNOTATIONS.put(Short.class, PodamShortValue.class);
+		VALUE_ANNOTATIONS.put(int.class, PodamIntValue.class);
+		VALUE_ANNOTATIONS.put(Integer.class, PodamIntValue.class);
+		VALUE_ANNOTATIONS.put(long.class, PodamLongValue.class);
+		VALUE_ANNOTATIONS.put(Long.class, PodamLongValue.class);
+		VALUE_ANNOTATIONS.put(float.class, PodamFloatValue.class);
+		VALUE_ANNOTATIONS.put(Float.class, PodamFloatValue.class);
+		VALUE_ANNOTATIONS.put(double.class, PodamDoubleValue.class);
+		VALUE_ANNOTATIONS.put(Double.class, PodamDoubleValue.class);
+		VALUE_ANNOTATIONS.put(String.class, PodamStringValue.class);
+	}
+
+	/** The number of nanoseconds in a second */
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	/** It sorts attribute plans by attribute name */
+	private static final Comparator<AttributePlan> ATTRIBUTE_PLAN_COMPARATOR = new Comparator<AttributePlan>() {
+		@Override
+		public int compare(AttributePlan attribute1, AttributePlan attribute2) {
+			return attribute1.getAttributeName().compareTo(
+					attribute2.getAttributeName());
+		}
+	};
+
 	/** Application logger */
 	private static final Logger LOG = LoggerFactory
 			.getLogger(PodamFactoryImpl.class.getName());
@@ -102,13 +169,110 @@ public class PodamFactoryImpl implements PodamFactory {
 	private final DataProviderStrategy strategy;
 
 	/**
-	 * A map to keep one object for each class. If memoization is enabled, the
-	 * factory will use this table to avoid creating objects of the same class
-	 * multiple times.
+	 * The strategy providing primitive values without boxing them, null if
+	 * the strategy cannot.
+	 */
+	private final PrimitiveDataProviderStrategy primitiveStrategy;
+
+	/** The compiler of the annotations customising values */
+	private final ValueAnnotationCompiler annotationCompiler;
+
+	/** The counters of all the memoization caches of this factory */
+	private final MemoizationStatistics memoizationStatistics = new MemoizationStatistics();
+
+	/** How long memoized POJOs are reused */
+	private volatile MemoizationScope memoizationScope = MemoizationScope.FACTORY;
+
+	/** The maximum number of POJOs kept by a memoization cache */
+	private volatile int memoizationMaxSize = DEFAULT_MEMOIZATION_MAX_SIZE;
+
+	/**
+	 * The POJOs memoized for the whole factory. If memoization is enabled in
+	 * the {@link MemoizationScope#FACTORY} scope, the factory will use this
+	 * cache to avoid creating objects of the same class multiple times.
+	 */
+	private volatile MemoizationCache memoizationCache = new MemoizationCache(
+			DEFAULT_MEMOIZATION_MAX_SIZE, memoizationStatistics);
+
+	/** The user-submitted factories for specific data types */
+	private final ConcurrentMap<Class<?>, DataTypeFactory<?>> dataTypeFactoryMap = new ConcurrentHashMap<Class<?>, DataTypeFactory<?>>();
+
+	/**
+	 * The generators of POJO attributes, registered programmatically or
+	 * compiled from annotations
+	 */
+	private final AttributeRegistry attributeRegistry = new AttributeRegistry();
+
+	/**
+	 * The manufacturers registered programmatically or discovered through
+	 * {@link ServiceLoader}, by class
+	 */
+	private final ConcurrentMap<Class<?>, Manufacturer<?>> manufacturers = new ConcurrentHashMap<Class<?>, Manufacturer<?>>();
+
+	/** Whether the manufacturers on the class path have been discovered */
+	private volatile boolean manufacturersDiscovered;
+
+	/**
+	 * A cache of introspected classes, so that fields and setters of a class
+	 * are looked up only once.
+	 */
+	private final ClassInfoCache classInfoCache = new ClassInfoCache();
+
+	/**
+	 * A cache of manufacturing plans, one for each class and generic type
+	 * arguments, which evicts the least recently used plan when full.
+	 */
+	private final LruCache<PlanKey, ManufacturingPlan> planCache = new LruCache<PlanKey, ManufacturingPlan>(
+			PLAN_CACHE_MAX_SIZE);
+
+	/**
+	 * A cache of type variable bindings, one for each class and generic type
+	 * arguments, which evicts the least recently used bindings when full.
+	 */
+	private final LruCache<PlanKey, TypeBindings> typeBindingsCache = new LruCache<PlanKey, TypeBindings>(
+			PLAN_CACHE_MAX_SIZE);
+
+	/**
+	 * The factory binding setters and constructors to accessors.
+	 * <p>
+	 * The default is {@link ReflectionAccessorFactory}.
+	 * </p>
+	 */
+	private volatile AccessorFactory accessorFactory = ReflectionAccessorFactory
+			.getInstance();
+
+	/**
+	 * Whether the fields without setters are written directly.
+	 * <p>
+	 * The default is {@code false}.
+	 * </p>
+	 */
+	private volatile boolean fieldAccess;
+
+	/**
+	 * A cache of the constructors and factory methods of each class, which
+	 * remembers which of them succeed.
+	 */
+	private final ConstructorCache constructorCache = new ConstructorCache();
+
+	/**
+	 * The accessors constructors have been bound to, which evicts the least
+	 * recently used accessor when full.
+	 */
+	private final LruCache<Constructor<?>, ConstructorAccessor> constructorAccessors = new LruCache<Constructor<?>, ConstructorAccessor>(
+			PLAN_CACHE_MAX_SIZE);
+
+	/**
+	 * The executor manufacturing collection elements in parallel.
+	 * <p>
+	 * The default is null, which means that everything is manufactured by the
+	 * calling thread.
+	 * </p>
 	 */
-	private Map<Class<?>, Object> memoizationTable = new HashMap<Class<?>, Object>();
+	private volatile Executor executor;
 
-	private Map<Class, DataTypeFactory> dataTypeFactoryMap = new HashMap<Class, DataTypeFactory>();
+	/** The minimum number of collection elements manufactured in parallel */
+	private volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
 	// ------------------->> Constructors
 
@@ -154,6 +318,12 @@ public class PodamFactoryImpl implements PodamFactory {
 			DataProviderStrategy strategy) {
 		this.externalFactory = externalFactory;
 		this.strategy = strategy;
+		if (strategy instanceof PrimitiveDataProviderStrategy) {
+			primitiveStrategy = (PrimitiveDataProviderStrategy) strategy;
+		} else {
+			primitiveStrategy = null;
+		}
+		annotationCompiler = new ValueAnnotationCompiler(strategy);
 	}
 
 	// ------------------->> Public methods
@@ -171,10 +341,195 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	@Override
 	public <T> T manufacturePojo(Class<T> pojoClass, Type... genericTypeArgs) {
-		Map<Class<?>, Integer> pojos = new HashMap<Class<?>, Integer>();
-		pojos.put(pojoClass, 0);
+		// A single call is a batch of one POJO
+		MemoizationCache callCache = newMemoizationCache(MemoizationScope.CALL);
+		if (callCache == null) {
+			callCache = newMemoizationCache(MemoizationScope.BATCH);
+		}
+		return manufacturePojo(pojoClass, new ManufacturingContext(pojoClass,
+				newRandomSource(pojoClass), null, callCache), genericTypeArgs);
+	}
+
+	/**
+	 * Generic method which returns a list of instances of the given class
+	 * filled with dummy values.
+	 * <p>
+	 * The work which does not depend on the single instance, such as the
+	 * introspection of the class, is done once for the whole batch.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            The type for which filled instances are required
+	 * @param pojoClass
+	 *            The class for which instances filled with values are required
+	 * @param count
+	 *            How many instances to manufacture
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return A modifiable list of {@code count} instances of <T>
+	 *
+	 * @throws IllegalArgumentException
+	 *             if {@code count} is negative
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 */
+	public <T> List<T> manufacturePojos(Class<T> pojoClass, int count,
+			Type... genericTypeArgs) {
+		if (count < 0) {
+			throw new IllegalArgumentException(
+					"The number of POJOs cannot be negative, found " + count);
+		}
+		Object[] pojos = new Object[count];
+		manufactureBatch(pojoClass, pojos, genericTypeArgs);
+
+		List<T> retValue = new ArrayList<T>(count);
+		for (Object pojo : pojos) {
+			@SuppressWarnings(UNCHECKED_STR)
+			T typedPojo = (T) pojo;
+			retValue.add(typedPojo);
+		}
+		return retValue;
+	}
+
+	/**
+	 * Generic method which fills each element of the given array with a new
+	 * instance of the array component type filled with dummy values.
+	 *
+	 * @param <T>
+	 *            The type for which filled instances are required
+	 * @param pojos
+	 *            The array to fill
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The array passed as argument
+	 *
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 */
+	public <T> T[] manufacturePojos(T[] pojos, Type... genericTypeArgs) {
+		manufactureBatch(pojos.getClass().getComponentType(), pojos,
+				genericTypeArgs);
+		return pojos;
+	}
+
+	/**
+	 * It returns an iterator producing a fixed number of POJOs of the given
+	 * class, each manufactured on demand.
+	 *
+	 * @param <T>
+	 *            The type of the POJOs
+	 * @param pojoClass
+	 *            The class of the POJOs
+	 * @param count
+	 *            How many POJOs the iterator produces
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return an iterator over manufactured POJOs
+	 * @throws IllegalArgumentException
+	 *             if {@code count} is negative
+	 */
+	public <T> PojoIterator<T> iterator(Class<T> pojoClass, long count,
+			Type... genericTypeArgs) {
+		if (count < 0) {
+			throw new IllegalArgumentException(
+					"The number of POJOs cannot be negative, found " + count);
+		}
+		return new PojoIterator<T>(this, pojoClass, resolveTopLevelPlan(
+				pojoClass, genericTypeArgs), newRandomSource(pojoClass),
+				newMemoizationCache(MemoizationScope.BATCH), count,
+				genericTypeArgs);
+	}
+
+	/**
+	 * It returns an iterator producing POJOs of the given class without end,
+	 * each manufactured on demand.
+	 *
+	 * @param <T>
+	 *            The type of the POJOs
+	 * @param pojoClass
+	 *            The class of the POJOs
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return an iterator over manufactured POJOs
+	 */
+	public <T> PojoIterator<T> iterator(Class<T> pojoClass,
+			Type... genericTypeArgs) {
+		return iterator(pojoClass, PojoIterator.UNBOUNDED, genericTypeArgs);
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * {@inheritDoc}
+	 */
+
+	@Override
+	public DataProviderStrategy getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * It returns the cache of introspected classes used by this factory.
+	 * <p>
+	 * The cache exposes hit and miss counters, which can be used to monitor
+	 * its effectiveness.
+	 * </p>
+	 *
+	 * @return the cache of introspected classes
+	 */
+	public ClassInfoCache getClassInfoCache() {
+		return classInfoCache;
+	}
+
+	/**
+	 * It returns the cache of constructors and factory methods used by this
+	 * factory.
+	 * <p>
+	 * For each class the cache tells which candidate succeeded last and which
+	 * candidates are no longer tried because they cannot be called at all.
+	 * </p>
+	 *
+	 * @return the cache of constructors and factory methods
+	 */
+	public ConstructorCache getConstructorCache() {
+		return constructorCache;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It manufactures a top level POJO within the given context.
+	 * <p>
+	 * If the context carries a random source, the source is bound to the
+	 * current thread for the duration of the call.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            The type of the POJO
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @param context
+	 *            The context of the current manufacturing call
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the POJO
+	 * @return An instance of <T> filled with dummy values
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 */
+	<T> T manufacturePojo(Class<T> pojoClass, ManufacturingContext context,
+			Type... genericTypeArgs) {
+		SeedableDataProviderStrategy seedableStrategy = null;
+		RandomSource previousSource = null;
+		if (context.getRandomSource() != null) {
+			seedableStrategy = (SeedableDataProviderStrategy) strategy;
+			previousSource = seedableStrategy.bindRandomSource(context
+					.getRandomSource());
+		}
 		try {
-			return this.manufacturePojoInternal(pojoClass, pojos,
+			return this.manufacturePojoInternal(pojoClass, context,
 					genericTypeArgs);
 		} catch (InstantiationException e) {
 			throw new PodamMockeryException(e.getMessage(), e);
@@ -184,84 +539,155 @@ public class PodamFactoryImpl implements PodamFactory {
 			throw new PodamMockeryException(e.getMessage(), e);
 		} catch (ClassNotFoundException e) {
 			throw new PodamMockeryException(e.getMessage(), e);
+		} finally {
+			if (seedableStrategy != null) {
+				seedableStrategy.bindRandomSource(previousSource);
+			}
 		}
 	}
 
-	// ------------------->> Getters / Setters
+	/**
+	 * It fills an array with new POJOs of the same class.
+	 * <p>
+	 * The manufacturing plan of the class is resolved once for the whole
+	 * batch. In seeded mode each element draws from its own split of a source
+	 * derived from the seed and the class, so that the batch is reproducible.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            The type of the POJOs
+	 * @param pojoClass
+	 *            The class of the POJOs
+	 * @param pojos
+	 *            The array to fill
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the POJOs
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 */
+	private <T> void manufactureBatch(Class<T> pojoClass, Object[] pojos,
+			Type... genericTypeArgs) {
+
+		long start = System.nanoTime();
+
+		PojoIterator<T> iterator = iterator(pojoClass, pojos.length,
+				genericTypeArgs);
+		for (int i = 0; i < pojos.length; i++) {
+			pojos[i] = iterator.next();
+		}
+
+		long elapsed = Math.max(1L, System.nanoTime() - start);
+		if (LOG.isDebugEnabled()) {
+			long throughput = pojos.length * NANOS_PER_SECOND / elapsed;
+			LOG.debug("Manufactured {} instances of {} in {} ms ({} per second)",
+					new Object[] { pojos.length, pojoClass.getName(),
+							TimeUnit.NANOSECONDS.toMillis(elapsed), throughput });
+		}
+	}
 
 	/**
-	 * {@inheritDoc}
+	 * It resolves in advance the plan of POJOs manufactured in bulk.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJOs
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the POJOs
+	 * @return the plan of the POJOs or null if the class is not filled
+	 *         through a plan
 	 */
+	private ManufacturingPlan resolveTopLevelPlan(Class<?> pojoClass,
+			Type... genericTypeArgs) {
+		if (pojoClass.isPrimitive() || pojoClass.isInterface()
+				|| Modifier.isAbstract(pojoClass.getModifiers())) {
+			return null;
+		}
+		return getManufacturingPlan(pojoClass, genericTypeArgs);
+	}
 
-	@Override
-	public DataProviderStrategy getStrategy() {
-		return strategy;
+	/**
+	 * It creates a memoization cache for a call or a batch.
+	 *
+	 * @param scope
+	 *            The scope of the cache, either {@link MemoizationScope#CALL}
+	 *            or {@link MemoizationScope#BATCH}
+	 * @return a new cache, or null if memoization is disabled or not scoped
+	 *         as requested
+	 */
+	MemoizationCache newMemoizationCache(MemoizationScope scope) {
+		if (scope != memoizationScope || !strategy.isMemoizationEnabled()) {
+			return null;
+		}
+		return new MemoizationCache(memoizationMaxSize, memoizationStatistics);
 	}
 
-	// ------------------->> Private methods
+	/**
+	 * It returns the memoization cache a POJO is looked up in.
+	 *
+	 * @param context
+	 *            The context of the current manufacturing call
+	 * @return the cache of the factory, of the call or of its batch, or null
+	 *         if memoization is disabled
+	 */
+	private MemoizationCache getMemoizationCache(ManufacturingContext context) {
+		if (!strategy.isMemoizationEnabled()) {
+			return null;
+		}
+		if (MemoizationScope.FACTORY == memoizationScope) {
+			return memoizationCache;
+		}
+		return context.getMemoizationCache();
+	}
+
+	/**
+	 * It creates the random source of a top level manufacturing call.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @return a random source or null if the strategy is not seeded
+	 */
+	private RandomSource newRandomSource(Class<?> pojoClass) {
+		if (strategy instanceof SeedableDataProviderStrategy) {
+			return ((SeedableDataProviderStrategy) strategy)
+					.newRandomSource(pojoClass);
+		}
+		return null;
+	}
 
 	/**
-	 * Fills type agruments map
+	 * It returns the bindings of the type variables of a class
 	 * <p>
-	 * This method places required and provided types for object creation into a
-	 * map, which will be used for type mapping.
+	 * Bindings are computed only the first time a class is met with given
+	 * type arguments and then shared by all the POJOs, collections and maps
+	 * manufactured for them.
 	 * </p>
 	 *
-	 * @param typeArgsMap
-	 *            a map to fill
 	 * @param pojoClass
 	 *            Typed class
 	 * @param genericTypeArgs
 	 *            Type arguments provided for a generics object by caller
-	 * @return Array of unused provided generic type arguments
+	 * @return the bindings of the type variables of the class
 	 * @throws IllegalStateException
 	 *             If number of typed parameters doesn't match number of
 	 *             provided generic types
 	 */
-	private Type[] fillTypeArgMap(final Map<String, Type> typeArgsMap,
-			final Class<?> pojoClass, final Type[] genericTypeArgs) {
+	private TypeBindings getTypeBindings(Class<?> pojoClass,
+			Type[] genericTypeArgs) {
 
-		final TypeVariable<?>[] typeParameters = pojoClass.getTypeParameters();
-		if (typeParameters.length > genericTypeArgs.length) {
-			String msg = pojoClass.getCanonicalName()
-					+ " is missing generic type arguments, expected "
-					+ typeParameters.length + " found "
-					+ Arrays.toString(genericTypeArgs);
-			throw new IllegalStateException(msg);
-		}
+		PlanKey key = new PlanKey(pojoClass, genericTypeArgs);
+		TypeBindings typeBindings = typeBindingsCache.get(key);
+		if (typeBindings == null) {
 
-		int i;
-		for (i = 0; i < typeParameters.length; i++) {
-			typeArgsMap.put(typeParameters[i].getName(), genericTypeArgs[i]);
-		}
-		Type[] genericTypeArgsExtra;
-		if (typeParameters.length < genericTypeArgs.length) {
-			genericTypeArgsExtra = Arrays.copyOfRange(genericTypeArgs, i,
-					genericTypeArgs.length);
-		} else {
-			genericTypeArgsExtra = null;
-		}
-
-		/* Adding types, which were specified during inheritance */
-		Class<?> clazz = pojoClass;
-		while (clazz != null) {
-			Type superType = clazz.getGenericSuperclass();
-			clazz = clazz.getSuperclass();
-			if (superType instanceof ParameterizedType) {
-				ParameterizedType paramType = (ParameterizedType) superType;
-				Type[] actualParamTypes = paramType.getActualTypeArguments();
-				TypeVariable<?>[] paramTypes = clazz.getTypeParameters();
-				for (i = 0; i < actualParamTypes.length
-						&& i < paramTypes.length; i++) {
-					if (actualParamTypes[i] instanceof Class) {
-						typeArgsMap.put(paramTypes[i].getName(),
-								actualParamTypes[i]);
-					}
-				}
+			typeBindings = TypeBindings.of(pojoClass, genericTypeArgs);
+
+			// Concurrent callers share the bindings stored first
+			TypeBindings existing = typeBindingsCache.putIfAbsent(key,
+					typeBindings);
+			if (existing != null) {
+				typeBindings = existing;
 			}
 		}
-
-		return genericTypeArgsExtra;
+		return typeBindings;
 	}
 
 	/**
@@ -278,8 +704,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 * @param pojoClass
 	 *            The name of the class for which an instance filled with values
 	 *            is required
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param genericTypeArgs
 	 *            The generic type arguments for the current generic class
 	 *            instance
@@ -299,22 +725,22 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             If it was not possible to create a class from a string
 	 */
 	private Object createNewInstanceForClassWithoutConstructors(
-			Class<?> pojoClass, Map<Class<?>, Integer> pojos,
+			Class<?> pojoClass, ManufacturingContext context,
 			Type... genericTypeArgs) throws InstantiationException,
 			IllegalAccessException, InvocationTargetException,
 			ClassNotFoundException {
 
 		Object retValue = null;
 
-		Constructor<?>[] constructors = pojoClass.getConstructors();
+		ConstructorSelection selection = constructorCache.getSelection(
+				pojoClass, strategy);
 
-		if (constructors.length == 0
-				|| Modifier.isAbstract(pojoClass.getModifiers())) {
+		if (selection.isFactoryMethodsFirst()) {
 
-			final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
+			final TypeBindings typeBindings;
 			try {
-				Type[] genericTypeArgsExtra = fillTypeArgMap(typeArgsMap,
-						pojoClass, genericTypeArgs);
+				typeBindings = getTypeBindings(pojoClass, genericTypeArgs);
+				Type[] genericTypeArgsExtra = typeBindings.getExtraTypeArgs();
 				if (genericTypeArgsExtra != null) {
 					LOG.warn("Lost generic type arguments {}",
 							Arrays.toString(genericTypeArgsExtra));
@@ -330,22 +756,18 @@ public class PodamFactoryImpl implements PodamFactory {
 			// the best we can do is to find a constructor (e.g.
 			// getInstance())
 
-			Method[] declaredMethods = pojoClass.getDeclaredMethods();
-			strategy.sort(declaredMethods);
-
-			// A candidate factory method is a method which returns the
-			// Class type
+			// A candidate factory method is a static method which returns
+			// the Class type
 
 			// The parameters to pass to the method invocation
 			Object[] parameterValues = null;
 			Object[] noParams = new Object[] {};
 
-			for (Method candidateConstructor : declaredMethods) {
+			for (Method candidateConstructor : getCandidates(selection,
+					selection.getFactoryMethods(), context)) {
 
-				if (!Modifier.isStatic(candidateConstructor.getModifiers())
-						|| !candidateConstructor.getReturnType().equals(pojoClass)
-						|| retValue != null) {
-					continue;
+				if (retValue != null) {
+					break;
 				}
 
 				parameterValues = new Object[candidateConstructor
@@ -369,9 +791,10 @@ public class PodamFactoryImpl implements PodamFactory {
 
 					for (Type paramType : parameterTypes) {
 
-						AtomicReference<Type[]> methodGenericTypeArgs = new AtomicReference<Type[]>();
-						Class<?> parameterType = resolveGenericParameter(
-								paramType, typeArgsMap, methodGenericTypeArgs);
+						ResolvedType resolvedParameterType = typeBindings
+								.resolve(paramType);
+						Class<?> parameterType = resolvedParameterType
+								.getRawType();
 
 						List<Annotation> annotations = Arrays
 								.asList(parameterAnnotations[idx]);
@@ -385,8 +808,8 @@ public class PodamFactoryImpl implements PodamFactory {
 
 							Class<?> elementType;
 							if (paramType instanceof ParameterizedType) {
-								elementType = (Class<?>) methodGenericTypeArgs
-										.get()[0];
+								elementType = (Class<?>) resolvedParameterType
+										.getTypeArgs()[0];
 							} else {
 								LOG.warn("Collection parameter {} type is non-generic."
 										+ "We will assume a Collection<Object> for you.",
@@ -410,7 +833,7 @@ public class PodamFactoryImpl implements PodamFactory {
 
 							for (int i = 0; i < nbrElements; i++) {
 								Object attributeValue = manufactureParameterValue(
-										pojos, elementType, annotations);
+										context, elementType, annotations);
 
 								listType.add(attributeValue);
 							}
@@ -427,10 +850,10 @@ public class PodamFactoryImpl implements PodamFactory {
 							Class<?> keyClass;
 							Class<?> valueClass;
 							if (paramType instanceof ParameterizedType) {
-								keyClass = (Class<?>) methodGenericTypeArgs
-										.get()[0];
-								valueClass = (Class<?>) methodGenericTypeArgs
-										.get()[1];
+								keyClass = (Class<?>) resolvedParameterType
+										.getTypeArgs()[0];
+								valueClass = (Class<?>) resolvedParameterType
+										.getTypeArgs()[1];
 							} else {
 								LOG.warn("Map parameter {} type is non-generic."
 										+ "We will assume a Map<Object,Object> for you.",
@@ -455,10 +878,10 @@ public class PodamFactoryImpl implements PodamFactory {
 
 							for (int i = 0; i < nbrElements; i++) {
 								Object keyValue = manufactureParameterValue(
-										pojos, keyClass, annotations);
+										context, keyClass, annotations);
 
 								Object elementValue = manufactureParameterValue(
-										pojos, valueClass, annotations);
+										context, valueClass, annotations);
 
 								mapType.put(keyValue, elementValue);
 							}
@@ -469,7 +892,7 @@ public class PodamFactoryImpl implements PodamFactory {
 
 							// It's any other object
 							parameterValues[idx] = manufactureParameterValue(
-									pojos, parameterType, annotations,
+									context, parameterType, annotations,
 									genericTypeArgs);
 
 						}
@@ -484,15 +907,19 @@ public class PodamFactoryImpl implements PodamFactory {
 
 					retValue = candidateConstructor.invoke(pojoClass,
 							parameterValues);
-					LOG.debug("Could create an instance using "
-							+ candidateConstructor);
+					if (retValue != null) {
+						selection.recordSuccess(candidateConstructor);
+					}
+					LOG.debug("Could create an instance using {}",
+							candidateConstructor);
 
 				} catch (Exception t) {
 
-					LOG.debug(
-							"PODAM could not create an instance for constructor: "
-									+ candidateConstructor
-									+ ". Will try another one...", t);
+					selection.recordFailure(candidateConstructor, t);
+					LOG.debug("PODAM could not create an instance for"
+							+ " constructor: {} because of {}."
+							+ " Will try another one...",
+							candidateConstructor, t);
 
 				}
 
@@ -502,32 +929,30 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			// There are public constructors. We want constructor with minumum
 			// number of parameters to speed up the creation
-			strategy.sort(constructors);
-
-			for (Constructor<?> constructor : constructors) {
+			for (Constructor<?> constructor : getCandidates(selection,
+					selection.getConstructors(), context)) {
 
 				try {
 
 					Object[] constructorArgs = getParameterValuesForConstructor(
-							constructor, pojoClass, pojos, genericTypeArgs);
+							constructor, pojoClass, context, genericTypeArgs);
 
-					retValue = constructor.newInstance(constructorArgs);
+					retValue = getConstructorAccessor(constructor)
+							.newInstance(constructorArgs);
+					selection.recordSuccess(constructor);
 
-					LOG.debug("For class: "
-							+ pojoClass.getName()
-							+ " a valid constructor: "
-							+ constructor
-							+ " was found. PODAM will use it to create an instance.");
+					LOG.debug("For class: {} a valid constructor: {} was found."
+							+ " PODAM will use it to create an instance.",
+							pojoClass.getName(), constructor);
 
 					break;
 
 				} catch (Exception t) {
 
-					LOG.info(
-							"Couldn't create attribute with constructor: "
-									+ constructor
-									+ ". Will check if other constructors are available",
-									t);
+					selection.recordFailure(constructor, t);
+					LOG.debug("Couldn't create attribute with constructor: {}"
+							+ " because of {}. Will check if other"
+							+ " constructors are available", constructor, t);
 
 				}
 
@@ -548,63 +973,6 @@ public class PodamFactoryImpl implements PodamFactory {
 
 	}
 
-	/**
-	 * It resolves generic parameter type
-	 *
-	 *
-	 * @param paramType
-	 *            The generic parameter type
-	 * @param typeArgsMap
-	 *            A map of resolved types
-	 * @param methodGenericTypeArgs
-	 *            Return value posible generic types of the generic parameter
-	 *            type
-	 * @return value for class representing the generic parameter type
-	 */
-	private Class<?> resolveGenericParameter(Type paramType,
-			Map<String, Type> typeArgsMap,
-			AtomicReference<Type[]> methodGenericTypeArgs) {
-
-		Class<?> parameterType = null;
-		methodGenericTypeArgs.set(new Type[] {});
-		if (paramType instanceof TypeVariable<?>) {
-			final TypeVariable<?> typeVariable = (TypeVariable<?>) paramType;
-			final Type type = typeArgsMap.get(typeVariable.getName());
-			if (type != null) {
-				parameterType = resolveGenericParameter(type, typeArgsMap,
-						methodGenericTypeArgs);
-			}
-		} else if (paramType instanceof ParameterizedType) {
-			ParameterizedType pType = (ParameterizedType) paramType;
-			parameterType = (Class<?>) pType.getRawType();
-			methodGenericTypeArgs.set(pType.getActualTypeArguments());
-		} else if (paramType instanceof WildcardType) {
-			WildcardType wType = (WildcardType) paramType;
-			Type[] bounds = wType.getLowerBounds();
-			String msg;
-			if (bounds != null && bounds.length > 0) {
-				msg = "Lower bounds:";
-			} else {
-				bounds = wType.getUpperBounds();
-				msg = "Upper bounds:";
-			}
-			if (bounds != null && bounds.length > 0) {
-				LOG.debug(msg + Arrays.toString(bounds));
-				parameterType = resolveGenericParameter(bounds[0], typeArgsMap,
-						methodGenericTypeArgs);
-			}
-		} else if (paramType instanceof Class) {
-			parameterType = (Class<?>) paramType;
-		}
-
-		if (parameterType == null) {
-			LOG.warn("Unrecognized type {}. Will use Object instead",
-					paramType);
-			parameterType = Object.class;
-		}
-		return parameterType;
-	}
-
 	/**
 	 * It resolves and returns the primitive value depending on the type
 	 *
@@ -625,191 +993,89 @@ public class PodamFactoryImpl implements PodamFactory {
 
 		Object retValue = null;
 
-		if (primitiveClass.equals(int.class)) {
-
-			if (!annotations.isEmpty()) {
-
-				retValue = getIntegerValueWithinRange(annotations,
-						attributeMetadata);
+		if (!annotations.isEmpty()) {
+			retValue = getAnnotatedValue(primitiveClass, annotations,
+					attributeMetadata);
+		}
 
-			}
+		if (primitiveClass.equals(int.class)) {
 
 			if (retValue == null) {
-				retValue = strategy.getInteger(attributeMetadata);
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextInt(attributeMetadata);
+				} else {
+					retValue = strategy.getInteger(attributeMetadata);
+				}
 			}
 
 		} else if (primitiveClass.equals(long.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getLongValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
-				retValue = strategy.getLong(attributeMetadata);
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextLong(attributeMetadata);
+				} else {
+					retValue = strategy.getLong(attributeMetadata);
+				}
 			}
 
 		} else if (primitiveClass.equals(float.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getFloatValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
-				retValue = strategy.getFloat(attributeMetadata);
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextFloat(attributeMetadata);
+				} else {
+					retValue = strategy.getFloat(attributeMetadata);
+				}
 			}
 
 		} else if (primitiveClass.equals(double.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getDoubleValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
-				retValue = strategy.getDouble(attributeMetadata);
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextDouble(attributeMetadata);
+				} else {
+					retValue = strategy.getDouble(attributeMetadata);
+				}
 			}
 
 		} else if (primitiveClass.equals(boolean.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getBooleanValueForAnnotation(annotations);
-
-			}
-
 			if (retValue == null) {
-				retValue = strategy.getBoolean(attributeMetadata);
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextBoolean(attributeMetadata);
+				} else {
+					retValue = strategy.getBoolean(attributeMetadata);
+				}
 			}
 
 		} else if (primitiveClass.equals(byte.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getByteValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
-				retValue = strategy.getByte(attributeMetadata);
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextByte(attributeMetadata);
+				} else {
+					retValue = strategy.getByte(attributeMetadata);
+				}
 			}
 
 		} else if (primitiveClass.equals(short.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getShortValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
-				retValue = strategy.getShort(attributeMetadata);
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextShort(attributeMetadata);
+				} else {
+					retValue = strategy.getShort(attributeMetadata);
+				}
 			}
 
 		} else if (primitiveClass.equals(char.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getCharacterValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
-				retValue = strategy.getCharacter(attributeMetadata);
-			}
-
-		}
-		return retValue;
-	}
-
-	/**
-	 * It returns the boolean value indicated in the annotation.
-	 *
-	 * @param annotations
-	 *            The collection of annotations for the annotated attribute
-	 * @return The boolean value indicated in the annotation
-	 */
-	private Boolean getBooleanValueForAnnotation(List<Annotation> annotations) {
-
-		Boolean retValue = null;
-
-		for (Annotation annotation : annotations) {
-
-			if (PodamBooleanValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamBooleanValue localStrategy = (PodamBooleanValue) annotation;
-				retValue = localStrategy.boolValue();
-
-				break;
-			}
-
-		}
-
-		return retValue;
-	}
-
-	/**
-	 * It returns a random byte if the attribute was annotated with
-	 * {@link PodamByteValue} or {@code null} otherwise
-	 *
-	 * @param annotations
-	 *            The list of annotations for this attribute
-	 *
-	 * @param attributeMetadata
-	 *            The attribute's metadata, if any, used for customisation
-	 *
-	 * @return A random byte if the attribute was annotated with
-	 *
-	 * @throws IllegalArgumentException
-	 *             If the {@link PodamByteValue#numValue()} value has been set
-	 *             and it is not convertible to a byte type
-	 */
-	private Byte getByteValueWithinRange(List<Annotation> annotations,
-			AttributeMetadata attributeMetadata) {
-		Byte retValue = null;
-
-		for (Annotation annotation : annotations) {
-
-			if (PodamByteValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamByteValue intStrategy = (PodamByteValue) annotation;
-
-				String numValueStr = intStrategy.numValue();
-				if (null != numValueStr && !"".equals(numValueStr)) {
-					try {
-
-						retValue = Byte.valueOf(numValueStr);
-
-					} catch (NumberFormatException nfe) {
-						String errMsg = "The precise value: "
-								+ numValueStr
-								+ " cannot be converted to a byte type. An exception will be thrown.";
-						LOG.error(errMsg);
-						throw new IllegalArgumentException(errMsg, nfe);
-					}
+				if (primitiveStrategy != null) {
+					retValue = primitiveStrategy.nextCharacter(attributeMetadata);
 				} else {
-					byte minValue = intStrategy.minValue();
-					byte maxValue = intStrategy.maxValue();
-
-					// Sanity check
-					if (minValue > maxValue) {
-						maxValue = minValue;
-					}
-
-					retValue = strategy.getByteInRange(minValue, maxValue,
-							attributeMetadata);
+					retValue = strategy.getCharacter(attributeMetadata);
 				}
-
-				break;
-
 			}
 
 		}
@@ -817,356 +1083,91 @@ public class PodamFactoryImpl implements PodamFactory {
 	}
 
 	/**
-	 * It returns a random short if the attribute was annotated with
-	 * {@link PodamShortValue} or {@code null} otherwise
+	 * It returns the value customised by the annotation matching the type of
+	 * an attribute, if any.
+	 * <p>
+	 * The annotation is compiled the first time it is seen, and its generator
+	 * is reused for the values which follow.
+	 * </p>
 	 *
+	 * @param valueType
+	 *            The type of the attribute
 	 * @param annotations
-	 *            The annotations with which the attribute was annotated
-	 *
+	 *            The annotations of the attribute
 	 * @param attributeMetadata
 	 *            The attribute's metadata, if any, used for customisation
-	 *
-	 * @return A random short if the attribute was annotated with
-	 *         {@link PodamShortValue} or {@code null} otherwise
-	 *
+	 * @return the value customised by the annotation, or null if the
+	 *         attribute has no annotation customising values of its type
 	 * @throws IllegalArgumentException
-	 *             If {@link PodamShortValue#numValue()} was set and its value
-	 *             could not be converted to a Short type
+	 *             If the precise value of the annotation cannot be converted
+	 *             to the type of the attribute
 	 */
-	private Short getShortValueWithinRange(List<Annotation> annotations,
-			AttributeMetadata attributeMetadata) {
-
-		Short retValue = null;
-
-		for (Annotation annotation : annotations) {
-
-			if (PodamShortValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamShortValue shortStrategy = (PodamShortValue) annotation;
-
-				String numValueStr = shortStrategy.numValue();
-				if (null != numValueStr && !"".equals(numValueStr)) {
-					try {
-						retValue = Short.valueOf(numValueStr);
-					} catch (NumberFormatException nfe) {
-						String errMsg = "The precise value: "
-								+ numValueStr
-								+ " cannot be converted to a short type. An exception will be thrown.";
-						LOG.error(errMsg);
-						throw new IllegalArgumentException(errMsg, nfe);
-					}
-				} else {
-
-					short minValue = shortStrategy.minValue();
-					short maxValue = shortStrategy.maxValue();
-
-					// Sanity check
-					if (minValue > maxValue) {
-						maxValue = minValue;
-					}
-
-					retValue = strategy.getShortInRange(minValue, maxValue,
-							attributeMetadata);
-
-				}
-
-				break;
-
-			}
-
-		}
-		return retValue;
-	}
-
-	/**
-	 * It creates and returns a random {@link Character} value
-	 *
-	 * @param annotations
-	 *            The list of annotations which might customise the return value
-	 *
-	 * @param attributeMetadata
-	 *            The attribute's metadata, if any, used for customisation
-	 *
-	 * @return A random {@link Character} value
-	 */
-	private Character getCharacterValueWithinRange(
+	private Object getAnnotatedValue(Class<?> valueType,
 			List<Annotation> annotations, AttributeMetadata attributeMetadata) {
 
-		Character retValue = null;
-
-		for (Annotation annotation : annotations) {
-
-			if (PodamCharValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamCharValue annotationStrategy = (PodamCharValue) annotation;
-
-				char charValue = annotationStrategy.charValue();
-				if (charValue != ' ') {
-					retValue = charValue;
-
-				} else {
-
-					char minValue = annotationStrategy.minValue();
-					char maxValue = annotationStrategy.maxValue();
-
-					// Sanity check
-					if (minValue > maxValue) {
-						maxValue = minValue;
-					}
-
-					retValue = strategy.getCharacterInRange(minValue, maxValue,
-							attributeMetadata);
-
-				}
-
-				break;
-
-			}
-
+		AttributeGenerator<?> generator = getValueGenerator(valueType,
+				annotations);
+		if (null == generator) {
+			return null;
 		}
-		return retValue;
+		return generator.generate(attributeMetadata);
 	}
 
 	/**
-	 * Returns either a customised int value if a {@link PodamIntValue}
-	 * annotation was provided or a random integer if this was not the case
+	 * It returns the generator compiled from the annotation matching the type
+	 * of an attribute, if any.
 	 *
+	 * @param valueType
+	 *            The type of the attribute
 	 * @param annotations
-	 *            The list of annotations for the int attribute
-	 *
-	 * @param attributeMetadata
-	 *            The attribute's metadata, if any, used for customisation
-	 *
-	 * @return Either a customised int value if a {@link PodamIntValue}
-	 *         annotation was provided or a random integer if this was not the
-	 *         case
-	 *
+	 *            The annotations of the attribute
+	 * @return the generator of the values, or null if the attribute has no
+	 *         annotation customising values of its type
 	 * @throws IllegalArgumentException
-	 *             If it was not possible to convert the
-	 *             {@link PodamIntValue#numValue()} to an Integer
+	 *             If the precise value of the annotation cannot be converted
+	 *             to the type of the attribute
 	 */
-	private Integer getIntegerValueWithinRange(List<Annotation> annotations,
-			AttributeMetadata attributeMetadata) {
-
-		Integer retValue = null;
-
-		for (Annotation annotation : annotations) {
-
-			if (PodamIntValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamIntValue intStrategy = (PodamIntValue) annotation;
-
-				String numValueStr = intStrategy.numValue();
-				if (null != numValueStr && !"".equals(numValueStr)) {
-					try {
-						retValue = Integer.valueOf(numValueStr);
-					} catch (NumberFormatException nfe) {
-						String errMsg = THE_ANNOTATION_VALUE_STR
-								+ numValueStr
-								+ " could not be converted to an Integer. An exception will be thrown.";
-						LOG.error(errMsg);
-						throw new IllegalArgumentException(errMsg, nfe);
-
-					}
-
-				} else {
-
-					int minValue = intStrategy.minValue();
-					int maxValue = intStrategy.maxValue();
-
-					// Sanity check
-					if (minValue > maxValue) {
-						maxValue = minValue;
-					}
-
-					retValue = strategy.getIntegerInRange(minValue, maxValue,
-							attributeMetadata);
-
-				}
-
-				break;
-
-			}
-
-		}
-		return retValue;
-	}
-
-	/**
-	 * Returns either a customised float value if a {@link PodamFloatValue}
-	 * annotation was provided or a random float if this was not the case
-	 *
-	 * @param annotations
-	 *            The list of annotations for the int attribute
-	 *
-	 * @param attributeMetadata
-	 *            The attribute's metadata, if any, used for customisation
-	 *
-	 *
-	 * @return Either a customised float value if a {@link PodamFloatValue}
-	 *         annotation was provided or a random float if this was not the
-	 *         case
-	 *
-	 * @throws IllegalArgumentException
-	 *             If {@link PodamFloatValue#numValue()} contained a value not
-	 *             convertible to a Float type
-	 */
-	private Float getFloatValueWithinRange(List<Annotation> annotations,
-			AttributeMetadata attributeMetadata) {
-
-		Float retValue = null;
-
-		for (Annotation annotation : annotations) {
-
-			if (PodamFloatValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamFloatValue floatStrategy = (PodamFloatValue) annotation;
-
-				String numValueStr = floatStrategy.numValue();
-				if (null != numValueStr && !"".equals(numValueStr)) {
-					try {
-						retValue = Float.valueOf(numValueStr);
-					} catch (NumberFormatException nfe) {
-						String errMsg = THE_ANNOTATION_VALUE_STR
-								+ numValueStr
-								+ " could not be converted to a Float. An exception will be thrown.";
-						LOG.error(errMsg);
-						throw new IllegalArgumentException(errMsg, nfe);
-					}
-				} else {
-
-					float minValue = floatStrategy.minValue();
-					float maxValue = floatStrategy.maxValue();
-
-					// Sanity check
-					if (minValue > maxValue) {
-						maxValue = minValue;
-					}
-
-					retValue = strategy.getFloatInRange(minValue, maxValue,
-							attributeMetadata);
-
-				}
-
-				break;
-
-			}
+	private AttributeGenerator<?> getValueGenerator(Class<?> valueType,
+			List<Annotation> annotations) {
 
+		Class<? extends Annotation> valueAnnotationType = VALUE_ANNOTATIONS
+				.get(valueType);
+		if (null == valueAnnotationType) {
+			return null;
 		}
-		return retValue;
-	}
-
-	/**
-	 * It creates and returns a random {@link Double} value
-	 *
-	 * @param annotations
-	 *            The list of annotations which might customise the return value
-	 *
-	 * @param attributeMetadata
-	 *            The attribute's metadata, if any, used for customisation *
-	 *
-	 * @return a random {@link Double} value
-	 */
-	private Double getDoubleValueWithinRange(List<Annotation> annotations,
-			AttributeMetadata attributeMetadata) {
-
-		Double retValue = null;
-
 		for (Annotation annotation : annotations) {
-
-			if (PodamDoubleValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamDoubleValue doubleStrategy = (PodamDoubleValue) annotation;
-
-				String numValueStr = doubleStrategy.numValue();
-				if (null != numValueStr && !"".equals(numValueStr)) {
-
-					try {
-						retValue = Double.valueOf(numValueStr);
-					} catch (NumberFormatException nfe) {
-						String errMsg = THE_ANNOTATION_VALUE_STR
-								+ numValueStr
-								+ " could not be converted to a Double. An exception will be thrown.";
-						LOG.error(errMsg);
-						throw new IllegalArgumentException(errMsg, nfe);
-					}
-
-				} else {
-
-					double minValue = doubleStrategy.minValue();
-					double maxValue = doubleStrategy.maxValue();
-
-					// Sanity check
-					if (minValue > maxValue) {
-						maxValue = minValue;
-					}
-
-					retValue = strategy.getDoubleInRange(minValue, maxValue,
-							attributeMetadata);
-				}
-
-				break;
-
+			if (valueAnnotationType.isInstance(annotation)) {
+				return annotationCompiler.getGenerator(annotation);
 			}
-
 		}
-		return retValue;
-
+		return null;
 	}
 
 	/**
-	 * Returns either a customised long value if a {@link PodamLongValue}
-	 * annotation was provided or a random long if this was not the case
-	 *
-	 * @param annotations
-	 *            The list of annotations for the int attribute
-	 * @param attributeMetadata
-	 *            The attribute's metadata, if any, used for customisation
-	 *
-	 * @return Either a customised long value if a {@link PodamLongValue}
-	 *         annotation was provided or a random long if this was not the case
+	 * It compiles the annotations customising the values of the parameters of
+	 * a constructor or of a factory method, while the manufacturing plan is
+	 * built.
+	 * <p>
+	 * An invalid annotation is thus reported once, as for the attributes,
+	 * rather than failing the constructor each time a value is manufactured
+	 * for its parameters.
+	 * </p>
 	 *
+	 * @param parameterTypes
+	 *            The types of the parameters
+	 * @param parameterAnnotations
+	 *            The annotations of the parameters
 	 * @throws IllegalArgumentException
-	 *             If it was not possible to convert
-	 *             {@link PodamLongValue#numValue()} to a Long
+	 *             If the precise value of an annotation cannot be converted
+	 *             to the type of its parameter
 	 */
-	private Long getLongValueWithinRange(List<Annotation> annotations,
-			AttributeMetadata attributeMetadata) {
-
-		Long retValue = null;
-
-		for (Annotation annotation : annotations) {
-
-			if (PodamLongValue.class.isAssignableFrom(annotation.getClass())) {
-				PodamLongValue longStrategy = (PodamLongValue) annotation;
-
-				String numValueStr = longStrategy.numValue();
-				if (null != numValueStr && !"".equals(numValueStr)) {
-					try {
-						retValue = Long.valueOf(numValueStr);
-					} catch (NumberFormatException nfe) {
-						String errMsg = THE_ANNOTATION_VALUE_STR
-								+ numValueStr
-								+ " could not be converted to a Long. An exception will be thrown.";
-						LOG.error(errMsg);
-						throw new IllegalArgumentException(errMsg, nfe);
-					}
-				} else {
-
-					long minValue = longStrategy.minValue();
-					long maxValue = longStrategy.maxValue();
-
-					// Sanity check
-					if (minValue > maxValue) {
-						maxValue = minValue;
-					}
-
-					retValue = strategy.getLongInRange(minValue, maxValue,
-							attributeMetadata);
-
-				}
-
-				break;
-
-			}
+	private void compileParameterAnnotations(Class<?>[] parameterTypes,
+			Annotation[][] parameterAnnotations) {
 
+		for (int idx = 0; idx < parameterTypes.length; idx++) {
+			getValueGenerator(parameterTypes[idx],
+					Arrays.asList(parameterAnnotations[idx]));
 		}
-		return retValue;
 	}
 
 	/**
@@ -1186,14 +1187,12 @@ public class PodamFactoryImpl implements PodamFactory {
 
 		Object retValue = null;
 
-		if (candidateWrapperClass.equals(Integer.class)) {
-
-			if (!annotations.isEmpty()) {
-
-				retValue = getIntegerValueWithinRange(annotations,
-						attributeMetadata);
+		if (!annotations.isEmpty()) {
+			retValue = getAnnotatedValue(candidateWrapperClass, annotations,
+					attributeMetadata);
+		}
 
-			}
+		if (candidateWrapperClass.equals(Integer.class)) {
 
 			if (retValue == null) {
 				retValue = strategy.getInteger(attributeMetadata);
@@ -1201,90 +1200,42 @@ public class PodamFactoryImpl implements PodamFactory {
 
 		} else if (candidateWrapperClass.equals(Long.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getLongValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
 				retValue = strategy.getLong(attributeMetadata);
 			}
 
 		} else if (candidateWrapperClass.equals(Float.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getFloatValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
 				retValue = strategy.getFloat(attributeMetadata);
 			}
 
 		} else if (candidateWrapperClass.equals(Double.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getDoubleValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
 				retValue = strategy.getDouble(attributeMetadata);
 			}
 
 		} else if (candidateWrapperClass.equals(Boolean.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getBooleanValueForAnnotation(annotations);
-
-			}
-
 			if (retValue == null) {
 				retValue = strategy.getBoolean(attributeMetadata);
 			}
 
 		} else if (candidateWrapperClass.equals(Byte.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getByteValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
 				retValue = strategy.getByte(attributeMetadata);
 			}
 
 		} else if (candidateWrapperClass.equals(Short.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getShortValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
 				retValue = strategy.getShort(attributeMetadata);
 			}
 
 		} else if (candidateWrapperClass.equals(Character.class)) {
 
-			if (!annotations.isEmpty()) {
-
-				retValue = getCharacterValueWithinRange(annotations,
-						attributeMetadata);
-
-			}
-
 			if (retValue == null) {
 				retValue = strategy.getCharacter(attributeMetadata);
 			}
@@ -1303,7 +1254,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 * @param pojoClass
 	 *            The class of which an instance is required
-	 * @param pojos
+	 * @param context
 	 *            How many instances of the same class have been created so far
 	 * @param genericTypeArgs
 	 *            The generic type arguments for the current generic class
@@ -1324,40 +1275,37 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	@SuppressWarnings({ UNCHECKED_STR, RAWTYPES_STR })
 	private <T> T instantiatePojo(Class<T> pojoClass,
-			Map<Class<?>, Integer> pojos, Type... genericTypeArgs)
+			ManufacturingContext context, Type... genericTypeArgs)
 			throws SecurityException {
 
 		T retValue = null;
 
-		Constructor<?>[] constructors = pojoClass.getConstructors();
-		if (constructors.length == 0) {
+		ConstructorSelection selection = constructorCache.getSelection(
+				pojoClass, strategy);
+		if (!selection.hasPublicConstructors()) {
 			/* No public constructors, we will try static factory methods */
 			try {
 				retValue = (T) createNewInstanceForClassWithoutConstructors(
-						pojoClass, pojos, genericTypeArgs);
+						pojoClass, context, genericTypeArgs);
 			} catch (Exception e) {
 				LOG.debug("We couldn't create an instance for pojo: "
 						+ pojoClass + " with factory methods, will "
 						+ " try non-public constructors.", e);
 			}
 
-			/* Then non-public constructors */
-			if (retValue == null) {
-				constructors = pojoClass.getDeclaredConstructors();
-			}
+			/* Then non-public constructors, which the selection holds */
 		}
 
-		if (retValue == null && constructors.length > 0) {
+		if (retValue == null) {
 
 			/* We want constructor with minumum number of parameters
-			 * to speed up the creation */
-			strategy.sort(constructors);
-
-			for (Constructor<?> constructor : constructors) {
+			 * to speed up the creation, as sorted by the selection */
+			for (Constructor<?> constructor : getCandidates(selection,
+					selection.getConstructors(), context)) {
 
 				try {
 					Object[] parameterValues = getParameterValuesForConstructor(
-							constructor, pojoClass, pojos, genericTypeArgs);
+							constructor, pojoClass, context, genericTypeArgs);
 
 				// Being a generic method we cannot be sure on the identity of
 				// T, therefore the mismatch between the newInstance() return
@@ -1368,30 +1316,32 @@ public class PodamFactoryImpl implements PodamFactory {
 					if (!constructor.isAccessible()) {
 						constructor.setAccessible(true);
 					}
-					retValue = (T) constructor.newInstance(parameterValues);
+					retValue = (T) getConstructorAccessor(constructor)
+							.newInstance(parameterValues);
 					if (retValue instanceof Collection
 							&& ((Collection) retValue).isEmpty()) {
-						LOG.debug("We could create an instance with constructor: "
-								+ constructor
+						LOG.debug("We could create an instance with constructor: {}"
 								+ ", but collection is empty"
-								+ ". Will try with another one.");
+								+ ". Will try with another one.", constructor);
 
 					} else if (retValue instanceof Map
 							&& ((Map) retValue).isEmpty()) {
-						LOG.debug("We could create an instance with constructor: "
-								+ constructor
+						LOG.debug("We could create an instance with constructor: {}"
 								+ ", but map is empty"
-								+ ". Will try with another one.");
+								+ ". Will try with another one.", constructor);
 
 					} else {
-						LOG.debug("We could create an instance with constructor: "
-								+ constructor);
+						LOG.debug("We could create an instance with constructor: {}",
+								constructor);
+						selection.recordSuccess(constructor);
 						break;
 					}
 				} catch (Exception e) {
+					selection.recordFailure(constructor, e);
 					LOG.debug("We couldn't create an instance for pojo: {} with"
-							+ " constructor: {}. Will try with another one.",
-							pojoClass, constructor, e);
+							+ " constructor: {} because of {}."
+							+ " Will try with another one.",
+							new Object[] { pojoClass, constructor, e });
 				}
 			}
 		}
@@ -1412,7 +1362,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 * @param pojoClass
 	 *            The name of the class for which an instance filled with values
 	 *            is required
-	 * @param pojos
+	 * @param context
 	 *            How many times {@code pojoClass} has been found. This will be
 	 *            used for reentrant objects
 	 * @param genericTypeArgs
@@ -1430,7 +1380,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	@SuppressWarnings(UNCHECKED_STR)
 	private <T> T manufacturePojoInternal(Class<T> pojoClass,
-			Map<Class<?>, Integer> pojos, Type... genericTypeArgs)
+			ManufacturingContext context, Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
@@ -1439,9 +1389,11 @@ public class PodamFactoryImpl implements PodamFactory {
 
 		T retValue = null;
 
-		// reuse object from memoization table
-		if (strategy.isMemoizationEnabled()) {
-			T objectToReuse = (T) memoizationTable.get(pojoClass);
+		// reuse object from memoization cache
+		MemoizationCache currentMemoizationCache = getMemoizationCache(context);
+		if (currentMemoizationCache != null) {
+			T objectToReuse = (T) currentMemoizationCache.get(pojoClass,
+					genericTypeArgs);
 			if (objectToReuse != null) {
 				return objectToReuse;
 			}
@@ -1461,17 +1413,33 @@ public class PodamFactoryImpl implements PodamFactory {
 					new AttributeMetadata(noName, pojoClass, annotations, pojoClass));
 		}
 
+		// A manufacturer, usually generated at compile time, fills the POJO
+		// without reflection
+		if (genericTypeArgs.length == 0) {
+			Manufacturer<T> manufacturer = getManufacturer(pojoClass);
+			if (null != manufacturer) {
+				retValue = manufacturer.newInstance();
+				if (currentMemoizationCache != null) {
+					currentMemoizationCache.putIfAbsent(pojoClass,
+							genericTypeArgs, retValue);
+				}
+				manufacturer.fill(retValue, new FactoryManufacturerContext(
+						context));
+				return retValue;
+			}
+		}
+
 		if (pojoClass.isInterface()
 				|| Modifier.isAbstract(pojoClass.getModifiers())) {
 			Class<T> specificClass = (Class<T>) strategy
 					.getSpecificClass(pojoClass);
 			if (!specificClass.equals(pojoClass)) {
-				return this.manufacturePojoInternal(specificClass, pojos,
+				return this.manufacturePojoInternal(specificClass, context,
 						genericTypeArgs);
 			} else {
 				if (Modifier.isAbstract(pojoClass.getModifiers())) {
 					return (T) createNewInstanceForClassWithoutConstructors(
-							pojoClass, pojos, genericTypeArgs);
+							pojoClass, context, genericTypeArgs);
 				} else {
 					return externalFactory.manufacturePojo(pojoClass,
 							genericTypeArgs);
@@ -1479,41 +1447,166 @@ public class PodamFactoryImpl implements PodamFactory {
 			}
 		}
 
+		// The plan is built first, so that invalid annotations on the
+		// parameters of constructors are reported rather than skipped
+		ManufacturingPlan plan = context.getPlan();
+		if (plan == null || !plan.isPlanFor(pojoClass, genericTypeArgs)) {
+			plan = getManufacturingPlan(pojoClass, genericTypeArgs);
+		}
+
 		try {
 
-			retValue = instantiatePojo(pojoClass, pojos, genericTypeArgs);
-		} catch (SecurityException e) {
-			throw new PodamMockeryException(
-					"Security exception while applying introspection.", e);
-		}
+			retValue = instantiatePojo(pojoClass, context, genericTypeArgs);
+		} catch (SecurityException e) {
+			throw new PodamMockeryException(
+					"Security exception while applying introspection.", e);
+		}
+
+		// update memoization cache with new object
+		// the reference is stored before properties are set so that recursive
+		// properties can use it
+		if (currentMemoizationCache != null && retValue != null) {
+			currentMemoizationCache.putIfAbsent(pojoClass, genericTypeArgs,
+					retValue);
+		}
+
+		/* Construction failed, no point to continue */
+		if (retValue == null) {
+			return null;
+		}
+
+		if (retValue instanceof Collection && ((Collection<?>)retValue).size() == 0) {
+			fillCollection((Collection<? super Object>)retValue, context, genericTypeArgs);
+		} else if (retValue instanceof Map && ((Map<?,?>)retValue).size() == 0) {
+			fillMap((Map<? super Object,? super Object>)retValue, context, genericTypeArgs);
+		}
+
+		for (AttributePlan attribute : plan.getAttributes()) {
+
+			String attributeName = attribute.getAttributeName();
+			Class<?> attributeType = attribute.getAttributeType();
+			Object setterArg = null;
+
+			// A generator registered for the attribute or compiled from its
+			// annotations takes the precedence over any other strategy. If
+			// an attribute has been annotated with PodamAttributeStrategy,
+			// its generator is the only source of values.
+
+			AttributeGenerator<?> generator = attribute.getGenerator();
+			if (null != generator) {
+				setterArg = generator.generate(new AttributeMetadata(
+						attributeName, attributeType,
+						attribute.getAnnotations(), retValue.getClass()));
+			}
+
+			if (null == setterArg && null == attribute.getStrategyAnnotation()) {
+
+				setterArg = manufactureAttributeValue(retValue, context,
+						attributeType, attribute.getAnnotations(),
+						attributeName, plan.getTypeBindings(),
+						attribute.typeArguments());
+				if (null == setterArg) {
+					setterArg = externalFactory.manufacturePojo(attributeType);
+				}
+			}
+
+			if (setterArg != null) {
+				attribute.getSetterAccessor().set(retValue, setterArg);
+			} else {
+				LOG.warn("Couldn't find a suitable value for attribute {}[{}]"
+						+ ". It will be left to null.",
+						pojoClass, attributeType);
+			}
+
+		}
+
+		return retValue;
+
+	}
+
+	/**
+	 * It returns the manufacturing plan for the given class and generic type
+	 * arguments.
+	 * <p>
+	 * Plans are cached, so this method builds a plan only the first time a
+	 * class is manufactured with given type arguments, or when the class
+	 * information it was built from has been invalidated.
+	 * </p>
+	 *
+	 * @param pojoClass
+	 *            The class for which a plan is required
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return the manufacturing plan for the given class
+	 * @throws IllegalStateException
+	 *             If number of typed parameters doesn't match number of
+	 *             provided generic types
+	 */
+	public ManufacturingPlan getManufacturingPlan(Class<?> pojoClass,
+			Type... genericTypeArgs) {
+
+		ClassInfo classInfo = classInfoCache.getClassInfo(pojoClass,
+				strategy.getExcludedAnnotations());
 
-		// update memoization table with new object
-		// the reference is stored before properties are set so that recursive
-		// properties can use it
-		if (strategy.isMemoizationEnabled()) {
-			memoizationTable.put(pojoClass, retValue);
+		PlanKey key = new PlanKey(pojoClass, genericTypeArgs);
+		ManufacturingPlan plan = planCache.get(key);
+		if (plan != null && plan.getClassInfo() == classInfo) {
+			return plan;
 		}
 
-		/* Construction failed, no point to continue */
-		if (retValue == null) {
-			return null;
+		/*
+		 * Concurrent callers may build the same plan, but they all return the
+		 * one published first, unless it is stale
+		 */
+		ManufacturingPlan newPlan = buildManufacturingPlan(pojoClass,
+				classInfo, genericTypeArgs);
+		while (true) {
+			if (plan == null) {
+				plan = planCache.putIfAbsent(key, newPlan);
+				if (plan == null) {
+					return newPlan;
+				}
+			} else if (plan.getClassInfo() == classInfo) {
+				return plan;
+			} else if (planCache.replace(key, plan, newPlan)) {
+				return newPlan;
+			} else {
+				plan = planCache.get(key);
+			}
 		}
+	}
 
-		if (retValue instanceof Collection && ((Collection<?>)retValue).size() == 0) {
-			fillCollection((Collection<? super Object>)retValue, pojos, genericTypeArgs);
-		} else if (retValue instanceof Map && ((Map<?,?>)retValue).size() == 0) {
-			fillMap((Map<? super Object,? super Object>)retValue, pojos, genericTypeArgs);
-		}
+	/**
+	 * It builds the manufacturing plan for the given class.
+	 * <p>
+	 * For each setter this method retrieves the attribute annotations and
+	 * resolves the attribute type against the class generic type arguments.
+	 * Attributes are sorted by name, so that they are always filled in the
+	 * same order.
+	 * </p>
+	 *
+	 * @param pojoClass
+	 *            The class for which a plan is required
+	 * @param classInfo
+	 *            The class information
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return the manufacturing plan for the given class
+	 * @throws IllegalStateException
+	 *             If number of typed parameters doesn't match number of
+	 *             provided generic types
+	 */
+	private ManufacturingPlan buildManufacturingPlan(Class<?> pojoClass,
+			ClassInfo classInfo, Type... genericTypeArgs) {
 
-		Class<?>[] parameterTypes = null;
-		Class<?> attributeType = null;
+		LOG.debug("Building manufacturing plan for {} with parameters {}",
+				pojoClass, Arrays.toString(genericTypeArgs));
 
-		ClassInfo classInfo = PodamUtils.getClassInfo(pojoClass,
-				strategy.getExcludedAnnotations());
+		TypeBindings typeBindings = null;
+		List<AttributePlan> attributes = new ArrayList<AttributePlan>();
 
-		// According to JavaBeans standards, setters should have only
-		// one argument
-		Object setterArg = null;
 		for (Method setter : classInfo.getClassSetters()) {
 
 			List<Annotation> pojoAttributeAnnotations = retrieveFieldAnnotations(
@@ -1522,7 +1615,7 @@ public class PodamFactoryImpl implements PodamFactory {
 			String attributeName = PodamUtils
 					.extractFieldNameFromSetterMethod(setter);
 
-			parameterTypes = setter.getParameterTypes();
+			Class<?>[] parameterTypes = setter.getParameterTypes();
 			if (parameterTypes.length != 1) {
 				LOG.warn("Skipping setter with non-single arguments {}.{}",
 						pojoClass.getSimpleName(), setter.getName());
@@ -1531,114 +1624,261 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			// A class which has got an attribute to itself (e.g.
 			// recursive hierarchies)
-			attributeType = parameterTypes[0];
-
-			// If an attribute has been annotated with
-			// PodamAttributeStrategy, it takes the precedence over any
-			// other strategy. Additionally we don't pass the attribute
-			// metadata for value customisation; if user went to the extent
-			// of specifying a PodamAttributeStrategy annotation for an
-			// attribute they are already customising the value assigned to
-			// that attribute.
+			Class<?> attributeType = parameterTypes[0];
 
 			PodamStrategyValue attributeStrategyAnnotation = containsAttributeStrategyAnnotation(pojoAttributeAnnotations);
+			AttributeGenerator<?> generator = getAttributeGenerator(pojoClass,
+					attributeName, attributeType, pojoAttributeAnnotations,
+					attributeStrategyAnnotation);
 			if (null != attributeStrategyAnnotation) {
 
-				AttributeStrategy<?> attributeStrategy = attributeStrategyAnnotation
-						.value().newInstance();
+				attributes.add(new AttributePlan(attributeName, setter,
+						accessorFactory.getSetterAccessor(setter),
+						attributeType, NO_TYPES, pojoAttributeAnnotations,
+						attributeStrategyAnnotation, generator));
+				continue;
+			}
 
-				if (LOG.isDebugEnabled()) {
-					LOG.debug("The attribute: " + attributeName
-							+ " will be filled using the following strategy: "
-							+ attributeStrategy);
-				}
+			if (null == typeBindings) {
+				typeBindings = getPlanTypeBindings(pojoClass, genericTypeArgs);
+			}
 
-				setterArg = returnAttributeDataStrategyValue(attributeType,
-						attributeStrategy);
+			attributes.add(planAttribute(attributeName, setter,
+					accessorFactory.getSetterAccessor(setter), attributeType,
+					setter.getGenericParameterTypes()[0],
+					pojoAttributeAnnotations, generator, typeBindings));
+		}
 
-			} else {
+		if (fieldAccess && null != pojoClass.getClassLoader()) {
 
-				final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
+			// Fields without setters are written directly, unless they
+			// belong to the JDK, whose internals must not be tampered with
+			Set<String> attributesWithSetters = new HashSet<String>();
+			for (AttributePlan attribute : attributes) {
+				attributesWithSetters.add(attribute.getAttributeName());
+			}
 
-				Type[] genericTypeArgsExtra = fillTypeArgMap(typeArgsMap,
-						pojoClass, genericTypeArgs);
-				if (genericTypeArgsExtra != null) {
-					LOG.warn("Lost generic type arguments {}",
-							Arrays.toString(genericTypeArgsExtra));
+			MemberIndex memberIndex = MemberIndex.forClass(pojoClass);
+			for (String attributeName : classInfo.getClassFields()) {
+
+				Field field = memberIndex.getField(attributeName);
+				if (attributesWithSetters.contains(attributeName)
+						|| null == field || field.isSynthetic()
+						|| Modifier.isStatic(field.getModifiers())) {
+					continue;
 				}
 
-				Type[] typeArguments = new Type[] {};
-				// If the parameter is a generic parameterized type resolve
-				// the actual type arguments
-				if (setter.getGenericParameterTypes()[0] instanceof ParameterizedType) {
-					final ParameterizedType attributeParameterizedType = (ParameterizedType) setter
-							.getGenericParameterTypes()[0];
-					typeArguments = attributeParameterizedType
-							.getActualTypeArguments();
-				} else if (setter.getGenericParameterTypes()[0] instanceof TypeVariable) {
-					final TypeVariable<?> typeVariable = (TypeVariable<?>) setter
-							.getGenericParameterTypes()[0];
-					Type type = typeArgsMap.get(typeVariable.getName());
-					if (type instanceof ParameterizedType) {
-						final ParameterizedType attributeParameterizedType = (ParameterizedType) type;
-
-						typeArguments = attributeParameterizedType
-								.getActualTypeArguments();
-						attributeType = (Class<?>) attributeParameterizedType
-								.getRawType();
-					} else {
-						attributeType = (Class<?>) type;
-					}
+				SetterAccessor fieldAccessor = accessorFactory
+						.getFieldAccessor(field);
+				if (null == fieldAccessor) {
+					LOG.debug("Field {} cannot be written, it will be skipped",
+							field);
+					continue;
 				}
-				AtomicReference<Type[]> typeGenericTypeArgs
-						= new AtomicReference<Type[]>(new Type[] {});
-				for (int i = 0; i < typeArguments.length; i++) {
-					if (typeArguments[i] instanceof TypeVariable) {
-						Class<?> resolvedType = resolveGenericParameter(typeArguments[i],
-								typeArgsMap, typeGenericTypeArgs);
-						if (!Collection.class.isAssignableFrom(resolvedType) && !Map.class.isAssignableFrom(resolvedType)) {
-							typeArguments[i] = resolvedType;
-						}
-					}
+
+				List<Annotation> fieldAnnotations = Arrays.asList(field
+						.getAnnotations());
+				PodamStrategyValue attributeStrategyAnnotation = containsAttributeStrategyAnnotation(fieldAnnotations);
+				AttributeGenerator<?> generator = getAttributeGenerator(
+						pojoClass, attributeName, field.getType(),
+						fieldAnnotations, attributeStrategyAnnotation);
+				if (null != attributeStrategyAnnotation) {
+
+					attributes.add(new AttributePlan(attributeName, null,
+							fieldAccessor, field.getType(), NO_TYPES,
+							fieldAnnotations, attributeStrategyAnnotation,
+							generator));
+					continue;
 				}
 
-				setterArg = manufactureAttributeValue(retValue, pojos,
-						attributeType, pojoAttributeAnnotations, attributeName,
-						typeArgsMap, typeArguments);
-				if (null == setterArg) {
-					setterArg = externalFactory.manufacturePojo(attributeType);
+				if (null == typeBindings) {
+					typeBindings = getPlanTypeBindings(pojoClass,
+							genericTypeArgs);
 				}
+
+				attributes.add(planAttribute(attributeName, null,
+						fieldAccessor, field.getType(), field.getGenericType(),
+						fieldAnnotations, generator, typeBindings));
 			}
+		}
 
-			if (setterArg != null) {
-				try {
-					setter.invoke(retValue, setterArg);
-				} catch(IllegalAccessException e) {
-					LOG.warn("{} is not accessible. Setting it to accessible."
-							+ " However this is a security hack and your code"
-							+ " should really adhere to JavaBeans standards.",
-							setter.toString());
-					setter.setAccessible(true);
-					setter.invoke(retValue, setterArg);
-				}
+		Collections.sort(attributes, ATTRIBUTE_PLAN_COMPARATOR);
+
+		ConstructorSelection selection = constructorCache.getSelection(
+				pojoClass, strategy);
+		for (Constructor<?> constructor : selection.getConstructors()) {
+			compileParameterAnnotations(constructor.getParameterTypes(),
+					constructor.getParameterAnnotations());
+		}
+		for (Method factoryMethod : selection.getFactoryMethods()) {
+			compileParameterAnnotations(factoryMethod.getParameterTypes(),
+					factoryMethod.getParameterAnnotations());
+		}
+
+		if (null == typeBindings) {
+			typeBindings = TypeBindings.EMPTY;
+		}
+		return new ManufacturingPlan(pojoClass, genericTypeArgs, classInfo,
+				typeBindings, attributes);
+	}
+
+	/**
+	 * It returns the type bindings a manufacturing plan is built against.
+	 *
+	 * @param pojoClass
+	 *            The class for which a plan is required
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return the bindings of the type variables of the class
+	 * @throws IllegalStateException
+	 *             If number of typed parameters doesn't match number of
+	 *             provided generic types
+	 */
+	private TypeBindings getPlanTypeBindings(Class<?> pojoClass,
+			Type[] genericTypeArgs) {
+
+		TypeBindings typeBindings = getTypeBindings(pojoClass, genericTypeArgs);
+		Type[] genericTypeArgsExtra = typeBindings.getExtraTypeArgs();
+		if (genericTypeArgsExtra != null) {
+			LOG.warn("Lost generic type arguments {}",
+					Arrays.toString(genericTypeArgsExtra));
+		}
+		return typeBindings;
+	}
+
+	/**
+	 * It plans an attribute, resolving its type against the class generic
+	 * type arguments.
+	 *
+	 * @param attributeName
+	 *            The attribute name
+	 * @param setter
+	 *            The setter used to assign the attribute value, or
+	 *            {@code null} if the value is written into the field
+	 * @param setterAccessor
+	 *            The accessor assigning the attribute value
+	 * @param attributeType
+	 *            The declared raw type of the attribute
+	 * @param genericParameterType
+	 *            The declared generic type of the attribute
+	 * @param annotations
+	 *            The annotations of the attribute
+	 * @param generator
+	 *            The generator of the attribute values, or {@code null} if
+	 *            none
+	 * @param typeBindings
+	 *            the bindings relating the generic class arguments ("<T, V>"
+	 *            for example) with their actual types
+	 * @return the plan of the attribute
+	 */
+	private AttributePlan planAttribute(String attributeName, Method setter,
+			SetterAccessor setterAccessor, Class<?> attributeType,
+			Type genericParameterType, List<Annotation> annotations,
+			AttributeGenerator<?> generator, TypeBindings typeBindings) {
+
+		Type[] typeArguments = NO_TYPES;
+		// If the parameter is a generic parameterized type resolve
+		// the actual type arguments
+		if (genericParameterType instanceof ParameterizedType) {
+			final ParameterizedType attributeParameterizedType = (ParameterizedType) genericParameterType;
+			typeArguments = attributeParameterizedType
+					.getActualTypeArguments().clone();
+		} else if (genericParameterType instanceof TypeVariable) {
+			final TypeVariable<?> typeVariable = (TypeVariable<?>) genericParameterType;
+			Type type = typeBindings.get(typeVariable.getName());
+			if (type instanceof ParameterizedType) {
+				final ParameterizedType attributeParameterizedType = (ParameterizedType) type;
+
+				typeArguments = attributeParameterizedType
+						.getActualTypeArguments().clone();
+				attributeType = (Class<?>) attributeParameterizedType
+						.getRawType();
 			} else {
-				LOG.warn("Couldn't find a suitable value for attribute {}[{}]"
-						+ ". It will be left to null.",
-						pojoClass, attributeType);
+				attributeType = (Class<?>) type;
+			}
+		}
+		for (int i = 0; i < typeArguments.length; i++) {
+			if (typeArguments[i] instanceof TypeVariable) {
+				Class<?> resolvedType = typeBindings.resolve(
+						typeArguments[i]).getRawType();
+				if (!Collection.class.isAssignableFrom(resolvedType) && !Map.class.isAssignableFrom(resolvedType)) {
+					typeArguments[i] = resolvedType;
+				}
 			}
+		}
+
+		return new AttributePlan(attributeName, setter, setterAccessor,
+				attributeType, typeArguments, annotations, null,
+				generator);
+	}
 
+	/**
+	 * It returns the generator of an attribute.
+	 * <p>
+	 * A generator registered for the attribute takes the precedence.
+	 * Otherwise the {@link PodamStrategyValue} annotation of the attribute or
+	 * the annotation customising values of its type, such as
+	 * {@link PodamIntValue} for an integer, are compiled into a generator,
+	 * which is kept in the registry so that the annotations are compiled only
+	 * once.
+	 * </p>
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @param attributeName
+	 *            The attribute name
+	 * @param attributeType
+	 *            The declared type of the attribute
+	 * @param annotations
+	 *            The annotations of the attribute
+	 * @param strategyAnnotation
+	 *            The attribute strategy annotation, or {@code null} if none
+	 * @return the generator of the attribute or null if its values are
+	 *         manufactured according to their type
+	 * @throws IllegalArgumentException
+	 *             If the type of the {@link PodamStrategyValue} strategy is
+	 *             not assignable to the attribute
+	 */
+	private AttributeGenerator<?> getAttributeGenerator(Class<?> pojoClass,
+			String attributeName, Class<?> attributeType,
+			List<Annotation> annotations, PodamStrategyValue strategyAnnotation) {
+
+		AttributeGenerator<?> generator = attributeRegistry.getRegistered(
+				pojoClass, attributeName);
+		if (null != generator) {
+			return generator;
 		}
 
-		return retValue;
+		AttributeKey key = new AttributeKey(pojoClass, attributeName);
+		generator = attributeRegistry.getCompiled(key);
+		if (null != generator) {
+			return generator;
+		}
+
+		if (null != strategyAnnotation) {
+
+			checkAttributeStrategyType(attributeType,
+					strategyAnnotation.value());
+			generator = new StrategyValueGenerator(strategyAnnotation.value());
+
+		} else {
+
+			generator = getValueGenerator(attributeType, annotations);
+			if (null == generator) {
+				return null;
+			}
+		}
 
+		return attributeRegistry.addCompiled(key, generator);
 	}
 
 	/**
 	 * It manufactures and returns the value for a POJO method parameter.
 	 *
 	 *
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param parameterType
 	 *            The type of the attribute for which a value is being
 	 *            manufactured
@@ -1667,17 +1907,16 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             </ul>
 	 *
 	 */
-	private Object manufactureParameterValue(Map<Class<?>, Integer> pojos,
+	private Object manufactureParameterValue(ManufacturingContext context,
 			Class<?> parameterType, List<Annotation> annotations,
 			Type... genericTypeArgs) throws InstantiationException,
 			IllegalAccessException, InvocationTargetException,
 			ClassNotFoundException {
 
-		Map<String, Type> nullTypeArgsMap = new HashMap<String, Type>();
 		String attributeName = null;
 
-		return manufactureAttributeValue(Object.class, pojos, parameterType,
-				annotations, attributeName, nullTypeArgsMap, genericTypeArgs);
+		return manufactureAttributeValue(Object.class, context, parameterType,
+				annotations, attributeName, TypeBindings.EMPTY, genericTypeArgs);
 	}
 
 	/**
@@ -1686,8 +1925,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 * @param pojo
 	 *            The POJO being filled with values
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param attributeType
 	 *            The type of the attribute for which a value is being
 	 *            manufactured
@@ -1695,9 +1934,9 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *            The annotations for the attribute being considered
 	 * @param attributeName
 	 *            The attribute name
-	 * @param typeArgsMap
-	 *            a map relating the generic class arguments ("<T, V>" for
-	 *            example) with their actual types
+	 * @param typeBindings
+	 *            the bindings relating the generic class arguments ("<T, V>"
+	 *            for example) with their actual types
 	 * @param genericTypeArgs
 	 *            The generic type arguments for the current generic class
 	 *            instance
@@ -1723,9 +1962,9 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	@SuppressWarnings(RAWTYPES_STR)
 	private Object manufactureAttributeValue(Object pojo,
-			Map<Class<?>, Integer> pojos, Class<?> attributeType,
+			ManufacturingContext context, Class<?> attributeType,
 			List<Annotation> annotations, String attributeName,
-			Map<String, Type> typeArgsMap, Type... genericTypeArgs)
+			TypeBindings typeBindings, Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 		Object attributeValue = null;
@@ -1761,8 +2000,8 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			// Array type
 
-			attributeValue = resolveArrayElementValue(realAttributeType, pojos,
-					annotations, pojo, attributeName, typeArgsMap);
+			attributeValue = resolveArrayElementValue(realAttributeType, context,
+					annotations, pojo, attributeName, typeBindings);
 
 			// Otherwise it's a different type of Object (including
 			// the Object class)
@@ -1770,8 +2009,8 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			try {
 				attributeValue = resolveCollectionValueWhenCollectionIsPojoAttribute(
-						pojo, pojos, realAttributeType, attributeName,
-						annotations, typeArgsMap, genericTypeArgs);
+						pojo, context, realAttributeType, attributeName,
+						annotations, typeBindings, genericTypeArgs);
 			} catch(IllegalArgumentException e) {
 				LOG.info("Cannot manufacture list {}, will try strategy",
 						realAttributeType);
@@ -1781,8 +2020,8 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			try {
 				attributeValue = resolveMapValueWhenMapIsPojoAttribute(pojo,
-						pojos, realAttributeType, attributeName, annotations,
-						typeArgsMap, genericTypeArgs);
+						context, realAttributeType, attributeName, annotations,
+						typeBindings, genericTypeArgs);
 			} catch(IllegalArgumentException e) {
 				LOG.info("Cannot manufacture map {}, will try strategy",
 						realAttributeType);
@@ -1803,10 +2042,8 @@ public class PodamFactoryImpl implements PodamFactory {
 		} else if (Type.class.isAssignableFrom(realAttributeType)) {
 
 			if (genericTypeArgs.length > 0 && genericTypeArgs[0] != null) {
-				AtomicReference<Type[]> elementGenericTypeArgs
-						= new AtomicReference<Type[]>(new Type[] {});
-				attributeValue = resolveGenericParameter(genericTypeArgs[0],
-						typeArgsMap, elementGenericTypeArgs);
+				attributeValue = typeBindings.resolve(genericTypeArgs[0])
+						.getRawType();
 			} else {
 				LOG.error("{} is missing generic type argument",
 						realAttributeType);
@@ -1817,16 +2054,13 @@ public class PodamFactoryImpl implements PodamFactory {
 		// For any other type, we use the PODAM strategy
 		if (attributeValue == null) {
 
-			Integer depth = pojos.get(realAttributeType);
-			if (depth == null) {
-				depth = -1;
-			}
+			int depth = context.getDepth(realAttributeType);
 			if (depth <= strategy.getMaxDepth(pojo.getClass())) {
 
-				pojos.put(realAttributeType, depth + 1);
+				context.setDepth(realAttributeType, depth + 1);
 				attributeValue = this.manufacturePojoInternal(
-							realAttributeType, pojos, genericTypeArgs);
-				pojos.put(realAttributeType, depth);
+							realAttributeType, context, genericTypeArgs);
+				context.setDepth(realAttributeType, depth);
 
 			} else {
 
@@ -1850,57 +2084,19 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *            any
 	 * @param attributeMetadata
 	 * @return a String value, eventually customised by annotations
-	 * @throws IllegalAccessException
-	 *             If an exception occurred while creating an instance of the
-	 *             strategy
-	 * @throws InstantiationException
-	 *             If an exception occurred while creating an instance of the
-	 *             strategy
-	 *
-	 * @throws IllegalArgumentException
-	 *             If {@link PodamStrategyValue} was specified but the type was
-	 *             not correct for the attribute being set
 	 */
 	private String resolveStringValue(List<Annotation> annotations,
-			AttributeMetadata attributeMetadata) throws InstantiationException,
-			IllegalAccessException {
+			AttributeMetadata attributeMetadata) {
 
 		String retValue = null;
 
-		if (annotations == null || annotations.isEmpty()) {
+		if (annotations != null && !annotations.isEmpty()) {
+			retValue = (String) getAnnotatedValue(String.class, annotations,
+					attributeMetadata);
+		}
 
+		if (retValue == null) {
 			retValue = strategy.getStringValue(attributeMetadata);
-
-		} else {
-
-			for (Annotation annotation : annotations) {
-
-				if (!PodamStringValue.class.isAssignableFrom(annotation
-						.getClass())) {
-					continue;
-				}
-
-				// A specific value takes precedence over the length
-				PodamStringValue podamAnnotation = (PodamStringValue) annotation;
-
-				if (podamAnnotation.strValue() != null
-						&& podamAnnotation.strValue().length() > 0) {
-
-					retValue = podamAnnotation.strValue();
-
-				} else {
-
-					retValue = strategy.getStringOfLength(
-							podamAnnotation.length(), attributeMetadata);
-
-				}
-
-			}
-
-			if (retValue == null) {
-				retValue = strategy.getStringValue(attributeMetadata);
-			}
-
 		}
 
 		return retValue;
@@ -1960,18 +2156,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	private Field getField(Class<?> pojoClass, String attributeName) {
 
-		Field field = null;
-
-		Class<?> clazz = pojoClass;
-
-		while (clazz != null) {
-			try {
-				field = clazz.getDeclaredField(attributeName);
-				break;
-			} catch (NoSuchFieldException e) {
-				clazz = clazz.getSuperclass();
-			}
-		}
+		Field field = MemberIndex.forClass(pojoClass).getField(attributeName);
 		if (field == null) {
 			LOG.warn("A field could not be found for attribute '{}[{}]'",
 					pojoClass, attributeName);
@@ -2039,10 +2224,6 @@ public class PodamFactoryImpl implements PodamFactory {
 	 * @param setter
 	 *            The setter method
 	 * @return all annotations for the field
-	 * @throws NoSuchFieldException
-	 *             If the field could not be found
-	 * @throws SecurityException
-	 *             if a security exception occurred
 	 */
 	private List<Annotation> retrieveFieldAnnotations(Class<?> clazz,
 			Method setter) {
@@ -2072,8 +2253,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 * @param pojoClass
 	 *            The POJO being analysed
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param collectionType
 	 *            The type of the attribute being evaluated
 	 * @param annotations
@@ -2081,9 +2262,9 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *            be empty
 	 * @param attributeName
 	 *            The name of the field being set
-	 * @param typeArgsMap
-	 *            a map relating the generic class arguments ("<T, V>" for
-	 *            example) with their actual types
+	 * @param typeBindings
+	 *            the bindings relating the generic class arguments ("<T, V>"
+	 *            for example) with their actual types
 	 * @param genericTypeArgs
 	 *            The generic type arguments for the current generic class
 	 *            instance
@@ -2094,9 +2275,9 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             If the field name is null or empty
 	 */
 	private Collection<? super Object> resolveCollectionValueWhenCollectionIsPojoAttribute(
-			Object pojo, Map<Class<?>, Integer> pojos,
+			Object pojo, ManufacturingContext context,
 			Class<?> collectionType, String attributeName,
-			List<Annotation> annotations, Map<String, Type> typeArgsMap,
+			List<Annotation> annotations, TypeBindings typeBindings,
 			Type... genericTypeArgs) {
 
 		// This needs to be generic because collections can be of any type
@@ -2112,8 +2293,7 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			Class<?> typeClass = null;
 
-			AtomicReference<Type[]> elementGenericTypeArgs = new AtomicReference<Type[]>(
-					new Type[] {});
+			Type[] elementGenericTypeArgs = NO_TYPES;
 			if (genericTypeArgs == null || genericTypeArgs.length == 0) {
 
 				LOG.warn("The collection attribute: "
@@ -2125,12 +2305,14 @@ public class PodamFactoryImpl implements PodamFactory {
 			} else {
 				Type actualTypeArgument = genericTypeArgs[0];
 
-				typeClass = resolveGenericParameter(actualTypeArgument,
-						typeArgsMap, elementGenericTypeArgs);
+				ResolvedType elementType = typeBindings
+						.resolve(actualTypeArgument);
+				typeClass = elementType.getRawType();
+				elementGenericTypeArgs = elementType.getTypeArgs();
 			}
 
-			fillCollection(pojos, annotations, retValue, typeClass,
-					elementGenericTypeArgs.get());
+			fillCollection(context, annotations, retValue, typeClass,
+					elementGenericTypeArgs);
 
 		} catch (SecurityException e) {
 			throw new PodamMockeryException(RESOLVING_COLLECTION_EXCEPTION_STR,
@@ -2166,8 +2348,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 * @param collection
 	 *          The Collection to be filled
-	 * @param pojos
-	 *          Set of manufactured pojos' types
+	 * @param context
+	 *          The context of the current manufacturing call
 	 * @param genericTypeArgs
 	 *          The generic type arguments for the current generic class
 	 *          instance
@@ -2183,33 +2365,31 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 */
 	private void fillCollection(Collection<? super Object> collection,
-			Map<Class<?>, Integer> pojos, Type... genericTypeArgs)
+			ManufacturingContext context, Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
-		final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
 		Class<?> collectionClass = collection.getClass();
-		Type[] genericTypeArgsExtra = fillTypeArgMap(typeArgsMap,
-				collectionClass, genericTypeArgs);
+		final TypeBindings typeBindings = getTypeBindings(collectionClass,
+				genericTypeArgs);
+		Type[] genericTypeArgsExtra = typeBindings.getExtraTypeArgs();
 		if (genericTypeArgsExtra != null && genericTypeArgsExtra.length > 0) {
 			LOG.warn("Lost generic type arguments {}",
 					Arrays.toString(genericTypeArgsExtra));
 		}
 
 		Annotation[] annotations = collection.getClass().getAnnotations();
-		AtomicReference<Type[]> elementGenericTypeArgs = new AtomicReference<Type[]>(
-				new Type[] {});
 		Type[] typeParams = collectionClass.getTypeParameters();
 		while (typeParams.length < 1) {
 			Type type = collectionClass.getGenericSuperclass();
-			collectionClass = resolveGenericParameter(type, typeArgsMap,
-					elementGenericTypeArgs);
-			typeParams = elementGenericTypeArgs.get();
+			ResolvedType superType = typeBindings.resolve(type);
+			collectionClass = superType.getRawType();
+			typeParams = superType.getTypeArgs();
 		}
-		Class<?> elementTypeClass = resolveGenericParameter(typeParams[0],
-					typeArgsMap, elementGenericTypeArgs);
-		fillCollection(pojos, Arrays.asList(annotations),
-				collection, elementTypeClass, elementGenericTypeArgs.get());
+		ResolvedType elementType = typeBindings.resolve(typeParams[0]);
+		fillCollection(context, Arrays.asList(annotations),
+				collection, elementType.getRawType(),
+				elementType.getTypeArgs());
 	}
 
 	/**
@@ -2221,8 +2401,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 * as argument.
 	 * </p>
 	 *
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param annotations
 	 *            The annotations for this attribute
 	 * @param collection
@@ -2243,7 +2423,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             If it was not possible to create a class from a string
 	 *
 	 */
-	private void fillCollection(Map<Class<?>, Integer> pojos,
+	private void fillCollection(ManufacturingContext context,
 			List<Annotation> annotations, Collection<? super Object> collection,
 			Class<?> collectionElementType, Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
@@ -2278,7 +2458,18 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			collection.clear();
 		}
-		
+
+		if (null == elementStrategy
+				|| (ObjectStrategy.class.isAssignableFrom(elementStrategy
+						.getClass()) && !Object.class
+						.equals(collectionElementType))) {
+			Object[] elements = manufactureElements(context,
+					nbrElements - collection.size(), collectionElementType,
+					annotations, genericTypeArgs);
+			Collections.addAll(collection, elements);
+			return;
+		}
+
 		for (int i = collection.size(); i < nbrElements; i++) {
 
 			// The default
@@ -2289,37 +2480,273 @@ public class PodamFactoryImpl implements PodamFactory {
 					&& Object.class.equals(collectionElementType)) {
 				LOG.debug("Element strategy is ObjectStrategy and collection element is of type Object: using the ObjectStrategy strategy");
 				element = elementStrategy.getValue();
-			} else if (null != elementStrategy
-					&& !ObjectStrategy.class.isAssignableFrom(elementStrategy
-							.getClass())) {
+			} else {
 				LOG.debug("Collection elements will be filled using the following strategy: "
 						+ elementStrategy);
 				element = returnAttributeDataStrategyValue(
 						collectionElementType, elementStrategy);
-			} else {
-				element = manufactureParameterValue(pojos,
-						collectionElementType, annotations, genericTypeArgs);
 			}
 			collection.add(element);
 		}
 	}
 
+	/**
+	 * It manufactures the elements of a collection.
+	 * <p>
+	 * In seeded mode each element draws from its own split of the current
+	 * random stream. Large numbers of elements are manufactured in parallel
+	 * if an executor was set and the context is not already a branch, unless
+	 * the call is both seeded and memoized: the branches would share the
+	 * memoized POJOs, and which element memoizes a POJO first, for the others
+	 * to reuse, would depend on thread timing.
+	 * </p>
+	 *
+	 * @param context
+	 *            The context of the current manufacturing call
+	 * @param count
+	 *            How many elements to manufacture
+	 * @param elementType
+	 *            The type of the elements
+	 * @param annotations
+	 *            The annotations of the collection attribute
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the elements
+	 * @return the elements, in order
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private Object[] manufactureElements(ManufacturingContext context,
+			int count, Class<?> elementType, List<Annotation> annotations,
+			Type... genericTypeArgs) throws InstantiationException,
+			IllegalAccessException, InvocationTargetException,
+			ClassNotFoundException {
+
+		Object[] elements = new Object[Math.max(0, count)];
+
+		RandomSource[] sources = null;
+		if (context.getRandomSource() != null) {
+			sources = new RandomSource[elements.length];
+			for (int i = 0; i < sources.length; i++) {
+				sources[i] = context.getRandomSource().split();
+			}
+		}
+
+		Executor currentExecutor = executor;
+		boolean reproducibleMemoization = sources != null
+				&& getMemoizationCache(context) != null;
+		if (currentExecutor != null && !context.isBranch()
+				&& !reproducibleMemoization
+				&& elements.length >= parallelThreshold) {
+			manufactureElementsInParallel(currentExecutor, context, elements,
+					sources, elementType, annotations, genericTypeArgs);
+		} else {
+			manufactureElements(context, elements, 0, elements.length,
+					sources, elementType, annotations, genericTypeArgs);
+		}
+		return elements;
+	}
+
+	/**
+	 * It manufactures a range of collection elements.
+	 *
+	 * @param context
+	 *            The context of the current manufacturing call
+	 * @param elements
+	 *            The array of elements to fill
+	 * @param from
+	 *            The first element to manufacture (inclusive)
+	 * @param to
+	 *            The last element to manufacture (exclusive)
+	 * @param sources
+	 *            The random sources of the elements, null if not seeded
+	 * @param elementType
+	 *            The type of the elements
+	 * @param annotations
+	 *            The annotations of the collection attribute
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the elements
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private void manufactureElements(ManufacturingContext context,
+			Object[] elements, int from, int to, RandomSource[] sources,
+			Class<?> elementType, List<Annotation> annotations,
+			Type... genericTypeArgs) throws InstantiationException,
+			IllegalAccessException, InvocationTargetException,
+			ClassNotFoundException {
+
+		for (int i = from; i < to; i++) {
+			if (sources == null) {
+				elements[i] = manufactureParameterValue(context, elementType,
+						annotations, genericTypeArgs);
+				continue;
+			}
+
+			SeedableDataProviderStrategy seedableStrategy = (SeedableDataProviderStrategy) strategy;
+			RandomSource parentSource = context.getRandomSource();
+			RandomSource previousSource = seedableStrategy
+					.bindRandomSource(sources[i]);
+			context.setRandomSource(sources[i]);
+			try {
+				elements[i] = manufactureParameterValue(context, elementType,
+						annotations, genericTypeArgs);
+			} finally {
+				context.setRandomSource(parentSource);
+				seedableStrategy.bindRandomSource(previousSource);
+			}
+		}
+	}
+
+	/**
+	 * It manufactures collection elements in parallel.
+	 * <p>
+	 * The elements are split in chunks, each manufactured within its own
+	 * branch of the context. The calling thread manufactures the first chunk
+	 * and then any chunk the executor has not started yet.
+	 * </p>
+	 *
+	 * @param currentExecutor
+	 *            The executor to submit chunks to
+	 * @param context
+	 *            The context of the current manufacturing call
+	 * @param elements
+	 *            The array of elements to fill
+	 * @param sources
+	 *            The random sources of the elements, null if not seeded
+	 * @param elementType
+	 *            The type of the elements
+	 * @param annotations
+	 *            The annotations of the collection attribute
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the elements
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private void manufactureElementsInParallel(Executor currentExecutor,
+			ManufacturingContext context, final Object[] elements,
+			final RandomSource[] sources, final Class<?> elementType,
+			final List<Annotation> annotations, final Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		int nbrChunks = Math.min(elements.length, Runtime.getRuntime()
+				.availableProcessors());
+		int chunkSize = (elements.length + nbrChunks - 1) / nbrChunks;
+
+		List<FutureTask<Void>> chunks = new ArrayList<FutureTask<Void>>();
+		for (int from = chunkSize; from < elements.length; from += chunkSize) {
+			final int start = from;
+			final int end = Math.min(from + chunkSize, elements.length);
+			final ManufacturingContext branch = context.fork();
+			FutureTask<Void> chunk = new FutureTask<Void>(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					manufactureElements(branch, elements, start, end, sources,
+							elementType, annotations, genericTypeArgs);
+					return null;
+				}
+			});
+			chunks.add(chunk);
+			try {
+				currentExecutor.execute(chunk);
+			} catch (RejectedExecutionException e) {
+				LOG.debug("Chunk [{}, {}) rejected by the executor,"
+						+ " it will be manufactured by the calling thread",
+						start, end);
+			}
+		}
+
+		manufactureElements(context.fork(), elements, 0,
+				Math.min(chunkSize, elements.length), sources, elementType,
+				annotations, genericTypeArgs);
+
+		for (FutureTask<Void> chunk : chunks) {
+			/* Does nothing if a worker already started the chunk */
+			chunk.run();
+			try {
+				chunk.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new PodamMockeryException(
+						"Interrupted while manufacturing " + elementType, e);
+			} catch (ExecutionException e) {
+				rethrowManufacturingException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * It rethrows an exception thrown while manufacturing a POJO in another
+	 * thread.
+	 *
+	 * @param cause
+	 *            The exception thrown by the other thread
+	 * @throws InstantiationException
+	 *             If the cause is an {@link InstantiationException}
+	 * @throws IllegalAccessException
+	 *             If the cause is an {@link IllegalAccessException}
+	 * @throws InvocationTargetException
+	 *             If the cause is an {@link InvocationTargetException}
+	 * @throws ClassNotFoundException
+	 *             If the cause is a {@link ClassNotFoundException}
+	 */
+	private void rethrowManufacturingException(Throwable cause)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		} else if (cause instanceof Error) {
+			throw (Error) cause;
+		} else if (cause instanceof InstantiationException) {
+			throw (InstantiationException) cause;
+		} else if (cause instanceof IllegalAccessException) {
+			throw (IllegalAccessException) cause;
+		} else if (cause instanceof InvocationTargetException) {
+			throw (InvocationTargetException) cause;
+		} else if (cause instanceof ClassNotFoundException) {
+			throw (ClassNotFoundException) cause;
+		}
+		throw new PodamMockeryException(cause.getMessage(), cause);
+	}
+
 	/**
 	 * It manufactures and returns a Map with at least one element in it
 	 *
 	 * @param pojoClass
 	 *            The POJO being initialised
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param attributeType
 	 *            The type of the POJO map attribute
 	 * @param attributeName
 	 *            The POJO attribute name
 	 * @param annotations
 	 *            The annotations specified for this attribute
-	 * @param typeArgsMap
-	 *            a map relating the generic class arguments ("<T, V>" for
-	 *            example) with their actual types
+	 * @param typeBindings
+	 *            the bindings relating the generic class arguments ("<T, V>"
+	 *            for example) with their actual types
 	 * @param genericTypeArgs
 	 *            The generic type arguments for the current generic class
 	 *            instance
@@ -2336,9 +2763,9 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             If an error occurred while creating the Map object
 	 */
 	private Map<? super Object, ? super Object> resolveMapValueWhenMapIsPojoAttribute(
-			Object pojo, Map<Class<?>, Integer> pojos,
+			Object pojo, ManufacturingContext context,
 			Class<?> attributeType, String attributeName,
-			List<Annotation> annotations, Map<String, Type> typeArgsMap,
+			List<Annotation> annotations, TypeBindings typeBindings,
 			Type... genericTypeArgs) {
 
 		Map<? super Object, ? super Object> retValue = null;
@@ -2355,10 +2782,8 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			Class<?> elementClass = null;
 
-			AtomicReference<Type[]> keyGenericTypeArgs = new AtomicReference<Type[]>(
-					new Type[] {});
-			AtomicReference<Type[]> elementGenericTypeArgs = new AtomicReference<Type[]>(
-					new Type[] {});
+			Type[] keyGenericTypeArgs = NO_TYPES;
+			Type[] elementGenericTypeArgs = NO_TYPES;
 			if (genericTypeArgs == null || genericTypeArgs.length == 0) {
 
 				LOG.warn("Map attribute: "
@@ -2378,21 +2803,24 @@ public class PodamFactoryImpl implements PodamFactory {
 				}
 
 				Type[] actualTypeArguments = genericTypeArgs;
-				keyClass = resolveGenericParameter(actualTypeArguments[0],
-						typeArgsMap, keyGenericTypeArgs);
-				elementClass = resolveGenericParameter(actualTypeArguments[1],
-						typeArgsMap, elementGenericTypeArgs);
+				ResolvedType keyType = typeBindings
+						.resolve(actualTypeArguments[0]);
+				ResolvedType elementType = typeBindings
+						.resolve(actualTypeArguments[1]);
+				keyClass = keyType.getRawType();
+				keyGenericTypeArgs = keyType.getTypeArgs();
+				elementClass = elementType.getRawType();
+				elementGenericTypeArgs = elementType.getTypeArgs();
 			}
 
 			MapArguments mapArguments = new MapArguments();
-			mapArguments.setPojos(pojos);
+			mapArguments.setContext(context);
 			mapArguments.setAnnotations(annotations);
 			mapArguments.setMapToBeFilled(retValue);
 			mapArguments.setKeyClass(keyClass);
 			mapArguments.setElementClass(elementClass);
-			mapArguments.setKeyGenericTypeArgs(keyGenericTypeArgs.get());
-			mapArguments
-					.setElementGenericTypeArgs(elementGenericTypeArgs.get());
+			mapArguments.setKeyGenericTypeArgs(keyGenericTypeArgs);
+			mapArguments.setElementGenericTypeArgs(elementGenericTypeArgs);
 
 			fillMap(mapArguments);
 
@@ -2421,8 +2849,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 * @param pojoClass
 	 *          The POJO being initialised
-	 * @param pojos
-	 *          Set of manufactured pojos' types
+	 * @param context
+	 *          The context of the current manufacturing call
 	 * @param genericTypeArgs
 	 *          The generic type arguments for the current generic class
 	 *          instance
@@ -2438,43 +2866,37 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 */
 	private void fillMap(Map<? super Object, ? super Object> map,
-			Map<Class<?>, Integer> pojos, Type... genericTypeArgs)
+			ManufacturingContext context, Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
-		final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
 		Class<?> pojoClass = map.getClass();
-		Type[] genericTypeArgsExtra = fillTypeArgMap(typeArgsMap,
-				pojoClass, genericTypeArgs);
+		final TypeBindings typeBindings = getTypeBindings(pojoClass,
+				genericTypeArgs);
+		Type[] genericTypeArgsExtra = typeBindings.getExtraTypeArgs();
 		if (genericTypeArgsExtra != null && genericTypeArgsExtra.length > 0) {
 			LOG.warn("Lost generic type arguments {}",
 					Arrays.toString(genericTypeArgsExtra));
 		}
 
 		Class<?> mapClass = pojoClass;
-		AtomicReference<Type[]> elementGenericTypeArgs = new AtomicReference<Type[]>(
-				new Type[] {});
 		Type[] typeParams = mapClass.getTypeParameters();
 		while (typeParams.length < 2) {
 			Type type = mapClass.getGenericSuperclass();
-			mapClass = resolveGenericParameter(type, typeArgsMap, elementGenericTypeArgs);
-			typeParams = elementGenericTypeArgs.get();
-		}
-		AtomicReference<Type[]> keyGenericTypeArgs = new AtomicReference<Type[]>(
-				new Type[] {});
-		Class<?> keyClass = resolveGenericParameter(typeParams[0],
-					typeArgsMap, keyGenericTypeArgs);
-		Class<?> elementClass = resolveGenericParameter(typeParams[1],
-					typeArgsMap, elementGenericTypeArgs);
+			ResolvedType superType = typeBindings.resolve(type);
+			mapClass = superType.getRawType();
+			typeParams = superType.getTypeArgs();
+		}
+		ResolvedType keyType = typeBindings.resolve(typeParams[0]);
+		ResolvedType elementType = typeBindings.resolve(typeParams[1]);
 		MapArguments mapArguments = new MapArguments();
-		mapArguments.setPojos(pojos);
+		mapArguments.setContext(context);
 		mapArguments.setAnnotations(Arrays.asList(pojoClass.getAnnotations()));
 		mapArguments.setMapToBeFilled(map);
-		mapArguments.setKeyClass(keyClass);
-		mapArguments.setElementClass(elementClass);
-		mapArguments.setKeyGenericTypeArgs(keyGenericTypeArgs.get());
-		mapArguments
-				.setElementGenericTypeArgs(elementGenericTypeArgs.get());
+		mapArguments.setKeyClass(keyType.getRawType());
+		mapArguments.setElementClass(elementType.getRawType());
+		mapArguments.setKeyGenericTypeArgs(keyType.getTypeArgs());
+		mapArguments.setElementGenericTypeArgs(elementType.getTypeArgs());
 
 		fillMap(mapArguments);
 	}
@@ -2549,7 +2971,7 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			MapKeyOrElementsArguments valueArguments = new MapKeyOrElementsArguments();
 			valueArguments.setPojoClass(mapType);
-			valueArguments.setPojos(mapArguments.getPojos());
+			valueArguments.setContext(mapArguments.getContext());
 			valueArguments.setAnnotations(mapArguments.getAnnotations());
 			valueArguments.setKeyOrValueType(mapArguments.getKeyClass());
 			valueArguments.setElementStrategy(keyStrategy);
@@ -2560,7 +2982,7 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			valueArguments = new MapKeyOrElementsArguments();
 			valueArguments.setPojoClass(mapType);
-			valueArguments.setPojos(mapArguments.getPojos());
+			valueArguments.setContext(mapArguments.getContext());
 			valueArguments.setAnnotations(mapArguments.getAnnotations());
 			valueArguments.setKeyOrValueType(mapArguments.getElementClass());
 			valueArguments.setElementStrategy(elementStrategy);
@@ -2625,7 +3047,7 @@ public class PodamFactoryImpl implements PodamFactory {
 		} else {
 
 			retValue = manufactureParameterValue(
-					keyOrElementsArguments.getPojos(),
+					keyOrElementsArguments.getContext(),
 					keyOrElementsArguments.getKeyOrValueType(),
 					keyOrElementsArguments.getAnnotations(),
 					keyOrElementsArguments.getGenericTypeArgs());
@@ -2639,16 +3061,16 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 * @param attributeType
 	 *            The array type
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param annotations
 	 *            The annotations to be considered
 	 * @param pojo
 	 *            POJO containing attribute
 	 * @param attributeName
-	 * @param typeArgsMap
-	 *            a map relating the generic class arguments ("<T, V>" for
-	 *            example) with their actual types
+	 * @param typeBindings
+	 *            the bindings relating the generic class arguments ("<T, V>"
+	 *            for example) with their actual types
 	 * @return Array with the first element set
 	 * @throws IllegalArgumentException
 	 *             If an illegal argument was passed to the constructor
@@ -2663,15 +3085,14 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             If it was not possible to create a class from a string
 	 */
 	private Object resolveArrayElementValue(Class<?> attributeType,
-			Map<Class<?>, Integer> pojos, List<Annotation> annotations,
+			ManufacturingContext context, List<Annotation> annotations,
 			Object pojo, String attributeName,
-			Map<String, Type> typeArgsMap) throws InstantiationException,
+			TypeBindings typeBindings) throws InstantiationException,
 			IllegalAccessException, InvocationTargetException,
 			ClassNotFoundException {
 
 		Class<?> componentType = attributeType.getComponentType();
-		AtomicReference<Type[]> genericTypeArgs = new AtomicReference<Type[]>(
-				new Type[] {});
+		Type[] genericTypeArgs = NO_TYPES;
 		if (null != attributeName) {
 			Field field = getField(pojo.getClass(), attributeName);
 
@@ -2681,10 +3102,12 @@ public class PodamFactoryImpl implements PodamFactory {
 					final Type type = ((GenericArrayType) genericType)
 							.getGenericComponentType();
 					if (type instanceof TypeVariable<?>) {
-						final Type typeVarType = typeArgsMap
+						final Type typeVarType = typeBindings
 								.get(((TypeVariable<?>) type).getName());
-						componentType = resolveGenericParameter(typeVarType,
-								typeArgsMap, genericTypeArgs);
+						ResolvedType resolvedComponentType = typeBindings
+								.resolve(typeVarType);
+						componentType = resolvedComponentType.getRawType();
+						genericTypeArgs = resolvedComponentType.getTypeArgs();
 					}
 				}
 			}
@@ -2716,6 +3139,17 @@ public class PodamFactoryImpl implements PodamFactory {
 		Object arrayElement = null;
 		Object array = Array.newInstance(componentType, nbrElements);
 
+		// Element strategies other than the default ObjectStrategy need
+		// boxed elements
+		if (componentType.isPrimitive()
+				&& (null == elementStrategy || elementStrategy instanceof ObjectStrategy)
+				&& null != primitiveStrategy
+				&& !containsPrimitiveValueAnnotation(annotations)) {
+			fillPrimitiveArray(array, new AttributeMetadata(attributeName,
+					componentType, annotations, pojo.getClass()));
+			return array;
+		}
+
 		for (int i = 0; i < nbrElements; i++) {
 
 			// The default
@@ -2737,9 +3171,9 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			} else {
 
-				arrayElement = manufactureAttributeValue(pojo, pojos,
-						componentType, annotations, attributeName, typeArgsMap,
-						genericTypeArgs.get());
+				arrayElement = manufactureAttributeValue(pojo, context,
+						componentType, annotations, attributeName, typeBindings,
+						genericTypeArgs);
 
 			}
 
@@ -2750,6 +3184,67 @@ public class PodamFactoryImpl implements PodamFactory {
 		return array;
 	}
 
+	/**
+	 * It fills a primitive array in bulk with values of the primitive
+	 * strategy, storing them without boxing.
+	 *
+	 * @param array
+	 *            The array to fill, e.g. an {@code int[]}
+	 * @param attributeMetadata
+	 *            The metadata of the array elements
+	 */
+	private void fillPrimitiveArray(Object array,
+			AttributeMetadata attributeMetadata) {
+
+		Class<?> componentType = array.getClass().getComponentType();
+
+		if (componentType.equals(int.class)) {
+			primitiveStrategy.nextInts((int[]) array, attributeMetadata);
+		} else if (componentType.equals(long.class)) {
+			primitiveStrategy.nextLongs((long[]) array, attributeMetadata);
+		} else if (componentType.equals(double.class)) {
+			primitiveStrategy.nextDoubles((double[]) array, attributeMetadata);
+		} else if (componentType.equals(float.class)) {
+			primitiveStrategy.nextFloats((float[]) array, attributeMetadata);
+		} else if (componentType.equals(byte.class)) {
+			primitiveStrategy.nextBytes((byte[]) array, attributeMetadata);
+		} else if (componentType.equals(short.class)) {
+			primitiveStrategy.nextShorts((short[]) array, attributeMetadata);
+		} else if (componentType.equals(char.class)) {
+			primitiveStrategy.nextCharacters((char[]) array, attributeMetadata);
+		} else if (componentType.equals(boolean.class)) {
+			primitiveStrategy.nextBooleans((boolean[]) array, attributeMetadata);
+		}
+	}
+
+	/**
+	 * It returns whether the given annotations customise primitive values.
+	 *
+	 * @param annotations
+	 *            The annotations of an attribute
+	 * @return true if any of the annotations is a Podam annotation for a
+	 *         primitive value, e.g. {@link PodamIntValue}
+	 */
+	private boolean containsPrimitiveValueAnnotation(
+			List<Annotation> annotations) {
+
+		for (Annotation annotation : annotations) {
+			Class<? extends Annotation> annotationType = annotation
+					.annotationType();
+			if (PodamBooleanValue.class.equals(annotationType)
+					|| PodamByteValue.class.equals(annotationType)
+					|| PodamCharValue.class.equals(annotationType)
+					|| PodamShortValue.class.equals(annotationType)
+					|| PodamIntValue.class.equals(annotationType)
+					|| PodamLongValue.class.equals(annotationType)
+					|| PodamFloatValue.class.equals(annotationType)
+					|| PodamDoubleValue.class.equals(annotationType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Given a collection type it returns an instance
 	 * <p>
@@ -2868,8 +3363,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *            The constructor for which parameter values are required
 	 * @param pojoClass
 	 *            The POJO class containing the constructor
-	 * @param pojos
-	 *            Set of manufactured pojos' types
+	 * @param context
+	 *            The context of the current manufacturing call
 	 * @param genericTypeArgs
 	 *            The generic type arguments for the current generic class
 	 *            instance
@@ -2889,15 +3384,13 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	private Object[] getParameterValuesForConstructor(
 			Constructor<?> constructor, Class<?> pojoClass,
-			Map<Class<?>, Integer> pojos, Type... genericTypeArgs)
+			ManufacturingContext context, Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
-		final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
-		Type[] genericTypeArgsExtra = null;
-
-		genericTypeArgsExtra = fillTypeArgMap(typeArgsMap, pojoClass,
+		final TypeBindings typeBindings = getTypeBindings(pojoClass,
 				genericTypeArgs);
+		Type[] genericTypeArgsExtra = typeBindings.getExtraTypeArgs();
 
 		Annotation[][] parameterAnnotations = constructor
 				.getParameterAnnotations();
@@ -2924,15 +3417,16 @@ public class PodamFactoryImpl implements PodamFactory {
 
 				Type type = constructor.getGenericParameterTypes()[idx];
 				Class<?> collectionElementType;
-				AtomicReference<Type[]> collectionGenericTypeArgs = new AtomicReference<Type[]>(
-						new Type[] {});
+				Type[] collectionGenericTypeArgs = NO_TYPES;
 				if (type instanceof ParameterizedType) {
 					ParameterizedType pType = (ParameterizedType) type;
 					Type actualTypeArgument = pType.getActualTypeArguments()[0];
 
-					collectionElementType = resolveGenericParameter(
-							actualTypeArgument, typeArgsMap,
-							collectionGenericTypeArgs);
+					ResolvedType resolvedElementType = typeBindings
+							.resolve(actualTypeArgument);
+					collectionElementType = resolvedElementType.getRawType();
+					collectionGenericTypeArgs = resolvedElementType
+							.getTypeArgs();
 				} else {
 					LOG.warn("Collection parameter {} type is non-generic."
 							+ "We will assume a Collection<Object> for you.",
@@ -2941,8 +3435,8 @@ public class PodamFactoryImpl implements PodamFactory {
 				}
 
 				Type[] genericTypeArgsAll = mergeTypeArrays(
-						collectionGenericTypeArgs.get(), genericTypeArgsExtra);
-				fillCollection(pojos, annotations,
+						collectionGenericTypeArgs, genericTypeArgsExtra);
+				fillCollection(context, annotations,
 						collection, collectionElementType, genericTypeArgsAll);
 
 				parameterValues[idx] = collection;
@@ -2956,19 +3450,20 @@ public class PodamFactoryImpl implements PodamFactory {
 
 				Class<?> keyClass;
 				Class<?> elementClass;
-				AtomicReference<Type[]> keyGenericTypeArgs = new AtomicReference<Type[]>(
-						new Type[] {});
-				AtomicReference<Type[]> elementGenericTypeArgs = new AtomicReference<Type[]>(
-						new Type[] {});
+				Type[] keyGenericTypeArgs = NO_TYPES;
+				Type[] elementGenericTypeArgs = NO_TYPES;
 				if (type instanceof ParameterizedType) {
 					ParameterizedType pType = (ParameterizedType) type;
 					Type[] actualTypeArguments = pType.getActualTypeArguments();
 
-					keyClass = resolveGenericParameter(actualTypeArguments[0],
-							typeArgsMap, keyGenericTypeArgs);
-					elementClass = resolveGenericParameter(
-							actualTypeArguments[1], typeArgsMap,
-							elementGenericTypeArgs);
+					ResolvedType keyType = typeBindings
+							.resolve(actualTypeArguments[0]);
+					ResolvedType elementType = typeBindings
+							.resolve(actualTypeArguments[1]);
+					keyClass = keyType.getRawType();
+					keyGenericTypeArgs = keyType.getTypeArgs();
+					elementClass = elementType.getRawType();
+					elementGenericTypeArgs = elementType.getTypeArgs();
 				} else {
 					LOG.warn("Map parameter {} type is non-generic."
 							+ "We will assume a Map<Object,Object> for you.",
@@ -2978,15 +3473,15 @@ public class PodamFactoryImpl implements PodamFactory {
 				}
 
 				Type[] genericTypeArgsAll = mergeTypeArrays(
-						elementGenericTypeArgs.get(), genericTypeArgsExtra);
+						elementGenericTypeArgs, genericTypeArgsExtra);
 
 				MapArguments mapArguments = new MapArguments();
-				mapArguments.setPojos(pojos);
+				mapArguments.setContext(context);
 				mapArguments.setAnnotations(annotations);
 				mapArguments.setMapToBeFilled(mapType);
 				mapArguments.setKeyClass(keyClass);
 				mapArguments.setElementClass(elementClass);
-				mapArguments.setKeyGenericTypeArgs(keyGenericTypeArgs.get());
+				mapArguments.setKeyGenericTypeArgs(keyGenericTypeArgs);
 				mapArguments.setElementGenericTypeArgs(genericTypeArgsAll);
 
 				fillMap(mapArguments);
@@ -2995,7 +3490,7 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			} else {
 
-				parameterValues[idx] = manufactureParameterValue(pojos,
+				parameterValues[idx] = manufactureParameterValue(context,
 						parameterType, annotations, genericTypeArgs);
 
 			}
@@ -3008,6 +3503,58 @@ public class PodamFactoryImpl implements PodamFactory {
 
 	}
 
+	/**
+	 * It returns the constructors or factory methods worth trying, in the
+	 * order they should be tried.
+	 * <p>
+	 * In seeded mode every candidate is tried in the order sorted by the
+	 * strategy, so that the values drawn for a POJO do not depend on which
+	 * candidates succeeded for previous POJOs.
+	 * </p>
+	 *
+	 * @param <M>
+	 *            The type of the candidates
+	 * @param selection
+	 *            The constructor selection of the class being instantiated
+	 * @param candidates
+	 *            The sorted candidates
+	 * @param context
+	 *            The context of the current manufacturing call
+	 * @return the candidates to try
+	 */
+	private <M extends Member> List<M> getCandidates(
+			ConstructorSelection selection, List<M> candidates,
+			ManufacturingContext context) {
+
+		if (context.getRandomSource() != null) {
+			return candidates;
+		}
+		return selection.getCandidates(candidates);
+	}
+
+	/**
+	 * It returns the accessor the given constructor is bound to, binding it
+	 * the first time.
+	 *
+	 * @param constructor
+	 *            The constructor to invoke
+	 * @return the accessor the given constructor is bound to
+	 */
+	private ConstructorAccessor getConstructorAccessor(
+			Constructor<?> constructor) {
+
+		ConstructorAccessor accessor = constructorAccessors.get(constructor);
+		if (accessor == null) {
+			accessor = accessorFactory.getConstructorAccessor(constructor);
+			ConstructorAccessor existing = constructorAccessors.putIfAbsent(
+					constructor, accessor);
+			if (existing != null) {
+				accessor = existing;
+			}
+		}
+		return accessor;
+	}
+
 	/**
 	 * Utility method to merge two arrays
 	 *
@@ -3061,12 +3608,34 @@ public class PodamFactoryImpl implements PodamFactory {
 			AttributeStrategy<?> attributeStrategy)
 			throws InstantiationException, IllegalAccessException {
 
-		Object retValue = null;
+		checkAttributeStrategyType(attributeType, attributeStrategy.getClass());
+
+		return attributeStrategy.getValue();
+
+	}
+
+	/**
+	 * It checks that the values of an {@link AttributeStrategy} can be
+	 * assigned to an attribute
+	 *
+	 * @param attributeType
+	 *            The attribute type
+	 * @param attributeStrategyClass
+	 *            The class of the {@link AttributeStrategy}
+	 *
+	 * @throws IllegalArgumentException
+	 *             If the type of the data strategy defined for the
+	 *             {@link PodamStrategyValue} annotation is not assignable to
+	 *             the annotated attribute. This de facto guarantees type
+	 *             safety.
+	 */
+	private void checkAttributeStrategyType(Class<?> attributeType,
+			Class<?> attributeStrategyClass) {
 
 		Method attributeStrategyMethod = null;
 
 		try {
-			attributeStrategyMethod = attributeStrategy.getClass().getMethod(
+			attributeStrategyMethod = attributeStrategyClass.getMethod(
 					PodamConstants.PODAM_ATTRIBUTE_STRATEGY_METHOD_NAME,
 					new Class<?>[] {});
 
@@ -3081,8 +3650,6 @@ public class PodamFactoryImpl implements PodamFactory {
 				throw new IllegalArgumentException(errMsg);
 			}
 
-			retValue = attributeStrategy.getValue();
-
 		} catch (SecurityException e) {
 			throw new IllegalStateException(
 					"A security issue occurred while retrieving the Podam Attribute Strategy details",
@@ -3093,8 +3660,330 @@ public class PodamFactoryImpl implements PodamFactory {
 					e);
 		}
 
-		return retValue;
+	}
+
+	/**
+	 * It sets the factory binding setters and constructors to accessors.
+	 * <p>
+	 * Manufacturing plans and constructor accessors bound by the previous
+	 * accessor factory are discarded.
+	 * </p>
+	 *
+	 * @param accessorFactory
+	 *            The accessor factory to use, for instance
+	 *            {@link LambdaAccessorFactory} on Java 8 and later, with the
+	 *            {@code podam-java8} module on the class path
+	 * @return itself
+	 */
+	public PodamFactoryImpl withAccessorFactory(AccessorFactory accessorFactory) {
+		this.accessorFactory = accessorFactory;
+		planCache.clear();
+		constructorAccessors.clear();
+		return this;
+	}
+
+	/**
+	 * It returns the factory binding setters and constructors to accessors.
+	 *
+	 * @return the accessor factory
+	 */
+	public AccessorFactory getAccessorFactory() {
+		return accessorFactory;
+	}
+
+	/**
+	 * It sets whether the fields without setters are written directly.
+	 * <p>
+	 * When enabled, the instance fields of a POJO which have got no setter,
+	 * including the final fields of immutable classes, are filled through
+	 * field accessors bound by the {@link AccessorFactory}, after the POJO
+	 * has been constructed. Setters are still used where available. Fields
+	 * of JDK classes and fields which cannot be written, such as the fields
+	 * of records, are left untouched. Manufacturing plans built with the
+	 * previous setting are discarded.
+	 * </p>
+	 *
+	 * @param fieldAccess
+	 *            Whether the fields without setters are written directly
+	 * @return itself
+	 */
+	public PodamFactoryImpl withFieldAccess(boolean fieldAccess) {
+		this.fieldAccess = fieldAccess;
+		planCache.clear();
+		return this;
+	}
+
+	/**
+	 * It returns whether the fields without setters are written directly.
+	 *
+	 * @return true if the fields without setters are written directly
+	 */
+	public boolean isFieldAccess() {
+		return fieldAccess;
+	}
+
+	/**
+	 * It enables the parallel manufacture of large collections.
+	 * <p>
+	 * The elements of collections with at least
+	 * {@link #DEFAULT_PARALLEL_THRESHOLD} elements are split in chunks, which
+	 * are manufactured by the executor and by the calling thread. Only the
+	 * outermost collections of a graph are split, and the calling thread runs
+	 * the chunks no worker has started yet, so that a bounded executor cannot
+	 * deadlock. In seeded mode each element draws from its own random stream,
+	 * so that the POJOs do not depend on whether they were manufactured in
+	 * parallel. Seeded calls with memoization enabled are manufactured in the
+	 * calling thread, as the memoized POJOs the elements share would otherwise
+	 * depend on thread timing.
+	 * </p>
+	 *
+	 * @param executor
+	 *            The executor to use, for instance a ForkJoinPool on Java 7
+	 *            and later, or null to manufacture everything in the calling
+	 *            thread
+	 * @return itself
+	 */
+	public PodamFactoryImpl withExecutor(Executor executor) {
+		return withExecutor(executor, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * It enables the parallel manufacture of large collections.
+	 *
+	 * @param executor
+	 *            The executor to use or null to manufacture everything in the
+	 *            calling thread
+	 * @param parallelThreshold
+	 *            The minimum number of elements of a collection manufactured
+	 *            in parallel
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *             If {@code parallelThreshold} is lower than 2
+	 * @see #withExecutor(Executor)
+	 */
+	public PodamFactoryImpl withExecutor(Executor executor,
+			int parallelThreshold) {
+		if (parallelThreshold < 2) {
+			throw new IllegalArgumentException(
+					"The parallel threshold must be at least 2, found "
+							+ parallelThreshold);
+		}
+		this.parallelThreshold = parallelThreshold;
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * It returns the executor manufacturing collection elements in parallel.
+	 *
+	 * @return the executor or null if everything is manufactured by the
+	 *         calling thread
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * It registers the generator of an attribute of a class.
+	 * <p>
+	 * The generator applies to the attribute of the class and of its
+	 * subclasses, and takes the precedence over the annotations of the
+	 * attribute, which makes it possible to customise the attributes of
+	 * classes which cannot be annotated.
+	 * </p>
+	 *
+	 * @param pojoClass
+	 *            The class declaring the attribute
+	 * @param attributeName
+	 *            The name of the attribute, as derived from its setter
+	 * @param generator
+	 *            The generator of the attribute values
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *             If any argument is null
+	 */
+	public PodamFactoryImpl withAttributeGenerator(Class<?> pojoClass,
+			String attributeName, AttributeGenerator<?> generator) {
+		attributeRegistry.register(new AttributeKey(pojoClass, attributeName),
+				generator);
+		planCache.clear();
+		return this;
+	}
+
+	/**
+	 * It removes the generator registered for an attribute of a class, if
+	 * any.
+	 *
+	 * @param pojoClass
+	 *            The class declaring the attribute
+	 * @param attributeName
+	 *            The name of the attribute
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *             If any argument is null
+	 * @see #withAttributeGenerator(Class, String, AttributeGenerator)
+	 */
+	public PodamFactoryImpl withoutAttributeGenerator(Class<?> pojoClass,
+			String attributeName) {
+		attributeRegistry.unregister(new AttributeKey(pojoClass, attributeName));
+		planCache.clear();
+		return this;
+	}
+
+	/**
+	 * It registers a manufacturer, which fills the POJOs of its class
+	 * instead of the reflective path.
+	 * <p>
+	 * It replaces any manufacturer of the same class, including the ones
+	 * discovered on the class path.
+	 * </p>
+	 *
+	 * @param manufacturer
+	 *            The manufacturer
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *             If the manufacturer is null
+	 */
+	public PodamFactoryImpl withManufacturer(Manufacturer<?> manufacturer) {
+		if (null == manufacturer) {
+			throw new IllegalArgumentException(
+					"The manufacturer cannot be null");
+		}
+		discoverManufacturers();
+		manufacturers.put(manufacturer.getPojoClass(), manufacturer);
+		return this;
+	}
+
+	/**
+	 * It removes the manufacturer of a class, if any, so that its POJOs are
+	 * filled through reflection.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJOs
+	 * @return itself
+	 */
+	public PodamFactoryImpl withoutManufacturer(Class<?> pojoClass) {
+		discoverManufacturers();
+		manufacturers.remove(pojoClass);
+		return this;
+	}
+
+	/**
+	 * It returns the manufacturer which fills the POJOs of a class.
+	 * <p>
+	 * Manufacturers listed in
+	 * {@code META-INF/services/uk.co.jemos.podam.api.Manufacturer}, such as
+	 * the ones generated by the podam-processor annotation processor, are
+	 * discovered with the context class loader the first time this method
+	 * is called. A manufacturer is not used, and the POJOs are filled through
+	 * reflection, if the strategy excludes fields annotated with other
+	 * annotations than {@link PodamExclude}, if a generator
+	 * is registered for an attribute of the class or if fields are written
+	 * directly, as the manufacturer cannot honour these settings.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            The type of the POJOs
+	 * @param pojoClass
+	 *            The class of the POJOs
+	 * @return the manufacturer of the class or null if its POJOs are filled
+	 *         through reflection
+	 */
+	public <T> Manufacturer<T> getManufacturer(Class<T> pojoClass) {
+
+		discoverManufacturers();
+		if (manufacturers.isEmpty()) {
+			return null;
+		}
+
+		@SuppressWarnings(UNCHECKED_STR)
+		Manufacturer<T> manufacturer = (Manufacturer<T>) manufacturers
+				.get(pojoClass);
+		if (null == manufacturer || fieldAccess
+				|| attributeRegistry.hasRegistered(pojoClass)) {
+			return null;
+		}
+		Set<Class<? extends Annotation>> excludedAnnotations = strategy
+				.getExcludedAnnotations();
+		if (null != excludedAnnotations) {
+			for (Class<? extends Annotation> excludedAnnotation : excludedAnnotations) {
+				// Manufacturers always honour PodamExclude
+				if (!PodamExclude.class.equals(excludedAnnotation)) {
+					return null;
+				}
+			}
+		}
+		return manufacturer;
+	}
+
+	/**
+	 * It sets how long memoized POJOs are reused, when memoization is enabled
+	 * by the strategy, with the default bound of
+	 * {@link #DEFAULT_MEMOIZATION_MAX_SIZE} POJOs per cache.
+	 *
+	 * @param scope
+	 *            The memoization scope
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *             If the scope is null
+	 * @see #withMemoization(MemoizationScope, int)
+	 */
+	public PodamFactoryImpl withMemoization(MemoizationScope scope) {
+		return withMemoization(scope, DEFAULT_MEMOIZATION_MAX_SIZE);
+	}
+
+	/**
+	 * It sets how long memoized POJOs are reused, when memoization is enabled
+	 * by the strategy, and how many POJOs each cache keeps.
+	 * <p>
+	 * Caches are concurrent and evict POJOs beyond their bound, so that a
+	 * long-running factory does not pin every POJO it ever memoized. The
+	 * POJOs memoized for the factory so far are discarded.
+	 * </p>
+	 *
+	 * @param scope
+	 *            The memoization scope, {@link MemoizationScope#FACTORY} by
+	 *            default
+	 * @param maxSize
+	 *            The maximum number of POJOs kept by each cache
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *             If the scope is null or {@code maxSize} is not positive
+	 */
+	public PodamFactoryImpl withMemoization(MemoizationScope scope,
+			int maxSize) {
+		if (scope == null) {
+			throw new IllegalArgumentException(
+					"The memoization scope cannot be null");
+		}
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException(
+					"The memoization cache size must be positive, found "
+							+ maxSize);
+		}
+		memoizationScope = scope;
+		memoizationMaxSize = maxSize;
+		memoizationCache = new MemoizationCache(maxSize, memoizationStatistics);
+		return this;
+	}
+
+	/**
+	 * It returns how long memoized POJOs are reused.
+	 *
+	 * @return the memoization scope
+	 */
+	public MemoizationScope getMemoizationScope() {
+		return memoizationScope;
+	}
 
+	/**
+	 * It returns the counters of the memoization caches of this factory.
+	 *
+	 * @return the memoization statistics, which tell how often memoized POJOs
+	 *         are reused
+	 */
+	public MemoizationStatistics getMemoizationStatistics() {
+		return memoizationStatistics;
 	}
 
 	@Override
@@ -3103,8 +3992,186 @@ public class PodamFactoryImpl implements PodamFactory {
 		return this;
 	}
 
+	// ------------------->> Private methods
+
+	/**
+	 * It discovers the manufacturers on the class path, the first time it is
+	 * called.
+	 */
+	@SuppressWarnings(RAWTYPES_STR)
+	private void discoverManufacturers() {
+
+		if (manufacturersDiscovered) {
+			return;
+		}
+		synchronized (manufacturers) {
+			if (!manufacturersDiscovered) {
+				try {
+					for (Manufacturer<?> manufacturer : ServiceLoader
+							.load(Manufacturer.class)) {
+						LOG.debug("Discovered manufacturer {} of {}",
+								manufacturer, manufacturer.getPojoClass());
+						manufacturers.putIfAbsent(manufacturer.getPojoClass(),
+								manufacturer);
+					}
+				} catch (ServiceConfigurationError e) {
+					LOG.warn("Manufacturers could not be discovered", e);
+				}
+				manufacturersDiscovered = true;
+			}
+		}
+	}
+
 	// ------------------->> equals() / hashcode() / toString()
 
 	// ------------------->> Inner classes
 
+	/**
+	 * The context a {@link Manufacturer} fills a POJO in, bound to the
+	 * current manufacturing call.
+	 */
+	private final class FactoryManufacturerContext implements
+			ManufacturerContext {
+
+		/** The context of the current manufacturing call */
+		private final ManufacturingContext context;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param context
+		 *            The context of the current manufacturing call
+		 */
+		FactoryManufacturerContext(ManufacturingContext context) {
+			this.context = context;
+		}
+
+		@Override
+		public DataProviderStrategy getStrategy() {
+			return strategy;
+		}
+
+		@Override
+		public Object manufacture(Object pojo, String attributeName,
+				Class<?> attributeType, Type... genericTypeArgs) {
+			try {
+				Object value = manufactureAttributeValue(pojo, context,
+						attributeType, Collections.<Annotation> emptyList(),
+						attributeName, TypeBindings.EMPTY, genericTypeArgs);
+				if (null == value) {
+					value = externalFactory.manufacturePojo(attributeType);
+				}
+				return value;
+			} catch (InstantiationException e) {
+				throw new PodamMockeryException(e.getMessage(), e);
+			} catch (IllegalAccessException e) {
+				throw new PodamMockeryException(e.getMessage(), e);
+			} catch (InvocationTargetException e) {
+				throw new PodamMockeryException(e.getMessage(), e);
+			} catch (ClassNotFoundException e) {
+				throw new PodamMockeryException(e.getMessage(), e);
+			}
+		}
+
+		@Override
+		public AttributeGenerator<?> getGenerator(
+				AttributeMetadata attributeMetadata) {
+			return getValueGenerator(attributeMetadata.getAttributeType(),
+					attributeMetadata.getAttributeAnnotations());
+		}
+	}
+
+	/**
+	 * The generator compiled from a {@link PodamStrategyValue} annotation,
+	 * which gets each value from a new instance of the attribute strategy.
+	 */
+	private static final class StrategyValueGenerator implements
+			AttributeGenerator<Object> {
+
+		/** The class of the attribute strategy */
+		private final Class<? extends AttributeStrategy<?>> attributeStrategyClass;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param attributeStrategyClass
+		 *            The class of the attribute strategy
+		 */
+		StrategyValueGenerator(
+				Class<? extends AttributeStrategy<?>> attributeStrategyClass) {
+			this.attributeStrategyClass = attributeStrategyClass;
+		}
+
+		@Override
+		public Object generate(AttributeMetadata attributeMetadata) {
+
+			AttributeStrategy<?> attributeStrategy;
+			try {
+				attributeStrategy = attributeStrategyClass.newInstance();
+			} catch (InstantiationException e) {
+				throw new PodamMockeryException(e.getMessage(), e);
+			} catch (IllegalAccessException e) {
+				throw new PodamMockeryException(e.getMessage(), e);
+			}
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("The attribute: "
+						+ attributeMetadata.getAttributeName()
+						+ " will be filled using the following strategy: "
+						+ attributeStrategy);
+			}
+			return attributeStrategy.getValue();
+		}
+
+		@Override
+		public String toString() {
+			return "StrategyValueGenerator [" + attributeStrategyClass.getName()
+					+ "]";
+		}
+	}
+
+	/**
+	 * Manufacturing plan cache key, made of a class and its generic type
+	 * arguments.
+	 */
+	private static final class PlanKey {
+
+		/** The class being manufactured */
+		private final Class<?> pojoClass;
+
+		/** The generic type arguments */
+		private final List<Type> genericTypeArgs;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param pojoClass
+		 *            The class being manufactured
+		 * @param genericTypeArgs
+		 *            The generic type arguments
+		 */
+		PlanKey(Class<?> pojoClass, Type[] genericTypeArgs) {
+			this.pojoClass = pojoClass;
+			this.genericTypeArgs = Arrays.asList(genericTypeArgs.clone());
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * pojoClass.hashCode() + genericTypeArgs.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PlanKey)) {
+				return false;
+			}
+			PlanKey other = (PlanKey) obj;
+			return pojoClass.equals(other.pojoClass)
+					&& genericTypeArgs.equals(other.genericTypeArgs);
+		}
+	}
+
 }
@@ -2,6 +2,7 @@ package uk.co.jemos.podam.api;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 
 /**
  * {@link ParameterizedType} implementation for generic multidimensional pojo
@@ -54,4 +55,54 @@ public class PodamParameterizedType implements ParameterizedType {
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * It follows the contract of the JDK implementation, so that instances of
+	 * this class can be compared with any {@link ParameterizedType}.
+	 * </p>
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ParameterizedType)) {
+			return false;
+		}
+		ParameterizedType other = (ParameterizedType) obj;
+		return other.getOwnerType() == null
+				&& rawType.equals(other.getRawType())
+				&& Arrays.equals(actualTypeArguments,
+						other.getActualTypeArguments());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(actualTypeArguments) ^ rawType.hashCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(rawType.getName());
+		builder.append('<');
+		for (int i = 0; i < actualTypeArguments.length; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			Type type = actualTypeArguments[i];
+			builder.append(type instanceof Class ? ((Class<?>) type).getName()
+					: type.toString());
+		}
+		builder.append('>');
+		return builder.toString();
+	}
+
 }
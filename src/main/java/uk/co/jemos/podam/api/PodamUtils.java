@@ -96,10 +96,12 @@ public final class PodamUtils {
 	public static Set<String> getDeclaredInstanceFields(Class<?> clazz,
 			Set<Class<? extends Annotation>> excludeAnnotations) {
 
-		if (excludeAnnotations == null) {
-			excludeAnnotations = new HashSet<Class<? extends Annotation>>();
+		/* Copy, so that the caller's set is not altered */
+		Set<Class<? extends Annotation>> excluded = new HashSet<Class<? extends Annotation>>();
+		if (excludeAnnotations != null) {
+			excluded.addAll(excludeAnnotations);
 		}
-		excludeAnnotations.add(PodamExclude.class);
+		excluded.add(PodamExclude.class);
 
 		Class<?> workClass = clazz;
 
@@ -109,7 +111,7 @@ public final class PodamUtils {
 			Field[] declaredFields = workClass.getDeclaredFields();
 			for (Field field : declaredFields) {
 				// If users wanted to skip this field, we grant their wishes
-				if (containsAnyAnnotation(field, excludeAnnotations)) {
+				if (containsAnyAnnotation(field, excluded)) {
 					continue;
 				}
 				int modifiers = field.getModifiers();
@@ -156,34 +158,13 @@ public final class PodamUtils {
 	 * @return the getter for the given field or null if no getter was found
 	 */
 	public static Method getGetterFor(Field field) {
-		String name = field.getName().substring(0, 1).toUpperCase()
-				+ field.getName().substring(1);
-
-		String methodName;
-		if (boolean.class.isAssignableFrom(field.getType())
-				|| Boolean.class.isAssignableFrom(field.getType())) {
-			methodName = "is" + name;
-		} else {
-			methodName = "get" + name;
-		}
-
-		try {
-			return field.getDeclaringClass().getMethod(methodName);
-		} catch (NoSuchMethodException e) {
-			LOG.debug("No getter {}() for field {}[{}]", methodName, field
-					.getDeclaringClass().getName(), field.getName());
-			if (methodName.startsWith("is")) {
-				methodName = "get" + name;
-				try {
-					return field.getDeclaringClass().getMethod(methodName);
-				} catch (NoSuchMethodException e2) {
-					LOG.debug("No getter {}() for field {}[{}]", methodName,
-							field.getDeclaringClass().getName(),
-							field.getName());
-				}
-			}
-			return null;
+		Method getter = MemberIndex.forClass(field.getDeclaringClass())
+				.getGetter(field);
+		if (null == getter) {
+			LOG.debug("No getter for field {}[{}]", field.getDeclaringClass()
+					.getName(), field.getName());
 		}
+		return getter;
 	}
 
 	/**
@@ -205,32 +186,11 @@ public final class PodamUtils {
 	public static Set<Method> getPojoSetters(Class<?> clazz,
 			Set<String> classFields) {
 
-		Class<?> workClass = clazz;
+		MemberIndex memberIndex = MemberIndex.forClass(clazz);
 
 		Set<Method> classSetters = new HashSet<Method>();
-
-		while (workClass != null) {
-
-			Method[] declaredMethods = workClass.getDeclaredMethods();
-			String candidateField = null;
-
-			for (Method method : declaredMethods) {
-				/*
-				 * Bridge methods are automatically generated by compiler to
-				 * deal with type erasure and they are not type safe. That why
-				 * they should be ignored
-				 */
-				if (!method.isBridge() && method.getName().startsWith("set")
-						&& method.getReturnType().equals(void.class)) {
-					candidateField = extractFieldNameFromSetterMethod(method);
-					if (classFields.contains(candidateField)) {
-						classSetters.add(method);
-					}
-
-				}
-
-			}
-			workClass = workClass.getSuperclass();
+		for (String classField : classFields) {
+			classSetters.addAll(memberIndex.getSetters(classField));
 		}
 
 		return classSetters;
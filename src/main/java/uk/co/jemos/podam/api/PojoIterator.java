@@ -0,0 +1,221 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * An iterator over POJOs of the same class, each manufactured on demand.
+ * <p>
+ * The iterator either produces a fixed number of POJOs or it never ends. No
+ * POJO is kept by the iterator once it has been returned, so that arbitrarily
+ * many POJOs can be streamed with constant memory.
+ * </p>
+ * <p>
+ * An iterator can be {@link #split()} to hand part of the work to another
+ * thread. Each iterator draws from its own random stream, so that in seeded
+ * mode the POJOs produced by a given sequence of splits are reproducible. On
+ * Java 8 and later {@code uk.co.jemos.podam.java8.PojoSpliterator}, from the
+ * podam-java8 module, adapts the iterator to {@code java.util.stream}.
+ * </p>
+ * <p>
+ * An iterator is meant to be used by one thread at a time, but iterators
+ * obtained by splitting can be used concurrently.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the POJOs
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@NotThreadSafe
+public final class PojoIterator<T> implements Iterator<T> {
+
+	// ------------------->> Constants
+
+	/** The size reported by iterators which never end */
+	public static final long UNBOUNDED = Long.MAX_VALUE;
+
+	// ------------------->> Instance / Static variables
+
+	/** The factory manufacturing the POJOs */
+	private final PodamFactoryImpl factory;
+
+	/** The class of the POJOs */
+	private final Class<T> pojoClass;
+
+	/** The generic type arguments of the POJOs */
+	private final Type[] genericTypeArgs;
+
+	/** The plan of the POJOs, resolved once for the whole iterator */
+	private final ManufacturingPlan plan;
+
+	/** The source of the random streams of the POJOs, null if not seeded */
+	private final RandomSource randomSource;
+
+	/**
+	 * The POJOs memoized for the whole batch, shared with the splits of this
+	 * iterator, null unless memoization is scoped to batches
+	 */
+	private final MemoizationCache memoizationCache;
+
+	/** Whether the iterator ends */
+	private final boolean bounded;
+
+	/** How many POJOs are left, {@link #UNBOUNDED} if the iterator never ends */
+	private long remaining;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param factory
+	 *            The factory manufacturing the POJOs
+	 * @param pojoClass
+	 *            The class of the POJOs
+	 * @param plan
+	 *            The plan of the POJOs, possibly null
+	 * @param randomSource
+	 *            The source of the random streams of the POJOs, possibly null
+	 * @param memoizationCache
+	 *            The POJOs memoized for the whole batch, possibly null
+	 * @param remaining
+	 *            How many POJOs to produce or {@link #UNBOUNDED}
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the POJOs
+	 */
+	PojoIterator(PodamFactoryImpl factory, Class<T> pojoClass,
+			ManufacturingPlan plan, RandomSource randomSource,
+			MemoizationCache memoizationCache, long remaining,
+			Type... genericTypeArgs) {
+		this.factory = factory;
+		this.pojoClass = pojoClass;
+		this.plan = plan;
+		this.randomSource = randomSource;
+		this.memoizationCache = memoizationCache;
+		this.bounded = remaining != UNBOUNDED;
+		this.remaining = remaining;
+		this.genericTypeArgs = genericTypeArgs;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return remaining > 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more " + pojoClass.getName()
+					+ " to manufacture");
+		}
+		if (bounded) {
+			remaining--;
+		}
+		RandomSource elementSource = null;
+		if (randomSource != null) {
+			elementSource = randomSource.split();
+		}
+		MemoizationCache elementCache = memoizationCache;
+		if (elementCache == null) {
+			elementCache = factory.newMemoizationCache(MemoizationScope.CALL);
+		}
+		return factory.manufacturePojo(pojoClass, new ManufacturingContext(
+				pojoClass, elementSource, plan, elementCache), genericTypeArgs);
+	}
+
+	/**
+	 * It always throws an exception: manufactured POJOs cannot be removed.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException(
+				"Manufactured POJOs cannot be removed");
+	}
+
+	/**
+	 * It hands part of the remaining POJOs to a new iterator.
+	 * <p>
+	 * A bounded iterator gives half of its remaining POJOs away, an unbounded
+	 * iterator returns another unbounded iterator. The new iterator draws from
+	 * a random stream split from the stream of this iterator and shares the
+	 * POJOs memoized for the batch, if any.
+	 * </p>
+	 *
+	 * @return a new iterator or null if there are not enough POJOs left to
+	 *         split
+	 */
+	public PojoIterator<T> split() {
+		long splitRemaining = remaining;
+		if (bounded) {
+			if (remaining < 2) {
+				return null;
+			}
+			splitRemaining = remaining / 2;
+			remaining -= splitRemaining;
+		}
+		RandomSource splitSource = null;
+		if (randomSource != null) {
+			splitSource = randomSource.split();
+		}
+		return new PojoIterator<T>(factory, pojoClass, plan, splitSource,
+				memoizationCache, splitRemaining, genericTypeArgs);
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns how many POJOs are left.
+	 *
+	 * @return the number of POJOs left or {@link #UNBOUNDED}
+	 */
+	public long getRemaining() {
+		return remaining;
+	}
+
+	/**
+	 * It returns whether this iterator ends.
+	 *
+	 * @return true if this iterator produces a fixed number of POJOs
+	 */
+	public boolean isBounded() {
+		return bounded;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("PojoIterator [pojoClass=");
+		builder.append(pojoClass.getName());
+		builder.append(", remaining=");
+		builder.append(bounded ? String.valueOf(remaining) : "unbounded");
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
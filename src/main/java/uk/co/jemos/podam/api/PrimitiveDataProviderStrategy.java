@@ -0,0 +1,279 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * A {@link DataProviderStrategy} which can provide primitive values without
+ * boxing them.
+ * <p>
+ * {@link PodamFactoryImpl} uses these methods for primitive attributes and
+ * for the elements of primitive arrays, so that filling an {@code int[]} does
+ * not allocate an {@link Integer} per element. Each method must return the
+ * same values as its boxed counterpart in {@link DataProviderStrategy}.
+ * </p>
+ * <p>
+ * The bulk methods, such as {@link #nextInts(int[], AttributeMetadata)}, fill
+ * a whole array at once. They must produce values with the same constraints
+ * as the single value methods, e.g. non-zero, but implementations are free to
+ * draw them more efficiently than one by one.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface PrimitiveDataProviderStrategy extends DataProviderStrategy {
+
+	/**
+	 * It returns a boolean value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a boolean value
+	 */
+	boolean nextBoolean(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a byte value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a byte value
+	 */
+	byte nextByte(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a byte within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a byte within min and max value (included)
+	 */
+	byte nextByteInRange(byte minValue, byte maxValue,
+			AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a char value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a char value
+	 */
+	char nextCharacter(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a char within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a char within min and max value (included)
+	 */
+	char nextCharacterInRange(char minValue, char maxValue,
+			AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a short value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a short value
+	 */
+	short nextShort(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a short within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a short within min and max value (included)
+	 */
+	short nextShortInRange(short minValue, short maxValue,
+			AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns an int value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return an int value
+	 */
+	int nextInt(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns an int within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return an int within min and max value (included)
+	 */
+	int nextIntInRange(int minValue, int maxValue,
+			AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a long value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a long value
+	 */
+	long nextLong(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a long within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a long within min and max value (included)
+	 */
+	long nextLongInRange(long minValue, long maxValue,
+			AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a float value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a float value
+	 */
+	float nextFloat(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a float within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a float within min and max value (included)
+	 */
+	float nextFloatInRange(float minValue, float maxValue,
+			AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a double value.
+	 *
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a double value
+	 */
+	double nextDouble(AttributeMetadata attributeMetadata);
+
+	/**
+	 * It returns a double within min and max value (included).
+	 *
+	 * @param minValue
+	 *            The minimum value for the returned value
+	 * @param maxValue
+	 *            The maximum value for the returned value
+	 * @param attributeMetadata
+	 *            The attribute's metadata, if any, used for customisation
+	 * @return a double within min and max value (included)
+	 */
+	double nextDoubleInRange(double minValue, double maxValue,
+			AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextBoolean(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextBooleans(boolean[] values, AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextByte(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextBytes(byte[] values, AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextCharacter(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextCharacters(char[] values, AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextShort(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextShorts(short[] values, AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextInt(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextInts(int[] values, AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextLong(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextLongs(long[] values, AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextFloat(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextFloats(float[] values, AttributeMetadata attributeMetadata);
+
+	/**
+	 * It fills the given array with {@link #nextDouble(AttributeMetadata)} values.
+	 *
+	 * @param values
+	 *            The array to fill
+	 * @param attributeMetadata
+	 *            The metadata of the array elements, used for customisation
+	 */
+	void nextDoubles(double[] values, AttributeMetadata attributeMetadata);
+
+}
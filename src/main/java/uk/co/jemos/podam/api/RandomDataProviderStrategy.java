@@ -57,6 +57,11 @@ public final class RandomDataProviderStrategy extends
 	/**
 	 * Other factory method which assigns a default number of collection
 	 * elements before returning the singleton.
+	 * <p>
+	 * The number of collection elements is changed for all users of the
+	 * singleton. Callers needing their own configuration should take a
+	 * {@link #snapshot()} of the returned strategy.
+	 * </p>
 	 *
 	 * @param nbrCollectionElements
 	 *            The number of collection elements
@@ -0,0 +1,82 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * A source of pseudo-random values used by data provider strategies.
+ * <p>
+ * Implementations are not required to be thread-safe: a source is meant to
+ * be used by one thread at a time, and {@link #split()} is the way to obtain
+ * an independent source for another thread or for another part of the work.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface RandomSource {
+
+	/**
+	 * It returns a pseudo-random int value.
+	 *
+	 * @return a pseudo-random int value
+	 */
+	int nextInt();
+
+	/**
+	 * It returns a pseudo-random int value between zero (inclusive) and the
+	 * given bound (exclusive).
+	 *
+	 * @param bound
+	 *            The upper bound (exclusive), it must be positive
+	 * @return a pseudo-random int value within the range
+	 * @throws IllegalArgumentException
+	 *             If {@code bound} is not positive
+	 */
+	int nextInt(int bound);
+
+	/**
+	 * It returns a pseudo-random long value.
+	 *
+	 * @return a pseudo-random long value
+	 */
+	long nextLong();
+
+	/**
+	 * It returns a pseudo-random double value between zero (inclusive) and one
+	 * (exclusive).
+	 *
+	 * @return a pseudo-random double value
+	 */
+	double nextDouble();
+
+	/**
+	 * It returns a pseudo-random float value between zero (inclusive) and one
+	 * (exclusive).
+	 *
+	 * @return a pseudo-random float value
+	 */
+	float nextFloat();
+
+	/**
+	 * It returns a pseudo-random boolean value.
+	 *
+	 * @return a pseudo-random boolean value
+	 */
+	boolean nextBoolean();
+
+	/**
+	 * It returns a new source, which shares no mutable state with this one.
+	 * <p>
+	 * The values produced by the new source are statistically independent from
+	 * the values produced by this source. Splitting advances this source, so
+	 * the outcome is deterministic if this source is.
+	 * </p>
+	 *
+	 * @return a new, independent random source
+	 */
+	RandomSource split();
+
+}
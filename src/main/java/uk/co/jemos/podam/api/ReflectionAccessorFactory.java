@@ -0,0 +1,153 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link AccessorFactory}, invoking setters and constructors and
+ * writing fields through Java reflection.
+ * <p>
+ * This implementation runs on any Java version supported by PODAM.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+public final class ReflectionAccessorFactory implements AccessorFactory {
+
+	// ------------------->> Constants
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(ReflectionAccessorFactory.class);
+
+	/** The singleton instance of this implementation */
+	private static final ReflectionAccessorFactory SINGLETON = new ReflectionAccessorFactory();
+
+	/** The superclass of records, whose fields cannot be written */
+	private static final String RECORD_CLASS_NAME = "java.lang.Record";
+
+	// ------------------->> Constructors
+
+	/**
+	 * Implementation of the Singleton pattern
+	 */
+	private ReflectionAccessorFactory() {
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * Implementation of the Singleton pattern
+	 *
+	 * @return A singleton instance of this class
+	 */
+	public static ReflectionAccessorFactory getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SetterAccessor getSetterAccessor(final Method setter) {
+		return new SetterAccessor() {
+
+			@Override
+			public void set(Object pojo, Object value)
+					throws IllegalAccessException, InvocationTargetException {
+				try {
+					setter.invoke(pojo, value);
+				} catch (IllegalAccessException e) {
+					LOG.warn("{} is not accessible. Setting it to accessible."
+							+ " However this is a security hack and your code"
+							+ " should really adhere to JavaBeans standards.",
+							setter.toString());
+					setter.setAccessible(true);
+					setter.invoke(pojo, value);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return setter.toString();
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SetterAccessor getFieldAccessor(final Field field) {
+
+		// The final fields of records cannot be written, even reflectively
+		Class<?> superclass = field.getDeclaringClass().getSuperclass();
+		if (null != superclass
+				&& RECORD_CLASS_NAME.equals(superclass.getName())) {
+			return null;
+		}
+		try {
+			field.setAccessible(true);
+		} catch (RuntimeException e) {
+			LOG.debug("{} cannot be made accessible", field, e);
+			return null;
+		}
+		return new SetterAccessor() {
+
+			@Override
+			public void set(Object pojo, Object value)
+					throws IllegalAccessException {
+				field.set(pojo, value);
+			}
+
+			@Override
+			public String toString() {
+				return field.toString();
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ConstructorAccessor getConstructorAccessor(
+			final Constructor<?> constructor) {
+		return new ConstructorAccessor() {
+
+			@Override
+			public Object newInstance(Object... args)
+					throws InstantiationException, IllegalAccessException,
+					InvocationTargetException {
+				try {
+					return constructor.newInstance(args);
+				} catch (IllegalAccessException e) {
+					LOG.debug("{} is not accessible. Setting it to accessible.",
+							constructor);
+					constructor.setAccessible(true);
+					return constructor.newInstance(args);
+				}
+			}
+
+			@Override
+			public String toString() {
+				return constructor.toString();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,52 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+/**
+ * A {@link DataProviderStrategy} which can produce reproducible values.
+ * <p>
+ * When a seed is set, {@link PodamFactoryImpl} asks the strategy for a new
+ * {@link RandomSource} at the beginning of each call to
+ * {@link PodamFactory#manufacturePojo(Class)}, derived only from the seed and
+ * from the class being manufactured, and it binds it to the manufacturing
+ * thread for the duration of the call. The same seed and the same class
+ * therefore always produce the same graph of objects, whatever was
+ * manufactured before and whichever thread manufactures it.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface SeedableDataProviderStrategy extends DataProviderStrategy {
+
+	/**
+	 * It returns the seed values are derived from.
+	 *
+	 * @return the seed or null if values are not reproducible
+	 */
+	Long getSeed();
+
+	/**
+	 * It creates the random source for a top level manufacturing call.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO being manufactured
+	 * @return a new random source derived from the seed and from the class or
+	 *         null if no seed is set
+	 */
+	RandomSource newRandomSource(Class<?> pojoClass);
+
+	/**
+	 * It binds a random source to the current thread, so that all values
+	 * provided to this thread are drawn from it.
+	 *
+	 * @param randomSource
+	 *            The source to bind or null to remove the current binding
+	 * @return the source previously bound to the current thread, possibly null
+	 */
+	RandomSource bindRandomSource(RandomSource randomSource);
+
+}
@@ -0,0 +1,33 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Accessor to a setter bound by an {@link AccessorFactory}.
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+public interface SetterAccessor {
+
+	/**
+	 * It invokes the setter.
+	 *
+	 * @param pojo
+	 *            The object whose setter is invoked
+	 * @param value
+	 *            The value to set
+	 * @throws IllegalAccessException
+	 *             If the setter is not accessible
+	 * @throws InvocationTargetException
+	 *             If the setter threw an exception
+	 */
+	void set(Object pojo, Object value) throws IllegalAccessException,
+			InvocationTargetException;
+
+}
@@ -0,0 +1,230 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * A {@link RandomSource} based on the SplitMix64 algorithm.
+ * <p>
+ * This is the algorithm behind {@code java.util.SplittableRandom}, which is
+ * not available on the Java versions PODAM supports. Generating a value costs
+ * an addition and a few shifts and multiplications, with no atomic update of a
+ * shared seed, so that threads using their own source never contend with each
+ * other.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@NotThreadSafe
+public class SplittableRandomSource implements RandomSource {
+
+	// ------------------->> Constants
+
+	/** The odd increment of the default seed generator */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/** The multiplier turning the upper 53 bits of a long into a double */
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	/** The multiplier turning the upper 24 bits of an int into a float */
+	private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+	/** The generator of seeds for sources created without an explicit seed */
+	private static final AtomicLong DEFAULT_SEEDS = new AtomicLong(
+			mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+	// ------------------->> Instance / Static variables
+
+	/** The current seed, updated at each step */
+	private long seed;
+
+	/** The odd step between two seeds */
+	private final long gamma;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Constructor creating a source with a seed different from the seeds of
+	 * the other sources created with this constructor.
+	 */
+	public SplittableRandomSource() {
+		long defaultSeed = DEFAULT_SEEDS.getAndAdd(2 * GOLDEN_GAMMA);
+		this.seed = mix64(defaultSeed);
+		this.gamma = mixGamma(defaultSeed + GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Constructor creating a source which always produces the same sequence
+	 * of values for the same seed.
+	 *
+	 * @param seed
+	 *            The initial seed
+	 */
+	public SplittableRandomSource(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Constructor used when splitting.
+	 *
+	 * @param seed
+	 *            The initial seed
+	 * @param gamma
+	 *            The odd step between two seeds
+	 */
+	private SplittableRandomSource(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt() {
+		return mix32(nextSeed());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("The bound must be positive, found "
+					+ bound);
+		}
+		int value = mix32(nextSeed());
+		int mask = bound - 1;
+		if ((bound & mask) == 0) {
+			value &= mask;
+		} else {
+			/* Rejects values of the last, incomplete, range to avoid bias */
+			for (int candidate = value >>> 1; candidate + mask
+					- (value = candidate % bound) < 0; candidate = mix32(nextSeed()) >>> 1) {
+				// keep drawing
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong() {
+		return mix64(nextSeed());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float nextFloat() {
+		return (nextInt() >>> 8) * FLOAT_UNIT;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean nextBoolean() {
+		return nextInt() < 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RandomSource split() {
+		return new SplittableRandomSource(nextLong(), mixGamma(nextSeed()));
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It advances the seed by one step.
+	 *
+	 * @return the new seed
+	 */
+	private long nextSeed() {
+		seed += gamma;
+		return seed;
+	}
+
+	/**
+	 * It scrambles a seed into a 64 bits value.
+	 *
+	 * @param value
+	 *            The seed
+	 * @return the scrambled value
+	 */
+	private static long mix64(long value) {
+		long z = value;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * It scrambles a seed into a 32 bits value.
+	 *
+	 * @param value
+	 *            The seed
+	 * @return the scrambled value
+	 */
+	private static int mix32(long value) {
+		long z = value;
+		z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+		return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+	}
+
+	/**
+	 * It turns a seed into an odd step with enough bit transitions to produce
+	 * a good sequence.
+	 *
+	 * @param value
+	 *            The seed
+	 * @return the step to use for a split source
+	 */
+	private static long mixGamma(long value) {
+		long z = value;
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		int transitions = Long.bitCount(z ^ (z >>> 1));
+		return (transitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("SplittableRandomSource [gamma=");
+		builder.append(Long.toHexString(gamma));
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,92 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A fixed set of distinct strings an attribute draws its values from.
+ * <p>
+ * The same instances are returned again and again, so that millions of
+ * POJOs only hold references to the strings of the pool, as attributes such
+ * as a country or a currency do in real datasets.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public final class StringPool {
+
+	// ------------------->> Instance / Static variables
+
+	/** The strings of the pool */
+	private final String[] values;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param values
+	 *            The strings of the pool, the array is copied
+	 * @throws IllegalArgumentException
+	 *             If there are no values
+	 */
+	public StringPool(String... values) {
+		if (values == null || values.length == 0) {
+			throw new IllegalArgumentException(
+					"A string pool needs at least one value");
+		}
+		this.values = values.clone();
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It draws a string of the pool.
+	 *
+	 * @param random
+	 *            The random source to draw from
+	 * @return one of the strings of the pool, all being equally likely
+	 */
+	public String sample(RandomSource random) {
+		return values[random.nextInt(values.length)];
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the number of strings of the pool.
+	 *
+	 * @return the number of strings of the pool
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * It returns a string of the pool.
+	 *
+	 * @param index
+	 *            The index of the string, from zero
+	 * @return the string at the given index
+	 */
+	public String get(int index) {
+		return values[index];
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "StringPool [size=" + values.length + "]";
+	}
+
+}
@@ -0,0 +1,314 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The actual types bound to the type variables of a class.
+ * <p>
+ * Bindings are computed once for a class and its generic type arguments and
+ * then shared by everything manufactured for that pair: the manufacturing
+ * plan, constructors and factory methods, collections and maps. Bindings
+ * never change once built and the types resolved against them are remembered,
+ * so that resolving the same generic type again does not walk it again.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+final class TypeBindings {
+
+	// ------------------->> Instance / Static variables
+
+	/** The application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(TypeBindings.class);
+
+	/** The maximum number of resolved types remembered by bindings */
+	private static final int MAX_RESOLVED_TYPES = 256;
+
+	/** Bindings of a class without type variables */
+	static final TypeBindings EMPTY = new TypeBindings(
+			Collections.<String, Type> emptyMap(), null);
+
+	/** The type variables of the class and their actual types */
+	private final Map<String, Type> typeArgsMap;
+
+	/** The provided type arguments not bound to any type variable */
+	private final Type[] extraTypeArgs;
+
+	/** The types already resolved against these bindings */
+	private final ConcurrentMap<Type, ResolvedType> resolvedTypes = new ConcurrentHashMap<Type, ResolvedType>();
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param typeArgsMap
+	 *            The type variables of the class and their actual types
+	 * @param extraTypeArgs
+	 *            The provided type arguments not bound to any type variable
+	 *            or null if none
+	 */
+	TypeBindings(Map<String, Type> typeArgsMap, Type[] extraTypeArgs) {
+		this.typeArgsMap = Collections.unmodifiableMap(typeArgsMap);
+		this.extraTypeArgs = extraTypeArgs;
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It binds the type variables of a class to the provided type arguments
+	 * and to the types specified during inheritance.
+	 *
+	 * @param pojoClass
+	 *            Typed class
+	 * @param genericTypeArgs
+	 *            Type arguments provided for a generics object by caller
+	 * @return the bindings of the class
+	 * @throws IllegalStateException
+	 *             If number of typed parameters doesn't match number of
+	 *             provided generic types
+	 */
+	static TypeBindings of(Class<?> pojoClass, Type[] genericTypeArgs) {
+
+		final TypeVariable<?>[] typeParameters = pojoClass.getTypeParameters();
+		if (typeParameters.length > genericTypeArgs.length) {
+			String msg = pojoClass.getCanonicalName()
+					+ " is missing generic type arguments, expected "
+					+ typeParameters.length + " found "
+					+ Arrays.toString(genericTypeArgs);
+			throw new IllegalStateException(msg);
+		}
+
+		Map<String, Type> typeArgsMap = new HashMap<String, Type>();
+		int i;
+		for (i = 0; i < typeParameters.length; i++) {
+			typeArgsMap.put(typeParameters[i].getName(), genericTypeArgs[i]);
+		}
+		Type[] genericTypeArgsExtra;
+		if (typeParameters.length < genericTypeArgs.length) {
+			genericTypeArgsExtra = Arrays.copyOfRange(genericTypeArgs, i,
+					genericTypeArgs.length);
+		} else {
+			genericTypeArgsExtra = null;
+		}
+
+		/* Adding types, which were specified during inheritance */
+		Class<?> clazz = pojoClass;
+		while (clazz != null) {
+			Type superType = clazz.getGenericSuperclass();
+			clazz = clazz.getSuperclass();
+			if (superType instanceof ParameterizedType) {
+				ParameterizedType paramType = (ParameterizedType) superType;
+				Type[] actualParamTypes = paramType.getActualTypeArguments();
+				TypeVariable<?>[] paramTypes = clazz.getTypeParameters();
+				for (i = 0; i < actualParamTypes.length
+						&& i < paramTypes.length; i++) {
+					if (actualParamTypes[i] instanceof Class) {
+						typeArgsMap.put(paramTypes[i].getName(),
+								actualParamTypes[i]);
+					}
+				}
+			}
+		}
+
+		if (typeArgsMap.isEmpty() && genericTypeArgsExtra == null) {
+			return EMPTY;
+		}
+		return new TypeBindings(typeArgsMap, genericTypeArgsExtra);
+	}
+
+	/**
+	 * It resolves a generic type against these bindings.
+	 *
+	 * @param type
+	 *            The generic type
+	 * @return the class representing the generic type and its own type
+	 *         arguments
+	 */
+	ResolvedType resolve(Type type) {
+
+		if (null == type) {
+			return resolveType(type);
+		}
+		ResolvedType resolvedType = resolvedTypes.get(type);
+		if (null == resolvedType) {
+			resolvedType = resolveType(type);
+			if (resolvedTypes.size() < MAX_RESOLVED_TYPES) {
+				resolvedTypes.putIfAbsent(type, resolvedType);
+			}
+		}
+		return resolvedType;
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the actual type bound to a type variable.
+	 *
+	 * @param typeVariableName
+	 *            The name of the type variable
+	 * @return the actual type or null if the type variable is not bound
+	 */
+	Type get(String typeVariableName) {
+		return typeArgsMap.get(typeVariableName);
+	}
+
+	/**
+	 * @return the type variables of the class and their actual types
+	 */
+	Map<String, Type> getTypeArgsMap() {
+		return typeArgsMap;
+	}
+
+	/**
+	 * It returns the provided type arguments not bound to any type variable.
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return the extra type arguments or null if none
+	 */
+	Type[] getExtraTypeArgs() {
+		return extraTypeArgs;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It resolves generic parameter type
+	 *
+	 * @param paramType
+	 *            The generic parameter type
+	 * @return the class representing the generic parameter type and its
+	 *         possible generic types
+	 */
+	private ResolvedType resolveType(Type paramType) {
+
+		ResolvedType resolvedType = null;
+		if (paramType instanceof TypeVariable<?>) {
+			final TypeVariable<?> typeVariable = (TypeVariable<?>) paramType;
+			final Type type = typeArgsMap.get(typeVariable.getName());
+			if (type != null) {
+				resolvedType = resolve(type);
+			}
+		} else if (paramType instanceof ParameterizedType) {
+			ParameterizedType pType = (ParameterizedType) paramType;
+			resolvedType = new ResolvedType((Class<?>) pType.getRawType(),
+					pType.getActualTypeArguments());
+		} else if (paramType instanceof WildcardType) {
+			WildcardType wType = (WildcardType) paramType;
+			Type[] bounds = wType.getLowerBounds();
+			String msg;
+			if (bounds != null && bounds.length > 0) {
+				msg = "Lower bounds:";
+			} else {
+				bounds = wType.getUpperBounds();
+				msg = "Upper bounds:";
+			}
+			if (bounds != null && bounds.length > 0) {
+				LOG.debug(msg + Arrays.toString(bounds));
+				resolvedType = resolve(bounds[0]);
+			}
+		} else if (paramType instanceof Class) {
+			resolvedType = new ResolvedType((Class<?>) paramType,
+					ResolvedType.NO_TYPES);
+		}
+
+		if (resolvedType == null) {
+			LOG.warn("Unrecognized type {}. Will use Object instead",
+					paramType);
+			resolvedType = ResolvedType.OBJECT;
+		}
+		return resolvedType;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "TypeBindings [typeArgsMap=" + typeArgsMap + ", extraTypeArgs="
+				+ Arrays.toString(extraTypeArgs) + "]";
+	}
+
+	// ------------------->> Inner classes
+
+	/**
+	 * A generic type resolved to a class and the type arguments of that
+	 * class.
+	 */
+	static final class ResolvedType {
+
+		/** An empty type array */
+		private static final Type[] NO_TYPES = new Type[] {};
+
+		/** The type resolved when nothing better is known */
+		private static final ResolvedType OBJECT = new ResolvedType(
+				Object.class, NO_TYPES);
+
+		/** The class representing the type */
+		private final Class<?> rawType;
+
+		/** The type arguments of the class */
+		private final Type[] typeArgs;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param rawType
+		 *            The class representing the type
+		 * @param typeArgs
+		 *            The type arguments of the class
+		 */
+		ResolvedType(Class<?> rawType, Type[] typeArgs) {
+			this.rawType = rawType;
+			this.typeArgs = typeArgs;
+		}
+
+		/**
+		 * @return the class representing the type
+		 */
+		Class<?> getRawType() {
+			return rawType;
+		}
+
+		/**
+		 * It returns the type arguments of the class. The returned array is
+		 * shared and must not be modified.
+		 *
+		 * @return the type arguments of the class
+		 */
+		Type[] getTypeArgs() {
+			return typeArgs;
+		}
+
+		@Override
+		public String toString() {
+			return "ResolvedType [rawType=" + rawType + ", typeArgs="
+					+ Arrays.toString(typeArgs) + "]";
+		}
+	}
+
+}
@@ -0,0 +1,36 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A {@link Distribution} where all the values of the range are equally
+ * likely.
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public class UniformDistribution implements Distribution {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(RandomSource random) {
+		return random.nextDouble();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "UniformDistribution";
+	}
+
+}
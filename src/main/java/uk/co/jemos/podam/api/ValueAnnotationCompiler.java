@@ -0,0 +1,609 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.common.PodamBooleanValue;
+import uk.co.jemos.podam.common.PodamByteValue;
+import uk.co.jemos.podam.common.PodamCharValue;
+import uk.co.jemos.podam.common.PodamDoubleValue;
+import uk.co.jemos.podam.common.PodamFloatValue;
+import uk.co.jemos.podam.common.PodamIntValue;
+import uk.co.jemos.podam.common.PodamLongValue;
+import uk.co.jemos.podam.common.PodamShortValue;
+import uk.co.jemos.podam.common.PodamStringValue;
+
+/**
+ * It compiles the annotations customising values, such as
+ * {@link PodamIntValue}, into immutable generators.
+ * <p>
+ * All the work which depends only on the annotation is done once, when the
+ * annotation is compiled: the precise value is parsed, the range is checked
+ * and the distribution it names is instantiated. Generating a value is then
+ * a single call to the strategy, so that an annotated attribute costs no
+ * more than an attribute without annotations.
+ * </p>
+ * <p>
+ * Each annotation is compiled once: the generators are cached by annotation,
+ * which are equal when they have got the same type and attributes, so that
+ * the parameters of constructors and the elements of collections reuse the
+ * generators of the annotations already seen. The cache is bounded and it
+ * forgets the least recently used annotations, which are compiled again when
+ * they are seen again.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@ThreadSafe
+final class ValueAnnotationCompiler {
+
+	// ------------------->> Constants
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(ValueAnnotationCompiler.class.getName());
+
+	/** The maximum number of generators kept by a compiler */
+	static final int MAX_GENERATORS_SIZE = 4096;
+
+	// ------------------->> Instance / Static variables
+
+	/** The strategy providing the values */
+	private final DataProviderStrategy strategy;
+
+	/**
+	 * The strategy drawing values from distributions, null if the strategy
+	 * cannot.
+	 */
+	private final DistributionDataProviderStrategy distributionStrategy;
+
+	/** The distributions referenced by annotations */
+	private final ConcurrentMap<Class<? extends Distribution>, Distribution> distributions = new ConcurrentHashMap<Class<? extends Distribution>, Distribution>();
+
+	/** The generators compiled from annotations, by annotation */
+	private final LruCache<Annotation, AttributeGenerator<?>> generators = new LruCache<Annotation, AttributeGenerator<?>>(
+			MAX_GENERATORS_SIZE);
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param strategy
+	 *            The strategy providing the values
+	 */
+	ValueAnnotationCompiler(DataProviderStrategy strategy) {
+		this.strategy = strategy;
+		if (strategy instanceof DistributionDataProviderStrategy) {
+			distributionStrategy = (DistributionDataProviderStrategy) strategy;
+		} else {
+			distributionStrategy = null;
+		}
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * It returns the generator compiled from an annotation, compiling the
+	 * annotation the first time it is seen.
+	 *
+	 * @param annotation
+	 *            The annotation customising the values of an attribute
+	 * @return the generator of the values or null if the annotation does not
+	 *         customise values
+	 * @throws IllegalArgumentException
+	 *             If the precise value of the annotation cannot be converted
+	 *             to the type of the annotation, or if the annotation names a
+	 *             distribution which cannot be instantiated
+	 */
+	AttributeGenerator<?> getGenerator(Annotation annotation) {
+
+		AttributeGenerator<?> generator = generators.get(annotation);
+		if (null == generator) {
+			generator = compile(annotation);
+			if (null == generator) {
+				return null;
+			}
+			AttributeGenerator<?> existing = generators.putIfAbsent(
+					annotation, generator);
+			if (null != existing) {
+				generator = existing;
+			}
+		}
+		return generator;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It compiles an annotation into a generator.
+	 *
+	 * @param annotation
+	 *            The annotation customising the values of an attribute
+	 * @return the generator of the values or null if the annotation does not
+	 *         customise values
+	 * @throws IllegalArgumentException
+	 *             If the precise value of the annotation cannot be converted
+	 *             to the type of the annotation, or if the annotation names a
+	 *             distribution which cannot be instantiated
+	 */
+	private AttributeGenerator<?> compile(Annotation annotation) {
+
+		if (annotation instanceof PodamBooleanValue) {
+
+			return new ConstantGenerator(
+					((PodamBooleanValue) annotation).boolValue());
+
+		} else if (annotation instanceof PodamByteValue) {
+
+			PodamByteValue byteValue = (PodamByteValue) annotation;
+			if (isSet(byteValue.numValue())) {
+				try {
+					return new ConstantGenerator(Byte.valueOf(byteValue
+							.numValue()));
+				} catch (NumberFormatException nfe) {
+					throw invalidValue(byteValue.numValue(), "a Byte", nfe);
+				}
+			}
+			return new IntegralRangeGenerator(ValueType.BYTE,
+					byteValue.minValue(), byteValue.maxValue(),
+					byteValue.distribution());
+
+		} else if (annotation instanceof PodamShortValue) {
+
+			PodamShortValue shortValue = (PodamShortValue) annotation;
+			if (isSet(shortValue.numValue())) {
+				try {
+					return new ConstantGenerator(Short.valueOf(shortValue
+							.numValue()));
+				} catch (NumberFormatException nfe) {
+					throw invalidValue(shortValue.numValue(), "a Short", nfe);
+				}
+			}
+			return new IntegralRangeGenerator(ValueType.SHORT,
+					shortValue.minValue(), shortValue.maxValue(),
+					shortValue.distribution());
+
+		} else if (annotation instanceof PodamCharValue) {
+
+			PodamCharValue charValue = (PodamCharValue) annotation;
+			if (charValue.charValue() != ' ') {
+				return new ConstantGenerator(charValue.charValue());
+			}
+			return new IntegralRangeGenerator(ValueType.CHARACTER,
+					charValue.minValue(), charValue.maxValue(),
+					Distribution.class);
+
+		} else if (annotation instanceof PodamIntValue) {
+
+			PodamIntValue intValue = (PodamIntValue) annotation;
+			if (isSet(intValue.numValue())) {
+				try {
+					return new ConstantGenerator(Integer.valueOf(intValue
+							.numValue()));
+				} catch (NumberFormatException nfe) {
+					throw invalidValue(intValue.numValue(), "an Integer", nfe);
+				}
+			}
+			return new IntegralRangeGenerator(ValueType.INTEGER,
+					intValue.minValue(), intValue.maxValue(),
+					intValue.distribution());
+
+		} else if (annotation instanceof PodamLongValue) {
+
+			PodamLongValue longValue = (PodamLongValue) annotation;
+			if (isSet(longValue.numValue())) {
+				try {
+					return new ConstantGenerator(Long.valueOf(longValue
+							.numValue()));
+				} catch (NumberFormatException nfe) {
+					throw invalidValue(longValue.numValue(), "a Long", nfe);
+				}
+			}
+			return new IntegralRangeGenerator(ValueType.LONG,
+					longValue.minValue(), longValue.maxValue(),
+					longValue.distribution());
+
+		} else if (annotation instanceof PodamFloatValue) {
+
+			PodamFloatValue floatValue = (PodamFloatValue) annotation;
+			if (isSet(floatValue.numValue())) {
+				try {
+					return new ConstantGenerator(Float.valueOf(floatValue
+							.numValue()));
+				} catch (NumberFormatException nfe) {
+					throw invalidValue(floatValue.numValue(), "a Float", nfe);
+				}
+			}
+			return new DecimalRangeGenerator(ValueType.FLOAT,
+					floatValue.minValue(), floatValue.maxValue(),
+					floatValue.distribution());
+
+		} else if (annotation instanceof PodamDoubleValue) {
+
+			PodamDoubleValue doubleValue = (PodamDoubleValue) annotation;
+			if (isSet(doubleValue.numValue())) {
+				try {
+					return new ConstantGenerator(Double.valueOf(doubleValue
+							.numValue()));
+				} catch (NumberFormatException nfe) {
+					throw invalidValue(doubleValue.numValue(), "a Double", nfe);
+				}
+			}
+			return new DecimalRangeGenerator(ValueType.DOUBLE,
+					doubleValue.minValue(), doubleValue.maxValue(),
+					doubleValue.distribution());
+
+		} else if (annotation instanceof PodamStringValue) {
+
+			// A specific value takes precedence over the length
+			PodamStringValue stringValue = (PodamStringValue) annotation;
+			if (isSet(stringValue.strValue())) {
+				return new ConstantGenerator(stringValue.strValue());
+			}
+			return new StringOfLengthGenerator(stringValue.length());
+
+		}
+
+		return null;
+	}
+
+	/**
+	 * It checks whether an annotation attribute holding a value was set.
+	 *
+	 * @param value
+	 *            The annotation attribute
+	 * @return true if the attribute is neither null nor empty
+	 */
+	private static boolean isSet(String value) {
+		return null != value && value.length() > 0;
+	}
+
+	/**
+	 * It reports a precise value which cannot be converted to the type of its
+	 * annotation.
+	 *
+	 * @param value
+	 *            The precise value
+	 * @param typeName
+	 *            The name of the type, with its article
+	 * @param cause
+	 *            The conversion failure
+	 * @return the exception to throw
+	 */
+	private static IllegalArgumentException invalidValue(String value,
+			String typeName, NumberFormatException cause) {
+		String errMsg = "The annotation value: " + value
+				+ " could not be converted to " + typeName
+				+ ". An exception will be thrown.";
+		LOG.error(errMsg);
+		return new IllegalArgumentException(errMsg, cause);
+	}
+
+	/**
+	 * It returns the distribution named by an annotation.
+	 *
+	 * @param distributionClass
+	 *            The distribution named by the annotation, or
+	 *            {@link Distribution} itself if it names none
+	 * @return the distribution, or null if the annotation names none or if
+	 *         the strategy cannot draw from distributions
+	 * @throws IllegalArgumentException
+	 *             If the distribution cannot be instantiated
+	 */
+	private Distribution getDistribution(
+			Class<? extends Distribution> distributionClass) {
+
+		if (Distribution.class.equals(distributionClass)) {
+			return null;
+		}
+		if (null == distributionStrategy) {
+			LOG.debug("Strategy {} cannot draw from distributions."
+					+ " Values will be uniform.", strategy);
+			return null;
+		}
+
+		Distribution distribution = distributions.get(distributionClass);
+		if (null == distribution) {
+			try {
+				distribution = distributionClass.newInstance();
+			} catch (InstantiationException e) {
+				throw new IllegalArgumentException("The distribution "
+						+ distributionClass.getName()
+						+ " needs a public no-argument constructor", e);
+			} catch (IllegalAccessException e) {
+				throw new IllegalArgumentException("The distribution "
+						+ distributionClass.getName()
+						+ " needs a public no-argument constructor", e);
+			}
+			Distribution existing = distributions.putIfAbsent(
+					distributionClass, distribution);
+			if (null != existing) {
+				distribution = existing;
+			}
+		}
+		return distribution;
+	}
+
+	// ------------------->> Inner classes
+
+	/** The types of the values drawn within a range */
+	private enum ValueType {
+		BYTE, SHORT, CHARACTER, INTEGER, LONG, FLOAT, DOUBLE
+	}
+
+	/**
+	 * The generator of a precise value.
+	 */
+	@Immutable
+	private static final class ConstantGenerator implements
+			AttributeGenerator<Object> {
+
+		/** The value */
+		private final Object value;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param value
+		 *            The value
+		 */
+		ConstantGenerator(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		public Object generate(AttributeMetadata attributeMetadata) {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return "ConstantGenerator [" + value + "]";
+		}
+	}
+
+	/**
+	 * The generator of strings of a given length.
+	 */
+	@Immutable
+	private final class StringOfLengthGenerator implements
+			AttributeGenerator<String> {
+
+		/** The length of the strings */
+		private final int length;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param length
+		 *            The length of the strings
+		 */
+		StringOfLengthGenerator(int length) {
+			this.length = length;
+		}
+
+		@Override
+		public String generate(AttributeMetadata attributeMetadata) {
+			return strategy.getStringOfLength(length, attributeMetadata);
+		}
+
+		@Override
+		public String toString() {
+			return "StringOfLengthGenerator [" + length + "]";
+		}
+	}
+
+	/**
+	 * The generator of integral values within a range.
+	 */
+	@Immutable
+	private final class IntegralRangeGenerator implements
+			AttributeGenerator<Object> {
+
+		/** The type of the values */
+		private final ValueType type;
+
+		/** The minimum value (included) */
+		private final long minValue;
+
+		/** The maximum value (included) */
+		private final long maxValue;
+
+		/**
+		 * Whether the distribution is the one the strategy returns for the
+		 * attribute
+		 */
+		private final boolean defaultDistribution;
+
+		/** The distribution named by the annotation, if any */
+		private final Distribution distribution;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param type
+		 *            The type of the values
+		 * @param minValue
+		 *            The minimum value (included)
+		 * @param maxValue
+		 *            The maximum value (included), raised to the minimum
+		 *            value if lower
+		 * @param distributionClass
+		 *            The distribution named by the annotation, or
+		 *            {@link Distribution} itself if it names none
+		 */
+		IntegralRangeGenerator(ValueType type, long minValue, long maxValue,
+				Class<? extends Distribution> distributionClass) {
+			this.type = type;
+			this.minValue = minValue;
+			this.maxValue = Math.max(minValue, maxValue);
+			this.defaultDistribution = type != ValueType.CHARACTER
+					&& null != distributionStrategy
+					&& Distribution.class.equals(distributionClass);
+			this.distribution = getDistribution(distributionClass);
+		}
+
+		@Override
+		public Object generate(AttributeMetadata attributeMetadata) {
+
+			Distribution currentDistribution = defaultDistribution ? distributionStrategy
+					.getDistribution(attributeMetadata) : distribution;
+			if (null != currentDistribution) {
+				long value = sample(currentDistribution, attributeMetadata);
+				switch (type) {
+				case BYTE:
+					return (byte) value;
+				case SHORT:
+					return (short) value;
+				case INTEGER:
+					return (int) value;
+				default:
+					return value;
+				}
+			}
+
+			switch (type) {
+			case BYTE:
+				return strategy.getByteInRange((byte) minValue,
+						(byte) maxValue, attributeMetadata);
+			case SHORT:
+				return strategy.getShortInRange((short) minValue,
+						(short) maxValue, attributeMetadata);
+			case CHARACTER:
+				return strategy.getCharacterInRange((char) minValue,
+						(char) maxValue, attributeMetadata);
+			case INTEGER:
+				return strategy.getIntegerInRange((int) minValue,
+						(int) maxValue, attributeMetadata);
+			default:
+				return strategy.getLongInRange(minValue, maxValue,
+						attributeMetadata);
+			}
+		}
+
+		/**
+		 * It draws a value within the range from a distribution.
+		 *
+		 * @param currentDistribution
+		 *            The distribution of the values
+		 * @param attributeMetadata
+		 *            The attribute's metadata
+		 * @return a value within min and max value (included)
+		 */
+		private long sample(Distribution currentDistribution,
+				AttributeMetadata attributeMetadata) {
+
+			double fraction = distributionStrategy.sample(currentDistribution,
+					attributeMetadata);
+			long retValue = minValue
+					+ (long) (fraction * ((double) maxValue - minValue + 1));
+			if (retValue > maxValue || retValue < minValue) {
+				retValue = maxValue;
+			}
+			return retValue;
+		}
+
+		@Override
+		public String toString() {
+			return "IntegralRangeGenerator [type=" + type + ", minValue="
+					+ minValue + ", maxValue=" + maxValue + ", distribution="
+					+ distribution + "]";
+		}
+	}
+
+	/**
+	 * The generator of decimal values within a range.
+	 */
+	@Immutable
+	private final class DecimalRangeGenerator implements
+			AttributeGenerator<Object> {
+
+		/** The type of the values */
+		private final ValueType type;
+
+		/** The minimum value (included) */
+		private final double minValue;
+
+		/** The maximum value (included) */
+		private final double maxValue;
+
+		/**
+		 * Whether the distribution is the one the strategy returns for the
+		 * attribute
+		 */
+		private final boolean defaultDistribution;
+
+		/** The distribution named by the annotation, if any */
+		private final Distribution distribution;
+
+		/**
+		 * Full constructor.
+		 *
+		 * @param type
+		 *            The type of the values
+		 * @param minValue
+		 *            The minimum value (included)
+		 * @param maxValue
+		 *            The maximum value (included), raised to the minimum
+		 *            value if lower
+		 * @param distributionClass
+		 *            The distribution named by the annotation, or
+		 *            {@link Distribution} itself if it names none
+		 */
+		DecimalRangeGenerator(ValueType type, double minValue,
+				double maxValue, Class<? extends Distribution> distributionClass) {
+			this.type = type;
+			this.minValue = minValue;
+			this.maxValue = Math.max(minValue, maxValue);
+			this.defaultDistribution = null != distributionStrategy
+					&& Distribution.class.equals(distributionClass);
+			this.distribution = getDistribution(distributionClass);
+		}
+
+		@Override
+		public Object generate(AttributeMetadata attributeMetadata) {
+
+			Distribution currentDistribution = defaultDistribution ? distributionStrategy
+					.getDistribution(attributeMetadata) : distribution;
+			if (null != currentDistribution) {
+				double fraction = distributionStrategy.sample(
+						currentDistribution, attributeMetadata);
+				double value = Math.min(minValue + fraction
+						* (maxValue - minValue), maxValue);
+				if (type == ValueType.FLOAT) {
+					return (float) value;
+				}
+				return value;
+			}
+
+			if (type == ValueType.FLOAT) {
+				return strategy.getFloatInRange((float) minValue,
+						(float) maxValue, attributeMetadata);
+			}
+			return strategy.getDoubleInRange(minValue, maxValue,
+					attributeMetadata);
+		}
+
+		@Override
+		public String toString() {
+			return "DecimalRangeGenerator [type=" + type + ", minValue="
+					+ minValue + ", maxValue=" + maxValue + ", distribution="
+					+ distribution + "]";
+		}
+	}
+
+}
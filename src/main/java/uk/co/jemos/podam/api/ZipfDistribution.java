@@ -0,0 +1,132 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A {@link Distribution} where values follow Zipf's law, as hot keys do.
+ * <p>
+ * The rank {@code k} (from one) is drawn with a weight of
+ * {@code 1 / k^exponent}, the first rank being the most frequent. Each rank
+ * is a single value, at the middle of its slice of the range, so that a hot
+ * key is one value rather than a band of values. When an integral range holds
+ * as many integers as there are ranks, the rank {@code k} is the value
+ * {@code min + k - 1}. Narrower ranges merge neighbouring ranks into the same
+ * value, while wider ranges leave the values between ranks out.
+ * </p>
+ * <p>
+ * To reference other parameters from an annotation, extend this class with a
+ * no-argument constructor, e.g.
+ * {@code public HotKeys() { super(10000, 1.2); }}
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Immutable
+public class ZipfDistribution implements Distribution {
+
+	// ------------------->> Constants
+
+	/** The default number of ranks */
+	public static final int DEFAULT_NBR_RANKS = 1000;
+
+	/** The default exponent */
+	public static final double DEFAULT_EXPONENT = 1.0;
+
+	// ------------------->> Instance / Static variables
+
+	/** The number of ranks */
+	private final int nbrRanks;
+
+	/** The exponent of the ranks */
+	private final double exponent;
+
+	/** The table drawing the ranks */
+	private final AliasTable ranks;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Default constructor, with {@link #DEFAULT_NBR_RANKS} ranks and an
+	 * exponent of {@link #DEFAULT_EXPONENT}.
+	 */
+	public ZipfDistribution() {
+		this(DEFAULT_NBR_RANKS, DEFAULT_EXPONENT);
+	}
+
+	/**
+	 * Full constructor.
+	 *
+	 * @param nbrRanks
+	 *            The number of ranks
+	 * @param exponent
+	 *            The exponent of the ranks, the higher the more skewed
+	 * @throws IllegalArgumentException
+	 *             If the number of ranks is not positive or the exponent is
+	 *             negative
+	 */
+	public ZipfDistribution(int nbrRanks, double exponent) {
+		if (nbrRanks <= 0) {
+			throw new IllegalArgumentException(
+					"The number of ranks must be positive, found " + nbrRanks);
+		}
+		if (exponent < 0.0 || Double.isNaN(exponent)) {
+			throw new IllegalArgumentException(
+					"The exponent cannot be negative, found " + exponent);
+		}
+		this.nbrRanks = nbrRanks;
+		this.exponent = exponent;
+		double[] weights = new double[nbrRanks];
+		for (int i = 0; i < nbrRanks; i++) {
+			weights[i] = 1.0 / Math.pow(i + 1, exponent);
+		}
+		ranks = new AliasTable(weights);
+	}
+
+	// ------------------->> Public methods
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(RandomSource random) {
+		return (ranks.sample(random) + 0.5) / nbrRanks;
+	}
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * It returns the number of ranks.
+	 *
+	 * @return the number of ranks
+	 */
+	public int getNbrRanks() {
+		return nbrRanks;
+	}
+
+	/**
+	 * It returns the exponent of the ranks.
+	 *
+	 * @return the exponent of the ranks
+	 */
+	public double getExponent() {
+		return exponent;
+	}
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "ZipfDistribution [nbrRanks=" + nbrRanks + ", exponent="
+				+ exponent + "]";
+	}
+
+}
@@ -0,0 +1,44 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.common;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used to draw a string attribute or constructor parameter from a
+ * dictionary file rather than from random characters.
+ *
+ * <p>
+ * The value is the name of a dictionary registered with
+ * {@link uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy#addDictionary(String, uk.co.jemos.podam.api.Dictionary)}
+ * or, if no dictionary was registered with that name, the path of the
+ * dictionary file. {@link PodamStringValue} takes precedence over this
+ * annotation.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Documented
+@Target(value = { ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PodamDictionary {
+
+	/**
+	 * The name of the dictionary or the path of its file.
+	 *
+	 * @return the dictionary the attribute values are drawn from
+	 */
+	String value();
+
+	/** It allows clients to specify a comment on this annotation */
+	String comment() default "";
+
+}
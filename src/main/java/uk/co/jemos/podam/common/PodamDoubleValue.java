@@ -9,6 +9,9 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import uk.co.jemos.podam.api.Distribution;
+import uk.co.jemos.podam.api.DistributionDataProviderStrategy;
+
 /**
  * Annotation used to customise min and max values on a double type attribute or
  * constructor parameter.
@@ -54,4 +57,17 @@ public @interface PodamDoubleValue {
 	 */
 	String numValue() default "";
 
+	/**
+	 * The distribution of the values between min and max.
+	 * <p>
+	 * By default the distribution is the one returned by
+	 * {@link DistributionDataProviderStrategy#getDistribution(uk.co.jemos.podam.api.AttributeMetadata)}
+	 * if the strategy provides one, otherwise values are uniform. The class
+	 * must have a public no-argument constructor.
+	 * </p>
+	 * 
+	 * @return The distribution of the double values within the range
+	 */
+	Class<? extends Distribution> distribution() default Distribution.class;
+
 }
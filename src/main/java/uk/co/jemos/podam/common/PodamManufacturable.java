@@ -0,0 +1,36 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.common;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation which marks the classes a
+ * {@link uk.co.jemos.podam.api.Manufacturer} should be generated for at
+ * compile time.
+ * <p>
+ * When the podam-processor annotation processor is on the compiler path, it
+ * generates a manufacturer for each annotated class, which calls the
+ * constructor and the setters of the class without reflection.
+ * {@link uk.co.jemos.podam.api.PodamFactoryImpl} discovers the generated
+ * manufacturers and prefers them to the reflective path.
+ * </p>
+ *
+ * @author mtedone
+ *
+ * @since 4.7.3
+ *
+ */
+@Documented
+@Target(value = ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PodamManufacturable {
+
+	/** Gives users the possibility to leave comments */
+	String comment() default "";
+}
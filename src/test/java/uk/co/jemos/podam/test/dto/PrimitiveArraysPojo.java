@@ -0,0 +1,145 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.dto;
+
+import uk.co.jemos.podam.common.PodamCollection;
+
+/**
+ * POJO with arrays of every primitive type not covered by
+ * {@link OneDimensionalTestPojo}
+ *
+ * @author mtedone
+ *
+ */
+public class PrimitiveArraysPojo {
+
+	// ------------------->> Constants
+
+	/** The number of elements of the payload */
+	public static final int PAYLOAD_SIZE = 1000;
+
+	// ------------------->> Instance / Static variables
+
+	/** A large binary payload */
+	@PodamCollection(nbrElements = PAYLOAD_SIZE)
+	private byte[] payload;
+
+	/** A short array */
+	private short[] shortArray;
+
+	/** A char array */
+	private char[] charArray;
+
+	/** A long array */
+	private long[] longArray;
+
+	/** A float array */
+	private float[] floatArray;
+
+	/** A double array */
+	private double[] doubleArray;
+
+	// ------------------->> Constructors
+
+	// ------------------->> Public methods
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the payload
+	 */
+	public byte[] getPayload() {
+		return payload;
+	}
+
+	/**
+	 * @param payload
+	 *            the payload to set
+	 */
+	public void setPayload(byte[] payload) {
+		this.payload = payload;
+	}
+
+	/**
+	 * @return the shortArray
+	 */
+	public short[] getShortArray() {
+		return shortArray;
+	}
+
+	/**
+	 * @param shortArray
+	 *            the shortArray to set
+	 */
+	public void setShortArray(short[] shortArray) {
+		this.shortArray = shortArray;
+	}
+
+	/**
+	 * @return the charArray
+	 */
+	public char[] getCharArray() {
+		return charArray;
+	}
+
+	/**
+	 * @param charArray
+	 *            the charArray to set
+	 */
+	public void setCharArray(char[] charArray) {
+		this.charArray = charArray;
+	}
+
+	/**
+	 * @return the longArray
+	 */
+	public long[] getLongArray() {
+		return longArray;
+	}
+
+	/**
+	 * @param longArray
+	 *            the longArray to set
+	 */
+	public void setLongArray(long[] longArray) {
+		this.longArray = longArray;
+	}
+
+	/**
+	 * @return the floatArray
+	 */
+	public float[] getFloatArray() {
+		return floatArray;
+	}
+
+	/**
+	 * @param floatArray
+	 *            the floatArray to set
+	 */
+	public void setFloatArray(float[] floatArray) {
+		this.floatArray = floatArray;
+	}
+
+	/**
+	 * @return the doubleArray
+	 */
+	public double[] getDoubleArray() {
+		return doubleArray;
+	}
+
+	/**
+	 * @param doubleArray
+	 *            the doubleArray to set
+	 */
+	public void setDoubleArray(double[] doubleArray) {
+		this.doubleArray = doubleArray;
+	}
+
+	// ------------------->> Private methods
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	// ------------------->> Inner classes
+
+}
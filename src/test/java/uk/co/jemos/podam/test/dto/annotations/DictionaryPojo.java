@@ -0,0 +1,90 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.dto.annotations;
+
+import uk.co.jemos.podam.common.PodamDictionary;
+import uk.co.jemos.podam.common.PodamStringValue;
+
+/**
+ * POJO to test the {@link PodamDictionary} annotation
+ *
+ * @author mtedone
+ *
+ */
+public class DictionaryPojo {
+
+	// ------------------->> Constants
+
+	/** The name of the dictionary of first names */
+	public static final String FIRST_NAMES = "firstNames";
+
+	// ------------------->> Instance / Static variables
+
+	@PodamDictionary(FIRST_NAMES)
+	private String firstName;
+
+	@PodamDictionary(FIRST_NAMES)
+	@PodamStringValue(strValue = "Smith")
+	private String lastName;
+
+	private String nickName;
+
+	// ------------------->> Constructors
+
+	// ------------------->> Public methods
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the firstName
+	 */
+	public String getFirstName() {
+		return firstName;
+	}
+
+	/**
+	 * @param firstName
+	 *            the firstName to set
+	 */
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	/**
+	 * @return the lastName
+	 */
+	public String getLastName() {
+		return lastName;
+	}
+
+	/**
+	 * @param lastName
+	 *            the lastName to set
+	 */
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+
+	/**
+	 * @return the nickName
+	 */
+	public String getNickName() {
+		return nickName;
+	}
+
+	/**
+	 * @param nickName
+	 *            the nickName to set
+	 */
+	public void setNickName(String nickName) {
+		this.nickName = nickName;
+	}
+
+	// ------------------->> Private methods
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	// ------------------->> Inner classes
+
+}
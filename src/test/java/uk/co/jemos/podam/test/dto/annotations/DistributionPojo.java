@@ -0,0 +1,96 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.dto.annotations;
+
+import uk.co.jemos.podam.api.LogNormalDistribution;
+import uk.co.jemos.podam.api.ZipfDistribution;
+import uk.co.jemos.podam.common.PodamDoubleValue;
+import uk.co.jemos.podam.common.PodamIntValue;
+import uk.co.jemos.podam.common.PodamLongValue;
+
+/**
+ * POJO to test the distribution of annotated numeric attributes
+ *
+ * @author mtedone
+ *
+ */
+public class DistributionPojo {
+
+	// ------------------->> Constants
+
+	/** The number of keys, one per Zipf rank */
+	public static final int NBR_KEYS = 1000;
+
+	/** The maximum amount */
+	public static final double MAX_AMOUNT = 10000.0;
+
+	// ------------------->> Instance / Static variables
+
+	@PodamIntValue(minValue = 1, maxValue = NBR_KEYS, distribution = ZipfDistribution.class)
+	private int hotKey;
+
+	@PodamDoubleValue(minValue = 0.0, maxValue = MAX_AMOUNT, distribution = LogNormalDistribution.class)
+	private double amount;
+
+	@PodamLongValue(minValue = 1L, maxValue = NBR_KEYS)
+	private long id;
+
+	// ------------------->> Constructors
+
+	// ------------------->> Public methods
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the hotKey
+	 */
+	public int getHotKey() {
+		return hotKey;
+	}
+
+	/**
+	 * @param hotKey
+	 *            the hotKey to set
+	 */
+	public void setHotKey(int hotKey) {
+		this.hotKey = hotKey;
+	}
+
+	/**
+	 * @return the amount
+	 */
+	public double getAmount() {
+		return amount;
+	}
+
+	/**
+	 * @param amount
+	 *            the amount to set
+	 */
+	public void setAmount(double amount) {
+		this.amount = amount;
+	}
+
+	/**
+	 * @return the id
+	 */
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * @param id
+	 *            the id to set
+	 */
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	// ------------------->> Private methods
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	// ------------------->> Inner classes
+
+}
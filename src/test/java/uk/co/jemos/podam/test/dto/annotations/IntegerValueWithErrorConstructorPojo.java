@@ -0,0 +1,73 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.dto.annotations;
+
+import java.io.Serializable;
+
+import net.jcip.annotations.Immutable;
+import uk.co.jemos.podam.common.PodamConstructor;
+import uk.co.jemos.podam.common.PodamIntValue;
+
+/**
+ * Immutable POJO to test that {@link PodamIntValue#numValue()} with a non
+ * parseable value on a constructor parameter triggers an error.
+ *
+ * @author mtedone
+ *
+ */
+@Immutable
+public class IntegerValueWithErrorConstructorPojo implements Serializable {
+
+	// ------------------->> Constants
+	private static final long serialVersionUID = 1L;
+
+	// ------------------->> Instance / Static variables
+
+	/** A String field */
+	private final String name;
+
+	/** An int field */
+	private final int count;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Full constructor
+	 *
+	 * @param name
+	 *            The name
+	 * @param count
+	 *            The count, with an error in its annotation
+	 */
+	@PodamConstructor
+	public IntegerValueWithErrorConstructorPojo(String name,
+			@PodamIntValue(numValue = "hfajkfhalfh") int count) {
+		super();
+		this.name = name;
+		this.count = count;
+	}
+
+	// ------------------->> Public methods
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the count
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	// ------------------->> Private methods
+
+	// ------------------->> equals() / hashcode() / toString()
+
+}
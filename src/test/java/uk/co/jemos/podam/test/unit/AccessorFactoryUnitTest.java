@@ -0,0 +1,125 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.Date;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AccessorFactory;
+import uk.co.jemos.podam.api.AttributePlan;
+import uk.co.jemos.podam.api.ConstructorAccessor;
+import uk.co.jemos.podam.api.LambdaAccessorFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.ReflectionAccessorFactory;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks the {@link AccessorFactory} implementations
+ *
+ * @author mtedone
+ *
+ */
+public class AccessorFactoryUnitTest {
+
+	@Test
+	public void testReflectionAccessors() throws Exception {
+
+		checkAccessors(ReflectionAccessorFactory.getInstance());
+	}
+
+	@Test
+	public void testLambdaAccessorsFallBackToReflection() throws Exception {
+
+		Assert.assertFalse("Lambda accessors need the podam-java8 module",
+				LambdaAccessorFactory.isAvailable());
+		checkAccessors(LambdaAccessorFactory.getInstance());
+	}
+
+	@Test
+	public void testFieldAccessFillsFieldsWithoutSetters() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+		Assert.assertFalse(factory.isFieldAccess());
+
+		NoSetterPojo pojo = factory.manufacturePojo(NoSetterPojo.class);
+		Assert.assertNull(pojo.getName());
+		Assert.assertNull(pojo.getCreated());
+
+		factory.withFieldAccess(true);
+		pojo = factory.manufacturePojo(NoSetterPojo.class);
+		Assert.assertNotNull("Final fields should be written", pojo.getName());
+		Assert.assertNotNull("Private fields should be written",
+				pojo.getCreated());
+		Assert.assertEquals(NoSetterPojo.ID, pojo.getId());
+	}
+
+	@Test
+	public void testSettersArePreferredToFields() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl().withFieldAccess(true);
+
+		SimplePojoToTestSetters pojo = factory
+				.manufacturePojo(SimplePojoToTestSetters.class);
+		for (AttributePlan attribute : factory.getManufacturingPlan(
+				SimplePojoToTestSetters.class).getAttributes()) {
+			Assert.assertNotNull(attribute.getSetter());
+		}
+		Assert.assertNotNull(pojo.getStringField());
+	}
+
+	private void checkAccessors(AccessorFactory accessorFactory)
+			throws Exception {
+
+		ConstructorAccessor constructorAccessor = accessorFactory
+				.getConstructorAccessor(SimplePojoToTestSetters.class
+						.getConstructor());
+		SimplePojoToTestSetters pojo = (SimplePojoToTestSetters) constructorAccessor
+				.newInstance();
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+
+		accessorFactory.getSetterAccessor(
+				SimplePojoToTestSetters.class.getMethod("setIntField",
+						int.class)).set(pojo, 42);
+		accessorFactory.getSetterAccessor(
+				SimplePojoToTestSetters.class.getMethod("setStringField",
+						String.class)).set(pojo, "podam");
+		Assert.assertEquals(42, pojo.getIntField());
+		Assert.assertEquals("podam", pojo.getStringField());
+
+		NoSetterPojo noSetterPojo = new NoSetterPojo();
+		accessorFactory.getFieldAccessor(
+				NoSetterPojo.class.getDeclaredField("name")).set(noSetterPojo,
+				"podam");
+		Assert.assertEquals("podam", noSetterPojo.getName());
+	}
+
+	public static class NoSetterPojo {
+
+		public static final long ID = 42L;
+
+		private final String name;
+
+		private Date created;
+
+		public NoSetterPojo() {
+			name = null;
+		}
+
+		public long getId() {
+			return ID;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Date getCreated() {
+			return created;
+		}
+	}
+
+}
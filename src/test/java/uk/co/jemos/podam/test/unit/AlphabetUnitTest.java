@@ -0,0 +1,105 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.Alphabet;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.common.PodamConstants;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks that random strings are made of the characters of the alphabet of
+ * the strategy
+ *
+ * @author mtedone
+ *
+ */
+public class AlphabetUnitTest {
+
+	private static final int LONG_STRING_LENGTH = 10000;
+
+	private AbstractRandomDataProviderStrategy strategy;
+
+	@Before
+	public void setUp() {
+		strategy = new AbstractRandomDataProviderStrategy() {
+		};
+	}
+
+	@Test
+	public void testStringsAreMadeOfNiceAsciiCharacters() {
+
+		Assert.assertEquals(Alphabet.NICE_ASCII, strategy.getAlphabet());
+		Assert.assertEquals(PodamConstants.STR_DEFAULT_LENGTH, strategy
+				.getStringValue(null).length());
+		Assert.assertEquals("", strategy.getStringOfLength(0, null));
+
+		String value = strategy.getStringOfLength(LONG_STRING_LENGTH, null);
+		Assert.assertEquals(LONG_STRING_LENGTH, value.length());
+		assertMadeOf(Alphabet.NICE_ASCII, value);
+	}
+
+	@Test
+	public void testAlphabetCanBeChanged() {
+
+		strategy.setAlphabet(Alphabet.HEX);
+		String value = strategy.getStringOfLength(LONG_STRING_LENGTH, null);
+		assertMadeOf(Alphabet.HEX, value);
+
+		Set<Character> found = new HashSet<Character>();
+		for (char character : value.toCharArray()) {
+			found.add(character);
+		}
+		Assert.assertEquals("All characters should be drawn",
+				Alphabet.HEX.size(), found.size());
+
+		SimplePojoToTestSetters pojo = new PodamFactoryImpl(strategy)
+				.manufacturePojo(SimplePojoToTestSetters.class);
+		assertMadeOf(Alphabet.HEX, pojo.getStringField());
+
+		strategy.setAlphabet(new Alphabet("x"));
+		Assert.assertEquals("xxx", strategy.getStringOfLength(3, null));
+	}
+
+	@Test
+	public void testOverriddenCharactersAreHonoured() {
+
+		strategy = new AbstractRandomDataProviderStrategy() {
+			@Override
+			public Character getCharacter(AttributeMetadata attributeMetadata) {
+				return 'z';
+			}
+		};
+		Assert.assertEquals("zzzz", strategy.getStringOfLength(4, null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateCharactersAreRejected() {
+		new Alphabet("abca");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptyAlphabetIsRejected() {
+		new Alphabet("");
+	}
+
+	private static void assertMadeOf(Alphabet alphabet, String value) {
+		String characters = new String(alphabet.getCharacters());
+		for (char character : value.toCharArray()) {
+			Assert.assertTrue("Unexpected character " + character,
+					characters.indexOf(character) >= 0);
+		}
+	}
+
+}
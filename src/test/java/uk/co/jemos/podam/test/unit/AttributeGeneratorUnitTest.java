@@ -0,0 +1,190 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AttributeGenerator;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.AttributePlan;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.AbstractOneDimensionalPojo;
+import uk.co.jemos.podam.test.dto.OneDimensionalChildPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.annotations.IntegerValuePojo;
+import uk.co.jemos.podam.test.dto.annotations.IntegerValueWithErrorConstructorPojo;
+import uk.co.jemos.podam.test.dto.annotations.IntegerValueWithErrorPojo;
+import uk.co.jemos.podam.test.utils.PodamTestConstants;
+
+/**
+ * It checks that generators registered for attributes are used and that
+ * annotations are compiled into generators
+ *
+ * @author mtedone
+ *
+ */
+public class AttributeGeneratorUnitTest {
+
+	private PodamFactoryImpl factory;
+
+	@Before
+	public void setUp() {
+		factory = new PodamFactoryImpl();
+	}
+
+	@Test
+	public void testRegisteredGeneratorIsUsed() {
+
+		final AtomicInteger calls = new AtomicInteger();
+		factory.withAttributeGenerator(SimplePojoToTestSetters.class,
+				"stringField", new AttributeGenerator<String>() {
+					@Override
+					public String generate(AttributeMetadata attributeMetadata) {
+						Assert.assertEquals("stringField",
+								attributeMetadata.getAttributeName());
+						Assert.assertEquals(SimplePojoToTestSetters.class,
+								attributeMetadata.getPojoClass());
+						return "generated" + calls.incrementAndGet();
+					}
+				});
+
+		Assert.assertEquals("generated1",
+				factory.manufacturePojo(SimplePojoToTestSetters.class)
+						.getStringField());
+		Assert.assertEquals("generated2",
+				factory.manufacturePojo(SimplePojoToTestSetters.class)
+						.getStringField());
+
+		factory.withoutAttributeGenerator(SimplePojoToTestSetters.class,
+				"stringField");
+		Assert.assertFalse(factory
+				.manufacturePojo(SimplePojoToTestSetters.class)
+				.getStringField().startsWith("generated"));
+		Assert.assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void testGeneratorRegisteredForSuperclassIsUsed() {
+
+		final Calendar calendar = Calendar.getInstance();
+		factory.withAttributeGenerator(AbstractOneDimensionalPojo.class,
+				"parentCalendarField", new AttributeGenerator<Calendar>() {
+					@Override
+					public Calendar generate(AttributeMetadata attributeMetadata) {
+						return calendar;
+					}
+				});
+
+		OneDimensionalChildPojo pojo = factory
+				.manufacturePojo(OneDimensionalChildPojo.class);
+		Assert.assertSame(calendar, pojo.getParentCalendarField());
+	}
+
+	@Test
+	public void testGeneratorTakesPrecedenceOverAnnotations() {
+
+		factory.withAttributeGenerator(IntegerValuePojo.class,
+				"intFieldWithPreciseValue", new AttributeGenerator<Integer>() {
+					@Override
+					public Integer generate(AttributeMetadata attributeMetadata) {
+						return -1;
+					}
+				});
+
+		IntegerValuePojo pojo = factory.manufacturePojo(IntegerValuePojo.class);
+		Assert.assertEquals(-1, pojo.getIntFieldWithPreciseValue());
+		Assert.assertEquals(
+				Integer.valueOf(PodamTestConstants.INTEGER_PRECISE_VALUE),
+				pojo.getIntegerObjectFieldWithPreciseValue());
+	}
+
+	@Test
+	public void testNullFromGeneratorFallsBackToDefaultValue() {
+
+		factory.withAttributeGenerator(SimplePojoToTestSetters.class,
+				"stringField", new AttributeGenerator<String>() {
+					@Override
+					public String generate(AttributeMetadata attributeMetadata) {
+						return null;
+					}
+				});
+
+		Assert.assertNotNull(factory.manufacturePojo(
+				SimplePojoToTestSetters.class).getStringField());
+	}
+
+	@Test
+	public void testAnnotationsAreCompiledOnce() {
+
+		for (AttributePlan attribute : factory.getManufacturingPlan(
+				IntegerValuePojo.class).getAttributes()) {
+			Assert.assertNotNull("No generator for "
+					+ attribute.getAttributeName(), attribute.getGenerator());
+		}
+		Assert.assertNull(factory
+				.getManufacturingPlan(SimplePojoToTestSetters.class)
+				.getAttributes().get(0).getGenerator());
+
+		factory.getClassInfoCache().clear();
+		AttributePlan first = factory.getManufacturingPlan(
+				IntegerValuePojo.class).getAttributes().get(0);
+		factory.withAccessorFactory(factory.getAccessorFactory());
+		AttributePlan second = factory.getManufacturingPlan(
+				IntegerValuePojo.class).getAttributes().get(0);
+		Assert.assertNotSame(first, second);
+		Assert.assertSame(first.getGenerator(), second.getGenerator());
+	}
+
+	@Test
+	public void testCompiledGeneratorsHonourAnnotations() {
+
+		for (AttributePlan attribute : factory.getManufacturingPlan(
+				IntegerValuePojo.class).getAttributes()) {
+
+			String attributeName = attribute.getAttributeName();
+			for (int i = 0; i < 100; i++) {
+				Integer value = (Integer) attribute.getGenerator().generate(
+						null);
+				if (attributeName.endsWith("WithPreciseValue")) {
+					Assert.assertEquals(Integer
+							.valueOf(PodamTestConstants.INTEGER_PRECISE_VALUE),
+							value);
+				} else if (attributeName.endsWith("WithMinAndMaxValue")) {
+					Assert.assertTrue(attributeName + " " + value,
+							value >= PodamTestConstants.NUMBER_INT_MIN_VALUE
+									&& value <= PodamTestConstants.NUMBER_INT_MAX_VALUE);
+				} else if (attributeName.endsWith("WithMaxValueOnly")) {
+					Assert.assertTrue(attributeName + " " + value,
+							value <= PodamTestConstants.NUMBER_INT_ONE_HUNDRED);
+				} else {
+					Assert.assertTrue(attributeName + " " + value,
+							value >= PodamTestConstants.NUMBER_INT_MIN_VALUE);
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMalformedValueIsReportedWhenThePlanIsBuilt() {
+		factory.getManufacturingPlan(IntegerValueWithErrorPojo.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMalformedConstructorParameterValueIsReported() {
+		factory.manufacturePojo(IntegerValueWithErrorConstructorPojo.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullGeneratorIsRejected() {
+		factory.withAttributeGenerator(SimplePojoToTestSetters.class,
+				"stringField", null);
+	}
+
+}
@@ -0,0 +1,97 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.GenericPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks the manufacture of POJOs in batches
+ *
+ * @author mtedone
+ *
+ */
+public class BatchManufacturingUnitTest {
+
+	@Test
+	public void testManufactureList() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+		List<SimplePojoToTestSetters> pojos = factory.manufacturePojos(
+				SimplePojoToTestSetters.class, 100);
+		Assert.assertEquals(100, pojos.size());
+		for (SimplePojoToTestSetters pojo : pojos) {
+			Assert.assertNotNull("The pojo cannot be null", pojo);
+			Assert.assertNotNull(pojo.getStringField());
+			Assert.assertTrue(pojo.getIntField() != 0);
+		}
+		Assert.assertNotSame(pojos.get(0), pojos.get(1));
+		Assert.assertEquals("The class should have been introspected once", 1,
+				factory.getClassInfoCache().getMissCount());
+
+		Assert.assertTrue(factory.manufacturePojos(
+				SimplePojoToTestSetters.class, 0).isEmpty());
+	}
+
+	@Test
+	public void testManufactureGenericList() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+		List<GenericPojo> pojos = factory.manufacturePojos(GenericPojo.class,
+				10, String.class, Long.class);
+		Assert.assertEquals(10, pojos.size());
+		for (GenericPojo<?, ?> pojo : pojos) {
+			Assert.assertTrue(pojo.getFirstValue() instanceof String);
+			Assert.assertTrue(pojo.getSecondValue() instanceof Long);
+		}
+	}
+
+	@Test
+	public void testFillArray() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+		SimplePojoToTestSetters[] pojos = new SimplePojoToTestSetters[10];
+		Assert.assertSame(pojos, factory.manufacturePojos(pojos));
+		for (SimplePojoToTestSetters pojo : pojos) {
+			Assert.assertNotNull("The pojo cannot be null", pojo);
+			Assert.assertNotNull(pojo.getStringField());
+		}
+	}
+
+	@Test
+	public void testSeededBatchIsReproducible() {
+
+		List<SimplePojoToTestSetters> pojos = newSeededFactory(5L)
+				.manufacturePojos(SimplePojoToTestSetters.class, 20);
+		List<SimplePojoToTestSetters> otherPojos = newSeededFactory(5L)
+				.manufacturePojos(SimplePojoToTestSetters.class, 20);
+		Assert.assertEquals(pojos, otherPojos);
+		Assert.assertFalse("Elements should differ from each other", pojos
+				.get(0).equals(pojos.get(1)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeCountIsRejected() {
+
+		new PodamFactoryImpl().manufacturePojos(SimplePojoToTestSetters.class,
+				-1);
+	}
+
+	private PodamFactoryImpl newSeededFactory(long seed) {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		strategy.setSeed(seed);
+		return new PodamFactoryImpl(strategy);
+	}
+
+}
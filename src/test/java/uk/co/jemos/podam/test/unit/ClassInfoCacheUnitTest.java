@@ -0,0 +1,110 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.ClassInfo;
+import uk.co.jemos.podam.api.ClassInfoCache;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.PodamUtils;
+import uk.co.jemos.podam.test.dto.EmptyTestPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.SimplePojoWithExcludeAnnotationToTestSetters;
+import uk.co.jemos.podam.test.dto.SimplePojoWithExcludeAnnotationToTestSetters.TestExclude;
+
+/**
+ * It checks the {@link ClassInfoCache} behaviour
+ *
+ * @author mtedone
+ *
+ */
+public class ClassInfoCacheUnitTest {
+
+	@Test
+	public void testClassInfoIsCached() {
+
+		ClassInfoCache cache = new ClassInfoCache();
+		Set<Class<? extends Annotation>> excluded = new HashSet<Class<? extends Annotation>>();
+
+		ClassInfo first = cache.getClassInfo(SimplePojoToTestSetters.class,
+				excluded);
+		ClassInfo second = cache.getClassInfo(SimplePojoToTestSetters.class,
+				excluded);
+
+		Assert.assertSame("The class info should have been cached", first,
+				second);
+		Assert.assertEquals(PodamUtils.getClassInfo(
+				SimplePojoToTestSetters.class, excluded), first);
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertTrue("The excluded annotations must not be altered",
+				excluded.isEmpty());
+	}
+
+	@Test
+	public void testCacheIsInvalidatedWhenExclusionsChange() {
+
+		ClassInfoCache cache = new ClassInfoCache();
+		Set<Class<? extends Annotation>> excluded = new HashSet<Class<? extends Annotation>>();
+
+		ClassInfo classInfo = cache.getClassInfo(
+				SimplePojoWithExcludeAnnotationToTestSetters.class, excluded);
+		Assert.assertEquals(5, classInfo.getClassSetters().size());
+
+		excluded.add(TestExclude.class);
+		classInfo = cache.getClassInfo(
+				SimplePojoWithExcludeAnnotationToTestSetters.class, excluded);
+		Assert.assertEquals(2, classInfo.getClassSetters().size());
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(1, cache.getInvalidationCount());
+	}
+
+	@Test
+	public void testCacheIsBounded() {
+
+		ClassInfoCache cache = new ClassInfoCache(1);
+		cache.getClassInfo(SimplePojoToTestSetters.class, null);
+		cache.getClassInfo(EmptyTestPojo.class, null);
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedClassIsEvicted() {
+
+		ClassInfoCache cache = new ClassInfoCache(2);
+		cache.getClassInfo(SimplePojoToTestSetters.class, null);
+		cache.getClassInfo(EmptyTestPojo.class, null);
+		cache.getClassInfo(SimplePojoToTestSetters.class, null);
+		cache.getClassInfo(
+				SimplePojoWithExcludeAnnotationToTestSetters.class, null);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(3, cache.getMissCount());
+
+		/* The hot class survives, the least recently used one was evicted */
+		cache.getClassInfo(SimplePojoToTestSetters.class, null);
+		Assert.assertEquals(3, cache.getMissCount());
+		cache.getClassInfo(EmptyTestPojo.class, null);
+		Assert.assertEquals(4, cache.getMissCount());
+	}
+
+	@Test
+	public void testFactoryUsesCache() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+		factory.manufacturePojo(SimplePojoToTestSetters.class);
+		factory.manufacturePojo(SimplePojoToTestSetters.class);
+
+		ClassInfoCache cache = factory.getClassInfoCache();
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(1, cache.getHitCount());
+	}
+
+}
@@ -16,6 +16,7 @@ import org.junit.Test;
 
 import uk.co.jemos.podam.api.ClassInfo;
 import uk.co.jemos.podam.api.PodamUtils;
+import uk.co.jemos.podam.test.dto.BooleanPojo;
 import uk.co.jemos.podam.test.dto.EmptyTestPojo;
 import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
 import uk.co.jemos.podam.test.dto.SimplePojoWithExcludeAnnotationToTestSetters;
@@ -71,6 +72,19 @@ public class ClassInfoUnitTest {
 
 	}
 
+	@Test
+	public void testGettersFollowJavaBeanConventions() throws Exception {
+
+		Assert.assertEquals("isValue1", PodamUtils.getGetterFor(
+				BooleanPojo.class.getDeclaredField("value1")).getName());
+		Assert.assertEquals("isValue2", PodamUtils.getGetterFor(
+				BooleanPojo.class.getDeclaredField("value2")).getName());
+		Assert.assertEquals("getValue3", PodamUtils.getGetterFor(
+				BooleanPojo.class.getDeclaredField("value3")).getName());
+		Assert.assertNull(PodamUtils.getGetterFor(EmptyTestPojo.class
+				.getDeclaredField("serialVersionUID")));
+	}
+
 	private Set<Constructor<?>> retrieveConstructors(Class<?> clazz) {
 		Set<Constructor<?>> constructors = new HashSet<Constructor<?>>(
 				Arrays.asList(clazz.getConstructors()));
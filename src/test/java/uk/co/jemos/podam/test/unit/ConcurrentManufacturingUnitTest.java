@@ -0,0 +1,151 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.api.ManufacturingContext;
+import uk.co.jemos.podam.api.MapArguments;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.RandomDataProviderStrategy;
+import uk.co.jemos.podam.test.dto.PojoWithMapsAndCollections;
+import uk.co.jemos.podam.test.dto.RecursivePojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks that a single factory can be used by many threads at once
+ *
+ * @author mtedone
+ *
+ */
+public class ConcurrentManufacturingUnitTest {
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory
+			.getLogger(ConcurrentManufacturingUnitTest.class);
+
+	/** The number of POJOs each task manufactures */
+	private static final int POJOS_PER_TASK = 200;
+
+	@Test
+	public void testSnapshotIsNotAffectedByLaterChanges() {
+
+		RandomDataProviderStrategy strategy = RandomDataProviderStrategy
+				.getInstance();
+		int nbrElements = strategy.getNumberOfCollectionElements(List.class);
+		DataProviderStrategy snapshot = strategy.snapshot();
+		try {
+			strategy.setNumberOfCollectionElements(nbrElements + 3);
+			strategy.addExcludedAnnotation(Deprecated.class);
+			Assert.assertEquals(nbrElements,
+					snapshot.getNumberOfCollectionElements(List.class));
+			Assert.assertFalse(snapshot.getExcludedAnnotations().contains(
+					Deprecated.class));
+		} finally {
+			strategy.setNumberOfCollectionElements(nbrElements);
+			strategy.removeExcludedAnnotation(Deprecated.class);
+		}
+
+		try {
+			snapshot.getExcludedAnnotations().add(Deprecated.class);
+			Assert.fail("The snapshot must be immutable");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testFactoryCanBeSharedByManyThreads() throws Exception {
+
+		final PodamFactory factory = new PodamFactoryImpl(
+				RandomDataProviderStrategy.getInstance().snapshot());
+		final int nbrElements = factory.getStrategy()
+				.getNumberOfCollectionElements(List.class);
+
+		int nbrThreads = Math.max(4, Runtime.getRuntime()
+				.availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(nbrThreads);
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+			for (int i = 0; i < nbrThreads * 2; i++) {
+				tasks.add(new Callable<Integer>() {
+
+					@Override
+					public Integer call() throws Exception {
+						for (int j = 0; j < POJOS_PER_TASK; j++) {
+							SimplePojoToTestSetters simplePojo = factory
+									.manufacturePojo(SimplePojoToTestSetters.class);
+							Assert.assertNotNull(simplePojo.getStringField());
+
+							RecursivePojo recursivePojo = factory
+									.manufacturePojo(RecursivePojo.class);
+							Assert.assertNotNull(recursivePojo.getParent());
+
+							PojoWithMapsAndCollections collectionsPojo = factory
+									.manufacturePojo(PojoWithMapsAndCollections.class);
+							Assert.assertEquals(nbrElements, collectionsPojo
+									.getList().size());
+							Assert.assertEquals(nbrElements, collectionsPojo
+									.getMap().size());
+						}
+						return POJOS_PER_TASK;
+					}
+				});
+			}
+
+			long start = System.nanoTime();
+			int total = 0;
+			for (Future<Integer> future : executor.invokeAll(tasks)) {
+				total += future.get();
+			}
+			long elapsed = System.nanoTime() - start;
+			LOG.info("{} threads manufactured {} POJO graphs in {} ms",
+					new Object[] { nbrThreads, total,
+							TimeUnit.NANOSECONDS.toMillis(elapsed) });
+			Assert.assertEquals(nbrThreads * 2 * POJOS_PER_TASK, total);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testDeprecatedMapArgumentsAccessorsUseTheContext() {
+
+		MapArguments arguments = new MapArguments();
+		Assert.assertNull(arguments.getPojos());
+
+		Map<Class<?>, Integer> pojos = new HashMap<Class<?>, Integer>();
+		pojos.put(RecursivePojo.class, 2);
+		arguments.setPojos(pojos);
+		Assert.assertNotNull(arguments.getContext());
+		Assert.assertEquals(2,
+				arguments.getContext().getDepth(RecursivePojo.class));
+
+		arguments.setContext(new ManufacturingContext(
+				SimplePojoToTestSetters.class));
+		Assert.assertEquals(Integer.valueOf(0), arguments.getPojos().get(
+				SimplePojoToTestSetters.class));
+		arguments.getPojos().put(RecursivePojo.class, 1);
+		Assert.assertEquals(1,
+				arguments.getContext().getDepth(RecursivePojo.class));
+	}
+
+}
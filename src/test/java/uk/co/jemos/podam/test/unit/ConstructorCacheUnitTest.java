@@ -0,0 +1,230 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.CandidateDiagnostic;
+import uk.co.jemos.podam.api.ConstructorCache;
+import uk.co.jemos.podam.api.ConstructorSelection;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.common.PodamConstructor;
+import uk.co.jemos.podam.test.dto.pdm4.PojoWithMultipleNonPublicConstructors;
+
+/**
+ * It checks that the constructor which succeeded is tried first among equal
+ * constructors, that constructors which threw an exception are tried again and
+ * that unusable candidates are rejected without being invoked
+ *
+ * @author mtedone
+ *
+ */
+public class ConstructorCacheUnitTest {
+
+	private static final List<String> ALL_CONSTRUCTORS = Arrays.asList(
+			"PodamConstructor", "no-op", "InputStream", "int,int");
+
+	private AbstractRandomDataProviderStrategy strategy;
+
+	@Before
+	public void setUp() {
+		strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		PojoWithMultipleNonPublicConstructors.invocationOrder.clear();
+	}
+
+	@Test
+	public void testWinnerDoesNotOverrideSortOrder() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+
+		Assert.assertNotNull(factory
+				.manufacturePojo(PojoWithMultipleNonPublicConstructors.class));
+		Assert.assertEquals(ALL_CONSTRUCTORS,
+				PojoWithMultipleNonPublicConstructors.invocationOrder);
+
+		PojoWithMultipleNonPublicConstructors.invocationOrder.clear();
+		Assert.assertNotNull(factory
+				.manufacturePojo(PojoWithMultipleNonPublicConstructors.class));
+		Assert.assertEquals(ALL_CONSTRUCTORS,
+				PojoWithMultipleNonPublicConstructors.invocationOrder);
+
+		ConstructorSelection selection = factory.getConstructorCache()
+				.getSelection(PojoWithMultipleNonPublicConstructors.class,
+						strategy);
+		Assert.assertEquals(2, ((Constructor<?>) selection.getWinner())
+				.getParameterTypes().length);
+	}
+
+	@Test
+	public void testWinnerIsTriedFirstAmongEqualConstructors() {
+
+		/* Only the PodamConstructor annotation matters, the others are equal */
+		strategy.setConstructorComparator(new Comparator<Constructor<?>>() {
+			@Override
+			public int compare(Constructor<?> constructor1,
+					Constructor<?> constructor2) {
+				Boolean choose1 = constructor1
+						.getAnnotation(PodamConstructor.class) != null;
+				Boolean choose2 = constructor2
+						.getAnnotation(PodamConstructor.class) != null;
+				return choose2.compareTo(choose1);
+			}
+		});
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+
+		factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+		List<String> invocationOrder = PojoWithMultipleNonPublicConstructors.invocationOrder;
+		Assert.assertEquals("PodamConstructor", invocationOrder.get(0));
+		Assert.assertEquals("int,int",
+				invocationOrder.get(invocationOrder.size() - 1));
+
+		invocationOrder.clear();
+		factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+		Assert.assertEquals(Arrays.asList("PodamConstructor", "int,int"),
+				invocationOrder);
+	}
+
+	@Test
+	public void testFailingConstructorsAreTriedAgain() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+		for (int i = 0; i < 3; i++) {
+			PojoWithMultipleNonPublicConstructors.invocationOrder.clear();
+			factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+			Assert.assertEquals("Exceptions may depend on the values",
+					ALL_CONSTRUCTORS,
+					PojoWithMultipleNonPublicConstructors.invocationOrder);
+		}
+
+		ConstructorSelection selection = factory.getConstructorCache()
+				.getSelection(PojoWithMultipleNonPublicConstructors.class,
+						strategy);
+		for (Constructor<?> constructor : selection.getConstructors()) {
+			Assert.assertFalse(selection.isAlwaysFailing(constructor));
+		}
+	}
+
+	@Test
+	public void testFailuresAreRecordedAsDiagnostics() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+		factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+
+		ConstructorSelection selection = factory.getConstructorCache()
+				.getSelection(PojoWithMultipleNonPublicConstructors.class,
+						strategy);
+		List<CandidateDiagnostic> diagnostics = selection.getDiagnostics();
+		Assert.assertEquals(3, diagnostics.size());
+		boolean found = false;
+		for (CandidateDiagnostic diagnostic : diagnostics) {
+			Assert.assertFalse(diagnostic.isRejected());
+			Assert.assertEquals(1, diagnostic.getFailureCount());
+			found |= diagnostic.getReason().equals(
+					IllegalStateException.class.getName() + ": Cannot use me");
+		}
+		Assert.assertTrue(diagnostics.toString(), found);
+	}
+
+	@Test
+	public void testUnusableFactoryMethodsAreRejected() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+		Assert.assertNotNull(factory.manufacturePojo(Calendar.class));
+
+		ConstructorSelection selection = factory.getConstructorCache()
+				.getSelection(Calendar.class, strategy);
+		Assert.assertFalse(selection.getFactoryMethods().isEmpty());
+		for (Method method : selection.getFactoryMethods()) {
+			Assert.assertTrue(Modifier.isPublic(method.getModifiers()));
+		}
+		Assert.assertTrue(selection.getConstructors().isEmpty());
+
+		List<CandidateDiagnostic> diagnostics = selection.getDiagnostics();
+		Assert.assertFalse(diagnostics.isEmpty());
+		for (CandidateDiagnostic diagnostic : diagnostics) {
+			Assert.assertTrue(diagnostic.toString(), diagnostic.isRejected());
+			Assert.assertFalse(Modifier.isPublic(diagnostic.getCandidate()
+					.getModifiers())
+					&& !(diagnostic.getCandidate() instanceof Constructor));
+		}
+	}
+
+	@Test
+	public void testComparatorChangeInvalidatesCache() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+		ConstructorCache cache = factory.getConstructorCache();
+		factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+		long missCount = cache.getMissCount();
+		Assert.assertEquals(0, cache.getInvalidationCount());
+
+		final Comparator<Constructor<?>> defaultComparator = strategy
+				.getConstructorComparator();
+		strategy.setConstructorComparator(new Comparator<Constructor<?>>() {
+			@Override
+			public int compare(Constructor<?> constructor1,
+					Constructor<?> constructor2) {
+				return defaultComparator.compare(constructor2, constructor1);
+			}
+		});
+
+		PojoWithMultipleNonPublicConstructors.invocationOrder.clear();
+		factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+		Assert.assertEquals(1, cache.getInvalidationCount());
+		Assert.assertTrue("The constructors should have been sorted again",
+				cache.getMissCount() > missCount);
+		Assert.assertEquals("The new order should be used",
+				Collections.singletonList("int,int"),
+				PojoWithMultipleNonPublicConstructors.invocationOrder);
+	}
+
+	@Test
+	public void testComparatorChangeInvalidatesSnapshotEntries() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy.snapshot());
+		ConstructorCache cache = factory.getConstructorCache();
+		factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+		Assert.assertEquals(0, cache.getInvalidationCount());
+
+		strategy.setMethodComparator(new Comparator<Method>() {
+			@Override
+			public int compare(Method method1, Method method2) {
+				return method1.getName().compareTo(method2.getName());
+			}
+		});
+
+		factory.manufacturePojo(PojoWithMultipleNonPublicConstructors.class);
+		Assert.assertEquals("The snapshot sorts with the live comparators", 1,
+				cache.getInvalidationCount());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedClassIsEvicted() {
+
+		ConstructorCache cache = new ConstructorCache(2);
+		ConstructorSelection first = cache.getSelection(String.class, strategy);
+		cache.getSelection(Integer.class, strategy);
+		Assert.assertSame(first, cache.getSelection(String.class, strategy));
+		cache.getSelection(Long.class, strategy);
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertSame("The most recently used class should be kept",
+				first, cache.getSelection(String.class, strategy));
+	}
+
+}
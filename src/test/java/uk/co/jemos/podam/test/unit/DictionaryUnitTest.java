@@ -0,0 +1,109 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.Dictionary;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.annotations.DictionaryPojo;
+
+/**
+ * It checks that strings can be drawn from memory-mapped dictionary files
+ *
+ * @author mtedone
+ *
+ */
+public class DictionaryUnitTest {
+
+	private static final List<String> FIRST_NAMES = Arrays.asList("Anna",
+			"Björn", "Chloé", "Dmitri");
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("podam-dictionary", ".txt");
+		file.deleteOnExit();
+		OutputStream out = new FileOutputStream(file);
+		try {
+			out.write("Anna\r\nBjörn\n\nChloé\nDmitri".getBytes("UTF-8"));
+		} finally {
+			out.close();
+		}
+	}
+
+	@Test
+	public void testEntriesAreIndexed() throws IOException {
+
+		Dictionary dictionary = new Dictionary(file);
+		Assert.assertEquals(FIRST_NAMES.size(), dictionary.size());
+		for (int i = 0; i < FIRST_NAMES.size(); i++) {
+			Assert.assertEquals(FIRST_NAMES.get(i), dictionary.getEntry(i));
+		}
+	}
+
+	@Test
+	public void testAnnotatedAttributesAreDrawnFromDictionary()
+			throws IOException {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		strategy.addDictionary(DictionaryPojo.FIRST_NAMES, new Dictionary(file));
+		DictionaryPojo pojo = new PodamFactoryImpl(strategy)
+				.manufacturePojo(DictionaryPojo.class);
+
+		Assert.assertTrue(pojo.getFirstName(),
+				FIRST_NAMES.contains(pojo.getFirstName()));
+		Assert.assertEquals("Smith", pojo.getLastName());
+		Assert.assertFalse(FIRST_NAMES.contains(pojo.getNickName()));
+	}
+
+	@Test
+	public void testUnknownDictionaryIsMappedFromItsPath() {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		try {
+			new PodamFactoryImpl(strategy).manufacturePojo(DictionaryPojo.class);
+			Assert.fail("The missing dictionary file should not be mapped");
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage(),
+					e.getMessage().contains(DictionaryPojo.FIRST_NAMES));
+		}
+	}
+
+	@Test
+	public void testStrategyChoosesDictionaryByAttribute() throws IOException {
+
+		final Dictionary dictionary = new Dictionary(file);
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+			@Override
+			public Dictionary getDictionary(AttributeMetadata attributeMetadata) {
+				if ("nickName".equals(attributeMetadata.getAttributeName())) {
+					return dictionary;
+				}
+				return super.getDictionary(attributeMetadata);
+			}
+		};
+		strategy.addDictionary(DictionaryPojo.FIRST_NAMES, dictionary);
+		DictionaryPojo pojo = new PodamFactoryImpl(strategy)
+				.manufacturePojo(DictionaryPojo.class);
+
+		Assert.assertTrue(FIRST_NAMES.contains(pojo.getNickName()));
+	}
+
+}
@@ -0,0 +1,133 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.AliasTable;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.Distribution;
+import uk.co.jemos.podam.api.NormalDistribution;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.RandomSource;
+import uk.co.jemos.podam.api.SplittableRandomSource;
+import uk.co.jemos.podam.api.ZipfDistribution;
+import uk.co.jemos.podam.test.dto.annotations.DistributionPojo;
+
+/**
+ * It checks that distributions draw values with the expected frequencies and
+ * that the factory scales them to the range of annotated attributes
+ *
+ * @author mtedone
+ *
+ */
+public class DistributionUnitTest {
+
+	private static final int NBR_SAMPLES = 20000;
+
+	private AbstractRandomDataProviderStrategy strategy;
+
+	@Before
+	public void setUp() {
+		strategy = new AbstractRandomDataProviderStrategy() {
+		};
+	}
+
+	@Test
+	public void testAliasTableFollowsWeights() {
+
+		AliasTable table = new AliasTable(1.0, 0.0, 3.0);
+		RandomSource random = new SplittableRandomSource(1L);
+		int[] counts = new int[table.size()];
+		for (int i = 0; i < NBR_SAMPLES; i++) {
+			counts[table.sample(random)]++;
+		}
+		Assert.assertEquals(0, counts[1]);
+		double ratio = (double) counts[2] / counts[0];
+		Assert.assertTrue("Unexpected ratio " + ratio, ratio > 2.7
+				&& ratio < 3.3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAliasTableRejectsNegativeWeights() {
+		new AliasTable(1.0, -1.0);
+	}
+
+	@Test
+	public void testZipfRanksAreSingleValues() {
+
+		ZipfDistribution zipf = new ZipfDistribution(10, 1.0);
+		RandomSource random = new SplittableRandomSource(1L);
+		Set<Double> fractions = new HashSet<Double>();
+		for (int i = 0; i < NBR_SAMPLES; i++) {
+			double fraction = zipf.sample(random);
+			Assert.assertTrue(fraction >= 0.0 && fraction < 1.0);
+			fractions.add(fraction);
+		}
+		Assert.assertEquals("Each rank should be drawn as one value", 10,
+				fractions.size());
+	}
+
+	@Test
+	public void testAnnotatedAttributesFollowTheirDistribution() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+		int[] keyCounts = new int[DistributionPojo.NBR_KEYS + 1];
+		int smallAmounts = 0;
+		for (int i = 0; i < NBR_SAMPLES / 10; i++) {
+			DistributionPojo pojo = factory
+					.manufacturePojo(DistributionPojo.class);
+			Assert.assertTrue(pojo.getHotKey() >= 1
+					&& pojo.getHotKey() <= DistributionPojo.NBR_KEYS);
+			keyCounts[pojo.getHotKey()]++;
+			Assert.assertTrue(pojo.getAmount() >= 0.0
+					&& pojo.getAmount() <= DistributionPojo.MAX_AMOUNT);
+			if (pojo.getAmount() < DistributionPojo.MAX_AMOUNT / 10) {
+				smallAmounts++;
+			}
+			Assert.assertTrue(pojo.getId() >= 1L
+					&& pojo.getId() <= DistributionPojo.NBR_KEYS);
+		}
+
+		for (int key = 2; key <= DistributionPojo.NBR_KEYS; key++) {
+			Assert.assertTrue("Key 1 should be the hottest",
+					keyCounts[1] >= keyCounts[key]);
+		}
+		Assert.assertTrue("Most amounts should be small",
+				smallAmounts > NBR_SAMPLES / 20);
+	}
+
+	@Test
+	public void testStrategyProvidesDefaultDistribution() {
+
+		strategy = new AbstractRandomDataProviderStrategy() {
+
+			private final Distribution lowIds = new NormalDistribution(0.0,
+					0.01);
+
+			@Override
+			public Distribution getDistribution(
+					AttributeMetadata attributeMetadata) {
+				if ("id".equals(attributeMetadata.getAttributeName())) {
+					return lowIds;
+				}
+				return null;
+			}
+		};
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy.snapshot());
+		for (int i = 0; i < 100; i++) {
+			long id = factory.manufacturePojo(DistributionPojo.class).getId();
+			Assert.assertTrue("Unexpected id " + id, id >= 1L && id <= 50L);
+		}
+	}
+
+}
@@ -0,0 +1,340 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.AttributeGenerator;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.api.Manufacturer;
+import uk.co.jemos.podam.api.ManufacturerContext;
+import uk.co.jemos.podam.api.MemoizationScope;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.RandomDataProviderStrategy;
+import uk.co.jemos.podam.api.UniformDistribution;
+import uk.co.jemos.podam.common.PodamExclude;
+import uk.co.jemos.podam.common.PodamIntValue;
+
+/**
+ * It checks that {@link PodamFactoryImpl} prefers the registered and
+ * discovered {@link Manufacturer}s to the reflective path
+ *
+ * @author mtedone
+ *
+ */
+public class ManufacturerUnitTest {
+
+	@Test
+	public void testRegisteredManufacturerIsUsed() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl()
+				.withManufacturer(new ManufacturedPojoManufacturer());
+		Assert.assertNotNull(factory
+				.getManufacturer(ManufacturedPojo.class));
+
+		ManufacturedPojo pojo = factory
+				.manufacturePojo(ManufacturedPojo.class);
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+		Assert.assertTrue("The manufacturer should have been used",
+				pojo.isManufactured());
+		Assert.assertNotNull(pojo.getName());
+		Assert.assertTrue(pojo.getCount() >= 10 && pojo.getCount() <= 20);
+		Assert.assertNotNull(pojo.getTags());
+		Assert.assertFalse(pojo.getTags().isEmpty());
+		Assert.assertNotNull(pojo.getSelf());
+		Assert.assertNull(pojo.getExcluded());
+	}
+
+	@Test
+	public void testManufacturerObtainsItsGeneratorsOnce() {
+
+		ManufacturedPojoManufacturer manufacturer = new ManufacturedPojoManufacturer();
+		PodamFactoryImpl factory = new PodamFactoryImpl()
+				.withManufacturer(manufacturer);
+
+		for (int i = 0; i < 10; i++) {
+			ManufacturedPojo pojo = factory
+					.manufacturePojo(ManufacturedPojo.class);
+			Assert.assertTrue(pojo.getCount() >= 10 && pojo.getCount() <= 20);
+		}
+		Assert.assertEquals(1, manufacturer.getGeneratorLookups());
+	}
+
+	@Test
+	public void testManufacturedPojoIsMemoizedBeforeBeingFilled() {
+
+		RandomDataProviderStrategy strategy = RandomDataProviderStrategy
+				.getInstance();
+		boolean memoizationEnabled = strategy.isMemoizationEnabled();
+		strategy.setMemoizationEnabled(true);
+		try {
+			PodamFactoryImpl factory = new PodamFactoryImpl(strategy)
+					.withMemoization(MemoizationScope.CALL).withManufacturer(
+							new ManufacturedPojoManufacturer());
+
+			ManufacturedPojo pojo = factory
+					.manufacturePojo(ManufacturedPojo.class);
+			Assert.assertTrue("The manufacturer should have been used",
+					pojo.isManufactured());
+			Assert.assertSame("The recursive attribute should be memoized",
+					pojo, pojo.getSelf());
+		} finally {
+			strategy.setMemoizationEnabled(memoizationEnabled);
+		}
+	}
+
+	@Test
+	public void testRemovedManufacturerIsNotUsed() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl().withManufacturer(
+				new ManufacturedPojoManufacturer()).withoutManufacturer(
+				ManufacturedPojo.class);
+		Assert.assertNull(factory.getManufacturer(ManufacturedPojo.class));
+
+		ManufacturedPojo pojo = factory
+				.manufacturePojo(ManufacturedPojo.class);
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+		Assert.assertFalse("The manufacturer should not have been used",
+				pojo.isManufactured());
+		Assert.assertNotNull(pojo.getName());
+	}
+
+	@Test
+	public void testManufacturerIsBypassedWithAttributeGenerators() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl().withManufacturer(
+				new ManufacturedPojoManufacturer()).withAttributeGenerator(
+				ManufacturedPojo.class, "name",
+				new AttributeGenerator<String>() {
+
+					@Override
+					public String generate(AttributeMetadata attributeMetadata) {
+						return "generated";
+					}
+				});
+		Assert.assertNull(factory.getManufacturer(ManufacturedPojo.class));
+
+		ManufacturedPojo pojo = factory
+				.manufacturePojo(ManufacturedPojo.class);
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+		Assert.assertFalse("The manufacturer should not have been used",
+				pojo.isManufactured());
+		Assert.assertEquals("generated", pojo.getName());
+	}
+
+	@Test
+	public void testManufacturerIsDiscovered() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+		Assert.assertNotNull(factory.getManufacturer(DiscoveredPojo.class));
+		Assert.assertNull(factory.getManufacturer(ManufacturedPojo.class));
+
+		DiscoveredPojo pojo = factory.manufacturePojo(DiscoveredPojo.class);
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+		Assert.assertEquals(DiscoveredPojoManufacturer.VALUE, pojo.getValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNullManufacturerIsRejected() {
+
+		new PodamFactoryImpl().withManufacturer(null);
+	}
+
+	// ------------------->> Inner classes
+
+	/**
+	 * A POJO filled by a hand-written manufacturer
+	 */
+	public static class ManufacturedPojo {
+
+		private boolean manufactured;
+
+		private String name;
+
+		@PodamIntValue(minValue = 10, maxValue = 20, distribution = UniformDistribution.class)
+		private int count;
+
+		private List<String> tags;
+
+		private ManufacturedPojo self;
+
+		@PodamExclude
+		private String excluded;
+
+		public boolean isManufactured() {
+			return manufactured;
+		}
+
+		public void markManufactured() {
+			manufactured = true;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+
+		public ManufacturedPojo getSelf() {
+			return self;
+		}
+
+		public void setSelf(ManufacturedPojo self) {
+			this.self = self;
+		}
+
+		public String getExcluded() {
+			return excluded;
+		}
+
+		public void setExcluded(String excluded) {
+			this.excluded = excluded;
+		}
+	}
+
+	/**
+	 * A manufacturer written as the annotation processor would generate it
+	 */
+	public static class ManufacturedPojoManufacturer implements
+			Manufacturer<ManufacturedPojo> {
+
+		private static final AttributeMetadata COUNT_METADATA = new AttributeMetadata(
+				"count", int.class, annotationsOf("count"),
+				ManufacturedPojo.class);
+
+		private volatile Generators generators;
+
+		private final AtomicInteger generatorLookups = new AtomicInteger();
+
+		@Override
+		public Class<ManufacturedPojo> getPojoClass() {
+			return ManufacturedPojo.class;
+		}
+
+		@Override
+		public ManufacturedPojo newInstance() {
+			return new ManufacturedPojo();
+		}
+
+		@Override
+		public void fill(ManufacturedPojo pojo, ManufacturerContext context) {
+
+			Generators current = generators;
+			if (null == current || current.strategy != context.getStrategy()) {
+				current = new Generators(context);
+				generators = current;
+				generatorLookups.incrementAndGet();
+			}
+
+			pojo.markManufactured();
+			pojo.setCount((Integer) current.countGenerator
+					.generate(COUNT_METADATA));
+			Object value = context.manufacture(pojo, "name", String.class);
+			if (value != null) {
+				pojo.setName((String) value);
+			}
+			value = context.manufacture(pojo, "self", ManufacturedPojo.class);
+			if (value != null) {
+				pojo.setSelf((ManufacturedPojo) value);
+			}
+			@SuppressWarnings("unchecked")
+			List<String> tags = (List<String>) context.manufacture(pojo,
+					"tags", List.class, String.class);
+			if (tags != null) {
+				pojo.setTags(tags);
+			}
+		}
+
+		public int getGeneratorLookups() {
+			return generatorLookups.get();
+		}
+
+		private static List<Annotation> annotationsOf(String fieldName) {
+			try {
+				return Arrays.asList(ManufacturedPojo.class.getDeclaredField(
+						fieldName).getAnnotations());
+			} catch (NoSuchFieldException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static final class Generators {
+
+			private final DataProviderStrategy strategy;
+
+			private final AttributeGenerator<?> countGenerator;
+
+			Generators(ManufacturerContext context) {
+				strategy = context.getStrategy();
+				countGenerator = context.getGenerator(COUNT_METADATA);
+			}
+		}
+	}
+
+	/**
+	 * A POJO filled by a manufacturer discovered on the class path
+	 */
+	public static class DiscoveredPojo {
+
+		private String value;
+
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A manufacturer listed in META-INF/services
+	 */
+	public static class DiscoveredPojoManufacturer implements
+			Manufacturer<DiscoveredPojo> {
+
+		static final String VALUE = "discovered";
+
+		@Override
+		public Class<DiscoveredPojo> getPojoClass() {
+			return DiscoveredPojo.class;
+		}
+
+		@Override
+		public DiscoveredPojo newInstance() {
+			return new DiscoveredPojo();
+		}
+
+		@Override
+		public void fill(DiscoveredPojo pojo, ManufacturerContext context) {
+			pojo.setValue(VALUE);
+		}
+	}
+}
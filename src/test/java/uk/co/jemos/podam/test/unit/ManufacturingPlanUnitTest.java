@@ -0,0 +1,168 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AttributePlan;
+import uk.co.jemos.podam.api.ManufacturingPlan;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.GenericPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.annotations.PodamStrategyPojo;
+
+/**
+ * It checks the manufacturing plans built by {@link PodamFactoryImpl}
+ *
+ * @author mtedone
+ *
+ */
+public class ManufacturingPlanUnitTest {
+
+	@Test
+	public void testPlanIsCachedAndReused() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+
+		ManufacturingPlan plan = factory
+				.getManufacturingPlan(SimplePojoToTestSetters.class);
+		Assert.assertSame("The plan should have been cached", plan,
+				factory.getManufacturingPlan(SimplePojoToTestSetters.class));
+
+		SimplePojoToTestSetters pojo = factory
+				.manufacturePojo(SimplePojoToTestSetters.class);
+		Assert.assertNotNull("The pojo cannot be null", pojo);
+		Assert.assertNotNull(pojo.getStringField());
+		Assert.assertSame("The plan should have been reused", plan,
+				factory.getManufacturingPlan(SimplePojoToTestSetters.class));
+	}
+
+	@Test
+	public void testConcurrentCallersShareOnePlan() throws Exception {
+
+		final PodamFactoryImpl factory = new PodamFactoryImpl();
+		final CountDownLatch start = new CountDownLatch(1);
+		List<Future<ManufacturingPlan>> plans = new ArrayList<Future<ManufacturingPlan>>();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			for (int i = 0; i < 8; i++) {
+				plans.add(executor.submit(new Callable<ManufacturingPlan>() {
+
+					@Override
+					public ManufacturingPlan call() throws Exception {
+						start.await();
+						return factory
+								.getManufacturingPlan(SimplePojoToTestSetters.class);
+					}
+				}));
+			}
+			start.countDown();
+			ManufacturingPlan plan = factory
+					.getManufacturingPlan(SimplePojoToTestSetters.class);
+			for (Future<ManufacturingPlan> other : plans) {
+				Assert.assertSame("Only one plan should be published", plan,
+						other.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPlanAttributesAreSortedByName() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+
+		List<AttributePlan> attributes = factory.getManufacturingPlan(
+				SimplePojoToTestSetters.class).getAttributes();
+		Assert.assertEquals(2, attributes.size());
+		Assert.assertEquals("intField", attributes.get(0).getAttributeName());
+		Assert.assertEquals("stringField", attributes.get(1)
+				.getAttributeName());
+		Assert.assertEquals(int.class, attributes.get(0).getAttributeType());
+	}
+
+	@Test
+	public void testPlanResolvesGenericAttributes() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+
+		ManufacturingPlan plan = factory.getManufacturingPlan(
+				GenericPojo.class, String.class, Long.class);
+		Assert.assertNotSame("Different type arguments need a different plan",
+				plan, factory.getManufacturingPlan(GenericPojo.class,
+						Long.class, String.class));
+
+		for (AttributePlan attribute : plan.getAttributes()) {
+			if ("firstValue".equals(attribute.getAttributeName())) {
+				Assert.assertEquals(String.class,
+						attribute.getAttributeType());
+			} else if ("secondValue".equals(attribute.getAttributeName())) {
+				Assert.assertEquals(Long.class, attribute.getAttributeType());
+			} else if ("firstList".equals(attribute.getAttributeName())) {
+				Assert.assertEquals(List.class, attribute.getAttributeType());
+				Assert.assertEquals(String.class,
+						attribute.getTypeArguments()[0]);
+			}
+		}
+	}
+
+	@Test
+	public void testTypeBindingsAreSharedBetweenPlans() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+
+		ManufacturingPlan plan = factory.getManufacturingPlan(
+				GenericPojo.class, String.class, Long.class);
+		Map<String, Type> typeArgsMap = plan.getTypeArgsMap();
+		Assert.assertEquals(String.class, typeArgsMap.get("F"));
+		Assert.assertEquals(Long.class, typeArgsMap.get("S"));
+
+		factory.withAccessorFactory(factory.getAccessorFactory());
+		ManufacturingPlan rebuiltPlan = factory.getManufacturingPlan(
+				GenericPojo.class, String.class, Long.class);
+		Assert.assertNotSame(plan, rebuiltPlan);
+		Assert.assertSame("The type bindings should have been reused",
+				typeArgsMap, rebuiltPlan.getTypeArgsMap());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testTypeBindingsCannotBeModified() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+
+		factory.getManufacturingPlan(GenericPojo.class, String.class,
+				Long.class).getTypeArgsMap().put("F", Integer.class);
+	}
+
+	@Test
+	public void testPlanRecordsAttributeStrategies() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl();
+
+		ManufacturingPlan plan = factory
+				.getManufacturingPlan(PodamStrategyPojo.class);
+		boolean strategyFound = false;
+		for (AttributePlan attribute : plan.getAttributes()) {
+			if (null != attribute.getStrategyAnnotation()) {
+				strategyFound = true;
+			}
+		}
+		Assert.assertTrue("The attribute strategy was not recorded",
+				strategyFound);
+	}
+
+}
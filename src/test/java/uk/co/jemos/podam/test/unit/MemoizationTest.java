@@ -1,9 +1,13 @@
 package uk.co.jemos.podam.test.unit;
 
+import java.util.List;
+
 import junit.framework.Assert;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import uk.co.jemos.podam.api.MemoizationScope;
+import uk.co.jemos.podam.api.MemoizationStatistics;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
 import uk.co.jemos.podam.api.RandomDataProviderStrategy;
@@ -48,6 +52,70 @@ public class MemoizationTest {
 		Assert.assertTrue(pojo == pojo.getParent());
 	}
 
+	@Test
+	public void callScopeReusesObjectsWithinACallOnly() throws Exception {
+		strategy.setMemoizationEnabled(true);
+		PodamFactoryImpl scopedFactory = new PodamFactoryImpl(strategy)
+				.withMemoization(MemoizationScope.CALL);
+		RecursivePojo pojo1 = scopedFactory.manufacturePojo(RecursivePojo.class);
+		RecursivePojo pojo2 = scopedFactory.manufacturePojo(RecursivePojo.class);
+		Assert.assertTrue(pojo1 == pojo1.getParent());
+		Assert.assertTrue(pojo2 == pojo2.getParent());
+		Assert.assertTrue(pojo1 != pojo2);
+
+		List<SimplePojoToTestSetters> pojos = scopedFactory.manufacturePojos(
+				SimplePojoToTestSetters.class, 2);
+		Assert.assertTrue(pojos.get(0) != pojos.get(1));
+	}
+
+	@Test
+	public void batchScopeReusesObjectsWithinABatchOnly() throws Exception {
+		strategy.setMemoizationEnabled(true);
+		PodamFactoryImpl scopedFactory = new PodamFactoryImpl(strategy)
+				.withMemoization(MemoizationScope.BATCH);
+		List<SimplePojoToTestSetters> batch1 = scopedFactory.manufacturePojos(
+				SimplePojoToTestSetters.class, 3);
+		List<SimplePojoToTestSetters> batch2 = scopedFactory.manufacturePojos(
+				SimplePojoToTestSetters.class, 3);
+		Assert.assertTrue(batch1.get(0) == batch1.get(1));
+		Assert.assertTrue(batch1.get(0) == batch1.get(2));
+		Assert.assertTrue(batch1.get(0) != batch2.get(0));
+	}
+
+	@Test
+	public void factoryScopeIsBounded() throws Exception {
+		strategy.setMemoizationEnabled(true);
+		PodamFactoryImpl boundedFactory = new PodamFactoryImpl(strategy)
+				.withMemoization(MemoizationScope.FACTORY, 1);
+		SimplePojoToTestSetters pojo1 = boundedFactory
+				.manufacturePojo(SimplePojoToTestSetters.class);
+		boundedFactory.manufacturePojo(RecursivePojo.class);
+		SimplePojoToTestSetters pojo2 = boundedFactory
+				.manufacturePojo(SimplePojoToTestSetters.class);
+		Assert.assertTrue(pojo1 != pojo2);
+		Assert.assertTrue(boundedFactory.getMemoizationStatistics()
+				.getEvictionCount() > 0);
+	}
+
+	@Test
+	public void reuseIsCounted() throws Exception {
+		strategy.setMemoizationEnabled(true);
+		PodamFactoryImpl countingFactory = new PodamFactoryImpl(strategy);
+		countingFactory.manufacturePojo(SimplePojoToTestSetters.class);
+		countingFactory.manufacturePojo(SimplePojoToTestSetters.class);
+		MemoizationStatistics statistics = countingFactory
+				.getMemoizationStatistics();
+		Assert.assertEquals(1, statistics.getHitCount());
+		Assert.assertEquals(1, statistics.getMissCount());
+		Assert.assertEquals(0.5, statistics.getReuseRate(), 0.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nonPositiveBoundIsRejected() throws Exception {
+		new PodamFactoryImpl(strategy).withMemoization(
+				MemoizationScope.FACTORY, 0);
+	}
+
 	@After
 	public void tearDown() throws Exception {
 		strategy.setMemoizationEnabled(false); // clean for next tests, because strategy is singleton
@@ -0,0 +1,153 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.MemoizationScope;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.GenericPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.docs.example.Order;
+import uk.co.jemos.podam.test.dto.docs.example.OrderItem;
+
+/**
+ * It checks the parallel manufacture of collection elements
+ *
+ * @author mtedone
+ *
+ */
+public class ParallelManufacturingUnitTest {
+
+	/** The number of elements of each collection */
+	private static final int NBR_ELEMENTS = 200;
+
+	/** The number of items of an order, set by annotation */
+	private static final int NBR_ORDER_ITEMS = 5;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testParallelCollectionsAreFilled() {
+
+		PodamFactoryImpl factory = new PodamFactoryImpl(newStrategy(null))
+				.withExecutor(executor, 2);
+
+		for (int i = 0; i < 10; i++) {
+			Order order = factory.manufacturePojo(Order.class);
+			List<OrderItem> items = order.getOrderItems();
+			Assert.assertEquals(NBR_ORDER_ITEMS, items.size());
+			for (OrderItem item : items) {
+				Assert.assertNotNull("The item cannot be null", item);
+				Assert.assertNotNull(item.getArticle());
+			}
+		}
+	}
+
+	@Test
+	public void testSeededParallelPojosMatchSequentialOnes() {
+
+		PodamFactoryImpl sequentialFactory = new PodamFactoryImpl(
+				newStrategy(11L));
+		PodamFactoryImpl parallelFactory = new PodamFactoryImpl(
+				newStrategy(11L)).withExecutor(executor);
+
+		GenericPojo<?, ?> sequentialPojo = sequentialFactory.manufacturePojo(
+				GenericPojo.class, SimplePojoToTestSetters.class, Long.class);
+		GenericPojo<?, ?> parallelPojo = parallelFactory.manufacturePojo(
+				GenericPojo.class, SimplePojoToTestSetters.class, Long.class);
+		Assert.assertEquals(NBR_ELEMENTS, parallelPojo.getFirstList().size());
+		Assert.assertEquals(sequentialPojo.getFirstList(),
+				parallelPojo.getFirstList());
+	}
+
+	@Test
+	public void testSeededMemoizedPojosAreManufacturedSequentially() {
+
+		/*
+		 * The elements would share the memoized POJOs: which one memoizes
+		 * them first must not depend on thread timing
+		 */
+		final AtomicInteger submittedChunks = new AtomicInteger();
+		Executor countingExecutor = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				submittedChunks.incrementAndGet();
+				executor.execute(command);
+			}
+		};
+
+		for (int i = 0; i < 5; i++) {
+			AbstractRandomDataProviderStrategy sequentialStrategy = newStrategy(13L);
+			sequentialStrategy.setMemoizationEnabled(true);
+			AbstractRandomDataProviderStrategy parallelStrategy = newStrategy(13L);
+			parallelStrategy.setMemoizationEnabled(true);
+
+			GenericPojo<?, ?> sequentialPojo = new PodamFactoryImpl(
+					sequentialStrategy).withMemoization(MemoizationScope.CALL)
+					.manufacturePojo(GenericPojo.class,
+							SimplePojoToTestSetters.class, Long.class);
+			GenericPojo<?, ?> parallelPojo = new PodamFactoryImpl(
+					parallelStrategy).withMemoization(MemoizationScope.CALL)
+					.withExecutor(countingExecutor, 2)
+					.manufacturePojo(GenericPojo.class,
+							SimplePojoToTestSetters.class, Long.class);
+			Assert.assertEquals(sequentialPojo.getFirstList(),
+					parallelPojo.getFirstList());
+			Assert.assertEquals(sequentialPojo.getFirstValue(),
+					parallelPojo.getFirstValue());
+		}
+		Assert.assertEquals(0, submittedChunks.get());
+	}
+
+	@Test
+	public void testRejectedChunksAreManufacturedByCaller() {
+
+		ExecutorService stoppedExecutor = Executors.newSingleThreadExecutor();
+		stoppedExecutor.shutdown();
+		PodamFactoryImpl factory = new PodamFactoryImpl(newStrategy(null))
+				.withExecutor(stoppedExecutor, 2);
+
+		Order order = factory.manufacturePojo(Order.class);
+		Assert.assertEquals(NBR_ORDER_ITEMS, order.getOrderItems().size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testThresholdMustAllowSplitting() {
+
+		new PodamFactoryImpl().withExecutor(executor, 1);
+	}
+
+	private AbstractRandomDataProviderStrategy newStrategy(Long seed) {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy(
+				NBR_ELEMENTS) {
+		};
+		strategy.setSeed(seed);
+		return strategy;
+	}
+
+}
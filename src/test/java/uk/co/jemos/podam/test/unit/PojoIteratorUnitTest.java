@@ -0,0 +1,129 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.PojoIterator;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks the lazy production of POJOs by {@link PojoIterator}
+ *
+ * @author mtedone
+ *
+ */
+public class PojoIteratorUnitTest {
+
+	@Test
+	public void testBoundedIterator() {
+
+		PojoIterator<SimplePojoToTestSetters> iterator = new PodamFactoryImpl()
+				.iterator(SimplePojoToTestSetters.class, 3);
+		int count = 0;
+		while (iterator.hasNext()) {
+			SimplePojoToTestSetters pojo = iterator.next();
+			Assert.assertNotNull("The pojo cannot be null", pojo);
+			Assert.assertNotNull(pojo.getStringField());
+			count++;
+		}
+		Assert.assertEquals(3, count);
+
+		try {
+			iterator.next();
+			Assert.fail("The iterator should be exhausted");
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testUnboundedIterator() {
+
+		PojoIterator<SimplePojoToTestSetters> iterator = new PodamFactoryImpl()
+				.iterator(SimplePojoToTestSetters.class);
+		Assert.assertFalse(iterator.isBounded());
+		for (int i = 0; i < 100; i++) {
+			Assert.assertNotNull(iterator.next());
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(PojoIterator.UNBOUNDED, iterator.split()
+				.getRemaining());
+	}
+
+	@Test
+	public void testSplit() {
+
+		PojoIterator<SimplePojoToTestSetters> iterator = new PodamFactoryImpl()
+				.iterator(SimplePojoToTestSetters.class, 9);
+		PojoIterator<SimplePojoToTestSetters> split = iterator.split();
+		Assert.assertEquals(5, iterator.getRemaining());
+		Assert.assertEquals(4, split.getRemaining());
+
+		PojoIterator<SimplePojoToTestSetters> single = new PodamFactoryImpl()
+				.iterator(SimplePojoToTestSetters.class, 1);
+		Assert.assertNull("One POJO cannot be split", single.split());
+	}
+
+	@Test
+	public void testSeededSplitsAreReproducible() {
+
+		List<SimplePojoToTestSetters> first = drainSplit(5L);
+		List<SimplePojoToTestSetters> second = drainSplit(5L);
+		Assert.assertEquals(first, second);
+		Assert.assertEquals(first.size(),
+				new HashSet<SimplePojoToTestSetters>(first).size());
+
+		Assert.assertEquals("The iterator should match the batch API",
+				newSeededFactory(5L).manufacturePojos(
+						SimplePojoToTestSetters.class, 4),
+				drain(newSeededFactory(5L).iterator(
+						SimplePojoToTestSetters.class, 4)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testRemoveIsNotSupported() {
+
+		new PodamFactoryImpl().iterator(SimplePojoToTestSetters.class, 1)
+				.remove();
+	}
+
+	private List<SimplePojoToTestSetters> drainSplit(long seed) {
+
+		PojoIterator<SimplePojoToTestSetters> iterator = newSeededFactory(seed)
+				.iterator(SimplePojoToTestSetters.class, 10);
+		PojoIterator<SimplePojoToTestSetters> split = iterator.split();
+		List<SimplePojoToTestSetters> pojos = drain(split);
+		pojos.addAll(drain(iterator));
+		return pojos;
+	}
+
+	private List<SimplePojoToTestSetters> drain(
+			PojoIterator<SimplePojoToTestSetters> iterator) {
+
+		List<SimplePojoToTestSetters> pojos = new ArrayList<SimplePojoToTestSetters>();
+		while (iterator.hasNext()) {
+			pojos.add(iterator.next());
+		}
+		return pojos;
+	}
+
+	private PodamFactoryImpl newSeededFactory(long seed) {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		strategy.setSeed(seed);
+		return new PodamFactoryImpl(strategy);
+	}
+
+}
@@ -0,0 +1,119 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.Arrays;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
+import uk.co.jemos.podam.test.dto.PrimitiveArraysPojo;
+
+/**
+ * It checks that primitive values and arrays are provided without boxing and
+ * that strategies overriding the boxed methods are still honoured
+ *
+ * @author mtedone
+ *
+ */
+public class PrimitiveDataProviderStrategyUnitTest {
+
+	private static final int OVERRIDDEN_INT = 42;
+
+	@Test
+	public void testPrimitiveArraysAreFilled() {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		OneDimensionalTestPojo pojo = new PodamFactoryImpl(strategy)
+				.manufacturePojo(OneDimensionalTestPojo.class);
+
+		int[] intArray = pojo.getIntArray();
+		Assert.assertEquals(strategy.getNumberOfCollectionElements(Integer.class),
+				intArray.length);
+		for (int value : intArray) {
+			Assert.assertTrue("Values should be non-zero", value != 0);
+		}
+		boolean[] booleanArray = pojo.getBooleanArray();
+		Assert.assertEquals(intArray.length, booleanArray.length);
+		for (boolean value : booleanArray) {
+			Assert.assertTrue(value);
+		}
+	}
+
+	@Test
+	public void testBoxedOverridesAreHonoured() {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+			@Override
+			public Integer getInteger(AttributeMetadata attributeMetadata) {
+				return OVERRIDDEN_INT;
+			}
+		};
+		Assert.assertEquals(OVERRIDDEN_INT, strategy.nextInt(null));
+		Assert.assertTrue(strategy.nextLong(null) != 0L);
+
+		OneDimensionalTestPojo pojo = new PodamFactoryImpl(strategy)
+				.manufacturePojo(OneDimensionalTestPojo.class);
+		Assert.assertEquals(OVERRIDDEN_INT, pojo.getIntField());
+		for (int value : pojo.getIntArray()) {
+			Assert.assertEquals(OVERRIDDEN_INT, value);
+		}
+	}
+
+	@Test
+	public void testPrimitiveArraysAreFilledInBulk() {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		PrimitiveArraysPojo pojo = new PodamFactoryImpl(strategy)
+				.manufacturePojo(PrimitiveArraysPojo.class);
+
+		byte[] payload = pojo.getPayload();
+		Assert.assertEquals(PrimitiveArraysPojo.PAYLOAD_SIZE, payload.length);
+		for (byte value : payload) {
+			Assert.assertTrue("Bytes should be positive", value > 0);
+		}
+		short[] shortArray = pojo.getShortArray();
+		Assert.assertEquals(strategy.getNumberOfCollectionElements(short[].class),
+				shortArray.length);
+		for (short value : shortArray) {
+			Assert.assertTrue("Shorts should be positive", value > 0);
+		}
+		for (char value : pojo.getCharArray()) {
+			Assert.assertTrue(value != 0);
+		}
+		for (long value : pojo.getLongArray()) {
+			Assert.assertTrue("Longs should be positive", value > 0L);
+		}
+		for (float value : pojo.getFloatArray()) {
+			Assert.assertTrue(value != 0.0f);
+		}
+		for (double value : pojo.getDoubleArray()) {
+			Assert.assertTrue(value != 0.0);
+		}
+	}
+
+	@Test
+	public void testSeededArraysAreReproducible() {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		strategy.setSeed(1L);
+		PrimitiveArraysPojo pojo1 = new PodamFactoryImpl(strategy)
+				.manufacturePojo(PrimitiveArraysPojo.class);
+		PrimitiveArraysPojo pojo2 = new PodamFactoryImpl(strategy)
+				.manufacturePojo(PrimitiveArraysPojo.class);
+
+		Assert.assertTrue(Arrays.equals(pojo1.getPayload(), pojo2.getPayload()));
+		Assert.assertTrue(Arrays.equals(pojo1.getLongArray(),
+				pojo2.getLongArray()));
+	}
+
+}
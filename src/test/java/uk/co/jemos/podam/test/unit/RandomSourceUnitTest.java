@@ -0,0 +1,87 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.RandomSource;
+import uk.co.jemos.podam.api.SplittableRandomSource;
+
+/**
+ * It checks the {@link RandomSource} implementations
+ *
+ * @author mtedone
+ *
+ */
+public class RandomSourceUnitTest {
+
+	@Test
+	public void testSameSeedGivesSameSequence() {
+
+		RandomSource first = new SplittableRandomSource(42L);
+		RandomSource second = new SplittableRandomSource(42L);
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(first.nextLong(), second.nextLong());
+			Assert.assertEquals(first.nextInt(1000), second.nextInt(1000));
+			Assert.assertEquals(first.nextDouble(), second.nextDouble());
+		}
+
+		RandomSource firstSplit = first.split();
+		RandomSource secondSplit = second.split();
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(firstSplit.nextInt(), secondSplit.nextInt());
+		}
+	}
+
+	@Test
+	public void testDefaultSourcesAreDifferent() {
+
+		RandomSource first = new SplittableRandomSource();
+		RandomSource second = new SplittableRandomSource();
+		Assert.assertFalse("Default sources should not share the seed",
+				first.nextLong() == second.nextLong());
+	}
+
+	@Test
+	public void testSplitSourcesAreIndependent() {
+
+		RandomSource source = new SplittableRandomSource(7L);
+		RandomSource split = source.split();
+		Set<Long> values = new HashSet<Long>();
+		for (int i = 0; i < 1000; i++) {
+			values.add(source.nextLong());
+			values.add(split.nextLong());
+		}
+		Assert.assertEquals("The split source repeated values", 2000,
+				values.size());
+	}
+
+	@Test
+	public void testValuesAreWithinRange() {
+
+		RandomSource source = new SplittableRandomSource(13L);
+		for (int i = 0; i < 10000; i++) {
+			int bounded = source.nextInt(10);
+			Assert.assertTrue(bounded >= 0 && bounded < 10);
+			int powerOfTwo = source.nextInt(16);
+			Assert.assertTrue(powerOfTwo >= 0 && powerOfTwo < 16);
+			double doubleValue = source.nextDouble();
+			Assert.assertTrue(doubleValue >= 0.0 && doubleValue < 1.0);
+			float floatValue = source.nextFloat();
+			Assert.assertTrue(floatValue >= 0.0f && floatValue < 1.0f);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBoundMustBePositive() {
+
+		new SplittableRandomSource().nextInt(0);
+	}
+
+}
@@ -0,0 +1,136 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
+import uk.co.jemos.podam.test.dto.PojoWithMapsAndCollections;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+
+/**
+ * It checks that a seeded strategy produces reproducible POJOs
+ *
+ * @author mtedone
+ *
+ */
+public class SeededGenerationUnitTest {
+
+	@Test
+	public void testSameSeedGivesSamePojos() {
+
+		PodamFactory factory = newSeededFactory(42L);
+		SimplePojoToTestSetters simplePojo = factory
+				.manufacturePojo(SimplePojoToTestSetters.class);
+		OneDimensionalTestPojo pojo = factory
+				.manufacturePojo(OneDimensionalTestPojo.class);
+		PojoWithMapsAndCollections collectionsPojo = factory
+				.manufacturePojo(PojoWithMapsAndCollections.class);
+
+		/* Another factory, different order of calls */
+		PodamFactory otherFactory = newSeededFactory(42L);
+		PojoWithMapsAndCollections otherCollectionsPojo = otherFactory
+				.manufacturePojo(PojoWithMapsAndCollections.class);
+		OneDimensionalTestPojo otherPojo = otherFactory
+				.manufacturePojo(OneDimensionalTestPojo.class);
+		SimplePojoToTestSetters otherSimplePojo = otherFactory
+				.manufacturePojo(SimplePojoToTestSetters.class);
+
+		Assert.assertEquals(simplePojo, otherSimplePojo);
+		assertSameValues(pojo, otherPojo);
+		Assert.assertEquals(collectionsPojo.getList(),
+				otherCollectionsPojo.getList());
+		Assert.assertEquals(collectionsPojo.getMap(),
+				otherCollectionsPojo.getMap());
+		assertSameValues(pojo,
+				factory.manufacturePojo(OneDimensionalTestPojo.class));
+	}
+
+	@Test
+	public void testDifferentSeedsGiveDifferentPojos() {
+
+		OneDimensionalTestPojo pojo = newSeededFactory(1L).manufacturePojo(
+				OneDimensionalTestPojo.class);
+		OneDimensionalTestPojo otherPojo = newSeededFactory(2L)
+				.manufacturePojo(OneDimensionalTestPojo.class);
+		Assert.assertFalse(pojo.getStringField().equals(
+				otherPojo.getStringField()));
+	}
+
+	@Test
+	public void testSeededPojosAreReproducibleAcrossThreads() throws Exception {
+
+		final PodamFactory factory = newSeededFactory(7L);
+		OneDimensionalTestPojo expected = factory
+				.manufacturePojo(OneDimensionalTestPojo.class);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<OneDimensionalTestPojo> future = executor
+					.submit(new Callable<OneDimensionalTestPojo>() {
+
+						@Override
+						public OneDimensionalTestPojo call() throws Exception {
+							return factory
+									.manufacturePojo(OneDimensionalTestPojo.class);
+						}
+					});
+			assertSameValues(expected, future.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testSnapshotKeepsSeed() {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		strategy.setSeed(3L);
+		PodamFactory factory = new PodamFactoryImpl(strategy.snapshot());
+		strategy.setSeed(null);
+
+		assertSameValues(
+				factory.manufacturePojo(OneDimensionalTestPojo.class),
+				newSeededFactory(3L).manufacturePojo(
+						OneDimensionalTestPojo.class));
+	}
+
+	private void assertSameValues(OneDimensionalTestPojo expected,
+			OneDimensionalTestPojo actual) {
+
+		Assert.assertEquals(expected.getByteField(), actual.getByteField());
+		Assert.assertEquals(expected.getShortField(), actual.getShortField());
+		Assert.assertEquals(expected.getCharField(), actual.getCharField());
+		Assert.assertEquals(expected.getIntField(), actual.getIntField());
+		Assert.assertEquals(expected.getLongField(), actual.getLongField());
+		Assert.assertEquals(expected.getFloatField(), actual.getFloatField());
+		Assert.assertEquals(expected.getDoubleField(),
+				actual.getDoubleField());
+		Assert.assertEquals(expected.getStringField(),
+				actual.getStringField());
+		Assert.assertTrue(Arrays.equals(expected.getIntArray(),
+				actual.getIntArray()));
+	}
+
+	private PodamFactory newSeededFactory(long seed) {
+
+		AbstractRandomDataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+		};
+		strategy.setSeed(seed);
+		return new PodamFactoryImpl(strategy);
+	}
+
+}
@@ -0,0 +1,106 @@
+/**
+ *
+ */
+package uk.co.jemos.podam.test.unit;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.docs.example.Address;
+
+
+/**
+ * It checks that attributes can draw their strings from pools of bounded
+ * size
+ *
+ * @author mtedone
+ *
+ */
+public class StringPoolUnitTest {
+
+	private static final int POOL_SIZE = 3;
+
+	private static final int NBR_POJOS = 100;
+
+	private AbstractRandomDataProviderStrategy strategy;
+
+	@Before
+	public void setUp() {
+		strategy = new AbstractRandomDataProviderStrategy() {
+		};
+	}
+
+	@Test
+	public void testStringsAreSharedByReference() {
+
+		strategy.setStringPoolSize(POOL_SIZE);
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+		Map<String, Boolean> instances = new IdentityHashMap<String, Boolean>();
+		Set<String> values = new HashSet<String>();
+		for (int i = 0; i < NBR_POJOS; i++) {
+			String value = factory.manufacturePojo(
+					SimplePojoToTestSetters.class).getStringField();
+			instances.put(value, Boolean.TRUE);
+			values.add(value);
+		}
+		Assert.assertEquals(POOL_SIZE, values.size());
+		Assert.assertEquals("Equal strings should be the same instance",
+				POOL_SIZE, instances.size());
+	}
+
+	@Test
+	public void testSeededPoolsAreReproducible() {
+
+		strategy.setStringPoolSize(POOL_SIZE);
+		strategy.setSeed(1L);
+		String first = new PodamFactoryImpl(strategy).manufacturePojo(
+				SimplePojoToTestSetters.class).getStringField();
+		// Other attributes drawing values first should not change the pool
+		new PodamFactoryImpl(strategy).manufacturePojo(Address.class);
+		strategy.setSeed(1L);
+		Assert.assertEquals(first, new PodamFactoryImpl(strategy)
+				.manufacturePojo(SimplePojoToTestSetters.class)
+				.getStringField());
+	}
+
+	@Test
+	public void testPoolSizeCanBeChosenPerAttribute() {
+
+		strategy = new AbstractRandomDataProviderStrategy() {
+			@Override
+			public int getStringPoolSize(AttributeMetadata attributeMetadata) {
+				if ("zipCode".equals(attributeMetadata.getAttributeName())) {
+					return 1;
+				}
+				return super.getStringPoolSize(attributeMetadata);
+			}
+		};
+		PodamFactoryImpl factory = new PodamFactoryImpl(strategy);
+		Set<String> zipCodes = new HashSet<String>();
+		Set<String> cities = new HashSet<String>();
+		for (int i = 0; i < NBR_POJOS; i++) {
+			Address pojo = factory.manufacturePojo(Address.class);
+			zipCodes.add(pojo.getZipCode());
+			cities.add(pojo.getCity());
+		}
+		Assert.assertEquals(1, zipCodes.size());
+		Assert.assertEquals(NBR_POJOS, cities.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativePoolSizeIsRejected() {
+		strategy.setStringPoolSize(-1);
+	}
+
+}